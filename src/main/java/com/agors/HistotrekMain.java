@@ -1,6 +1,11 @@
 package com.agors;
 
+import com.agors.application.lifecycle.AppLifecycle;
 import com.agors.application.ui.SplashScreen;
+import com.agors.infrastructure.persistence.async.DbExecutor;
+import com.agors.infrastructure.report.ReportScheduler;
+import com.agors.infrastructure.security.SessionStore;
+import com.agors.infrastructure.util.ConnectionManager;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
@@ -8,7 +13,8 @@ import javafx.stage.Stage;
  * Головний клас JavaFX-застосунку Histotrek.
  * <p>
  * Цей клас є точкою входу в програму,
- * ініціалізує та відображає екран завантаження.
+ * ініціалізує та відображає екран завантаження і запускає планувальник звітів
+ * та видалення прострочених сесій.
  * </p>
  *
  * @author agors
@@ -17,7 +23,9 @@ import javafx.stage.Stage;
 public class HistotrekMain extends Application {
 
     /**
-     * Запускає JavaFX-застосунок, відображаючи екран завантаження.
+     * Запускає JavaFX-застосунок, відображаючи екран завантаження,
+     * і запускає фонову генерацію звітів за розкладом та видалення прострочених сесій,
+     * які призупиняються, поки вікна застосунку згорнуті або приховані.
      *
      * @param primaryStage головна сцена застосунку
      */
@@ -25,6 +33,22 @@ public class HistotrekMain extends Application {
     public void start(Stage primaryStage) {
         SplashScreen splash = new SplashScreen();
         splash.show(primaryStage);
+        ReportScheduler.getInstance().start();
+        AppLifecycle.registerBackground(ReportScheduler.getInstance()::setPaused);
+        SessionStore.getInstance().start();
+        AppLifecycle.registerBackground(SessionStore.getInstance()::setPaused);
+    }
+
+    /**
+     * Зупиняє планувальник звітів, видалення сесій і фонові операції та закриває пул з'єднань
+     * з базою даних під час завершення застосунку.
+     */
+    @Override
+    public void stop() {
+        ReportScheduler.getInstance().shutdown();
+        SessionStore.getInstance().shutdown();
+        DbExecutor.shutdown();
+        ConnectionManager.shutdown();
     }
 
     /**
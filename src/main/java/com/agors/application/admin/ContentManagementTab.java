@@ -1,8 +1,13 @@
 package com.agors.application.admin;
 
+import com.agors.application.paging.PageLoader;
+import com.agors.application.search.CardFilter;
+import com.agors.application.search.Debouncer;
 import com.agors.domain.entity.Place;
 import com.agors.domain.validation.PlaceValidator;
-import com.agors.infrastructure.persistence.impl.PlaceDaoImpl;
+import com.agors.infrastructure.persistence.contract.AsyncPlaceDao;
+import com.agors.infrastructure.persistence.contract.PlaceDao;
+import com.agors.infrastructure.persistence.impl.AsyncPlaceDaoImpl;
 import com.agors.infrastructure.util.I18n;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -14,9 +19,10 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Вкладка для адміністрування історичних місць у довіднику.
@@ -29,10 +35,19 @@ import java.util.stream.Collectors;
  */
     public class ContentManagementTab extends VBox {
 
+    /** Кількість місць, що завантажуються за один запит. */
+        private static final int PAGE_SIZE = 50;
+
     /** Список об'єктів історичних місць, що відображаються. */
         private final ObservableList<Place> places = FXCollections.observableArrayList();
     /** DAO для роботи з історичними місцями. */
-        private final PlaceDaoImpl placeDao = new PlaceDaoImpl();
+        private final AsyncPlaceDao placeDao = new AsyncPlaceDaoImpl();
+    /** Поточний текст фільтра. */
+        private String filter = "";
+    /** Посторінкове завантаження результатів пошуку під час прокручування. */
+        private final PageLoader<PlaceDao.SearchHit, PlaceDao.SearchCursor> pages = new PageLoader<>(
+            (after, limit) -> placeDao.search(filter, limit, after),
+            PlaceDao.SearchCursor.FIRST, PlaceDao.SearchHit::cursor, PAGE_SIZE, this::showPage);
     /** Контейнер для візуального списку карток місць. */
         private final VBox listContainer = new VBox(10);
 
@@ -53,7 +68,8 @@ import java.util.stream.Collectors;
             addBtn.getStyleClass().add("add-place-button");
             addBtn.setOnAction(e -> openAddDialog());
 
-            searchField.textProperty().addListener((obs, oldVal, newVal) -> updateList(newVal));
+            Debouncer<String> search = new Debouncer<>(CardFilter.DEBOUNCE, this::updateList);
+            searchField.textProperty().addListener((obs, oldVal, newVal) -> search.accept(newVal));
 
             HBox topControls = new HBox(10, searchField, addBtn);
             topControls.setAlignment(Pos.CENTER);
@@ -67,24 +83,44 @@ import java.util.stream.Collectors;
             scrollPane.setOpacity(0.92);
 
             getChildren().addAll(topControls, scrollPane);
-            updateList("");
+            pages.loadOnScroll(scrollPane);
+            reloadPlaces();
+        }
+
+    /**
+     * Завантажує першу сторінку місць, що відповідають поточному фільтру, у фоні;
+     * наступні сторінки довантажуються під час прокручування.
+     */
+        private void reloadPlaces() {
+            pages.reset();
+        }
+
+    /**
+     * Додає сторінку результатів до списку. Перша сторінка замінює список повністю.
+     *
+     * @param page  сторінка результатів пошуку
+     * @param first true, якщо список починається спочатку
+     */
+        private void showPage(List<PlaceDao.SearchHit> page, boolean first) {
+            if (first) {
+                places.clear();
+                listContainer.getChildren().clear();
+            }
+            for (PlaceDao.SearchHit hit : page) {
+                places.add(hit.place());
+                listContainer.getChildren().add(createPlaceCard(hit.place()));
+            }
         }
 
     /**
      * Оновлює список місць відповідно до фільтра (рядка пошуку).
+     * Пошук за назвою, країною та епохою виконується в базі даних.
      *
      * @param filter текстовий фільтр (наприклад, частина назви)
      */
         private void updateList(String filter) {
-            List<Place> all = placeDao.findAll();
-            places.setAll(all.stream()
-                .filter(p -> p.getName().toLowerCase().contains(filter.toLowerCase()))
-                .collect(Collectors.toList()));
-
-            listContainer.getChildren().clear();
-            for (Place p : places) {
-                listContainer.getChildren().add(createPlaceCard(p));
-            }
+            this.filter = filter != null ? filter.trim() : "";
+            reloadPlaces();
         }
 
     /**
@@ -124,8 +160,7 @@ import java.util.stream.Collectors;
                     .showAndWait().filter(ButtonType.YES::equals).isPresent();
 
                 if (confirm) {
-                    placeDao.remove(place.getId());
-                    updateList("");
+                    placeDao.remove(place.getId()).thenRun(this::reloadPlaces);
                 }
             });
 
@@ -227,7 +262,8 @@ import java.util.stream.Collectors;
 
             Button okButton = (Button) dialog.getDialogPane().lookupButton(ButtonType.OK);
             okButton.addEventFilter(javafx.event.ActionEvent.ACTION, event -> {
-                Place place = isEdit ? placeToEdit : new Place();
+                // Редагується копія: невалідні значення не потрапляють в об'єкт, який показує список
+                Place place = isEdit ? placeToEdit.copy() : new Place();
                 place.setName(nameField.getText());
                 place.setCountry(countryField.getText());
                 place.setEra(eraField.getText());
@@ -249,12 +285,8 @@ import java.util.stream.Collectors;
                     descError.setText(errors.getOrDefault("description", ""));
                     imageUrlError.setText(errors.getOrDefault("imageUrl", ""));
                 } else {
-                    if (isEdit) {
-                        placeDao.update(place);
-                    } else {
-                        placeDao.add(place);
-                    }
-                    updateList("");
+                    CompletableFuture<?> save = isEdit ? placeDao.update(place) : placeDao.add(place);
+                    save.thenRun(this::reloadPlaces);
                 }
             });
 
@@ -1,24 +1,35 @@
 package com.agors.application.admin;
 
+import com.agors.application.paging.PageLoader;
 import com.agors.domain.entity.Report;
 import com.agors.domain.enums.ReportType;
-import com.agors.infrastructure.persistence.impl.PlaceDaoImpl;
-import com.agors.infrastructure.persistence.impl.ReportDaoImpl;
-import com.agors.infrastructure.persistence.impl.UserDaoImpl;
+import com.agors.infrastructure.persistence.contract.AsyncReportDao;
+import com.agors.infrastructure.persistence.impl.AsyncReportDaoImpl;
+import com.agors.infrastructure.report.ReportEngine;
+import com.agors.infrastructure.persistence.async.DbExecutor;
+import com.agors.infrastructure.report.ReportProgress;
+import com.agors.infrastructure.report.export.DocxReportExporter;
+import com.agors.infrastructure.report.export.ExportFormat;
+import com.agors.infrastructure.report.export.ExportTable;
+import com.agors.infrastructure.report.export.ReportExporter;
+import com.agors.infrastructure.report.export.TableExporter;
+import com.agors.infrastructure.report.export.TxtReportExporter;
 import com.agors.infrastructure.util.I18n;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.print.PrinterJob;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.stage.FileChooser;
-import org.apache.poi.xwpf.usermodel.*;
+import javafx.util.StringConverter;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Вкладка керування звітами адміністратора.
@@ -26,17 +37,49 @@ import java.util.List;
  * Надає можливості для генерації звітів, перегляду створених звітів,
  * їх збереження у форматах TXT та DOCX, друку та видалення.
  * </p>
- * Генерація звіту включає інформацію про користувачів і історичні місця.
+ * Адміністратор обирає тип звіту: аналітичні звіти (найкраще оцінені та популярні місця,
+ * активність користувачів, журнал системи) обчислюються агрегацією в базі, а текстовий
+ * експорт містить перелік користувачів і історичних місць. Генерація виконується у фоні,
+ * а хід відображається індикатором прогресу.
+ * <p>
+ * Список звітів завантажується сторінками лише із заголовками (тип, дата, розмір);
+ * вміст звіту читається посторінково через {@link ReportViewer} тільки тоді,
+ * коли адміністратор розгортає його панель.
+ * </p>
+ * <p>
+ * Експорт у TXT і DOCX виконується потоково у фоновому завданні: під списком дій
+ * з'являється рядок з індикатором прогресу та кнопкою скасування.
+ * Так само виконується вивантаження таблиць users, place, review і favorite
+ * у CSV або NDJSON для зовнішніх інструментів.
+ * </p>
  *
  * @author agors
  * @version 1.0
  */
 public class ReportManagementTab extends VBox {
 
+    /** Кількість заголовків звітів, що завантажуються за один запит. */
+    private static final int PAGE_SIZE = 30;
+
     /** DAO для роботи з таблицею звітів. */
-    private final ReportDaoImpl reportDao = new ReportDaoImpl();
+    private final AsyncReportDao reportDao = new AsyncReportDaoImpl();
+    /** Рушій фонової генерації звітів. */
+    private final ReportEngine reportEngine = new ReportEngine();
+    /** Індикатор прогресу поточної генерації. */
+    private final ProgressBar generateProgress = new ProgressBar(0);
+    /** Вибір типу звіту для генерації. */
+    private final ComboBox<ReportType> typeBox = new ComboBox<>();
+    /** Генерувати лише зміни після попереднього звіту того самого типу. */
+    private final CheckBox incrementalBox = new CheckBox(I18n.get("report_incremental", "Лише зміни з останнього звіту"));
     /** Контейнер для списку звітів. */
     private final VBox reportList = new VBox(10);
+    /** Вивантаження даних таблиць у структурованих форматах. */
+    private final TableExporter tableExporter = new TableExporter();
+    /** Рядки з прогресом фонових завдань експорту. */
+    private final VBox jobList = new VBox(5);
+    /** Посторінкове завантаження заголовків звітів, від найновіших. */
+    private final PageLoader<Report, Integer> pages = new PageLoader<>(
+        reportDao::findHeaderPage, Integer.MAX_VALUE, Report::getId, PAGE_SIZE, this::showPage);
 
     /**
      * Конструктор ініціалізує інтерфейс вкладки:
@@ -49,173 +92,320 @@ public class ReportManagementTab extends VBox {
         setPadding(new Insets(20));
         setSpacing(15);
 
+        typeBox.getItems().setAll(reportEngine.supportedTypes());
+        typeBox.setValue(ReportType.BEST_RATED);
+        typeBox.setButtonCell(new ReportTypeCell());
+        typeBox.setCellFactory(list -> new ReportTypeCell());
+
         Button generateBtn = new Button(I18n.get("generate_report_btn", "📝 Згенерувати звіт"));
         generateBtn.getStyleClass().addAll("button", "button-generate");
-        generateBtn.setOnAction(e -> generateReport());
+        generateBtn.setOnAction(e -> {
+            generateBtn.setDisable(true);
+            generateProgress.setProgress(ProgressBar.INDETERMINATE_PROGRESS);
+            generateProgress.setVisible(true);
+            generateReport(typeBox.getValue()).whenComplete((v, ex) -> {
+                generateBtn.setDisable(false);
+                generateProgress.setVisible(false);
+                if (ex != null) {
+                    showError(I18n.get("error_generate_report_title", "Помилка генерації звіту"), ex.getMessage());
+                }
+            });
+        });
+        generateProgress.setVisible(false);
+        generateProgress.setMaxWidth(Double.MAX_VALUE);
+        HBox.setHgrow(generateProgress, Priority.ALWAYS);
+        HBox generateBar = new HBox(10, typeBox, incrementalBox, generateBtn, generateProgress);
+        generateBar.setAlignment(Pos.CENTER_LEFT);
+
+        ComboBox<ExportTable> tableBox = new ComboBox<>();
+        tableBox.getItems().setAll(ExportTable.values());
+        tableBox.setValue(ExportTable.USERS);
+        tableBox.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(ExportTable table) {
+                return table == null ? "" : I18n.get("export_table_" + table.table(), table.table());
+            }
+
+            @Override
+            public ExportTable fromString(String text) {
+                return null;
+            }
+        });
+        ComboBox<ExportFormat> formatBox = new ComboBox<>();
+        formatBox.getItems().setAll(ExportFormat.values());
+        formatBox.setValue(ExportFormat.CSV);
+        Button exportDataBtn = new Button(I18n.get("export_data_btn", "⬇ Вивантажити дані"));
+        exportDataBtn.getStyleClass().addAll("button", "button-save");
+        exportDataBtn.setOnAction(e -> exportTable(tableBox.getValue(), formatBox.getValue()));
+        HBox exportBar = new HBox(10, tableBox, formatBox, exportDataBtn);
+        exportBar.setAlignment(Pos.CENTER_LEFT);
 
         reportList.setPadding(new Insets(10));
         ScrollPane scrollPane = new ScrollPane(reportList);
         scrollPane.setFitToWidth(true);
         scrollPane.getStyleClass().add("scroll-pane");
 
-        getChildren().addAll(generateBtn, scrollPane);
+        getChildren().addAll(generateBar, exportBar, jobList, scrollPane);
+        pages.loadOnScroll(scrollPane);
         loadReports();
     }
 
     /**
-     * Генерує новий звіт, включаючи інформацію про всіх користувачів і всі історичні місця.
-     * Звіт зберігається до бази даних як {@link ReportType#TEXT_EXPORT}.
+     * Генерує новий звіт заданого типу у фоновому потоці та зберігає його до бази даних.
+     * Якщо обрано інкрементний режим, звіт охоплює лише зміни після попереднього звіту цього типу.
+     *
+     * @param type тип звіту
+     * @return майбутнє, що завершується після збереження звіту та оновлення списку
      */
-    private void generateReport() {
-        StringBuilder content = new StringBuilder();
-
-        String timestamp = LocalDateTime.now().toString();
-        content.append(I18n.get("report_header", "==== Звіт станом на "))
-            .append(timestamp)
-            .append(" ====\n\n");
-
-        content.append(I18n.get("users_section", "▶ КОРИСТУВАЧІ:\n"));
-        content.append("--------------------------------------------------\n");
-        new UserDaoImpl().getAllUsers().forEach(u ->
-            content.append("• ").append(u.getUsername())
-                .append("\n   Email: ").append(u.getEmail())
-                .append("\n   ").append(I18n.get("role_label", "Роль: ")).append(u.getRole()).append("\n\n")
-        );
-
-        content.append(I18n.get("places_section", "▶ ІСТОРИЧНІ МІСЦЯ:\n"));
-        content.append("--------------------------------------------------\n");
-        new PlaceDaoImpl().findAll().forEach(p ->
-            content.append("• ").append(p.getName())
-                .append("\n   ").append(I18n.get("country_label", "Країна: ")).append(p.getCountry())
-                .append("\n   ").append(I18n.get("era_label", "Епоха: ")).append(p.getEra()).append("\n\n")
-        );
-
-        Report report = new Report();
-        report.setGeneratedAt(LocalDateTime.now());
-        report.setType(ReportType.TEXT_EXPORT);
-        report.setContent(content.toString());
-
-        reportDao.add(report);
-        loadReports();
+    private CompletableFuture<Void> generateReport(ReportType type) {
+        return reportEngine.generateAsync(type, incrementalBox.isSelected(), progressOf(generateProgress))
+            .thenRun(this::loadReports);
     }
 
     /**
-     * Завантажує всі наявні звіти з бази даних та відображає їх у вигляді розгорнутих панелей.
-     * Для кожного звіту доступні кнопки збереження, друку та видалення.
+     * Повертає локалізовану назву типу звіту.
+     *
+     * @param type тип звіту
+     * @return назва для відображення
      */
-    private void loadReports() {
-        reportList.getChildren().clear();
-        List<Report> reports = reportDao.findAll();
-
-        for (Report r : reports) {
-            TitledPane pane = new TitledPane();
-            pane.setText(I18n.get("report_title", "Звіт") + " #" + r.getId() + " (" + r.getGeneratedAt() + ")");
-            pane.getStyleClass().add("titled-pane");
-
-            TextArea area = new TextArea(r.getContent());
-            area.setWrapText(true);
-            area.setEditable(false);
-            area.getStyleClass().add("text-area");
-
-            Button saveTxtBtn = new Button(I18n.get("save_txt_btn", "💾 TXT"));
-            saveTxtBtn.getStyleClass().addAll("button", "button-save");
-            saveTxtBtn.setOnAction(e -> saveAsTxt(r));
-
-            Button saveDocxBtn = new Button(I18n.get("save_docx_btn", "📃 DOCX"));
-            saveDocxBtn.getStyleClass().addAll("button", "button-docx");
-            saveDocxBtn.setOnAction(e -> saveAsDocx(r));
-
-            Button printBtn = new Button(I18n.get("print_btn", "🖨 Друк"));
-            printBtn.getStyleClass().addAll("button", "button-print");
-            printBtn.setOnAction(e -> printReport(r));
-
-            Button deleteBtn = new Button(I18n.get("delete_btn_report", "🗑 Видалити"));
-            deleteBtn.getStyleClass().addAll("button", "button-delete");
-            deleteBtn.setOnAction(e -> {
-                Alert confirm = new Alert(Alert.AlertType.CONFIRMATION);
-                confirm.setTitle(I18n.get("confirm_delete_title", "Підтвердження видалення"));
-                confirm.setHeaderText(I18n.get("confirm_delete_header", "Видалити цей звіт?"));
-                confirm.setContentText(I18n.get("confirm_delete_content", "Цю дію не можна скасувати."));
-                confirm.showAndWait().ifPresent(result -> {
-                    if (result == ButtonType.OK) {
-                        reportDao.remove(r.getId());
-                        loadReports();
-                    }
-                });
-            });
+    static String typeName(ReportType type) {
+        return I18n.get("report_type_" + type.name().toLowerCase(Locale.ROOT), type.name());
+    }
 
-            HBox actions = new HBox(10, saveTxtBtn, saveDocxBtn, printBtn, deleteBtn);
-            actions.setPadding(new Insets(5));
-            actions.setAlignment(Pos.CENTER_RIGHT);
-            actions.getStyleClass().add("hbox");
+    /**
+     * Комірка списку типів звітів з локалізованою назвою.
+     */
+    private static class ReportTypeCell extends ListCell<ReportType> {
+        @Override
+        protected void updateItem(ReportType type, boolean empty) {
+            super.updateItem(type, empty);
+            setText(empty || type == null ? null : typeName(type));
+        }
+    }
+
+    /**
+     * Створює слухача прогресу, що оновлює індикатор у потоці FX.
+     * Поки попереднє оновлення не відображене, нові не ставляться в чергу.
+     *
+     * @param bar індикатор прогресу
+     * @return слухач прогресу для фонового потоку
+     */
+    private static ReportProgress progressOf(ProgressBar bar) {
+        AtomicBoolean pending = new AtomicBoolean();
+        return (done, total) -> {
+            if (total <= 0 || !pending.compareAndSet(false, true)) return;
+            double value = Math.min(1.0, (double) done / total);
+            Platform.runLater(() -> {
+                pending.set(false);
+                bar.setProgress(value);
+            });
+        };
+    }
 
-            VBox box = new VBox(area, actions);
-            pane.setContent(box);
+    /**
+     * Завантажує першу сторінку заголовків звітів у фоні; наступні сторінки
+     * довантажуються під час прокручування.
+     */
+    private void loadReports() {
+        pages.reset();
+    }
 
-            reportList.getChildren().add(pane);
+    /**
+     * Додає сторінку заголовків звітів до списку. Перша сторінка замінює список повністю.
+     *
+     * @param page  заголовки звітів без вмісту
+     * @param first true, якщо список починається спочатку
+     */
+    private void showPage(List<Report> page, boolean first) {
+        if (first) {
+            reportList.getChildren().clear();
+        }
+        for (Report r : page) {
+            reportList.getChildren().add(createReportPane(r));
         }
     }
 
     /**
-     * Зберігає вибраний звіт у форматі текстового файлу (.txt).
+     * Створює згорнуту панель звіту. Переглядач вмісту та кнопки дій створюються
+     * під час першого розгортання панелі.
      *
-     * @param report звіт для збереження
+     * @param r заголовок звіту
+     * @return панель звіту
      */
-    private void saveAsTxt(Report report) {
+    private TitledPane createReportPane(Report r) {
+        TitledPane pane = new TitledPane();
+        pane.setText(I18n.get("report_title", "Звіт") + " #" + r.getId() + " — " + typeName(r.getType())
+            + " (" + r.getGeneratedAt() + ")" + formatSize(r.getContentLength()));
+        pane.getStyleClass().add("titled-pane");
+        pane.setExpanded(false);
+        pane.expandedProperty().addListener((obs, was, expanded) -> {
+            if (expanded && pane.getContent() == null) {
+                pane.setContent(createReportContent(r));
+            }
+        });
+        return pane;
+    }
+
+    /**
+     * Форматує розмір вмісту звіту для заголовка панелі.
+     *
+     * @param length довжина вмісту в символах або -1
+     * @return текст розміру або порожній рядок, якщо розмір невідомий
+     */
+    private static String formatSize(long length) {
+        if (length < 0) return "";
+        String size = length < 1024 ? length + " "
+            : length < 1024 * 1024 ? String.format("%.1f K", length / 1024.0)
+            : String.format("%.1f M", length / (1024.0 * 1024));
+        return " · " + size + I18n.get("report_chars_label", "симв.");
+    }
+
+    /**
+     * Створює вміст розгорнутої панелі: посторінковий переглядач і кнопки збереження,
+     * друку та видалення.
+     *
+     * @param r заголовок звіту
+     * @return вміст панелі
+     */
+    private VBox createReportContent(Report r) {
+        ReportViewer viewer = new ReportViewer(reportDao, r);
+
+        Button saveTxtBtn = new Button(I18n.get("save_txt_btn", "💾 TXT"));
+        saveTxtBtn.getStyleClass().addAll("button", "button-save");
+        saveTxtBtn.setOnAction(e -> exportReport(r, new TxtReportExporter(),
+            I18n.get("save_txt_title", "Зберегти звіт як TXT"), "Text Files",
+            I18n.get("error_saving_txt_title", "Помилка збереження TXT")));
+
+        Button saveDocxBtn = new Button(I18n.get("save_docx_btn", "📃 DOCX"));
+        saveDocxBtn.getStyleClass().addAll("button", "button-docx");
+        saveDocxBtn.setOnAction(e -> exportReport(r, new DocxReportExporter(),
+            I18n.get("save_docx_title", "Зберегти як DOCX"), "DOCX файли",
+            I18n.get("error_saving_docx_title", "Помилка збереження DOCX")));
+
+        Button printBtn = new Button(I18n.get("print_btn", "🖨 Друк"));
+        printBtn.getStyleClass().addAll("button", "button-print");
+        printBtn.setOnAction(e -> printReport(viewer.getPageText()));
+
+        Button deleteBtn = new Button(I18n.get("delete_btn_report", "🗑 Видалити"));
+        deleteBtn.getStyleClass().addAll("button", "button-delete");
+        deleteBtn.setOnAction(e -> {
+            Alert confirm = new Alert(Alert.AlertType.CONFIRMATION);
+            confirm.setTitle(I18n.get("confirm_delete_title", "Підтвердження видалення"));
+            confirm.setHeaderText(I18n.get("confirm_delete_header", "Видалити цей звіт?"));
+            confirm.setContentText(I18n.get("confirm_delete_content", "Цю дію не можна скасувати."));
+            confirm.showAndWait().ifPresent(result -> {
+                if (result == ButtonType.OK) {
+                    reportDao.remove(r.getId()).thenRun(this::loadReports);
+                }
+            });
+        });
+
+        HBox actions = new HBox(10, saveTxtBtn, saveDocxBtn, printBtn, deleteBtn);
+        actions.setPadding(new Insets(5));
+        actions.setAlignment(Pos.CENTER_RIGHT);
+        actions.getStyleClass().add("hbox");
+
+        return new VBox(viewer, actions);
+    }
+
+    /**
+     * Пропонує обрати файл і експортує в нього звіт у фоновому завданні.
+     * Вміст читається з бази потоком і записується порціями, не завантажуючись у пам'ять.
+     *
+     * @param report     заголовок звіту
+     * @param exporter   формат експорту
+     * @param title      заголовок діалогу збереження
+     * @param filterName опис фільтра файлів у діалозі
+     * @param errorTitle заголовок повідомлення про помилку
+     */
+    private void exportReport(Report report, ReportExporter exporter, String title, String filterName, String errorTitle) {
+        String extension = exporter.extension();
         FileChooser fileChooser = new FileChooser();
-        fileChooser.setTitle(I18n.get("save_txt_title", "Зберегти звіт як TXT"));
-        fileChooser.setInitialFileName("report_" + report.getId() + ".txt");
-        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Text Files", "*.txt"));
+        fileChooser.setTitle(title);
+        fileChooser.setInitialFileName("report_" + report.getId() + "." + extension);
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter(filterName, "*." + extension));
         File file = fileChooser.showSaveDialog(getScene().getWindow());
-
-        if (file != null) {
-            try (FileOutputStream fos = new FileOutputStream(file)) {
-                fos.write(report.getContent().getBytes());
-            } catch (IOException e) {
-                showError(I18n.get("error_saving_txt_title", "Помилка збереження TXT"), e.getMessage());
+        if (file == null) return;
+
+        Task<Void> task = new Task<>() {
+            @Override
+            protected Void call() {
+                reportEngine.export(report.getId(), exporter, file.toPath(), (done, total) -> {
+                    if (total > 0) updateProgress(done, total);
+                }, this::isCancelled);
+                return null;
             }
-        }
+        };
+        runInBackground(file.getName(), task, errorTitle);
     }
 
     /**
-     * Зберігає вибраний звіт у форматі DOCX за допомогою Apache POI.
+     * Пропонує обрати файл і вивантажує в нього таблицю у фоновому завданні.
+     * Рядки читаються курсором і записуються порціями, тож пам'ять не залежить від розміру таблиці.
      *
-     * @param report звіт для експорту у формат Word (.docx)
+     * @param table  таблиця
+     * @param format формат файлу
      */
-    private void saveAsDocx(Report report) {
+    private void exportTable(ExportTable table, ExportFormat format) {
+        String extension = format.extension();
         FileChooser fileChooser = new FileChooser();
-        fileChooser.setTitle(I18n.get("save_docx_title", "Зберегти як DOCX"));
-        fileChooser.setInitialFileName("report_" + report.getId() + ".docx");
-        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("DOCX файли", "*.docx"));
+        fileChooser.setTitle(I18n.get("export_data_title", "Вивантажити дані"));
+        fileChooser.setInitialFileName(table.table() + "." + extension);
+        fileChooser.getExtensionFilters().add(
+            new FileChooser.ExtensionFilter(format.name() + " (*." + extension + ")", "*." + extension));
         File file = fileChooser.showSaveDialog(getScene().getWindow());
-
-        if (file != null) {
-            try (XWPFDocument doc = new XWPFDocument();
-                FileOutputStream out = new FileOutputStream(file)) {
-
-                String[] lines = report.getContent().split("\n");
-                for (String line : lines) {
-                    XWPFParagraph para = doc.createParagraph();
-                    XWPFRun run = para.createRun();
-                    run.setFontSize(12);
-                    run.setFontFamily("Times New Roman");
-                    run.setText(line);
-                }
-
-                doc.write(out);
-            } catch (IOException e) {
-                showError(I18n.get("error_saving_docx_title", "Помилка збереження DOCX"), e.getMessage());
+        if (file == null) return;
+
+        Task<Void> task = new Task<>() {
+            @Override
+            protected Void call() {
+                tableExporter.export(table, format, file.toPath(), (done, total) -> {
+                    if (total > 0) updateProgress(done, total);
+                }, this::isCancelled);
+                return null;
             }
-        }
+        };
+        runInBackground(file.getName(), task, I18n.get("error_export_data_title", "Помилка вивантаження даних"));
+    }
+
+    /**
+     * Запускає фонове завдання та показує його рядок з прогресом і кнопкою скасування.
+     * Рядок зникає після завершення, скасування або помилки завдання.
+     *
+     * @param name       назва завдання для відображення
+     * @param task       завдання
+     * @param errorTitle заголовок повідомлення про помилку
+     */
+    private void runInBackground(String name, Task<?> task, String errorTitle) {
+        ProgressBar bar = new ProgressBar();
+        bar.progressProperty().bind(task.progressProperty());
+        bar.setMaxWidth(Double.MAX_VALUE);
+        HBox.setHgrow(bar, Priority.ALWAYS);
+
+        Button cancelBtn = new Button(I18n.get("cancel", "Скасувати"));
+        cancelBtn.getStyleClass().add("button");
+        cancelBtn.setOnAction(e -> task.cancel());
+
+        HBox row = new HBox(10, new Label(name), bar, cancelBtn);
+        row.setAlignment(Pos.CENTER_LEFT);
+        jobList.getChildren().add(row);
+
+        task.setOnSucceeded(e -> jobList.getChildren().remove(row));
+        task.setOnCancelled(e -> jobList.getChildren().remove(row));
+        task.setOnFailed(e -> {
+            jobList.getChildren().remove(row);
+            showError(errorTitle, task.getException().getMessage());
+        });
+        DbExecutor.run(task);
     }
 
     /**
-     * Відправляє звіт на друк через стандартну систему друку JavaFX.
+     * Відправляє на друк сторінку звіту, відкриту в переглядачі, через стандартну систему друку JavaFX.
      *
-     * @param report звіт, який потрібно надрукувати
+     * @param text текст, який потрібно надрукувати
      */
-    private void printReport(Report report) {
-        TextArea printArea = new TextArea(report.getContent());
+    private void printReport(String text) {
+        TextArea printArea = new TextArea(text);
         printArea.setWrapText(true);
         printArea.setEditable(false);
 
@@ -0,0 +1,111 @@
+package com.agors.application.admin;
+
+import com.agors.domain.entity.Report;
+import com.agors.infrastructure.persistence.contract.AsyncReportDao;
+import com.agors.infrastructure.util.I18n;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextArea;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+
+/**
+ * Посторінковий перегляд вмісту звіту.
+ * <p>
+ * Вміст не завантажується цілком: у {@link TextArea} показується лише одна сторінка
+ * з {@link #PAGE_CHARS} символів, яку {@link AsyncReportDao#readContent(int, int, int)}
+ * читає з бази на вимогу. Відповідь на запит попередньої сторінки, що надійшла пізніше
+ * за новіший запит, відкидається.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class ReportViewer extends VBox {
+
+    /** Кількість символів на одній сторінці перегляду. */
+    public static final int PAGE_CHARS = 32 * 1024;
+
+    private final AsyncReportDao reportDao;
+    private final Report report;
+    private final TextArea area = new TextArea();
+    private final Label pageLabel = new Label();
+    private final Button prevBtn = new Button("◀");
+    private final Button nextBtn = new Button("▶");
+
+    private int page;
+    private boolean lastPage;
+    private int request;
+
+    /**
+     * Створює переглядач і завантажує першу сторінку звіту.
+     *
+     * @param reportDao DAO для читання вмісту
+     * @param report    заголовок звіту (id і, за наявності, довжина вмісту)
+     */
+    public ReportViewer(AsyncReportDao reportDao, Report report) {
+        this.reportDao = reportDao;
+        this.report = report;
+
+        area.setWrapText(true);
+        area.setEditable(false);
+        area.getStyleClass().add("text-area");
+
+        prevBtn.setOnAction(e -> showPage(page - 1));
+        nextBtn.setOnAction(e -> showPage(page + 1));
+        HBox pager = new HBox(10, prevBtn, pageLabel, nextBtn);
+        pager.setAlignment(Pos.CENTER);
+        pager.setPadding(new Insets(5));
+
+        getChildren().add(area);
+        if (pageCount() != 1) {
+            getChildren().add(pager);
+        }
+        showPage(0);
+    }
+
+    /**
+     * Повертає текст сторінки, що відображається зараз.
+     *
+     * @return текст поточної сторінки
+     */
+    public String getPageText() {
+        return area.getText();
+    }
+
+    /**
+     * Повертає кількість сторінок звіту.
+     *
+     * @return кількість сторінок або -1, якщо довжина вмісту невідома
+     */
+    private int pageCount() {
+        long length = report.getContentLength();
+        if (length < 0) return -1;
+        return (int) Math.max(1, (length + PAGE_CHARS - 1) / PAGE_CHARS);
+    }
+
+    /**
+     * Завантажує та показує сторінку з номером {@code index}.
+     *
+     * @param index номер сторінки (з 0)
+     */
+    private void showPage(int index) {
+        int token = ++request;
+        prevBtn.setDisable(true);
+        nextBtn.setDisable(true);
+        reportDao.readContent(report.getId(), index * PAGE_CHARS, PAGE_CHARS).thenAccept(text -> {
+            if (token != request) return;
+            page = index;
+            int pages = pageCount();
+            lastPage = pages >= 0 ? page >= pages - 1 : text.length() < PAGE_CHARS;
+            area.setText(text);
+            area.positionCaret(0);
+            pageLabel.setText(I18n.get("report_page_label", "Сторінка ") + (page + 1)
+                + (pages >= 0 ? " / " + pages : ""));
+            prevBtn.setDisable(page == 0);
+            nextBtn.setDisable(lastPage);
+        });
+    }
+}
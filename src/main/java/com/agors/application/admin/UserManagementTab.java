@@ -1,7 +1,9 @@
 package com.agors.application.admin;
 
+import com.agors.application.paging.PageLoader;
 import com.agors.domain.entity.User;
-import com.agors.infrastructure.persistence.impl.UserDaoImpl;
+import com.agors.infrastructure.persistence.contract.AsyncUserDao;
+import com.agors.infrastructure.persistence.impl.AsyncUserDaoImpl;
 import com.agors.infrastructure.util.I18n;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -10,6 +12,8 @@ import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -25,8 +29,17 @@ import java.util.stream.Collectors;
  */
 public class UserManagementTab extends VBox {
 
+    /** Кількість користувачів, що завантажуються за один запит. */
+    private static final int PAGE_SIZE = 50;
+
     /** DAO-обʼєкт для доступу до користувачів у базі даних. */
-    private final UserDaoImpl userDao = new UserDaoImpl();
+    private final AsyncUserDao userDao = new AsyncUserDaoImpl();
+    /** Користувачі, завантажені з бази на цей момент. */
+    private final List<User> allUsers = new ArrayList<>();
+    /** Посторінкове завантаження користувачів під час прокручування. */
+    private final PageLoader<User, Integer> pages = PageLoader.byId(userDao::findPage, User::getId, PAGE_SIZE, this::showPage);
+    /** Поточний текст фільтра. */
+    private String filter = "";
     /** Список користувачів, що відповідає фільтру пошуку. */
     private final ObservableList<User> users = FXCollections.observableArrayList();
     /** Контейнер для динамічного відображення користувацьких карток. */
@@ -58,18 +71,56 @@ public class UserManagementTab extends VBox {
         scrollPane.getStyleClass().add("scroll-pane");
 
         getChildren().addAll(searchField, scrollPane);
-        updateUserList("");
+        pages.loadOnScroll(scrollPane);
+        reloadUsers();
+    }
+
+    /**
+     * Завантажує першу сторінку користувачів з бази даних у фоні; наступні сторінки
+     * довантажуються під час прокручування.
+     */
+    private void reloadUsers() {
+        pages.reset();
+    }
+
+    /**
+     * Додає сторінку користувачів до списку. Перша сторінка замінює список повністю,
+     * наступні лише дописують картки тих користувачів, що відповідають фільтру.
+     *
+     * @param page  сторінка користувачів
+     * @param first true, якщо список починається спочатку
+     */
+    private void showPage(List<User> page, boolean first) {
+        if (first) {
+            allUsers.clear();
+            allUsers.addAll(page);
+            updateUserList(filter);
+            return;
+        }
+        allUsers.addAll(page);
+        for (User user : page) {
+            if (matches(user, filter)) {
+                users.add(user);
+                userListContainer.getChildren().add(createUserCard(user));
+            }
+        }
+    }
+
+    private static boolean matches(User u, String filter) {
+        return u.getUsername().toLowerCase().contains(filter.toLowerCase()) ||
+            u.getEmail().toLowerCase().contains(filter.toLowerCase());
     }
 
     /**
      * Оновлює список користувачів, що відповідають вказаному рядку фільтрації.
+     * Фільтрує вже завантажених користувачів без звернення до бази.
      *
      * @param filter текст фільтра (імʼя або email користувача)
      */
     private void updateUserList(String filter) {
-        users.setAll(userDao.getAllUsers().stream()
-            .filter(u -> u.getUsername().toLowerCase().contains(filter.toLowerCase()) ||
-                u.getEmail().toLowerCase().contains(filter.toLowerCase()))
+        this.filter = filter;
+        users.setAll(allUsers.stream()
+            .filter(u -> matches(u, filter))
             .collect(Collectors.toList()));
 
         userListContainer.getChildren().clear();
@@ -119,8 +170,7 @@ public class UserManagementTab extends VBox {
                 ButtonType.YES, ButtonType.NO)
                 .showAndWait().filter(ButtonType.YES::equals).isPresent();
             if (confirm) {
-                userDao.deleteUser(user.getId());
-                updateUserList("");
+                userDao.deleteUser(user.getId()).thenRun(this::reloadUsers);
             }
         });
 
@@ -0,0 +1,101 @@
+package com.agors.application.auth;
+
+import com.agors.application.search.Debouncer;
+import com.agors.infrastructure.persistence.async.DbExecutor;
+import javafx.util.Duration;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Перевірка зайнятості значення поля під час введення.
+ * <p>
+ * Значення перевіряється після паузи у введенні ({@link #DELAY}) у фоновому потоці
+ * через {@link DbExecutor}. Кожна зміна тексту робить попередні запити застарілими:
+ * запит, що ще не почав виконуватися, не звертається до бази, а відповідь на вже
+ * виконаний не показується. Відповіді запам'ятовуються на час життя вікна, тож
+ * повернення до вже перевіреного значення показує результат одразу без запиту.
+ * </p>
+ * <p>
+ * Методи викликаються з потоку JavaFX; результат також передається в потоці JavaFX.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+final class AvailabilityProbe {
+
+    /** Пауза у введенні, після якої значення перевіряється. */
+    static final Duration DELAY = Duration.millis(350);
+
+    private final Predicate<String> wellFormed;
+    private final Predicate<String> taken;
+    private final Consumer<Boolean> onResult;
+    private final Map<String, Boolean> results = new HashMap<>();
+    /** Номер поточного значення; читається фоновими запитами, щоб пропустити застарілі. */
+    private final AtomicInteger generation = new AtomicInteger();
+    private final Debouncer<String> debouncer = new Debouncer<>(DELAY, this::probe);
+    private String latest;
+
+    /**
+     * Створює перевірку.
+     *
+     * @param wellFormed чи значення має коректний формат (некоректні не перевіряються)
+     * @param taken      блокуюча перевірка зайнятості; виконується у фоновому потоці
+     * @param onResult   отримувач результату: true — зайнято, false — вільно,
+     *                   null — невідомо (значення змінюється, некоректне або сталася помилка)
+     */
+    AvailabilityProbe(Predicate<String> wellFormed, Predicate<String> taken, Consumer<Boolean> onResult) {
+        this.wellFormed = wellFormed;
+        this.taken = taken;
+        this.onResult = onResult;
+    }
+
+    /**
+     * Приймає нове значення поля.
+     *
+     * @param value поточний текст поля
+     */
+    void accept(String value) {
+        latest = value;
+        generation.incrementAndGet();
+        if (value == null || !wellFormed.test(value)) {
+            onResult.accept(null);
+            return;
+        }
+        Boolean known = results.get(value);
+        onResult.accept(known);
+        if (known == null) {
+            debouncer.accept(value);
+        }
+    }
+
+    private void probe(String value) {
+        if (!value.equals(latest) || results.containsKey(value)) return;
+        int token = generation.get();
+        DbExecutor.supply(() -> generation.get() == token ? taken.test(value) : null)
+            .thenAccept(result -> {
+                if (result == null) return;
+                results.put(value, result);
+                if (generation.get() == token) {
+                    onResult.accept(result);
+                }
+            })
+            .exceptionally(ex -> {
+                if (generation.get() == token) {
+                    onResult.accept(null);
+                }
+                return null;
+            });
+    }
+
+    /**
+     * Робить усі поточні запити застарілими. Викликається при закритті вікна.
+     */
+    void cancel() {
+        generation.incrementAndGet();
+    }
+}
@@ -1,17 +1,16 @@
 package com.agors.application.auth;
 
+import com.agors.application.effect.SandLayer;
+import com.agors.application.effect.SandStyle;
 import com.agors.application.ui.MessageBox;
 import com.agors.application.ui.UserWindow;
 import com.agors.domain.entity.User;
 import com.agors.domain.validation.LoginValidator;
+import com.agors.infrastructure.persistence.async.DbExecutor;
+import com.agors.infrastructure.security.LoginService;
 import com.agors.infrastructure.util.I18n;
 import com.agors.infrastructure.util.SessionContext;
-import com.agors.infrastructure.persistence.impl.SessionDaoImpl;
-import java.util.UUID;
-import com.agors.infrastructure.persistence.impl.UserDaoImpl;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.animation.TranslateTransition;
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -20,17 +19,17 @@ import javafx.scene.effect.DropShadow;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
-import javafx.util.Duration;
 
 /**
  * Вікно авторизації користувача у застосунку Histotrek.
  * <p>
  * Забезпечує введення логіна або email, пароля, валідацію введених даних,
  * повідомлення про помилки, а також ініціалізацію сесії користувача після успішного входу.
+ * Перевірка облікових даних і створення сесії виконуються у фоновому завданні
+ * ({@link LoginService}), а форма тим часом показує поточний крок входу.
  * Має анімований фон із піском та сучасний вигляд кнопок і полів.
  * </p>
  * Підтримує повноекранний режим (перемикається клавішею F11).
@@ -40,6 +39,11 @@ import javafx.util.Duration;
  */
 public class LoginWindow {
 
+    private final ProgressBar progressBar = new ProgressBar();
+    private final Label statusLabel = new Label();
+    private Button loginBtn;
+    private Button backBtn;
+
     /**
      * Відображає вікно входу з анімацією, формою авторизації, кнопками та темою.
      *
@@ -56,12 +60,14 @@ public class LoginWindow {
         Label loginErr = styledError();
         Label pwErr    = styledError();
 
-        Button loginBtn = styledButton(
+        loginBtn = styledButton(
             I18n.get("log_in"),
             "-fx-background-color:#c2b280;",
             e -> handleLogin(stage, owner, loginField, pwField, loginErr, pwErr)
         );
-        Button backBtn = styledButton(
+        loginField.setOnAction(e -> loginBtn.fire());
+        pwField.setOnAction(e -> loginBtn.fire());
+        backBtn = styledButton(
             I18n.get("back"),
             "-fx-background-color:transparent;",
             e -> {
@@ -75,14 +81,19 @@ public class LoginWindow {
             title(I18n.get("log_in_title")),
             loginField, loginErr,
             pwField,    pwErr,
-            loginBtn,   backBtn
+            loginBtn,   progressBar, statusLabel,
+            backBtn
         );
         form.setAlignment(Pos.CENTER);
         form.setPadding(new Insets(40));
 
-        Pane sand = new Pane();
-        sand.setMouseTransparent(true);
-        animateSand(sand);
+        progressBar.setPrefWidth(320);
+        statusLabel.setFont(Font.font("Arial", 13));
+        statusLabel.setTextFill(Color.web("#3e2723"));
+        showProgress(false);
+
+        SandLayer sand = new SandLayer(new SandStyle(12, 3, 30, Color.web("#000000", 0.4)));
+        sand.start();
 
         StackPane root = new StackPane(sand, form);
         root.setStyle("-fx-background-color: linear-gradient(to bottom right, #fdf6e3, #e29264);");
@@ -105,8 +116,9 @@ public class LoginWindow {
 
     /**
      * Обробляє авторизацію користувача:
-     * виконує валідацію полів, перевіряє логін/email і пароль,
-     * створює сесію у базі даних та відкриває {@link UserWindow}.
+     * виконує валідацію полів, а потім у фоновому завданні перевіряє логін/email і пароль
+     * та створює сесію у базі даних. Поки завдання триває, форма заблокована й показує
+     * поточний крок; після успіху відкривається {@link UserWindow}.
      *
      * @param stage поточне вікно
      * @param owner попереднє вікно (повертається до нього у разі невдачі)
@@ -120,14 +132,37 @@ public class LoginWindow {
         Label e1, Label e2) {
         e1.setText("");
         e2.setText("");
-        var errs = LoginValidator.validate(lf.getText(), pf.getText());
+        var errs = LoginValidator.validateFields(lf.getText(), pf.getText());
         e1.setText(I18n.getOrDefault(errs.get("login")));
         e2.setText(I18n.getOrDefault(errs.get("password")));
-        if (errs.isEmpty()) {
-            User u = new UserDaoImpl().getByUsernameOrEmail(lf.getText());
+        if (!errs.isEmpty()) return;
+
+        String login = lf.getText();
+        String password = pf.getText();
+        Task<LoginService.Result> task = new Task<>() {
+            @Override
+            protected LoginService.Result call() {
+                int steps = LoginService.Step.values().length;
+                return new LoginService().login(login, password, step -> {
+                    updateMessage(stepText(step));
+                    updateProgress(step.ordinal() + 1, steps);
+                });
+            }
+        };
+        progressBar.progressProperty().bind(task.progressProperty());
+        statusLabel.textProperty().bind(task.messageProperty());
+        setFormDisabled(true, lf, pf);
+
+        task.setOnSucceeded(e -> {
+            setFormDisabled(false, lf, pf);
+            LoginService.Result result = task.getValue();
+            if (!result.isSuccess()) {
+                e1.setText(I18n.getOrDefault(result.errors().get("login")));
+                e2.setText(I18n.getOrDefault(result.errors().get("password")));
+                return;
+            }
+            User u = result.user();
             SessionContext.setCurrentUser(u);
-            String token = UUID.randomUUID().toString();
-            new SessionDaoImpl().createSession(u.getId(), token);
 
             MessageBox.show(
                 I18n.get("success_settings"),
@@ -137,7 +172,59 @@ public class LoginWindow {
 
             stage.close();
             new UserWindow().start(owner, u.getId(), stage.isFullScreen());
+        });
+        task.setOnFailed(e -> {
+            setFormDisabled(false, lf, pf);
+            task.getException().printStackTrace();
+            MessageBox.show(I18n.get("error_title"),
+                I18n.get("error_login_failed", "Не вдалося виконати вхід. Спробуйте пізніше."), stage);
+        });
+        DbExecutor.run(task);
+    }
+
+    /**
+     * Повертає текст для кроку входу.
+     *
+     * @param step крок входу
+     * @return локалізований опис кроку
+     */
+    private static String stepText(LoginService.Step step) {
+        return switch (step) {
+            case LOOKUP -> I18n.get("login_step_lookup", "Пошук облікового запису…");
+            case VERIFY -> I18n.get("login_step_verify", "Перевірка пароля…");
+            case SESSION -> I18n.get("login_step_session", "Створення сесії…");
+        };
+    }
+
+    /**
+     * Блокує або розблоковує форму на час входу та показує чи ховає індикатор прогресу.
+     *
+     * @param disabled true — на час виконання входу
+     * @param lf       поле вводу логіна або email
+     * @param pf       поле вводу пароля
+     */
+    private void setFormDisabled(boolean disabled, TextField lf, PasswordField pf) {
+        lf.setDisable(disabled);
+        pf.setDisable(disabled);
+        loginBtn.setDisable(disabled);
+        backBtn.setDisable(disabled);
+        if (!disabled) {
+            progressBar.progressProperty().unbind();
+            statusLabel.textProperty().unbind();
         }
+        showProgress(disabled);
+    }
+
+    /**
+     * Показує або ховає індикатор прогресу входу разом із місцем, яке він займає.
+     *
+     * @param visible true — показати
+     */
+    private void showProgress(boolean visible) {
+        progressBar.setVisible(visible);
+        progressBar.setManaged(visible);
+        statusLabel.setVisible(visible);
+        statusLabel.setManaged(visible);
     }
 
     /**
@@ -239,29 +326,6 @@ public class LoginWindow {
         return b;
     }
 
-    /**
-     * Анімує фон пісочними частинками, які піднімаються вгору.
-     *
-     * @param p шар, на якому відображаються частинки піску
-     */
-    private void animateSand(Pane p) {
-        Timeline tl = new Timeline(new KeyFrame(Duration.millis(100), e -> {
-            double w = p.getWidth(), h = p.getHeight();
-            Circle c = new Circle(2, Color.web("#000000", 0.4));
-            c.setCenterX(Math.random() * w);
-            c.setCenterY(h);
-            p.getChildren().add(c);
-            TranslateTransition tt = new TranslateTransition(Duration.seconds(3), c);
-            tt.setByY(-h);
-            tt.setByX(Math.random() * 60 - 30);
-            tt.setOnFinished(ev -> p.getChildren().remove(c));
-            tt.play();
-        }));
-        tl.setCycleCount(Timeline.INDEFINITE);
-        tl.setRate(1.2);
-        tl.play();
-    }
-
     /**
      * Прив'язує розміри шару до розмірів сцени.
      *
@@ -1,33 +1,36 @@
 package com.agors.application.auth;
 
+import com.agors.application.effect.SandLayer;
+import com.agors.application.effect.SandStyle;
 import com.agors.application.ui.MessageBox;
 import com.agors.domain.entity.User;
 import com.agors.domain.validation.SignupValidator;
+import com.agors.infrastructure.persistence.async.DbExecutor;
+import com.agors.infrastructure.persistence.cache.UserUniqueness;
 import com.agors.infrastructure.persistence.impl.UserDaoImpl;
 import com.agors.infrastructure.util.I18n;
 import com.agors.infrastructure.util.PasswordUtil;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.animation.TranslateTransition;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
-import javafx.util.Duration;
+
+import java.util.Map;
 
 /**
  * Вікно реєстрації нового користувача у застосунку Histotrek.
  * <p>
  * Дозволяє користувачу ввести ім’я користувача, email та пароль, проходить
  * валідацію введених даних, зберігає користувача в базу та відображає повідомлення про успішну реєстрацію.
+ * Зайнятість імені та email перевіряється у фоні ще під час введення ({@link AvailabilityProbe}).
  * Має анімований пісочний фон та адаптивний інтерфейс.
  * </p>
  * Підтримується повернення до попереднього вікна та повноекранний режим (F11).
@@ -57,6 +60,23 @@ public class SignupWindow {
         Label emailErr = errorLabel();
         Label passErr  = errorLabel();
 
+        AvailabilityProbe userProbe = new AvailabilityProbe(
+            SignupValidator::isUsernameWellFormed,
+            UserUniqueness.getInstance()::isUsernameTaken,
+            taken -> showAvailability(userErr, taken, "error_username_taken")
+        );
+        AvailabilityProbe emailProbe = new AvailabilityProbe(
+            SignupValidator::isEmailWellFormed,
+            UserUniqueness.getInstance()::isEmailTaken,
+            taken -> showAvailability(emailErr, taken, "error_email_taken")
+        );
+        userField.textProperty().addListener((obs, o, n) -> userProbe.accept(n));
+        emailField.textProperty().addListener((obs, o, n) -> emailProbe.accept(n));
+        stage.setOnHidden(e -> {
+            userProbe.cancel();
+            emailProbe.cancel();
+        });
+
         Button submit = styledButton(
             I18n.get("create_account"),
             "-fx-background-color:#c2b280;",
@@ -86,9 +106,8 @@ public class SignupWindow {
         formBox.setAlignment(Pos.CENTER);
         formBox.setPadding(new Insets(40));
 
-        Pane sand = new Pane();
-        sand.setMouseTransparent(true);
-        animateSand(sand);
+        SandLayer sand = new SandLayer(new SandStyle(10, 3, 30, Color.web("#000000", 0.4)));
+        sand.start();
 
         StackPane root = new StackPane(sand, formBox);
         root.setStyle("-fx-background-color: linear-gradient(to bottom right, #fdf6e3, #e29264);");
@@ -108,9 +127,23 @@ public class SignupWindow {
         formBox.requestFocus();
     }
 
+    /**
+     * Показує результат фонової перевірки зайнятості під полем.
+     * Поки значення змінюється або вільне, мітка порожня.
+     *
+     * @param errLabel мітка помилки поля
+     * @param taken    true — зайнято, false — вільно, null — невідомо
+     * @param key      ключ перекладу повідомлення про зайнятість
+     */
+    private void showAvailability(Label errLabel, Boolean taken, String key) {
+        errLabel.setText(Boolean.TRUE.equals(taken) ? I18n.getOrDefault(key) : "");
+    }
+
     /**
      * Обробляє подію натискання кнопки "Створити акаунт".
      * Виконує валідацію, створює нового користувача та додає його до бази даних.
+     * Валідація звертається до бази (перевірка унікальності), а хешування пароля навмисно
+     * повільне, тому все це виконується в одній фоновій операції, а форма тим часом заблокована.
      *
      * @param userField  поле введення імені користувача
      * @param emailField поле введення email
@@ -127,32 +160,47 @@ public class SignupWindow {
         Label emailErr,
         Label passErr
     ) {
-        var errs = SignupValidator.validate(
-            userField.getText(),
-            emailField.getText(),
-            passField.getText()
-        );
-        userErr.setText(I18n.getOrDefault(errs.get("username")));
-        emailErr.setText(I18n.getOrDefault(errs.get("email")));
-        passErr.setText(I18n.getOrDefault(errs.get("password")));
-        if (errs.isEmpty()) {
-            User u = new User();
-            u.setUsername(userField.getText());
-            u.setEmail(emailField.getText());
-            u.setPasswordHash(PasswordUtil.hashPassword(passField.getText()));
-            u.setRole("USER");
+        User u = new User();
+        u.setUsername(userField.getText());
+        u.setEmail(emailField.getText());
+        u.setRole("USER");
+        String password = passField.getText();
+
+        Parent form = userField.getParent();
+        form.setDisable(true);
+        DbExecutor.supply(() -> {
+            var errs = SignupValidator.validate(u.getUsername(), u.getEmail(), password);
+            if (!errs.isEmpty()) return errs;
+            u.setPasswordHash(PasswordUtil.hashPassword(password));
             new UserDaoImpl().addUser(u);
+            return Map.<String, String>of();
+        }).whenComplete((errs, ex) -> {
+            form.setDisable(false);
+            Stage owner = (Stage) userField.getScene().getWindow();
+            if (ex != null) {
+                MessageBox.show(
+                    I18n.get("error_title", "Error"),
+                    I18n.get("error_sign_up_failed", "Could not create the account. Please try again later."),
+                    owner
+                );
+                return;
+            }
+            userErr.setText(I18n.getOrDefault(errs.get("username")));
+            emailErr.setText(I18n.getOrDefault(errs.get("email")));
+            passErr.setText(I18n.getOrDefault(errs.get("password")));
+            if (!errs.isEmpty()) return;
+            UserUniqueness.getInstance().remember(u.getUsername(), u.getEmail());
 
             MessageBox.show(
                 I18n.get("sign_up_success"),
                 I18n.get("registration_success"),
-                ((Stage) userField.getScene().getWindow())
+                owner
             );
 
             userField.clear();
             emailField.clear();
             passField.clear();
-        }
+        });
     }
 
     /**
@@ -252,28 +300,6 @@ public class SignupWindow {
         return b;
     }
 
-    /**
-     * Анімує пісочний фон за допомогою частинок, що падають вверх.
-     *
-     * @param p шар для відображення анімації
-     */
-    private void animateSand(Pane p) {
-        Timeline tl = new Timeline(new KeyFrame(Duration.millis(100), e -> {
-            double w = p.getWidth(), h = p.getHeight();
-            Circle c = new Circle(2, Color.web("#000000", 0.4));
-            c.setCenterX(Math.random() * w);
-            c.setCenterY(h);
-            p.getChildren().add(c);
-            TranslateTransition tt = new TranslateTransition(Duration.seconds(3), c);
-            tt.setByY(-h);
-            tt.setByX(Math.random() * 60 - 30);
-            tt.setOnFinished(ev -> p.getChildren().remove(c));
-            tt.play();
-        }));
-        tl.setCycleCount(Timeline.INDEFINITE);
-        tl.play();
-    }
-
     /**
      * Прив’язує розміри шару піску до розміру сцени.
      *
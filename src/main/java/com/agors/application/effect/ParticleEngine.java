@@ -0,0 +1,100 @@
+package com.agors.application.effect;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Спільний цикл анімації для всіх шарів піску застосунку.
+ * <p>
+ * Усі активні {@link SandLayer} оновлюються з одного {@link AnimationTimer}, який працює
+ * лише доки є хоча б один активний шар. Кадри обмежені двома способами: не частіше
+ * {@link #MAX_FPS} на секунду та так, щоб анімація займала не більше
+ * {@link #MAX_LOAD} часу потоку JavaFX — якщо кадр обчислювався довго, наступний
+ * відкладається пропорційно, і анімація сповільнюється замість того, щоб гальмувати інтерфейс.
+ * </p>
+ * <p>
+ * Усі методи викликаються лише з потоку JavaFX.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+final class ParticleEngine {
+
+    /** Найбільша частота кадрів анімації піску. */
+    static final int MAX_FPS = 60;
+    /** Найбільша частка часу потоку JavaFX, яку може займати анімація. */
+    static final double MAX_LOAD = 0.25;
+
+    private static final long MIN_FRAME_NANOS = 1_000_000_000L / MAX_FPS;
+
+    private static final List<SandLayer> layers = new ArrayList<>();
+    private static long lastFrame;
+    private static long nextFrame;
+
+    private static final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if (now < nextFrame) return;
+            double seconds = lastFrame == 0 ? 0 : (now - lastFrame) / 1e9;
+            lastFrame = now;
+
+            long started = System.nanoTime();
+            for (int i = 0; i < layers.size(); i++) {
+                layers.get(i).frame(seconds);
+            }
+            long work = System.nanoTime() - started;
+            nextFrame = now + nextFrameDelay(work);
+        }
+    };
+
+    private ParticleEngine() {
+    }
+
+    /**
+     * Обчислює мінімальну паузу до наступного кадру з урахуванням тривалості поточного.
+     *
+     * @param workNanos час обчислення і малювання кадру, нс
+     * @return затримка до наступного кадру, нс
+     */
+    static long nextFrameDelay(long workNanos) {
+        return Math.max(MIN_FRAME_NANOS, (long) (workNanos / MAX_LOAD));
+    }
+
+    /**
+     * Додає шар до циклу анімації і запускає таймер, якщо шар перший.
+     *
+     * @param layer шар піску
+     */
+    static void add(SandLayer layer) {
+        if (layers.contains(layer)) return;
+        layers.add(layer);
+        if (layers.size() == 1) {
+            lastFrame = 0;
+            nextFrame = 0;
+            timer.start();
+        }
+    }
+
+    /**
+     * Прибирає шар із циклу анімації і зупиняє таймер, якщо шарів не лишилось.
+     *
+     * @param layer шар піску
+     */
+    static void remove(SandLayer layer) {
+        if (layers.remove(layer) && layers.isEmpty()) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Повертає кількість шарів, що зараз анімуються.
+     *
+     * @return кількість активних шарів
+     */
+    static int activeCount() {
+        return layers.size();
+    }
+}
@@ -0,0 +1,142 @@
+package com.agors.application.effect;
+
+import com.agors.application.lifecycle.AppLifecycle;
+import com.agors.application.lifecycle.Pausable;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.stage.Window;
+
+import java.util.Random;
+
+/**
+ * Фоновий шар з піщинками, що піднімаються знизу вгору.
+ * <p>
+ * Піщинки малюються на одному {@link Canvas} замість окремого вузла з власною
+ * анімацією на кожну, а їх кількість обмежена пулом (див. {@link SandParticles}).
+ * Шар анімується лише між викликами {@link #start()} і {@link #stop()} і лише доки
+ * вікно, в сцені якого він знаходиться, показане: коли сцену вікна замінюють
+ * або вікно закривають, шар сам виходить зі спільного циклу {@link ParticleEngine}.
+ * Поки вікно показане, анімацію призупиняє і відновлює {@link AppLifecycle}
+ * (згорнуте вікно, модальний діалог, енергоощадний режим).
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class SandLayer extends Pane {
+
+    private final Canvas canvas = new Canvas();
+    private final SandParticles particles;
+    private final Pausable animation = this::setPaused;
+    private boolean started;
+    /** Вікно, для якого анімація зареєстрована в {@link AppLifecycle}, або null. */
+    private Window attachedWindow;
+
+    private final ChangeListener<Boolean> showingListener = (obs, was, is) -> updateAttached();
+    private final ChangeListener<Window> windowListener = (obs, oldWindow, newWindow) -> {
+        if (oldWindow != null) oldWindow.showingProperty().removeListener(showingListener);
+        if (newWindow != null) newWindow.showingProperty().addListener(showingListener);
+        updateAttached();
+    };
+
+    /**
+     * Створює шар піску із заданим стилем. Анімація починається після {@link #start()}.
+     *
+     * @param style параметри анімації
+     */
+    public SandLayer(SandStyle style) {
+        particles = new SandParticles(style, new Random());
+        setMouseTransparent(true);
+        canvas.widthProperty().bind(widthProperty());
+        canvas.heightProperty().bind(heightProperty());
+        getChildren().add(canvas);
+
+        sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (oldScene != null) oldScene.windowProperty().removeListener(windowListener);
+            if (newScene != null) newScene.windowProperty().addListener(windowListener);
+            windowListener.changed(null, windowOf(oldScene), windowOf(newScene));
+        });
+    }
+
+    private static Window windowOf(Scene scene) {
+        return scene == null ? null : scene.getWindow();
+    }
+
+    /**
+     * Запускає анімацію. Повторний виклик нічого не робить.
+     */
+    public void start() {
+        started = true;
+        updateAttached();
+    }
+
+    /**
+     * Зупиняє анімацію і прибирає піщинки.
+     */
+    public void stop() {
+        started = false;
+        updateAttached();
+    }
+
+    /**
+     * Змінює стиль анімації (наприклад, кольори після зміни теми) без перезапуску.
+     *
+     * @param style нові параметри анімації
+     */
+    public void setSandStyle(SandStyle style) {
+        particles.setStyle(style);
+        canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    }
+
+    private void updateAttached() {
+        Window window = windowOf(getScene());
+        Window target = started && window != null && window.isShowing() ? window : null;
+        if (target == attachedWindow) return;
+        if (attachedWindow != null) {
+            AppLifecycle.unregister(animation);
+            setPaused(true);
+            particles.clear();
+            canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        }
+        attachedWindow = target;
+        if (target != null) {
+            AppLifecycle.registerAnimation(target, animation);
+        }
+    }
+
+    private void setPaused(boolean paused) {
+        if (paused) {
+            ParticleEngine.remove(this);
+        } else {
+            ParticleEngine.add(this);
+        }
+    }
+
+    /**
+     * Просуває анімацію і перемальовує шар. Викликається з {@link ParticleEngine}.
+     *
+     * @param seconds час з попереднього кадру, с
+     */
+    void frame(double seconds) {
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        particles.step(seconds, width, height);
+
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.clearRect(0, 0, width, height);
+        Color[] colors = particles.style().colors();
+        double r = SandStyle.RADIUS;
+        for (int c = 0; c < colors.length; c++) {
+            g.setFill(colors[c]);
+            for (int i = 0; i < particles.size(); i++) {
+                if (particles.color(i) == c) {
+                    g.fillOval(particles.x(i) - r, particles.y(i) - r, 2 * r, 2 * r);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.agors.application.effect;
+
+import java.util.Random;
+
+/**
+ * Пул піщинок і їхній рух без прив'язки до сцени.
+ * <p>
+ * Стан піщинок зберігається у паралельних масивах фіксованого розміру: нова піщинка
+ * займає вільний слот, а та, що долетіла до верху, звільняє свій слот переміщенням
+ * останньої активної на її місце. Тож під час анімації не створюється жодного об'єкта.
+ * </p>
+ * <p>
+ * Піщинка піднімається на висоту шару за {@link SandStyle#lifetimeSeconds()} з плавним
+ * розгоном і гальмуванням (як {@code TranslateTransition} з інтерполятором за замовчуванням)
+ * і зміщується вбік на випадкову відстань у межах {@link SandStyle#drift()}.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+final class SandParticles {
+
+    /** Найбільший крок часу, що враховується за кадр; довша пауза не «телепортує» піщинки. */
+    static final double MAX_STEP_SECONDS = 0.1;
+
+    private final Random random;
+    private SandStyle style;
+    private double[] startX;
+    private double[] startY;
+    private double[] driftX;
+    private double[] age;
+    private int[] color;
+    private int count;
+    private double spawnDebt;
+
+    /**
+     * Створює порожній пул для заданого стилю.
+     *
+     * @param style  параметри анімації
+     * @param random джерело випадкових чисел
+     */
+    SandParticles(SandStyle style, Random random) {
+        this.random = random;
+        setStyle(style);
+    }
+
+    /**
+     * Змінює стиль анімації. Піщинки, що вже летять, зникають.
+     *
+     * @param style нові параметри анімації
+     */
+    void setStyle(SandStyle style) {
+        this.style = style;
+        int capacity = style.capacity();
+        startX = new double[capacity];
+        startY = new double[capacity];
+        driftX = new double[capacity];
+        age = new double[capacity];
+        color = new int[capacity];
+        clear();
+    }
+
+    /**
+     * Повертає поточний стиль анімації.
+     *
+     * @return параметри анімації
+     */
+    SandStyle style() {
+        return style;
+    }
+
+    /**
+     * Прибирає всі піщинки.
+     */
+    void clear() {
+        count = 0;
+        spawnDebt = 0;
+    }
+
+    /**
+     * Просуває анімацію: старіють наявні піщинки, долетілі звільняють слоти,
+     * з'являються нові відповідно до частоти.
+     *
+     * @param seconds час з попереднього кроку, с
+     * @param width   ширина шару
+     * @param height  висота шару
+     */
+    void step(double seconds, double width, double height) {
+        double dt = Math.min(seconds, MAX_STEP_SECONDS);
+        double lifetime = style.lifetimeSeconds();
+        for (int i = 0; i < count; ) {
+            age[i] += dt;
+            if (age[i] >= lifetime) {
+                removeAt(i);
+            } else {
+                i++;
+            }
+        }
+
+        spawnDebt += dt * style.perSecond();
+        while (spawnDebt >= 1) {
+            spawnDebt -= 1;
+            if (count < startX.length) {
+                spawn(width, height);
+            }
+        }
+    }
+
+    private void spawn(double width, double height) {
+        int i = count++;
+        startX[i] = random.nextDouble() * width;
+        startY[i] = height;
+        driftX[i] = (random.nextDouble() * 2 - 1) * style.drift();
+        age[i] = 0;
+        color[i] = random.nextInt(style.colors().length);
+    }
+
+    private void removeAt(int i) {
+        int last = --count;
+        startX[i] = startX[last];
+        startY[i] = startY[last];
+        driftX[i] = driftX[last];
+        age[i] = age[last];
+        color[i] = color[last];
+    }
+
+    /**
+     * Повертає кількість піщинок у повітрі.
+     *
+     * @return кількість активних піщинок
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * Повертає розмір пулу.
+     *
+     * @return максимальна кількість піщинок
+     */
+    int capacity() {
+        return startX.length;
+    }
+
+    private double eased(int i) {
+        double p = age[i] / style.lifetimeSeconds();
+        return p * p * (3 - 2 * p);
+    }
+
+    /**
+     * Повертає горизонтальну координату центру піщинки.
+     *
+     * @param i номер піщинки (від 0 до {@link #size()})
+     * @return координата x
+     */
+    double x(int i) {
+        return startX[i] + driftX[i] * eased(i);
+    }
+
+    /**
+     * Повертає вертикальну координату центру піщинки.
+     *
+     * @param i номер піщинки (від 0 до {@link #size()})
+     * @return координата y
+     */
+    double y(int i) {
+        return startY[i] * (1 - eased(i));
+    }
+
+    /**
+     * Повертає номер кольору піщинки у {@link SandStyle#colors()}.
+     *
+     * @param i номер піщинки (від 0 до {@link #size()})
+     * @return номер кольору
+     */
+    int color(int i) {
+        return color[i];
+    }
+}
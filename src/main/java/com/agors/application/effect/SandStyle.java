@@ -0,0 +1,40 @@
+package com.agors.application.effect;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Параметри анімації піщинок.
+ *
+ * @param perSecond       кількість нових піщинок за секунду
+ * @param lifetimeSeconds час підйому піщинки від низу до верху шару, с
+ * @param drift           максимальне горизонтальне зміщення піщинки в кожен бік, пікселів
+ * @param colors          кольори піщинок; колір кожної піщинки обирається випадково
+ * @author agors
+ * @version 1.0
+ */
+public record SandStyle(double perSecond, double lifetimeSeconds, double drift, Color... colors) {
+
+    /** Радіус піщинки, пікселів. */
+    public static final double RADIUS = 2;
+
+    /**
+     * Перевіряє параметри.
+     *
+     * @throws IllegalArgumentException якщо частота або час життя не додатні чи не задано кольорів
+     */
+    public SandStyle {
+        if (perSecond <= 0 || lifetimeSeconds <= 0 || colors.length == 0) {
+            throw new IllegalArgumentException("Некоректні параметри піску");
+        }
+        colors = colors.clone();
+    }
+
+    /**
+     * Повертає максимальну кількість піщинок, що одночасно перебувають у повітрі.
+     *
+     * @return розмір пулу піщинок
+     */
+    public int capacity() {
+        return (int) Math.ceil(perSecond * lifetimeSeconds) + 1;
+    }
+}
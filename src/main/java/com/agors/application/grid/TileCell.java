@@ -0,0 +1,56 @@
+package com.agors.application.grid;
+
+import javafx.scene.Node;
+
+/**
+ * Плитка сітки {@link TileGrid}, яку сітка перевикористовує для різних елементів.
+ * <p>
+ * Вузол плитки створюється один раз; під час прокручування сітка лише викликає
+ * {@link #updateItem(Object)} з новим елементом, тож реалізація повинна оновлювати
+ * наявні вузли, а не створювати нові. Обробники подій мають брати поточний елемент
+ * через {@link #getItem()}.
+ * </p>
+ *
+ * @param <T> тип елемента
+ * @author agors
+ * @version 1.0
+ */
+public abstract class TileCell<T> {
+
+    private T item;
+
+    /**
+     * Повертає кореневий вузол плитки.
+     *
+     * @return вузол плитки
+     */
+    public abstract Node getNode();
+
+    /**
+     * Заповнює вузол плитки даними нового елемента.
+     *
+     * @param item елемент (не null)
+     */
+    protected abstract void updateItem(T item);
+
+    /**
+     * Повертає елемент, який зараз показує плитка.
+     *
+     * @return поточний елемент або null
+     */
+    public T getItem() {
+        return item;
+    }
+
+    /**
+     * Прив'язує плитку до елемента. Викликається сіткою.
+     *
+     * @param item новий елемент або null, якщо плитка не використовується
+     */
+    final void setItem(T item) {
+        this.item = item;
+        if (item != null) {
+            updateItem(item);
+        }
+    }
+}
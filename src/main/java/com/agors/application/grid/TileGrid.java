@@ -0,0 +1,162 @@
+package com.agors.application.grid;
+
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Віртуалізована сітка плиток однакової ширини.
+ * <p>
+ * Елементи розбиваються на рядки за кількістю колонок, що вміщаються в поточну ширину,
+ * а рядки показуються через {@link ListView}: його {@code VirtualFlow} створює вузли лише
+ * для видимих рядків із невеликим запасом і перевикористовує їх під час прокручування.
+ * Кожен рядок тримає власний набір {@link TileCell}, тож плитки теж не створюються
+ * заново — змінюються лише дані, які вони показують.
+ * </p>
+ *
+ * @param <T> тип елемента
+ * @author agors
+ * @version 1.0
+ */
+public class TileGrid<T> extends StackPane {
+
+    /** Запас ширини під вертикальну смугу прокручування. */
+    private static final double SCROLLBAR_ALLOWANCE = 20;
+    /** Скільки останніх рядків мають стати видимими, щоб сітка попросила наступну сторінку. */
+    private static final int NEAR_END_ROWS = 2;
+
+    private final ListView<List<T>> rows = new ListView<>();
+    private final Supplier<? extends TileCell<T>> tileFactory;
+    private final double tileWidth;
+    private final double gap;
+
+    private List<T> items = List.of();
+    private int columns = 1;
+    private Runnable onNearEnd;
+
+    /**
+     * Створює сітку.
+     *
+     * @param tileWidth   ширина однієї плитки
+     * @param gap         відстань між плитками та від країв
+     * @param tileFactory фабрика нових плиток
+     */
+    public TileGrid(double tileWidth, double gap, Supplier<? extends TileCell<T>> tileFactory) {
+        this.tileWidth = tileWidth;
+        this.gap = gap;
+        this.tileFactory = tileFactory;
+
+        rows.setCellFactory(lv -> new RowCell());
+        rows.setFocusTraversable(false);
+        rows.setStyle("-fx-background-color: transparent; -fx-background-insets: 0; -fx-padding: 0;");
+        rows.widthProperty().addListener((obs, o, n) -> {
+            int newColumns = columnsFor(n.doubleValue());
+            if (newColumns != columns) {
+                columns = newColumns;
+                rebuildRows();
+            }
+        });
+        getChildren().add(rows);
+    }
+
+    /**
+     * Замінює елементи сітки. Наявні вузли плиток перевикористовуються.
+     *
+     * @param items нові елементи
+     */
+    public void setItems(List<T> items) {
+        this.items = List.copyOf(items);
+        rebuildRows();
+    }
+
+    /**
+     * Повертає поточні елементи сітки.
+     *
+     * @return незмінний список елементів
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Встановлює дію, яка виконується, коли прокрутка наближається до кінця сітки
+     * або сітка порожня, — зазвичай довантаження наступної сторінки.
+     *
+     * @param onNearEnd дія або null
+     */
+    public void setOnNearEnd(Runnable onNearEnd) {
+        this.onNearEnd = onNearEnd;
+    }
+
+    /**
+     * Повторно заповнює видимі плитки, наприклад після зміни пов'язаних даних.
+     */
+    public void refresh() {
+        rows.refresh();
+    }
+
+    private int columnsFor(double width) {
+        double usable = width - gap - SCROLLBAR_ALLOWANCE;
+        return Math.max(1, (int) (usable / (tileWidth + gap)));
+    }
+
+    private void rebuildRows() {
+        List<List<T>> chunks = new ArrayList<>((items.size() + columns - 1) / columns);
+        for (int i = 0; i < items.size(); i += columns) {
+            chunks.add(items.subList(i, Math.min(i + columns, items.size())));
+        }
+        rows.getItems().setAll(chunks);
+        if (chunks.isEmpty()) fireNearEnd();
+    }
+
+    private void fireNearEnd() {
+        if (onNearEnd != null) Platform.runLater(onNearEnd);
+    }
+
+    /**
+     * Рядок сітки з пулом плиток, що зростає до кількості колонок.
+     */
+    private final class RowCell extends ListCell<List<T>> {
+
+        private final HBox box = new HBox(gap);
+        private final List<TileCell<T>> tiles = new ArrayList<>();
+
+        RowCell() {
+            box.setAlignment(Pos.TOP_CENTER);
+            box.setPadding(new Insets(gap / 2, gap / 2, gap / 2, gap / 2));
+            setStyle("-fx-background-color: transparent; -fx-padding: 0;");
+        }
+
+        @Override
+        protected void updateItem(List<T> row, boolean empty) {
+            super.updateItem(row, empty);
+            if (empty || row == null) {
+                tiles.forEach(t -> t.setItem(null));
+                setGraphic(null);
+                return;
+            }
+            while (tiles.size() < row.size()) {
+                TileCell<T> tile = tileFactory.get();
+                tiles.add(tile);
+                box.getChildren().add(tile.getNode());
+            }
+            for (int i = 0; i < tiles.size(); i++) {
+                TileCell<T> tile = tiles.get(i);
+                boolean used = i < row.size();
+                tile.setItem(used ? row.get(i) : null);
+                tile.getNode().setVisible(used);
+                tile.getNode().setManaged(used);
+            }
+            setGraphic(box);
+            if (getIndex() >= rows.getItems().size() - NEAR_END_ROWS) fireNearEnd();
+        }
+    }
+}
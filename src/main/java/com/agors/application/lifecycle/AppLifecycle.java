@@ -0,0 +1,214 @@
+package com.agors.application.lifecycle;
+
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.prefs.Preferences;
+
+/**
+ * Стан вікон застосунку та призупинення роботи, яку ніхто не бачить.
+ * <p>
+ * Клас стежить за всіма показаними вікнами ({@link Window#getWindows()}): чи вони
+ * згорнуті, чи мають фокус і чи не перекриті модальним діалогом. Відповідно до цього
+ * зареєстровані роботи призупиняються та відновлюються:
+ * <ul>
+ *     <li>анімація вікна працює, лише доки вікно показане, не згорнуте й не заблоковане
+ *         модальним діалогом;</li>
+ *     <li>фонова робота працює, доки хоча б одне вікно застосунку показане й не згорнуте.</li>
+ * </ul>
+ * В енергоощадному режимі анімації вимкнені повністю, а фонова робота виконується лише
+ * тоді, коли застосунок має фокус. Режим зберігається в {@link Preferences}.
+ * </p>
+ * <p>
+ * Усі методи викликаються лише з потоку JavaFX.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public final class AppLifecycle {
+
+    /** Зберігає налаштування енергоощадного режиму між сесіями. */
+    private static final Preferences prefs = Preferences.userNodeForPackage(AppLifecycle.class);
+
+    /** Ключ енергоощадного режиму у preferences. */
+    private static final String LOW_POWER_KEY = "low_power_mode";
+
+    /** Зареєстрована робота та стан, у якому її залишили. */
+    private static final class Entry {
+        final Pausable target;
+        final Window window;
+        boolean paused;
+
+        Entry(Pausable target, Window window) {
+            this.target = target;
+            this.window = window;
+        }
+    }
+
+    private static final List<Entry> entries = new ArrayList<>();
+    private static final List<Stage> stages = new ArrayList<>();
+    private static final InvalidationListener stageListener = obs -> scheduleUpdate();
+
+    private static boolean lowPower = prefs.getBoolean(LOW_POWER_KEY, false);
+    private static boolean tracking;
+    private static boolean updateScheduled;
+
+    private AppLifecycle() {
+    }
+
+    /**
+     * Реєструє анімацію вікна і одразу призупиняє або відновлює її відповідно до стану вікна.
+     *
+     * @param window    вікно, в якому показується анімація
+     * @param animation анімація
+     */
+    public static void registerAnimation(Window window, Pausable animation) {
+        register(animation, window);
+    }
+
+    /**
+     * Реєструє фонову роботу і одразу призупиняє або відновлює її відповідно до стану застосунку.
+     *
+     * @param work фонова робота
+     */
+    public static void registerBackground(Pausable work) {
+        register(work, null);
+    }
+
+    private static void register(Pausable target, Window window) {
+        startTracking();
+        unregister(target);
+        Entry entry = new Entry(target, window);
+        entry.paused = !shouldRun(entry);
+        entries.add(entry);
+        target.setPaused(entry.paused);
+    }
+
+    /**
+     * Прибирає роботу з нагляду. Її поточний стан не змінюється.
+     *
+     * @param target анімація або фонова робота
+     */
+    public static void unregister(Pausable target) {
+        entries.removeIf(entry -> entry.target == target);
+    }
+
+    /**
+     * Перевіряє, чи увімкнений енергоощадний режим.
+     *
+     * @return true, якщо анімації вимкнені, а фонова робота обмежена
+     */
+    public static boolean isLowPowerMode() {
+        return lowPower;
+    }
+
+    /**
+     * Вмикає або вимикає енергоощадний режим, зберігає вибір і застосовує його до всіх робіт.
+     *
+     * @param enabled true — увімкнути
+     */
+    public static void setLowPowerMode(boolean enabled) {
+        if (enabled == lowPower) return;
+        lowPower = enabled;
+        prefs.putBoolean(LOW_POWER_KEY, enabled);
+        update();
+    }
+
+    private static void startTracking() {
+        if (tracking) return;
+        tracking = true;
+        Window.getWindows().addListener((ListChangeListener<Window>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(AppLifecycle::untrack);
+                change.getAddedSubList().forEach(AppLifecycle::track);
+            }
+            scheduleUpdate();
+        });
+        Window.getWindows().forEach(AppLifecycle::track);
+    }
+
+    private static void track(Window window) {
+        if (window instanceof Stage stage && !stages.contains(stage)) {
+            stages.add(stage);
+            stage.iconifiedProperty().addListener(stageListener);
+            stage.focusedProperty().addListener(stageListener);
+        }
+    }
+
+    private static void untrack(Window window) {
+        if (window instanceof Stage stage && stages.remove(stage)) {
+            stage.iconifiedProperty().removeListener(stageListener);
+            stage.focusedProperty().removeListener(stageListener);
+        }
+    }
+
+    /**
+     * Відкладає перерахунок до кінця поточного обробника подій, щоб перехід фокусу
+     * між вікнами застосунку (втрата в одному, отримання в іншому) не смикав роботи.
+     */
+    private static void scheduleUpdate() {
+        if (updateScheduled) return;
+        updateScheduled = true;
+        Platform.runLater(() -> {
+            updateScheduled = false;
+            update();
+        });
+    }
+
+    private static void update() {
+        for (Entry entry : List.copyOf(entries)) {
+            boolean paused = !shouldRun(entry);
+            if (paused != entry.paused) {
+                entry.paused = paused;
+                entry.target.setPaused(paused);
+            }
+        }
+    }
+
+    private static boolean shouldRun(Entry entry) {
+        if (entry.window == null) {
+            return stages.stream().anyMatch(AppLifecycle::isVisible)
+                && (!lowPower || stages.stream().anyMatch(Window::isFocused));
+        }
+        return !lowPower && isVisible(entry.window) && !isBlocked(entry.window);
+    }
+
+    private static boolean isVisible(Window window) {
+        return window.isShowing() && !(window instanceof Stage stage && stage.isIconified());
+    }
+
+    /**
+     * Перевіряє, чи вікно перекрите модальним діалогом, що блокує введення в нього.
+     *
+     * @param window вікно
+     * @return true, якщо показано інше модальне вікно застосунку або цього вікна
+     */
+    private static boolean isBlocked(Window window) {
+        for (Stage stage : stages) {
+            if (stage == window || !stage.isShowing()) continue;
+            if (stage.getModality() == Modality.APPLICATION_MODAL
+                || stage.getModality() == Modality.WINDOW_MODAL && isOwnedBy(stage, window)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isOwnedBy(Window child, Window window) {
+        for (Window owner = ownerOf(child); owner != null; owner = ownerOf(owner)) {
+            if (owner == window) return true;
+        }
+        return false;
+    }
+
+    private static Window ownerOf(Window window) {
+        return window instanceof Stage stage ? stage.getOwner() : null;
+    }
+}
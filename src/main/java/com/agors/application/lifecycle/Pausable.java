@@ -0,0 +1,18 @@
+package com.agors.application.lifecycle;
+
+/**
+ * Робота, яку {@link AppLifecycle} може призупиняти та відновлювати.
+ *
+ * @author agors
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface Pausable {
+
+    /**
+     * Призупиняє або відновлює роботу. Викликається з потоку JavaFX.
+     *
+     * @param paused true — призупинити, false — відновити
+     */
+    void setPaused(boolean paused);
+}
@@ -0,0 +1,194 @@
+package com.agors.application.paging;
+
+import javafx.scene.control.ScrollPane;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Послідовне завантаження сторінок списку за keyset-курсором.
+ * <p>
+ * Тримає курсор останнього отриманого елемента (зазвичай його id, див.
+ * {@link #byId(PageSource, ToIntFunction, int, PageConsumer)}) й за запитом {@link #loadMore()}
+ * отримує наступну сторінку з {@link PageSource}. Одночасно виконується не більше одного
+ * завантаження; після короткої сторінки подальші запити ігноруються. {@link #reset()}
+ * починає список спочатку й відкидає відповіді, що ще не надійшли. Невдале завантаження
+ * передається обробнику {@link #onError(Consumer)}; наступний {@link #loadMore()} повторює запит.
+ * </p>
+ * <p>
+ * Клас не є потокобезпечним: його методи та обробник сторінок викликаються з потоку FX,
+ * у якому завершуються майбутні асинхронних DAO.
+ * </p>
+ *
+ * @param <T> тип елемента
+ * @param <C> тип курсора
+ * @author agors
+ * @version 1.0
+ */
+public final class PageLoader<T, C> {
+
+    /** Частка прокрутки, після якої {@link #loadOnScroll(ScrollPane)} довантажує дані. */
+    private static final double SCROLL_THRESHOLD = 0.9;
+
+    /**
+     * Джерело сторінок, зазвичай метод {@code findPage} асинхронного DAO.
+     *
+     * @param <T> тип елемента
+     * @param <C> тип курсора
+     */
+    @FunctionalInterface
+    public interface PageSource<T, C> {
+
+        /**
+         * Завантажує сторінку.
+         *
+         * @param after курсор останнього елемента попередньої сторінки
+         * @param limit розмір сторінки
+         * @return майбутнє зі сторінкою елементів
+         */
+        CompletableFuture<List<T>> fetch(C after, int limit);
+    }
+
+    /**
+     * Отримувач завантажених сторінок.
+     *
+     * @param <T> тип елемента
+     */
+    @FunctionalInterface
+    public interface PageConsumer<T> {
+
+        /**
+         * Обробляє сторінку.
+         *
+         * @param page  елементи сторінки
+         * @param first true, якщо це перша сторінка після створення або {@link #reset()}
+         */
+        void accept(List<T> page, boolean first);
+    }
+
+    private final PageSource<T, C> source;
+    private final C start;
+    private final Function<T, C> cursorOf;
+    private final int pageSize;
+    private final PageConsumer<T> consumer;
+    private Consumer<Throwable> onError = error -> {};
+
+    private C after;
+    private boolean atStart = true;
+    private boolean exhausted;
+    private boolean loading;
+    private int generation;
+
+    /**
+     * Створює завантажувач.
+     *
+     * @param source   джерело сторінок
+     * @param start    курсор перед першою сторінкою
+     * @param cursorOf функція, що повертає курсор елемента (його ключі сортування)
+     * @param pageSize розмір сторінки
+     * @param consumer отримувач сторінок
+     */
+    public PageLoader(PageSource<T, C> source, C start, Function<T, C> cursorOf,
+                      int pageSize, PageConsumer<T> consumer) {
+        this.source = source;
+        this.start = start;
+        this.after = start;
+        this.cursorOf = cursorOf;
+        this.pageSize = pageSize;
+        this.consumer = consumer;
+    }
+
+    /**
+     * Створює завантажувач для списку, впорядкованого за id (перша сторінка — після id 0).
+     *
+     * @param source   джерело сторінок, наприклад {@code dao::findPage}
+     * @param idOf     функція, що повертає id елемента
+     * @param pageSize розмір сторінки
+     * @param consumer отримувач сторінок
+     * @param <T>      тип елемента
+     * @return завантажувач
+     */
+    public static <T> PageLoader<T, Integer> byId(PageSource<T, Integer> source, ToIntFunction<T> idOf,
+                                                  int pageSize, PageConsumer<T> consumer) {
+        return new PageLoader<>(source, 0, item -> idOf.applyAsInt(item), pageSize, consumer);
+    }
+
+    /**
+     * Встановлює обробник помилок завантаження сторінки.
+     *
+     * @param handler обробник, що викликається у потоці FX
+     * @return цей завантажувач
+     */
+    public PageLoader<T, C> onError(Consumer<Throwable> handler) {
+        this.onError = handler;
+        return this;
+    }
+
+    /**
+     * Завантажує наступну сторінку, якщо список ще не вичерпано і завантаження не триває.
+     */
+    public void loadMore() {
+        if (loading || exhausted) return;
+        loading = true;
+        int requestGeneration = generation;
+        boolean first = atStart;
+        source.fetch(after, pageSize).whenComplete((page, error) -> {
+            if (requestGeneration != generation) return;
+            loading = false;
+            if (error != null) {
+                onError.accept(error);
+                return;
+            }
+            exhausted = page.size() < pageSize;
+            if (!page.isEmpty()) {
+                after = cursorOf.apply(page.get(page.size() - 1));
+                atStart = false;
+            }
+            consumer.accept(page, first);
+        });
+    }
+
+    /**
+     * Починає список спочатку та завантажує першу сторінку.
+     * Відповіді на попередні запити, що надійдуть пізніше, відкидаються.
+     */
+    public void reset() {
+        generation++;
+        after = start;
+        atStart = true;
+        exhausted = false;
+        loading = false;
+        loadMore();
+    }
+
+    /**
+     * Перевіряє, чи всі сторінки вже завантажено.
+     *
+     * @return true, якщо остання сторінка була короткою
+     */
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * Довантажує сторінки, коли прокрутку наближено до кінця або коли вміст
+     * ще не заповнює видиму область панелі.
+     *
+     * @param scrollPane панель прокрутки з уже встановленим вмістом
+     */
+    public void loadOnScroll(ScrollPane scrollPane) {
+        scrollPane.vvalueProperty().addListener((obs, o, n) -> {
+            if (n.doubleValue() >= SCROLL_THRESHOLD * scrollPane.getVmax()) loadMore();
+        });
+        scrollPane.getContent().layoutBoundsProperty().addListener((obs, o, n) -> fillViewport(scrollPane));
+        scrollPane.viewportBoundsProperty().addListener((obs, o, n) -> fillViewport(scrollPane));
+    }
+
+    private void fillViewport(ScrollPane scrollPane) {
+        double contentHeight = scrollPane.getContent().getLayoutBounds().getHeight();
+        if (contentHeight <= scrollPane.getViewportBounds().getHeight()) loadMore();
+    }
+}
@@ -0,0 +1,74 @@
+package com.agors.application.search;
+
+import com.agors.domain.entity.Place;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Фільтр місць сітки карток за рядком пошуку.
+ * <p>
+ * Тримає {@link PlaceSearchIndex} для поточного списку місць і передає у сітку лише ті місця,
+ * що відповідають запиту. Сітка перевикористовує наявні вузли карток, тож зміна запиту
+ * не створює нових вузлів і не звертається до бази.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public final class CardFilter {
+
+    /** Затримка пошуку після останнього натискання клавіші. */
+    public static final Duration DEBOUNCE = Duration.millis(200);
+
+    private final Consumer<List<Place>> target;
+    private PlaceSearchIndex index = PlaceSearchIndex.EMPTY;
+    private List<Place> places = List.of();
+    private String query = "";
+
+    /**
+     * Створює фільтр.
+     *
+     * @param target отримувач відфільтрованого списку (зазвичай сітка карток)
+     */
+    public CardFilter(Consumer<List<Place>> target) {
+        this.target = target;
+    }
+
+    /**
+     * Замінює місця й одразу застосовує поточний запит.
+     *
+     * @param places місця
+     */
+    public void setItems(List<Place> places) {
+        this.places = List.copyOf(places);
+        this.index = new PlaceSearchIndex(this.places);
+        apply();
+    }
+
+    /**
+     * Встановлює рядок пошуку та оновлює відфільтрований список.
+     *
+     * @param query рядок пошуку
+     */
+    public void setQuery(String query) {
+        this.query = query != null ? query : "";
+        apply();
+    }
+
+    private void apply() {
+        BitSet matches = index.match(query);
+        if (matches.cardinality() == places.size()) {
+            target.accept(places);
+            return;
+        }
+        List<Place> visible = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            visible.add(places.get(i));
+        }
+        target.accept(visible);
+    }
+}
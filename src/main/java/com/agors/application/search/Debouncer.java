@@ -0,0 +1,61 @@
+package com.agors.application.search;
+
+import javafx.animation.PauseTransition;
+import javafx.util.Duration;
+
+import java.util.function.Consumer;
+
+/**
+ * Відкладає виконання дії, доки значення не перестане змінюватися протягом заданого часу.
+ * <p>
+ * Кожен виклик {@link #accept(Object)} перезапускає таймер; дія отримує лише останнє значення.
+ * Працює в потоці JavaFX на основі {@link PauseTransition}.
+ * </p>
+ *
+ * @param <T> тип значення
+ * @author agors
+ * @version 1.0
+ */
+public final class Debouncer<T> implements Consumer<T> {
+
+    private final PauseTransition pause;
+    private final Consumer<T> action;
+    private T pending;
+    private boolean scheduled;
+
+    /**
+     * Створює debouncer.
+     *
+     * @param delay  час тиші, після якого виконується дія
+     * @param action дія над останнім значенням
+     */
+    public Debouncer(Duration delay, Consumer<T> action) {
+        this.action = action;
+        this.pause = new PauseTransition(delay);
+        this.pause.setOnFinished(e -> flush());
+    }
+
+    /**
+     * Запам'ятовує значення та перезапускає таймер.
+     *
+     * @param value нове значення
+     */
+    @Override
+    public void accept(T value) {
+        pending = value;
+        scheduled = true;
+        pause.playFromStart();
+    }
+
+    /**
+     * Негайно виконує дію для відкладеного значення, якщо воно є.
+     */
+    public void flush() {
+        pause.stop();
+        if (!scheduled) return;
+        scheduled = false;
+        T value = pending;
+        pending = null;
+        action.accept(value);
+    }
+}
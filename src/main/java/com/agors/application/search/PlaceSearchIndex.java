@@ -0,0 +1,121 @@
+package com.agors.application.search;
+
+import com.agors.domain.entity.Place;
+import com.agors.infrastructure.util.SearchText;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Попередньо обчислений індекс для пошуку місць за назвою, країною та епохою.
+ * <p>
+ * Під час побудови текст кожного місця нормалізується за правилами {@link SearchText}
+ * (нижній регістр, без діакритики) і розбивається на слова. Для кожного слова індексуються всі його фрагменти довжиною
+ * від 1 до 3 символів, тож запит будь-якої довжини знаходить входження всередині слова
+ * (зокрема й префікси) без повторного перегляду всіх рядків:
+ * <ul>
+ *     <li>слово запиту до 3 символів — це один прямий пошук у індексі;</li>
+ *     <li>довше слово — перетин множин для всіх його триграм, після чого
+ *         перевіряються лише знайдені кандидати.</li>
+ * </ul>
+ * Слова запиту поєднуються через «і»: місце підходить, якщо кожне слово запиту
+ * є частиною якогось його слова.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public final class PlaceSearchIndex {
+
+    /** Порожній індекс, який не містить жодного місця. */
+    public static final PlaceSearchIndex EMPTY = new PlaceSearchIndex(List.of());
+
+    private static final int MAX_GRAM = 3;
+
+    private final int size;
+    /** Нормалізовані слова кожного місця (для перевірки кандидатів). */
+    private final String[][] tokens;
+    /** Фрагмент слова → множина індексів місць, що його містять. */
+    private final Map<String, BitSet> grams = new HashMap<>();
+
+    /**
+     * Будує індекс для списку місць. Позиції результатів пошуку відповідають позиціям у списку.
+     *
+     * @param places місця для індексування
+     */
+    public PlaceSearchIndex(List<Place> places) {
+        size = places.size();
+        tokens = new String[size][];
+        for (int i = 0; i < size; i++) {
+            Place p = places.get(i);
+            List<String> words = SearchText.tokenize(p.getName());
+            words.addAll(SearchText.tokenize(p.getCountry()));
+            words.addAll(SearchText.tokenize(p.getEra()));
+            tokens[i] = words.toArray(new String[0]);
+            for (String word : words) {
+                indexGrams(word, i);
+            }
+        }
+    }
+
+    private void indexGrams(String word, int position) {
+        for (int len = 1; len <= MAX_GRAM; len++) {
+            for (int start = 0; start + len <= word.length(); start++) {
+                grams.computeIfAbsent(word.substring(start, start + len), k -> new BitSet(size)).set(position);
+            }
+        }
+    }
+
+    /**
+     * Повертає кількість проіндексованих місць.
+     *
+     * @return кількість місць
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Знаходить місця, що відповідають запиту.
+     *
+     * @param query рядок пошуку; порожній запит відповідає всім місцям
+     * @return множина позицій відповідних місць у вихідному списку
+     */
+    public BitSet match(String query) {
+        BitSet result = new BitSet(size);
+        result.set(0, size);
+        for (String word : SearchText.tokenize(query)) {
+            result.and(matchWord(word));
+            if (result.isEmpty()) break;
+        }
+        return result;
+    }
+
+    private BitSet matchWord(String word) {
+        if (word.length() <= MAX_GRAM) {
+            BitSet hits = grams.get(word);
+            return hits != null ? hits : new BitSet();
+        }
+
+        BitSet candidates = null;
+        for (int start = 0; start + MAX_GRAM <= word.length(); start++) {
+            BitSet hits = grams.get(word.substring(start, start + MAX_GRAM));
+            if (hits == null) return new BitSet();
+            if (candidates == null) candidates = (BitSet) hits.clone();
+            else candidates.and(hits);
+        }
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (!containsWord(tokens[i], word)) candidates.clear(i);
+        }
+        return candidates;
+    }
+
+    private static boolean containsWord(String[] words, String fragment) {
+        for (String w : words) {
+            if (w.contains(fragment)) return true;
+        }
+        return false;
+    }
+}
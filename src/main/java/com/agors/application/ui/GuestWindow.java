@@ -2,34 +2,40 @@ package com.agors.application.ui;
 
 import com.agors.application.auth.LoginWindow;
 import com.agors.application.auth.SignupWindow;
-import com.agors.infrastructure.persistence.impl.PlaceDaoImpl;
+import com.agors.application.effect.SandLayer;
+import com.agors.application.effect.SandStyle;
+import com.agors.application.grid.TileCell;
+import com.agors.application.grid.TileGrid;
+import com.agors.application.paging.PageLoader;
+import com.agors.application.search.CardFilter;
+import com.agors.application.search.Debouncer;
+import com.agors.infrastructure.persistence.contract.AsyncPlaceDao;
+import com.agors.infrastructure.persistence.contract.PlaceDao;
+import com.agors.infrastructure.persistence.impl.AsyncPlaceDaoImpl;
+import com.agors.infrastructure.image.ImageCache;
 import com.agors.domain.entity.Place;
 import com.agors.infrastructure.util.I18n;
-import javafx.animation.KeyFrame;
 import javafx.animation.ScaleTransition;
-import javafx.animation.Timeline;
-import javafx.animation.TranslateTransition;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.control.ScrollPane;
 import javafx.scene.control.TextField;
 import javafx.scene.effect.DropShadow;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 /**
  * Вікно перегляду історичних місць у гостьовому режимі.
@@ -44,10 +50,22 @@ import java.util.stream.Collectors;
  */
 public class GuestWindow {
 
-    /** Контейнер для карток місць */
-    private FlowPane cardsFlow;
-    /** Список всіх місць, завантажених із БД */
-    private List<Place> allPlaces;
+    /** Кількість місць, що завантажуються за один запит */
+    private static final int PAGE_SIZE = 48;
+
+    /** Віртуалізована сітка карток місць */
+    private final TileGrid<Place> cardsGrid = new TileGrid<>(250, 20, GuestPlaceTile::new);
+    /** DAO для фонового завантаження місць */
+    private final AsyncPlaceDao placeDao = new AsyncPlaceDaoImpl();
+    /** Місця, завантажені на цей момент */
+    private final List<Place> places = new ArrayList<>();
+    /** Поточний рядок пошуку; пошук виконується в базі даних */
+    private String query = "";
+    /** Посторінкове завантаження результатів пошуку під час прокручування */
+    private final PageLoader<PlaceDao.SearchHit, PlaceDao.SearchCursor> pages = new PageLoader<>(
+        (after, limit) -> placeDao.search(query, limit, after),
+        PlaceDao.SearchCursor.FIRST, PlaceDao.SearchHit::cursor, PAGE_SIZE, this::showPage)
+        .onError(ex -> MessageBox.showDbError((Stage) cardsGrid.getScene().getWindow()));
 
     /**
      * Ініціалізує та показує гостьову форму.
@@ -75,7 +93,8 @@ public class GuestWindow {
         searchField.setPromptText(I18n.get("search_prompt", "Search..."));
         searchField.setMaxWidth(280);
         searchField.setFont(Font.font("Arial", 14));
-        searchField.textProperty().addListener((obs, o, n) -> filterPlaces(n));
+        Debouncer<String> search = new Debouncer<>(CardFilter.DEBOUNCE, this::search);
+        searchField.textProperty().addListener((obs, o, n) -> search.accept(n));
 
         Region spacerLeft = new Region();
         Region spacerRight = new Region();
@@ -114,9 +133,8 @@ public class GuestWindow {
         mainRoot.setTop(topBar);
         mainRoot.setCenter(wrapCards());
 
-        Pane sandLayer = new Pane();
-        sandLayer.setMouseTransparent(true);
-        playSandAnimation(sandLayer);
+        SandLayer sandLayer = new SandLayer(new SandStyle(15, 4, 30, Color.web("#000000", 0.2)));
+        sandLayer.start();
 
         StackPane root = new StackPane(sandLayer, mainRoot);
         root.setStyle("-fx-background-color: linear-gradient(to bottom right, #fdf6e3, #e29264);");
@@ -228,112 +246,144 @@ public class GuestWindow {
     }
 
     /**
-     * Створює контейнер із прокруткою, у якому розміщується FlowPane для карток місць.
+     * Створює контейнер, у якому розміщується віртуалізована сітка карток місць.
      *
      * @return контейнер з картками
      */
     private VBox wrapCards() {
-        cardsFlow = new FlowPane(20, 20);
-        cardsFlow.setPadding(new Insets(20));
-        cardsFlow.setAlignment(Pos.TOP_CENTER);
-
-        ScrollPane scrollPane = new ScrollPane(cardsFlow);
-        scrollPane.setFitToWidth(true);
-        scrollPane.setStyle("-fx-background: transparent; -fx-background-color: transparent;");
-        return new VBox(scrollPane);
+        VBox.setVgrow(cardsGrid, Priority.ALWAYS);
+        return new VBox(cardsGrid);
     }
 
     /**
-     * Завантажує всі історичні місця з бази даних і додає їх до інтерфейсу.
+     * Завантажує першу сторінку місць у фоні; наступні сторінки довантажуються,
+     * коли прокрутка наближається до кінця сітки.
      */
     private void loadCards() {
-        allPlaces = new PlaceDaoImpl().findAll();
-        showCards(allPlaces);
+        cardsGrid.setOnNearEnd(pages::loadMore);
+        pages.loadMore();
     }
 
     /**
-     * Виводить картки місць на екран.
+     * Застосовує рядок пошуку: список починається спочатку, а відповіді
+     * на попередній запит відкидаються.
      *
-     * @param places список місць, які потрібно показати
+     * @param text рядок пошуку
      */
-    private void showCards(List<Place> places) {
-        cardsFlow.getChildren().clear();
-        places.forEach(p -> cardsFlow.getChildren().add(createCard(p)));
+    private void search(String text) {
+        String q = text != null ? text.trim() : "";
+        if (q.equals(query)) return;
+        query = q;
+        pages.reset();
     }
 
     /**
-     * Фільтрує список місць за ключовим словом (назва, країна, епоха).
+     * Додає сторінку результатів до вже показаних місць.
      *
-     * @param query текст фільтрації
+     * @param page  сторінка результатів пошуку
+     * @param first true, якщо список починається спочатку
      */
-    private void filterPlaces(String query) {
-        String lower = query.toLowerCase();
-        List<Place> filtered = allPlaces.stream()
-            .filter(p -> p.getName().toLowerCase().contains(lower)
-                || p.getCountry().toLowerCase().contains(lower)
-                || p.getEra().toLowerCase().contains(lower))
-            .collect(Collectors.toList());
-        showCards(filtered);
+    private void showPage(List<PlaceDao.SearchHit> page, boolean first) {
+        if (first) places.clear();
+        page.forEach(h -> places.add(h.place()));
+        cardsGrid.setItems(places);
     }
 
     /**
-     * Створює картку для одного історичного місця з інформацією та обмеженням доступу.
-     *
-     * @param place об’єкт {@link Place}
-     * @return стилізована картка з описом
+     * Картка історичного місця з інформацією та обмеженням доступу.
+     * <p>
+     * Вузли картки створюються один раз, а сітка перевикористовує її для різних місць
+     * під час прокручування.
+     * </p>
      */
-    private VBox createCard(Place place) {
-        VBox card = new VBox(10);
-        card.setPadding(new Insets(10));
-        card.setAlignment(Pos.TOP_LEFT);
-        card.setStyle(
+    private final class GuestPlaceTile extends TileCell<Place> {
+
+        private static final String BASE_STYLE =
             "-fx-background-color: white; " +
                 "-fx-border-color: #d3d3d3; " +
                 "-fx-border-radius: 8; " +
                 "-fx-background-radius: 8; " +
-                "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.1), 6, 0, 0, 2);"
-        );
-        card.setPrefWidth(250);
-        card.setOnMouseEntered(e -> hoverCard(card, true));
-        card.setOnMouseExited(e -> hoverCard(card, false));
-
-        Label title = new Label(place.getName());
-        title.setFont(Font.font("Arial", 16));
-        title.setTextFill(Color.web("#1a3e2b"));
-
-        Label location = new Label("🌍 " + place.getCountry());
-        location.setFont(Font.font("Arial", 12));
-        location.setTextFill(Color.web("#555"));
-
-        Label era = new Label("🕰 " + place.getEra());
-        era.setFont(Font.font("Arial", 12));
-        era.setTextFill(Color.web("#555"));
-
-        Label desc = new Label(place.getDescription());
-        desc.setWrapText(true);
-        desc.setFont(Font.font("Arial", 12));
-
-        ImageView img = new ImageView();
-        img.setFitWidth(230);
-        img.setFitHeight(150);
-        try {
-            img.setImage(new Image(place.getImageUrl(), true));
-            card.getChildren().add(img);
-        } catch (Exception ex) {
-            card.getChildren().add(new Label(I18n.get("image_not_available")));
+                "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.1), 6, 0, 0, 2);";
+
+        private final VBox card = new VBox(10);
+        private final ImageView img = new ImageView();
+        private final Label noImage = new Label(I18n.get("image_not_available"));
+        private final Label title = new Label();
+        private final Label location = new Label();
+        private final Label era = new Label();
+        private final Label desc = new Label();
+        private String imageUrl;
+
+        GuestPlaceTile() {
+            card.setPadding(new Insets(10));
+            card.setAlignment(Pos.TOP_LEFT);
+            card.setStyle(BASE_STYLE);
+            card.setPrefWidth(250);
+            card.setOnMouseEntered(e -> hoverCard(card, true));
+            card.setOnMouseExited(e -> hoverCard(card, false));
+
+            title.setFont(Font.font("Arial", 16));
+            title.setTextFill(Color.web("#1a3e2b"));
+
+            location.setFont(Font.font("Arial", 12));
+            location.setTextFill(Color.web("#555"));
+
+            era.setFont(Font.font("Arial", 12));
+            era.setTextFill(Color.web("#555"));
+
+            desc.setWrapText(true);
+            desc.setFont(Font.font("Arial", 12));
+
+            img.setFitWidth(230);
+            img.setFitHeight(150);
+            img.setPreserveRatio(true);
+
+            card.getChildren().addAll(img, noImage, title, location, era, desc);
+
+            card.setOnMouseClicked(e -> {
+                MessageBox.show(
+                    I18n.get("restricted_access_title"),
+                    I18n.get("restricted_access_message"),
+                    (Stage) card.getScene().getWindow()
+                );
+            });
         }
 
-        card.getChildren().addAll(title, location, era, desc);
+        @Override
+        public VBox getNode() {
+            return card;
+        }
 
-        card.setOnMouseClicked(e -> {
-            MessageBox.show(
-                I18n.get("restricted_access_title"),
-                I18n.get("restricted_access_message"),
-                (Stage) card.getScene().getWindow()
-            );
-        });
+        @Override
+        protected void updateItem(Place place) {
+            card.setScaleX(1.0);
+            card.setScaleY(1.0);
+            card.setStyle(BASE_STYLE);
+
+            title.setText(place.getName());
+            location.setText("🌍 " + place.getCountry());
+            era.setText("🕰 " + place.getEra());
+            desc.setText(place.getDescription());
+
+            if (!Objects.equals(imageUrl, place.getImageUrl())) {
+                String url = place.getImageUrl();
+                imageUrl = url;
+                img.setImage(null);
+                setShown(img, true);
+                setShown(noImage, false);
+                ImageCache.getInstance().thumbnail(url).whenComplete((image, error) -> {
+                    if (!Objects.equals(imageUrl, url)) return;
+                    img.setImage(image);
+                    setShown(img, image != null);
+                    setShown(noImage, image == null);
+                });
+            }
+        }
 
-        return card;
+        private void setShown(Node node, boolean shown) {
+            node.setVisible(shown);
+            node.setManaged(shown);
+        }
     }
 
     /**
@@ -356,27 +406,4 @@ public class GuestWindow {
                 (hover ? "8" : "6") + ", 0, 0, " + (hover ? "4" : "2") + ");"
         );
     }
-
-    /**
-     * Запускає нескінченну анімацію піщинок, що падають на фоні.
-     *
-     * @param sandPane панель, на якій відображається пісок
-     */
-    private void playSandAnimation(Pane sandPane) {
-        Timeline tl = new Timeline(new KeyFrame(Duration.millis(100), e -> {
-            double w = sandPane.getWidth(), h = sandPane.getHeight();
-            Circle c = new Circle(2, Color.web("#000000", 0.2));
-            c.setCenterX(Math.random()*w);
-            c.setCenterY(h);
-            sandPane.getChildren().add(c);
-            TranslateTransition tt = new TranslateTransition(Duration.seconds(4), c);
-            tt.setByY(-h);
-            tt.setByX(Math.random()*60 - 30);
-            tt.setOnFinished(ev -> sandPane.getChildren().remove(c));
-            tt.play();
-        }));
-        tl.setCycleCount(Timeline.INDEFINITE);
-        tl.setRate(1.5);
-        tl.play();
-    }
 }
@@ -2,11 +2,10 @@ package com.agors.application.ui;
 
 import com.agors.application.auth.LoginWindow;
 import com.agors.application.auth.SignupWindow;
+import com.agors.application.effect.SandLayer;
+import com.agors.application.effect.SandStyle;
 import com.agors.infrastructure.util.I18n;
 import javafx.animation.FadeTransition;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.animation.TranslateTransition;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -14,11 +13,9 @@ import javafx.scene.control.Button;
 import javafx.scene.control.ChoiceBox;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.input.KeyCode;
-import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
@@ -103,9 +100,8 @@ public class MenuScreen {
         layout.setAlignment(Pos.CENTER);
         layout.getChildren().addAll(topSection, centerSection, bottomSection);
 
-        Pane sandPane = new Pane();
-        sandPane.setPickOnBounds(false);
-        playSandAnimation(sandPane);
+        SandLayer sandPane = new SandLayer(new SandStyle(12, 3, 30, Color.web("#000000", 0.4)));
+        sandPane.start();
 
         StackPane content = new StackPane(layout);
         StackPane root = new StackPane(sandPane, content);
@@ -153,32 +149,4 @@ public class MenuScreen {
 
         return button;
     }
-
-    /**
-     * Запускає нескінченну анімацію піщинок, які плавно рухаються вгору.
-     * Ефект створюється на окремому шарі поверх фону.
-     *
-     * @param sandPane панель, на якій анімується пісок
-     */
-    private void playSandAnimation(Pane sandPane) {
-        Timeline sandTimeline = new Timeline(new KeyFrame(Duration.millis(100), e -> {
-            double width = sandPane.getWidth();
-            double height = sandPane.getHeight();
-
-            Circle sand = new Circle(2, Color.web("#000000", 0.4));
-            sand.setCenterX(Math.random() * width);
-            sand.setCenterY(height);
-
-            sandPane.getChildren().add(sand);
-
-            TranslateTransition tt = new TranslateTransition(Duration.seconds(3), sand);
-            tt.setByY(-height);
-            tt.setByX(Math.random() * 60 - 30);
-            tt.setOnFinished(ev -> sandPane.getChildren().remove(sand));
-            tt.play();
-        }));
-        sandTimeline.setCycleCount(Timeline.INDEFINITE);
-        sandTimeline.setRate(1.2);
-        sandTimeline.play();
-    }
 }
@@ -53,6 +53,16 @@ public class MessageBox {
         showAnimated(dialog, box);
     }
 
+    /**
+     * Повідомляє, що фонова операція з базою даних не вдалася.
+     *
+     * @param owner батьківське вікно
+     */
+    public static void showDbError(Stage owner) {
+        show(I18n.get("error_title", "Error"),
+            I18n.get("error_db_unavailable", "Could not reach the database. Please try again later."), owner);
+    }
+
     /**
      * Відображає діалог підтвердження з кнопками «Yes» та «Cancel».
      *
@@ -1,9 +1,13 @@
 package com.agors.application.ui;
 
 import com.agors.application.admin.AdminWindow;
+import com.agors.application.lifecycle.AppLifecycle;
 import com.agors.domain.entity.User;
 import com.agors.domain.validation.SettingsValidator;
-import com.agors.infrastructure.persistence.impl.UserDaoImpl;
+import com.agors.infrastructure.persistence.async.DbExecutor;
+import com.agors.infrastructure.persistence.cache.UserUniqueness;
+import com.agors.infrastructure.persistence.contract.AsyncUserDao;
+import com.agors.infrastructure.persistence.impl.AsyncUserDaoImpl;
 import com.agors.infrastructure.util.I18n;
 import com.agors.infrastructure.util.PasswordUtil;
 import com.agors.infrastructure.util.SessionContext;
@@ -13,6 +17,7 @@ import javafx.animation.ScaleTransition;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Cursor;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.effect.DropShadow;
@@ -24,10 +29,13 @@ import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 /**
  * Вікно налаштувань користувача в застосунку Histotrek.
  * <p>
- * Дозволяє змінювати ім’я користувача, email, пароль, тему, мову, а також видаляти акаунт,
+ * Дозволяє змінювати ім’я користувача, email, пароль, тему, мову, енергоощадний режим, а також видаляти акаунт,
  * переглядати інформацію про розробника, отримувати права адміністратора.
  * Має структуру з секціями, кнопками та діалогами підтвердження.
  * </p>
@@ -42,8 +50,8 @@ public class SettingsWindow {
     private final Stage parentStage;
     /** Валідатор для перевірки нових значень, що вводяться. */
     private final SettingsValidator validator = new SettingsValidator();
-    /** DAO для оновлення користувача в базі. */
-    private final UserDaoImpl userDao = new UserDaoImpl();
+    /** DAO для фонового оновлення користувача в базі. */
+    private final AsyncUserDao userDao = new AsyncUserDaoImpl();
     /** Поточний авторизований користувач. */
     private final User currentUser = SessionContext.getCurrentUser();
     /** Поточне вікно налаштувань. */
@@ -89,21 +97,22 @@ public class SettingsWindow {
         VBox content = new VBox(20,
             createSection(I18n.get("profile", "Profile"),
                 createStyledButton(I18n.get("change_username", "👤 Change username"), e -> {
-                    if (confirmPassword(settingsStage)) handleChangeUsername(settingsStage);
+                    confirmPassword(settingsStage, () -> handleChangeUsername(settingsStage));
                 }),
                 createStyledButton(I18n.get("update_email", "📧 Update email"), e -> {
-                    if (confirmPassword(settingsStage)) handleChangeEmail(settingsStage);
+                    confirmPassword(settingsStage, () -> handleChangeEmail(settingsStage));
                 }),
                 createStyledButton(I18n.get("change_password", "🔑 Change password"), e -> {
-                    if (confirmPassword(settingsStage)) handleChangePassword(settingsStage);
+                    confirmPassword(settingsStage, () -> handleChangePassword(settingsStage));
                 }),
                 createStyledButton(I18n.get("delete_account", "🗑 Delete account"), e -> {
-                    if (confirmPassword(settingsStage)) handleDeleteAccount(settingsStage);
+                    confirmPassword(settingsStage, () -> handleDeleteAccount(settingsStage));
                 })
             ),
             createSection(I18n.get("personalization", "Personalization"),
                 createThemeChanger(),
-                createLanguageChoice()
+                createLanguageChoice(),
+                createLowPowerToggle()
             ),
             createSection(I18n.get("administration", "Administration"),
                 createStyledButton(I18n.get("admin_access", "👑 Get admin access"), e -> handleAdminAccess(settingsStage))
@@ -154,48 +163,62 @@ public class SettingsWindow {
      * @param owner поточне вікно
      */
     private void handleAdminAccess(Stage owner) {
-        if (!confirmPassword(owner)) return;
-
-        User freshUser = userDao.getUserById(currentUser.getId());
-        if (freshUser == null) return;
-
-        SessionContext.setCurrentUser(freshUser);
-        if (freshUser.getRole().equalsIgnoreCase("ADMIN")) {
-            owner.close();
-            Stage adminStage = new Stage();
-            new AdminWindow(owner).show(adminStage);
-            return;
-        }
-
-        TextInputDialog dialog = new TextInputDialog();
-        dialog.setTitle(I18n.get("admin_access_title", "Administrative Access"));
-        dialog.setHeaderText(I18n.get("admin_access_prompt", "Enter admin password"));
-        dialog.initOwner(owner);
+        confirmPassword(owner, () -> openAdminAccess(owner));
+    }
 
-        var result = dialog.showAndWait();
-        if (result.isEmpty()) return;
+    /**
+     * Перевіряє роль користувача після підтвердження пароля і за потреби запитує код адміну.
+     *
+     * @param owner поточне вікно
+     */
+    private void openAdminAccess(Stage owner) {
+        userDao.getUserById(currentUser.getId()).thenAccept(freshUser -> {
+            if (freshUser == null) return;
 
-        if ("0000".equals(result.get())) {
-            freshUser.setRole("ADMIN");
-            userDao.updateUser(freshUser);
             SessionContext.setCurrentUser(freshUser);
+            if (freshUser.getRole().equalsIgnoreCase("ADMIN")) {
+                owner.close();
+                Stage adminStage = new Stage();
+                new AdminWindow(owner).show(adminStage);
+                return;
+            }
 
-            MessageBox.show(
-                I18n.get("access_granted_title", "Access Granted"),
-                I18n.get("access_granted_msg", "You have been granted admin rights"),
-                owner
-            );
-            owner.close();
-            Stage adminStage = new Stage();
-            new AdminWindow(owner).show(adminStage);
-        } else {
-            MessageBox.show(
-                I18n.get("error_title_settings", "Error"),
-                I18n.get("admin_access_failed", "Incorrect admin password"),
-                owner
-            );
-        }
-
+            TextInputDialog dialog = new TextInputDialog();
+            dialog.setTitle(I18n.get("admin_access_title", "Administrative Access"));
+            dialog.setHeaderText(I18n.get("admin_access_prompt", "Enter admin password"));
+            dialog.initOwner(owner);
+
+            var result = dialog.showAndWait();
+            if (result.isEmpty()) return;
+
+            if ("0000".equals(result.get())) {
+                freshUser.setRole("ADMIN");
+                userDao.updateUser(freshUser).thenRun(() -> {
+                    SessionContext.setCurrentUser(freshUser);
+
+                    MessageBox.show(
+                        I18n.get("access_granted_title", "Access Granted"),
+                        I18n.get("access_granted_msg", "You have been granted admin rights"),
+                        owner
+                    );
+                    owner.close();
+                    Stage adminStage = new Stage();
+                    new AdminWindow(owner).show(adminStage);
+                }).exceptionally(ex -> {
+                    MessageBox.showDbError(owner);
+                    return null;
+                });
+            } else {
+                MessageBox.show(
+                    I18n.get("error_title_settings", "Error"),
+                    I18n.get("admin_access_failed", "Incorrect admin password"),
+                    owner
+                );
+            }
+        }).exceptionally(ex -> {
+            MessageBox.showDbError(owner);
+            return null;
+        });
     }
 
     /**
@@ -303,6 +326,20 @@ public class SettingsWindow {
         return cb;
     }
 
+    /**
+     * Створює перемикач енергоощадного режиму, у якому фонові анімації вимкнені,
+     * а фонова робота виконується лише тоді, коли застосунок активний.
+     *
+     * @return {@link CheckBox} для перемикання режиму
+     */
+    private CheckBox createLowPowerToggle() {
+        CheckBox cb = new CheckBox(I18n.get("low_power_mode", "🔋 Low-power mode"));
+        cb.setSelected(AppLifecycle.isLowPowerMode());
+        cb.setStyle("-fx-font-size: 14px; -fx-text-fill: black;");
+        cb.setOnAction(e -> AppLifecycle.setLowPowerMode(cb.isSelected()));
+        return cb;
+    }
+
     /**
      * Створює секцію налаштувань з заголовком і переданими елементами керування.
      *
@@ -393,13 +430,20 @@ public class SettingsWindow {
             return;
         }
 
+        String previousName = currentUser.getUsername();
         currentUser.setUsername(newName);
-        userDao.updateUser(currentUser);
-        MessageBox.show(
-            I18n.get("success_settings", "Success"),
-            I18n.get("username_updated", "Username updated successfully"),
-            owner
-        );
+        userDao.updateUser(currentUser).thenRun(() -> {
+            UserUniqueness.getInstance().remember(newName, null);
+            MessageBox.show(
+                I18n.get("success_settings", "Success"),
+                I18n.get("username_updated", "Username updated successfully"),
+                owner
+            );
+        }).exceptionally(ex -> {
+            currentUser.setUsername(previousName);
+            MessageBox.showDbError(owner);
+            return null;
+        });
     }
 
     /**
@@ -421,13 +465,20 @@ public class SettingsWindow {
             return;
         }
 
+        String previousEmail = currentUser.getEmail();
         currentUser.setEmail(newEmail);
-        userDao.updateUser(currentUser);
-        MessageBox.show(
-            I18n.get("success_settings", "Success"),
-            I18n.get("email_updated", "Email updated successfully"),
-            owner
-        );
+        userDao.updateUser(currentUser).thenRun(() -> {
+            UserUniqueness.getInstance().remember(null, newEmail);
+            MessageBox.show(
+                I18n.get("success_settings", "Success"),
+                I18n.get("email_updated", "Email updated successfully"),
+                owner
+            );
+        }).exceptionally(ex -> {
+            currentUser.setEmail(previousEmail);
+            MessageBox.showDbError(owner);
+            return null;
+        });
     }
 
     /**
@@ -449,13 +500,26 @@ public class SettingsWindow {
             return;
         }
 
-        currentUser.setPasswordHash(PasswordUtil.hashPassword(newPass));
-        userDao.updateUser(currentUser);
-        MessageBox.show(
-            I18n.get("success_settings", "Success"),
-            I18n.get("password_updated", "Password updated successfully"),
-            owner
-        );
+        String previousHash = currentUser.getPasswordHash();
+        inBackground(owner, () -> PasswordUtil.hashPassword(newPass)).thenCompose(hash -> {
+            currentUser.setPasswordHash(hash);
+            return userDao.updateUser(currentUser);
+        }).whenComplete((v, ex) -> {
+            if (ex != null) {
+                currentUser.setPasswordHash(previousHash);
+                MessageBox.show(
+                        I18n.get("error_title_settings", "Error"),
+                        I18n.get("error_password_update_failed", "Could not update the password. Please try again later."),
+                        owner
+                );
+                return;
+            }
+            MessageBox.show(
+                    I18n.get("success_settings", "Success"),
+                    I18n.get("password_updated", "Password updated successfully"),
+                    owner
+            );
+        });
     }
 
     /**
@@ -471,41 +535,67 @@ public class SettingsWindow {
         );
         if (!confirmed) return;
 
-        userDao.deleteUser(currentUser.getId());
-        MessageBox.show(
-            I18n.get("success_settings", "Success"),
-            I18n.get("account_deleted", "Your account has been deleted"),
-            owner
-        );
-        owner.close();
-        new MenuScreen().show(new Stage());
+        userDao.deleteUser(currentUser.getId()).thenRun(() -> {
+            MessageBox.show(
+                I18n.get("success_settings", "Success"),
+                I18n.get("account_deleted", "Your account has been deleted"),
+                owner
+            );
+            owner.close();
+            new MenuScreen().show(new Stage());
+        }).exceptionally(ex -> {
+            MessageBox.showDbError(owner);
+            return null;
+        });
     }
 
     /**
-     * Відкриває діалог підтвердження пароля користувача.
+     * Відкриває діалог підтвердження пароля користувача. Пароль перевіряється у фоні,
+     * після чого у потоці FX виконується дія або показується помилка.
      *
-     * @param owner вікно, в якому викликається підтвердження
-     * @return true, якщо пароль вірний
+     * @param owner       вікно, в якому викликається підтвердження
+     * @param onConfirmed дія, що виконується, якщо пароль вірний
      */
-    private boolean confirmPassword(Stage owner) {
+    private void confirmPassword(Stage owner, Runnable onConfirmed) {
         TextInputDialog dialog = new TextInputDialog();
         dialog.setTitle(I18n.get("confirm_password_title", "Password Confirmation"));
         dialog.setHeaderText(I18n.get("confirm_password_header", "Enter current password"));
         dialog.initOwner(owner);
 
         var res = dialog.showAndWait();
-        if (res.isEmpty()) return false;
+        if (res.isEmpty()) return;
+
+        String password = res.get();
+        String storedHash = currentUser.getPasswordHash();
+        inBackground(owner, () -> PasswordUtil.verifyPassword(password, storedHash)).thenAccept(valid -> {
+            if (valid) {
+                onConfirmed.run();
+            } else {
+                MessageBox.show(
+                    I18n.get("error_title_settings", "Error"),
+                    I18n.get("error_wrong_password", "Incorrect password"),
+                    owner
+                );
+            }
+        }).exceptionally(ex -> {
+            MessageBox.showDbError(owner);
+            return null;
+        });
+    }
 
-        String inputHash = PasswordUtil.hashPassword(res.get());
-        if (!inputHash.equals(currentUser.getPasswordHash())) {
-            MessageBox.show(
-                I18n.get("error_title_settings", "Error"),
-                I18n.get("error_wrong_password", "Incorrect password"),
-                owner
-            );
-            return false;
-        }
-        return true;
+    /**
+     * Виконує повільну операцію з паролем (хешування або перевірку) у фоні,
+     * блокуючи вміст вікна до її завершення.
+     *
+     * @param owner вікно, вміст якого блокується
+     * @param task  операція
+     * @param <T>   тип результату
+     * @return майбутнє, що завершується у потоці FX
+     */
+    private <T> CompletableFuture<T> inBackground(Stage owner, Supplier<T> task) {
+        Parent root = owner.getScene().getRoot();
+        root.setDisable(true);
+        return DbExecutor.supply(task).whenComplete((result, ex) -> root.setDisable(false));
     }
 
     /**
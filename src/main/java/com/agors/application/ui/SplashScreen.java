@@ -1,21 +1,22 @@
 package com.agors.application.ui;
 
-import com.agors.infrastructure.util.ConnectionHolder;
-import com.agors.infrastructure.util.ConnectionManager;
+import com.agors.application.effect.SandLayer;
+import com.agors.application.effect.SandStyle;
+import com.agors.application.lifecycle.AppLifecycle;
+import com.agors.application.lifecycle.Pausable;
 import com.agors.infrastructure.util.PropertiesUtil;
 import com.agors.infrastructure.util.SessionContext;
 import com.agors.domain.entity.User;
-import com.agors.infrastructure.persistence.impl.SessionDaoImpl;
+import com.agors.infrastructure.persistence.async.DbExecutor;
+import com.agors.infrastructure.security.SessionStore;
 import com.agors.infrastructure.util.PersistenceInitializer;
-import java.sql.Connection;
+import com.agors.infrastructure.util.SchemaMigrations;
 import javafx.animation.*;
 import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
-import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
@@ -23,16 +24,18 @@ import javafx.stage.StageStyle;
 import javafx.util.Duration;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Клас, що реалізує заставку (splash screen) для застосунку Histotrek.
  * <p>
  * Відображає анімований вступ із логотипом, ефектом пульсації тексту
  * та піщаною анімацією. Після паузи виконує ініціалізацію бази даних (DDL/DML)
- * та визначає, чи виконати автологін чи відкрити головне меню.
+ * та визначає, чи виконати автологін чи відкрити головне меню. Сесія відновлюється
+ * за токеном цього пристрою ({@link SessionStore}) у фоні одночасно з анімацією заставки.
  * </p>
  * <ul>
- *   <li>Якщо знайдено активну сесію користувача — переходить до {@link UserWindow}</li>
+ *   <li>Якщо знайдено чинну сесію користувача — переходить до {@link UserWindow}</li>
  *   <li>Інакше — відкриває {@link MenuScreen}</li>
  * </ul>
  *
@@ -55,8 +58,7 @@ public class SplashScreen {
         text.setFont(new Font("Arial", 40));
         text.setFill(Color.web("#8B4513"));
 
-        Pane sandPane = new Pane();
-        sandPane.setPickOnBounds(false);
+        SandLayer sandPane = new SandLayer(new SandStyle(15, 2, 50, Color.web("#000000", 0.6)));
 
         StackPane root = new StackPane(sandPane, text);
         root.setAlignment(Pos.CENTER);
@@ -67,7 +69,7 @@ public class SplashScreen {
 
         stage.setOnShown(e -> {
             playTextPulse(text);
-            playSandAnimation(sandPane);
+            sandPane.start();
         });
     }
 
@@ -86,37 +88,30 @@ public class SplashScreen {
         }
 
         stage.show();
+        CompletableFuture<Optional<User>> restored = DbExecutor.supply(() -> {
+            SchemaMigrations.apply();
+            return SessionStore.getInstance().restore();
+        });
 
         PauseTransition delay = new PauseTransition(Duration.seconds(2.8));
         delay.setOnFinished(e -> {
             stage.close();
-            Platform.runLater(() -> {
-                try {
-                    Connection conn = ConnectionManager.getConnection();
-                    ConnectionHolder.setConnection(conn);
-
-                    Optional<User> userOpt = new SessionDaoImpl().findUserByActiveSession();
-                    if (userOpt.isPresent()) {
-                        User user = userOpt.get();
-                        SessionContext.setCurrentUser(user);
-                        new UserWindow().start(nextStage, user.getId(), nextStage.isFullScreen());
-                    } else {
-                        new MenuScreen().show(nextStage);
-                    }
-
-                    conn.close();
-                    ConnectionHolder.clearConnection();
-                } catch (Exception ex) {
-                    ex.printStackTrace();
+            restored.whenComplete((userOpt, ex) -> Platform.runLater(() -> {
+                if (ex == null && userOpt.isPresent()) {
+                    User user = userOpt.get();
+                    SessionContext.setCurrentUser(user);
+                    new UserWindow().start(nextStage, user.getId(), nextStage.isFullScreen());
+                } else {
                     new MenuScreen().show(nextStage);
                 }
-            });
+            }));
         });
         delay.play();
     }
 
     /**
      * Запускає нескінченну анімацію пульсації логотипу Histotrek.
+     * Анімація призупиняється разом з іншими анімаціями вікна і зупиняється, коли заставку закрито.
      *
      * @param text елемент {@link Text}, до якого застосовується ефект
      */
@@ -131,30 +126,14 @@ public class SplashScreen {
 
         SequentialTransition pulse = new SequentialTransition(scaleUp, scaleDown);
         pulse.setCycleCount(Animation.INDEFINITE);
-        pulse.play();
-    }
 
-    /**
-     * Запускає анімацію піщинок, які падають вгору, імітуючи рух піску.
-     *
-     * @param sandPane панель, на якій відображаються піщинки
-     */
-    private void playSandAnimation(Pane sandPane) {
-        Timeline sandTimeline = new Timeline(new KeyFrame(Duration.millis(100), e -> {
-            Circle sand = new Circle(2, Color.web("#000000", 0.6));
-            sand.setCenterX(Math.random() * 500);
-            sand.setCenterY(350);
-
-            sandPane.getChildren().add(sand);
-
-            TranslateTransition tt = new TranslateTransition(Duration.seconds(2), sand);
-            tt.setByY(-400);
-            tt.setByX(Math.random() * 100 - 50);
-            tt.setOnFinished(ev -> sandPane.getChildren().remove(sand));
-            tt.play();
-        }));
-        sandTimeline.setCycleCount(Animation.INDEFINITE);
-        sandTimeline.setRate(1.5);
-        sandTimeline.play();
+        Pausable pausable = paused -> {
+            if (paused) pulse.pause(); else pulse.play();
+        };
+        AppLifecycle.registerAnimation(stage, pausable);
+        stage.setOnHidden(e -> {
+            AppLifecycle.unregister(pausable);
+            pulse.stop();
+        });
     }
 }
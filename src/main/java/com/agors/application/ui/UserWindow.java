@@ -1,24 +1,38 @@
 package com.agors.application.ui;
 
+import com.agors.application.effect.SandLayer;
+import com.agors.application.effect.SandStyle;
+import com.agors.application.grid.TileCell;
+import com.agors.application.grid.TileGrid;
+import com.agors.application.paging.PageLoader;
+import com.agors.application.search.CardFilter;
+import com.agors.application.search.Debouncer;
 import com.agors.domain.entity.Place;
-import com.agors.domain.entity.Favorite;
+import com.agors.domain.entity.RatingSummary;
 import com.agors.domain.entity.Review;
 import com.agors.domain.entity.User;
-import com.agors.infrastructure.persistence.impl.PlaceDaoImpl;
-import com.agors.infrastructure.persistence.impl.FavoriteDaoImpl;
-import com.agors.infrastructure.persistence.impl.ReviewDaoImpl;
-import com.agors.infrastructure.persistence.impl.SessionDaoImpl;
-import com.agors.infrastructure.persistence.impl.UserDaoImpl;
-
-import com.agors.infrastructure.util.ConnectionHolder;
-import com.agors.infrastructure.util.ConnectionManager;
+import com.agors.infrastructure.persistence.async.DbExecutor;
+import com.agors.infrastructure.persistence.contract.AsyncFavoriteDao;
+import com.agors.infrastructure.persistence.contract.AsyncPlaceDao;
+import com.agors.infrastructure.persistence.contract.AsyncReviewDao;
+import com.agors.infrastructure.persistence.contract.PlaceDao;
+import com.agors.infrastructure.persistence.impl.AsyncFavoriteDaoImpl;
+import com.agors.infrastructure.persistence.impl.AsyncPlaceDaoImpl;
+import com.agors.infrastructure.image.ImageCache;
+import com.agors.infrastructure.persistence.impl.AsyncReviewDaoImpl;
+import com.agors.infrastructure.security.SessionStore;
+
 import com.agors.infrastructure.util.SessionContext;
 import com.agors.infrastructure.util.ThemeManager;
 import com.agors.infrastructure.util.I18n;
 import com.agors.domain.enums.ThemeType;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javafx.animation.*;
@@ -27,14 +41,13 @@ import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.geometry.Side;
 import javafx.scene.Cursor;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextFlow;
@@ -60,16 +73,33 @@ import javafx.util.Duration;
  */
 public class UserWindow {
 
-    private final PlaceDaoImpl placeDaoImpl = new PlaceDaoImpl();
-    private final FavoriteDaoImpl favoriteDaoImpl = new FavoriteDaoImpl();
+    /** Ключ у властивостях вузла, за яким зберігається маркер останнього асинхронного завантаження. */
+    private static final String LOAD_TOKEN = "loadToken";
+    /** Кількість місць, що завантажуються за один запит під час прокручування. */
+    private static final int PLACE_PAGE_SIZE = 48;
+    /** Кількість відгуків, що завантажуються за один запит у детальному вікні місця. */
+    private static final int REVIEW_PAGE_SIZE = 20;
+
+    private final AsyncPlaceDao placeDao = new AsyncPlaceDaoImpl();
+    private final AsyncFavoriteDao favoriteDao = new AsyncFavoriteDaoImpl();
+    private final AsyncReviewDao reviewDao = new AsyncReviewDaoImpl();
 
     private Label titleLabel;
-    private List<Place> allPlaces;
+    /** Місця вкладки "All", завантажені на цей момент. */
+    private final List<Place> allPlaces = new ArrayList<>();
+    /** Рейтинги місць, показаних у сітках, за id місця. */
+    private final Map<Integer, RatingSummary> ratings = new HashMap<>();
+    private final TileGrid<Place> allGrid = new TileGrid<>(250, 20, PlaceTile::new);
+    private final TileGrid<Place> favGrid = new TileGrid<>(250, 20, PlaceTile::new);
+    private final CardFilter favFilter = new CardFilter(favGrid::setItems);
+    /** Поточний рядок пошуку вкладки "All"; пошук виконується в базі даних. */
+    private String allQuery = "";
+    private final PageLoader<PlaceDao.SearchHit, PlaceDao.SearchCursor> allPages = new PageLoader<>(
+        this::fetchPlacePage, PlaceDao.SearchCursor.FIRST, PlaceDao.SearchHit::cursor,
+        PLACE_PAGE_SIZE, this::showPlacePage).onError(ex -> dbError(allGrid));
     private int currentUserId;
-    private FlowPane allFlow;
-    private FlowPane favFlow;
     private Stage primaryStage;
-    private Pane sand;
+    private SandLayer sand;
     private StackPane stack;
     private Scene scene;
 
@@ -86,8 +116,6 @@ public class UserWindow {
         this.primaryStage.setFullScreen(isFullScreen);
         this.primaryStage.setFullScreenExitHint("");
 
-        allPlaces = placeDaoImpl.findAll();
-
         HBox topBar = createTopBar();
 
         TabPane tabPane = new TabPane();
@@ -96,33 +124,31 @@ public class UserWindow {
         Tab allTab = new Tab(I18n.get("all_tab", "All")); allTab.setClosable(false);
         Tab favTab = new Tab(I18n.get("favorites_tab", "Favorites")); favTab.setClosable(false);
 
-        allFlow = createFlow();
-        favFlow = createFlow();
-
-        allTab.setContent(wrapScroll(allFlow));
-        favTab.setContent(wrapScroll(favFlow));
+        allTab.setContent(allGrid);
+        favTab.setContent(favGrid);
         tabPane.getTabs().addAll(allTab, favTab);
 
-        loadCards(allFlow, allPlaces);
-        loadCards(favFlow, getFavoritePlaces());
+        allGrid.setOnNearEnd(allPages::loadMore);
+        allPages.loadMore();
+        loadFavoriteCards();
 
         TextField searchField = (TextField) topBar.lookup("#searchField");
+        Debouncer<String> search = new Debouncer<>(CardFilter.DEBOUNCE, q -> {
+            searchAll(q);
+            favFilter.setQuery(q);
+        });
         tabPane.getSelectionModel().selectedItemProperty().addListener((obs, o, n) -> {
             searchField.setText("");
-            if (n == allTab) loadCards(allFlow, allPlaces);
-            else loadCards(favFlow, getFavoritePlaces());
-        });
-        searchField.textProperty().addListener((obs, o, n) -> {
-            if (tabPane.getSelectionModel().getSelectedItem() == allTab)
-                loadCards(allFlow, filterList(allPlaces, n));
-            else
-                loadCards(favFlow, filterList(getFavoritePlaces(), n));
+            search.flush();
+            if (n == favTab) loadFavoriteCards();
         });
+        searchField.textProperty().addListener((obs, o, n) -> search.accept(n));
 
         BorderPane root = new BorderPane(tabPane);
         root.setTop(topBar);
 
-        sand = new Pane(); sand.setMouseTransparent(true);
+        sand = new SandLayer(sandStyle());
+        sand.start();
         stack = new StackPane(sand, root);
         scene = new Scene(stack, 800, 600);
 
@@ -154,7 +180,7 @@ public class UserWindow {
     }
 
     /**
-     * Оновлює тему інтерфейсу та перезапускає анімацію піску.
+     * Оновлює тему інтерфейсу та кольори піску.
      */
     private void updateTheme() {
         ThemeType theme = ThemeManager.getCurrentTheme();
@@ -168,34 +194,16 @@ public class UserWindow {
 
         if (stack != null) stack.setStyle("-fx-background-color: " + bgColor + ";");
 
-        if (sand != null) {
-            sand.getChildren().clear();
-            playSandAnimation(sand);
-        }
+        if (sand != null) sand.setSandStyle(sandStyle());
     }
 
     /**
-     * Запускає анімацію піщинок, що рухаються вгору відповідно до теми.
+     * Повертає параметри анімації піску для поточної теми.
      *
-     * @param pane контейнер, в якому показується анімація
+     * @return стиль шару піску
      */
-    private void playSandAnimation(Pane pane) {
-        Color[] colors = ThemeManager.getSandColors();
-        Timeline tl = new Timeline(
-            new KeyFrame(Duration.millis(100), e -> {
-                Color color = colors[(int)(Math.random() * colors.length)];
-                Circle c = new Circle(2, color);
-                c.setCenterX(Math.random() * pane.getWidth());
-                c.setCenterY(pane.getHeight());
-                pane.getChildren().add(c);
-                TranslateTransition tt = new TranslateTransition(Duration.seconds(4), c);
-                tt.setByY(-pane.getHeight());
-                tt.setByX(Math.random() * 60 - 30);
-                tt.setOnFinished(ev -> pane.getChildren().remove(c));
-                tt.play();
-            }));
-        tl.setCycleCount(Animation.INDEFINITE);
-        tl.play();
+    private static SandStyle sandStyle() {
+        return new SandStyle(10, 4, 30, ThemeManager.getSandColors());
     }
 
     /**
@@ -236,20 +244,7 @@ public class UserWindow {
         });
 
         logout.setOnAction(e -> {
-            User currentUser = SessionContext.getCurrentUser();
-            if (currentUser != null) {
-                try {
-                    var conn = ConnectionManager.getConnection();
-                    ConnectionHolder.setConnection(conn);
-                    new SessionDaoImpl().deleteByUserId(currentUser.getId());
-                    conn.close();
-                } catch (Exception ex) {
-                    ex.printStackTrace();
-                } finally {
-                    ConnectionHolder.clearConnection();
-                }
-            }
-
+            DbExecutor.run(SessionStore.getInstance()::logout);
             SessionContext.clear();
 
             boolean fs = primaryStage.isFullScreen();
@@ -278,131 +273,210 @@ public class UserWindow {
     }
 
     /**
-     * Створює новий {@link FlowPane} для відображення карток.
+     * Застосовує рядок пошуку до вкладки "All": список починається спочатку,
+     * а відповіді на попередній запит відкидаються.
      *
-     * @return новий контейнер FlowPane
+     * @param query рядок пошуку
      */
-    private FlowPane createFlow() {
-        FlowPane flow = new FlowPane(20, 20);
-        flow.setPadding(new Insets(20));
-        flow.setAlignment(Pos.TOP_CENTER);
-        return flow;
+    private void searchAll(String query) {
+        String q = query != null ? query.trim() : "";
+        if (q.equals(allQuery)) return;
+        allQuery = q;
+        allPages.reset();
     }
 
     /**
-     * Обгортає FlowPane у ScrollPane зі стилізацією.
+     * Завантажує наступну сторінку результатів пошуку разом з рейтингами місць.
+     * Порожній запит повертає всі місця в порядку id.
      *
-     * @param flow FlowPane, який потрібно прокручувати
-     * @return обгорнутий компонент
+     * @param after курсор останнього завантаженого результату
+     * @param limit розмір сторінки
+     * @return майбутнє зі сторінкою результатів; рейтинги вже збережено в {@link #ratings}
      */
-    private ScrollPane wrapScroll(FlowPane flow) {
-        ScrollPane sp = new ScrollPane(flow);
-        sp.setFitToWidth(true);
-        sp.setStyle("-fx-background: transparent; -fx-background-color: transparent;");
-        return sp;
+    private CompletableFuture<List<PlaceDao.SearchHit>> fetchPlacePage(PlaceDao.SearchCursor after, int limit) {
+        return placeDao.search(allQuery, limit, after).thenCompose(page ->
+            reviewDao.ratingSummaries(page.stream().map(h -> h.place().getId()).collect(Collectors.toList()))
+                .thenApply(loaded -> {
+                    ratings.putAll(loaded);
+                    return page;
+                }));
     }
 
     /**
-     * Завантажує картки місць до вказаного контейнера.
+     * Додає сторінку результатів до вкладки "All".
      *
-     * @param flow   контейнер для карток
-     * @param places список місць
+     * @param page  сторінка результатів пошуку
+     * @param first true, якщо список починається спочатку
      */
-    private void loadCards(FlowPane flow, List<Place> places) {
-        flow.getChildren().clear();
-        places.forEach(p -> flow.getChildren().add(createCard(p)));
+    private void showPlacePage(List<PlaceDao.SearchHit> page, boolean first) {
+        if (first) allPlaces.clear();
+        page.forEach(h -> allPlaces.add(h.place()));
+        allGrid.setItems(allPlaces);
     }
 
     /**
-     * Отримує список улюблених місць поточного користувача.
-     *
-     * @return список {@link Place}
+     * Перечитує рейтинги вже завантажених місць вкладки "All" одним запитом.
      */
-    private List<Place> getFavoritePlaces() {
-        return favoriteDaoImpl.findByUser(currentUserId).stream()
-            .map(Favorite::getPlaceId)
-            .map(placeDaoImpl::findById)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
+    private void refreshRatings() {
+        reviewDao.ratingSummaries(allPlaces.stream().map(Place::getId).collect(Collectors.toList()))
+            .thenAccept(loaded -> {
+                ratings.putAll(loaded);
+                allGrid.refresh();
+            })
+            .exceptionally(ex -> dbError(allGrid));
     }
 
     /**
-     * Фільтрує список місць за запитом (назва, країна, епоха).
+     * Завантажує картки місць до вказаної сітки.
+     * <p>
+     * Рейтинги всіх місць отримуються одним агрегованим запитом у фоні; місця передаються
+     * у фільтр пошуку, коли рейтинги надійдуть, а фільтр передає в сітку лише ті, що
+     * відповідають поточному запиту. Якщо за цей час сітку почали оновлювати знову,
+     * застарілий результат відкидається.
+     * </p>
      *
-     * @param list список місць
-     * @param q    рядок запиту
-     * @return відфільтрований список
+     * @param grid   сітка карток
+     * @param filter фільтр пошуку цієї сітки
+     * @param places список місць
      */
-    private List<Place> filterList(List<Place> list, String q) {
-        String lower = q.toLowerCase();
-        return list.stream()
-            .filter(p -> p.getName().toLowerCase().contains(lower)
-                || p.getCountry().toLowerCase().contains(lower)
-                || p.getEra().toLowerCase().contains(lower))
-            .collect(Collectors.toList());
+    private void loadCards(TileGrid<Place> grid, CardFilter filter, List<Place> places) {
+        Object token = new Object();
+        grid.getProperties().put(LOAD_TOKEN, token);
+        reviewDao.ratingSummaries(places.stream().map(Place::getId).collect(Collectors.toList()))
+            .thenAccept(loaded -> {
+                if (grid.getProperties().get(LOAD_TOKEN) != token) return;
+                ratings.putAll(loaded);
+                filter.setItems(places);
+                grid.refresh();
+            })
+            .exceptionally(ex -> dbError(grid));
     }
 
     /**
-     * Створює картку одного місця з назвою, зображенням, рейтингом і описом.
+     * Завантажує улюблені місця поточного користувача у вкладку "Favorites".
+     * <p>
+     * Виконує один JOIN-запит у фоні; результат кешується в DAO до зміни обраного.
+     * </p>
+     */
+    private void loadFavoriteCards() {
+        favoriteDao.findPlacesByUser(currentUserId)
+            .thenAccept(favorites -> loadCards(favGrid, favFilter, favorites))
+            .exceptionally(ex -> dbError(favGrid));
+    }
+
+    /**
+     * Повідомляє про невдалу фонову операцію з базою даних над вікном вказаного вузла.
+     * Подробиці помилки вже записано в журнал {@link DbExecutor}.
      *
-     * @param place обʼєкт {@link Place}
-     * @return оформлена картка
+     * @param source вузол, над вікном якого показати повідомлення
+     * @param <T>    тип результату майбутнього
+     * @return null як замінний результат для {@code exceptionally}
+     */
+    private <T> T dbError(Node source) {
+        Window window = source.getScene() != null ? source.getScene().getWindow() : null;
+        MessageBox.showDbError(window instanceof Stage stage ? stage : primaryStage);
+        return null;
+    }
+
+    /**
+     * Картка одного місця з назвою, зображенням, рейтингом і описом.
+     * <p>
+     * Вузли картки створюються один раз, а сітка перевикористовує її для різних місць
+     * під час прокручування; рейтинг береться з {@link #ratings}.
+     * </p>
      */
-    private VBox createCard(Place place) {
-        VBox card = new VBox(10);
-        card.setPadding(new Insets(10));
-        card.setAlignment(Pos.TOP_LEFT);
-        card.setPrefWidth(250);
-        String baseStyle =
+    private final class PlaceTile extends TileCell<Place> {
+
+        private static final String BASE_STYLE =
             "-fx-background-color: white; -fx-border-color: #d3d3d3;" +
                 "-fx-border-radius: 8; -fx-background-radius: 8;" +
                 "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.1), 6, 0, 0, 2)";
-        card.setStyle(baseStyle);
 
-        try {
-            ImageView img = new ImageView(new Image(place.getImageUrl(), true));
+        private final VBox card = new VBox(10);
+        private final ImageView img = new ImageView();
+        private final Label noImage = new Label(I18n.get("image_not_available_user", "Image not available"));
+        private final Label nameLbl = new Label();
+        private final Label ratingLbl = new Label();
+        private final VBox infoBox = new VBox(6);
+        private final Label locLbl = new Label();
+        private final Label eraLbl = new Label();
+        private final Label descLbl = new Label();
+        private String imageUrl;
+
+        PlaceTile() {
+            card.setPadding(new Insets(10));
+            card.setAlignment(Pos.TOP_LEFT);
+            card.setPrefWidth(250);
+            card.setStyle(BASE_STYLE);
+
             img.setFitWidth(230);
             img.setFitHeight(150);
-            card.getChildren().add(img);
-        } catch (Exception ignored) {
-            card.getChildren().add(new Label(I18n.get("image_not_available_user", "Image not available")));
+            img.setPreserveRatio(true);
+
+            nameLbl.setFont(Font.font(16));
+            nameLbl.setTextFill(Color.web("#1a3e2b"));
+
+            ratingLbl.setFont(Font.font("Arial", 13));
+            ratingLbl.setTextFill(Color.GOLD);
+
+            infoBox.setVisible(false);
+            locLbl.setFont(Font.font(12)); locLbl.setTextFill(Color.web("#555"));
+            eraLbl.setFont(Font.font(12)); eraLbl.setTextFill(Color.web("#555"));
+            descLbl.setWrapText(true); descLbl.setFont(Font.font(12));
+            infoBox.getChildren().addAll(locLbl, eraLbl, descLbl);
+
+            card.getChildren().addAll(img, noImage, nameLbl, ratingLbl, infoBox);
+
+            card.setOnMouseEntered(e -> {
+                hoverCard(card, true);
+                infoBox.setVisible(true);
+            });
+            card.setOnMouseExited(e -> {
+                hoverCard(card, false);
+                infoBox.setVisible(false);
+            });
+
+            card.setOnMouseClicked(e -> showCardDetails(getItem()));
         }
 
-        Label nameLbl = new Label(place.getName());
-        nameLbl.setFont(Font.font(16));
-        nameLbl.setTextFill(Color.web("#1a3e2b"));
-
-        ReviewDaoImpl reviewDao = new ReviewDaoImpl();
-        List<Review> reviews = reviewDao.findByPlace(place.getId());
-        double avg = reviews.stream().mapToInt(Review::getRating).average().orElse(0.0);
-        Label ratingLbl = new Label("★ " + String.format("%.1f", avg));
-        ratingLbl.setFont(Font.font("Arial", 13));
-        ratingLbl.setTextFill(Color.GOLD);
-
-        VBox infoBox = new VBox(6);
-        infoBox.setVisible(false);
-        Label locLbl = new Label("🌍 " + place.getCountry());
-        Label eraLbl = new Label("🕰 " + place.getEra());
-        Label descLbl = new Label(place.getDescription());
-        locLbl.setFont(Font.font(12)); locLbl.setTextFill(Color.web("#555"));
-        eraLbl.setFont(Font.font(12)); eraLbl.setTextFill(Color.web("#555"));
-        descLbl.setWrapText(true); descLbl.setFont(Font.font(12));
-        infoBox.getChildren().addAll(locLbl, eraLbl, descLbl);
-
-        card.getChildren().addAll(nameLbl, ratingLbl, infoBox);
-
-        card.setOnMouseEntered(e -> {
-            hoverCard(card, true);
-            infoBox.setVisible(true);
-        });
-        card.setOnMouseExited(e -> {
-            hoverCard(card, false);
+        @Override
+        public VBox getNode() {
+            return card;
+        }
+
+        @Override
+        protected void updateItem(Place place) {
+            card.setScaleX(1.0);
+            card.setScaleY(1.0);
+            card.setStyle(BASE_STYLE);
             infoBox.setVisible(false);
-        });
 
-        card.setOnMouseClicked(e -> showCardDetails(place));
+            RatingSummary rating = ratings.getOrDefault(place.getId(), RatingSummary.empty(place.getId()));
+            nameLbl.setText(place.getName());
+            ratingLbl.setText("★ " + String.format("%.1f", rating.getAverage()));
+            locLbl.setText("🌍 " + place.getCountry());
+            eraLbl.setText("🕰 " + place.getEra());
+            descLbl.setText(place.getDescription());
+
+            if (!Objects.equals(imageUrl, place.getImageUrl())) {
+                String url = place.getImageUrl();
+                imageUrl = url;
+                img.setImage(null);
+                showImage(true);
+                ImageCache.getInstance().thumbnail(url).whenComplete((image, error) -> {
+                    if (!Objects.equals(imageUrl, url)) return;
+                    img.setImage(image);
+                    showImage(image != null);
+                });
+            }
+        }
 
-        return card;
+        private void showImage(boolean available) {
+            img.setVisible(available);
+            img.setManaged(available);
+            noImage.setVisible(!available);
+            noImage.setManaged(!available);
+        }
     }
 
     /**
@@ -450,9 +524,11 @@ public class UserWindow {
         content.setPadding(new Insets(20));
         content.setStyle("-fx-background-color: white; -fx-background-radius: 12;");
 
-        ImageView img = new ImageView(new Image(place.getImageUrl(), true));
+        ImageView img = new ImageView();
         img.setFitWidth(400);
         img.setFitHeight(250);
+        img.setPreserveRatio(true);
+        ImageCache.getInstance().full(place.getImageUrl()).thenAccept(img::setImage);
 
         Label name = new Label(place.getName());
         name.setFont(Font.font("Arial", 22));
@@ -484,10 +560,6 @@ public class UserWindow {
         avgRatingLabel.setFont(Font.font("Arial", 14));
         avgRatingLabel.setTextFill(Color.GOLD);
 
-        ReviewDaoImpl reviewDao = new ReviewDaoImpl();
-        UserDaoImpl userDao = new UserDaoImpl();
-        FavoriteDaoImpl favoriteDao = new FavoriteDaoImpl();
-
         VBox reviewListBox = new VBox(10);
         reviewListBox.setPadding(new Insets(5));
 
@@ -495,132 +567,133 @@ public class UserWindow {
         contentScroll.setFitToWidth(true);
         contentScroll.setStyle("-fx-background: transparent; -fx-background-color: transparent;");
 
+        Consumer<RatingSummary> showAverage = summary -> avgRatingLabel.setText(
+            I18n.get("avg_rating_label", "★ Average rating: ") + String.format("%.1f", summary.getAverage())
+        );
+
         Runnable[] updateReviewsList = new Runnable[1];
-        updateReviewsList[0] = () -> {
-            UserDaoImpl userDaoForSession = new UserDaoImpl();
-            User currentUserNow = userDaoForSession.getUserById(SessionContext.getCurrentUser().getId());
-            SessionContext.setCurrentUser(currentUserNow);
-
-            int currentUserIdNow = currentUserNow != null ? currentUserNow.getId() : -1;
-            boolean isAdminNow = currentUserNow != null && "ADMIN".equals(currentUserNow.getRole());
-
-            double scrollPos = contentScroll.getVvalue();
-            reviewListBox.getChildren().clear();
-            List<Review> updated = reviewDao.findByPlace(place.getId());
-            double avg = updated.stream().mapToInt(Review::getRating).average().orElse(0.0);
-            avgRatingLabel.setText(
-                I18n.get("avg_rating_label", "★ Average rating: ") + String.format("%.1f", avg)
-            );
-
-            for (Review r : updated) {
-                VBox reviewCard = new VBox(4);
-                reviewCard.setStyle("-fx-background-color: #f0e9e0; -fx-background-radius: 8;");
-                reviewCard.setPadding(new Insets(8));
-
-                String username = userDao.getUserById(r.getUserId()).getUsername();
-                Label author = new Label("👤 " + username);
-                author.setFont(Font.font("Arial", 13));
-                author.setTextFill(Color.BLACK);
-
-                Label rating = new Label("★".repeat(r.getRating()));
-                rating.setTextFill(Color.GOLD);
-                rating.setFont(Font.font(14));
-
-                Label text = new Label(r.getText());
-                text.setWrapText(true);
-                text.setFont(Font.font("Arial", 13));
-                text.setTextFill(Color.BLACK);
-
-                HBox actions = new HBox(5);
-                actions.setAlignment(Pos.CENTER_RIGHT);
-
-                boolean canEdit = r.getUserId() == currentUserIdNow;
-                boolean canDelete = canEdit || isAdminNow;
-
-                if (canEdit || canDelete) {
-                    if (canEdit) {
-                        Button editBtn = new Button(I18n.get("edit_btn", "✏️"));
-                        editBtn.setStyle("-fx-background-color: transparent;");
-                        editBtn.setOnAction(e -> {
-                            TextArea editArea = new TextArea(r.getText());
-                            editArea.setWrapText(true);
-                            editArea.setFont(Font.font("Arial", 13));
-
-                            HBox editStarBox = new HBox(5);
-                            editStarBox.setAlignment(Pos.CENTER_LEFT);
-                            int[] editRating = { r.getRating() };
-                            for (int i = 1; i <= 5; i++) {
-                                Label s = new Label("★");
-                                s.setFont(Font.font("Arial", 18));
-                                s.setTextFill(i <= editRating[0] ? Color.GOLD : Color.LIGHTGRAY);
-                                int starIndex = i;
-                                s.setOnMouseEntered(ev -> {
-                                    for (int j = 0; j < 5; j++) {
-                                        Label star = (Label) editStarBox.getChildren().get(j);
-                                        star.setTextFill(j < starIndex ? Color.GOLD : Color.LIGHTGRAY);
-                                    }
-                                });
-                                s.setOnMouseExited(ev -> {
-                                    for (int j = 0; j < 5; j++) {
-                                        Label star = (Label) editStarBox.getChildren().get(j);
-                                        star.setTextFill(j < editRating[0] ? Color.GOLD : Color.LIGHTGRAY);
-                                    }
-                                });
-                                s.setOnMouseClicked(ev -> {
-                                    editRating[0] = starIndex;
-                                    for (int j = 0; j < 5; j++) {
-                                        Label star = (Label) editStarBox.getChildren().get(j);
-                                        star.setTextFill(j < starIndex ? Color.GOLD : Color.LIGHTGRAY);
-                                    }
+        double[] scrollPos = {0};
+        PageLoader<Review, Integer> reviewPages = PageLoader.byId(
+            (afterId, limit) -> reviewDao.findPageByPlaceWithAuthors(place.getId(), afterId, limit),
+            Review::getId, REVIEW_PAGE_SIZE,
+            (page, first) -> {
+                User currentUserNow = SessionContext.getCurrentUser();
+                int currentUserIdNow = currentUserNow != null ? currentUserNow.getId() : -1;
+                boolean isAdminNow = currentUserNow != null && "ADMIN".equals(currentUserNow.getRole());
+
+                if (first) reviewListBox.getChildren().clear();
+
+                for (Review r : page) {
+                    VBox reviewCard = new VBox(4);
+                    reviewCard.setStyle("-fx-background-color: #f0e9e0; -fx-background-radius: 8;");
+                    reviewCard.setPadding(new Insets(8));
+
+                    Label author = new Label("👤 " + (r.getUsername() != null ? r.getUsername() : "—"));
+                    author.setFont(Font.font("Arial", 13));
+                    author.setTextFill(Color.BLACK);
+
+                    Label rating = new Label("★".repeat(r.getRating()));
+                    rating.setTextFill(Color.GOLD);
+                    rating.setFont(Font.font(14));
+
+                    Label text = new Label(r.getText());
+                    text.setWrapText(true);
+                    text.setFont(Font.font("Arial", 13));
+                    text.setTextFill(Color.BLACK);
+
+                    HBox actions = new HBox(5);
+                    actions.setAlignment(Pos.CENTER_RIGHT);
+
+                    boolean canEdit = r.getUserId() == currentUserIdNow;
+                    boolean canDelete = canEdit || isAdminNow;
+
+                    if (canEdit || canDelete) {
+                        if (canEdit) {
+                            Button editBtn = new Button(I18n.get("edit_btn", "✏️"));
+                            editBtn.setStyle("-fx-background-color: transparent;");
+                            editBtn.setOnAction(e -> {
+                                TextArea editArea = new TextArea(r.getText());
+                                editArea.setWrapText(true);
+                                editArea.setFont(Font.font("Arial", 13));
+
+                                HBox editStarBox = new HBox(5);
+                                editStarBox.setAlignment(Pos.CENTER_LEFT);
+                                int[] editRating = { r.getRating() };
+                                for (int i = 1; i <= 5; i++) {
+                                    Label s = new Label("★");
+                                    s.setFont(Font.font("Arial", 18));
+                                    s.setTextFill(i <= editRating[0] ? Color.GOLD : Color.LIGHTGRAY);
+                                    int starIndex = i;
+                                    s.setOnMouseEntered(ev -> {
+                                        for (int j = 0; j < 5; j++) {
+                                            Label star = (Label) editStarBox.getChildren().get(j);
+                                            star.setTextFill(j < starIndex ? Color.GOLD : Color.LIGHTGRAY);
+                                        }
+                                    });
+                                    s.setOnMouseExited(ev -> {
+                                        for (int j = 0; j < 5; j++) {
+                                            Label star = (Label) editStarBox.getChildren().get(j);
+                                            star.setTextFill(j < editRating[0] ? Color.GOLD : Color.LIGHTGRAY);
+                                        }
+                                    });
+                                    s.setOnMouseClicked(ev -> {
+                                        editRating[0] = starIndex;
+                                        for (int j = 0; j < 5; j++) {
+                                            Label star = (Label) editStarBox.getChildren().get(j);
+                                            star.setTextFill(j < starIndex ? Color.GOLD : Color.LIGHTGRAY);
+                                        }
+                                    });
+                                    editStarBox.getChildren().add(s);
+                                }
+
+                                Button saveBtn = new Button(I18n.get("save_btn", "💾 Save"));
+                                saveBtn.setStyle("-fx-background-color: #3e2723; -fx-text-fill: white;");
+                                saveBtn.setOnAction(ev -> {
+                                    r.setText(editArea.getText().trim());
+                                    r.setRating(editRating[0]);
+                                    reviewDao.update(r).thenRun(updateReviewsList[0])
+                                        .exceptionally(ex -> dbError(content));
                                 });
-                                editStarBox.getChildren().add(s);
-                            }
-
-                            Button saveBtn = new Button(I18n.get("save_btn", "💾 Save"));
-                            saveBtn.setStyle("-fx-background-color: #3e2723; -fx-text-fill: white;");
-                            saveBtn.setOnAction(ev -> {
-                                r.setText(editArea.getText().trim());
-                                r.setRating(editRating[0]);
-                                r.setCreatedAt(LocalDateTime.now());
-                                reviewDao.update(r);
-                                updateReviewsList[0].run();
-                                Platform.runLater(() -> contentScroll.setVvalue(scrollPos));
+                                reviewCard.getChildren().setAll(author, editStarBox, editArea, saveBtn);
                             });
-                            reviewCard.getChildren().setAll(author, editStarBox, editArea, saveBtn);
-                        });
-                        actions.getChildren().add(editBtn);
+                            actions.getChildren().add(editBtn);
+                        }
+
+                        if (canDelete) {
+                            Button delBtn = new Button(I18n.get("delete_btn", "🗑"));
+                            delBtn.setStyle("-fx-background-color: transparent;");
+                            delBtn.setOnAction(e -> {
+                                Stage owner = (Stage) delBtn.getScene().getWindow(); // 👈 отримуємо Stage через кнопку
+
+                                if (MessageBox.showConfirm(
+                                    I18n.get("confirm_title", "Confirmation"),
+                                    I18n.get("confirm_delete_review", "Delete this review?"),
+                                    owner
+                                )) {
+                                    reviewDao.remove(r.getId()).thenRun(updateReviewsList[0])
+                                        .exceptionally(ex -> dbError(content));
+                                }
+                            });
+                            actions.getChildren().add(delBtn);
+                        }
                     }
 
-                    if (canDelete) {
-                        Button delBtn = new Button(I18n.get("delete_btn", "🗑"));
-                        delBtn.setStyle("-fx-background-color: transparent;");
-                        delBtn.setOnAction(e -> {
-                            Stage owner = (Stage) delBtn.getScene().getWindow(); // 👈 отримуємо Stage через кнопку
-
-                            if (MessageBox.showConfirm(
-                                I18n.get("confirm_title", "Confirmation"),
-                                I18n.get("confirm_delete_review", "Delete this review?"),
-                                owner
-                            )) {
-                                reviewDao.remove(r.getId());
-                                updateReviewsList[0].run();
-                                Platform.runLater(() -> contentScroll.setVvalue(scrollPos));
-                            }
-                        });
-                        actions.getChildren().add(delBtn);
-                    }
+                    reviewCard.getChildren().addAll(author, rating, text, actions);
+                    reviewListBox.getChildren().add(reviewCard);
                 }
+                if (first) Platform.runLater(() -> contentScroll.setVvalue(scrollPos[0]));
+            })
+            .onError(ex -> dbError(content));
 
-                reviewCard.getChildren().addAll(author, rating, text, actions);
-                reviewListBox.getChildren().add(reviewCard);
-                Platform.runLater(() -> contentScroll.setVvalue(scrollPos));
-            }
+        updateReviewsList[0] = () -> {
+            scrollPos[0] = contentScroll.getVvalue();
+            reviewPages.reset();
+            reviewDao.ratingSummaries(List.of(place.getId())).thenAccept(loaded -> {
+                ratings.putAll(loaded);
+                showAverage.accept(loaded.getOrDefault(place.getId(), RatingSummary.empty(place.getId())));
+            }).exceptionally(ex -> dbError(content));
         };
 
-        updateReviewsList[0].run();
-
-        updateReviewsList[0].run();
-
         HBox starBox = new HBox(5);
         starBox.setAlignment(Pos.CENTER);
         starBox.setPadding(new Insets(10));
@@ -669,16 +742,13 @@ public class UserWindow {
             r.setUserId(currentUserId);
             r.setRating((int) currentRating[0]);
             r.setText(commentArea.getText().trim());
-            r.setCreatedAt(LocalDateTime.now());
 
-            reviewDao.add(r);
+            reviewDao.add(r).thenRun(updateReviewsList[0]).exceptionally(ex -> dbError(content));
             commentArea.clear();
             currentRating[0] = 0;
             for (int j = 0; j < 5; j++) {
                 starBox.getChildren().get(j).setStyle("-fx-text-fill: lightgray;");
             }
-
-            updateReviewsList[0].run();
         });
 
         VBox reviewBlock = new VBox(10,
@@ -690,22 +760,33 @@ public class UserWindow {
         reviewBlock.setMaxWidth(450);
         reviewBlock.setStyle("-fx-background-color: #ffffff; -fx-background-radius: 8;");
 
-        boolean isFav = favoriteDao.isFavorite(currentUserId, place.getId());
-        Button favoriteBtn = new Button(isFav
-            ? I18n.get("favorite_yes", "✅ In favorites")
-            : I18n.get("favorite_no", "Add to favorites ❤"));
+        boolean[] isFav = {false};
+        Button favoriteBtn = new Button(I18n.get("favorite_no", "Add to favorites ❤"));
         favoriteBtn.setFont(Font.font(14));
         favoriteBtn.setStyle("-fx-background-color: #e29264; -fx-text-fill: white; -fx-background-radius: 8;");
+        favoriteBtn.setDisable(true);
+        favoriteDao.isFavorite(currentUserId, place.getId()).thenAccept(fav -> {
+            isFav[0] = fav;
+            favoriteBtn.setText(fav
+                ? I18n.get("favorite_yes", "✅ In favorites")
+                : I18n.get("favorite_no", "Add to favorites ❤"));
+            favoriteBtn.setDisable(false);
+        }).exceptionally(ex -> dbError(content));
         favoriteBtn.setOnAction(e -> {
-            if (favoriteDao.isFavorite(currentUserId, place.getId())) {
-                favoriteDao.remove(currentUserId, place.getId());
-                favoriteBtn.setText(I18n.get("favorite_no", "Add to favorites ❤"));
-                loadCards(favFlow, getFavoritePlaces());
-            } else {
-                favoriteDao.addToFavorites(currentUserId, place.getId());
-                favoriteBtn.setText(I18n.get("favorite_yes", "✅ In favorites"));
-                loadCards(favFlow, getFavoritePlaces());
-            }
+            favoriteBtn.setDisable(true);
+            CompletableFuture<Void> change = isFav[0]
+                ? favoriteDao.remove(currentUserId, place.getId())
+                : favoriteDao.addToFavorites(currentUserId, place.getId());
+            change.thenRun(() -> {
+                isFav[0] = !isFav[0];
+                favoriteBtn.setText(isFav[0]
+                    ? I18n.get("favorite_yes", "✅ In favorites")
+                    : I18n.get("favorite_no", "Add to favorites ❤"));
+                loadFavoriteCards();
+            }).whenComplete((v, ex) -> {
+                favoriteBtn.setDisable(false);
+                if (ex != null) dbError(content);
+            });
         });
 
         content.getChildren().addAll(
@@ -713,7 +794,9 @@ public class UserWindow {
             avgRatingLabel, descFlow, favoriteBtn, reviewBlock
         );
 
-        updateReviewsList[0].run();
+        showAverage.accept(ratings.getOrDefault(place.getId(), RatingSummary.empty(place.getId())));
+        reviewPages.loadOnScroll(contentScroll);
+        reviewPages.loadMore();
 
         Button closeBtn = new Button("✖");
         closeBtn.setStyle("-fx-background-color: transparent; -fx-text-fill: #e29264; -fx-font-size: 18;");
@@ -747,8 +830,8 @@ public class UserWindow {
 
         closeBtn.setOnAction(e -> {
             popup.close();
-            loadCards(allFlow, allPlaces);
-            loadCards(favFlow, getFavoritePlaces());
+            refreshRatings();
+            loadFavoriteCards();
         });
 
         content.setScaleX(0.85);
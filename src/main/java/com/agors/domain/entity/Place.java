@@ -131,4 +131,20 @@ public class Place {
     public void setImageUrl(String imageUrl) {
         this.imageUrl = imageUrl;
     }
+
+    /**
+     * Створює незалежну копію місця, зміни якої не впливають на оригінал.
+     *
+     * @return копія місця
+     */
+    public Place copy() {
+        Place copy = new Place();
+        copy.id = id;
+        copy.name = name;
+        copy.country = country;
+        copy.era = era;
+        copy.description = description;
+        copy.imageUrl = imageUrl;
+        return copy;
+    }
 }
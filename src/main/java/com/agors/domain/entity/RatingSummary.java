@@ -0,0 +1,140 @@
+package com.agors.domain.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Агрегований рейтинг історичного місця.
+ * <p>
+ * Містить кількість відгуків, суму оцінок та розподіл оцінок від 1 до 5.
+ * Зберігається в таблиці {@code place_rating_summary}, тому не потребує завантаження самих відгуків.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class RatingSummary {
+
+    /** Ідентифікатор місця, до якого належить рейтинг */
+    private int placeId;
+    /** Кількість відгуків */
+    private int count;
+    /** Сума всіх оцінок */
+    private long sum;
+    /** Кількість оцінок 1..5 (індекс 0 відповідає оцінці 1) */
+    private final int[] histogram = new int[5];
+    /** Дата та час останнього відгуку */
+    private LocalDateTime lastReviewAt;
+
+    /**
+     * Створює порожній рейтинг для місця без відгуків.
+     *
+     * @param placeId ідентифікатор місця
+     * @return рейтинг з нульовими значеннями
+     */
+    public static RatingSummary empty(int placeId) {
+        RatingSummary summary = new RatingSummary();
+        summary.setPlaceId(placeId);
+        return summary;
+    }
+
+    /**
+     * Повертає ідентифікатор місця.
+     *
+     * @return ідентифікатор місця
+     */
+    public int getPlaceId() {
+        return placeId;
+    }
+
+    /**
+     * Встановлює ідентифікатор місця.
+     *
+     * @param placeId ідентифікатор місця
+     */
+    public void setPlaceId(int placeId) {
+        this.placeId = placeId;
+    }
+
+    /**
+     * Повертає кількість відгуків.
+     *
+     * @return кількість відгуків
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Встановлює кількість відгуків.
+     *
+     * @param count кількість відгуків
+     */
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    /**
+     * Повертає суму всіх оцінок.
+     *
+     * @return сума оцінок
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * Встановлює суму всіх оцінок.
+     *
+     * @param sum сума оцінок
+     */
+    public void setSum(long sum) {
+        this.sum = sum;
+    }
+
+    /**
+     * Повертає кількість відгуків з указаною оцінкою.
+     *
+     * @param rating оцінка від 1 до 5
+     * @return кількість відгуків з цією оцінкою
+     */
+    public int getRatingCount(int rating) {
+        return histogram[rating - 1];
+    }
+
+    /**
+     * Встановлює кількість відгуків з указаною оцінкою.
+     *
+     * @param rating оцінка від 1 до 5
+     * @param count  кількість відгуків
+     */
+    public void setRatingCount(int rating, int count) {
+        histogram[rating - 1] = count;
+    }
+
+    /**
+     * Повертає дату та час останнього відгуку.
+     *
+     * @return дата останнього відгуку або null, якщо відгуків немає
+     */
+    public LocalDateTime getLastReviewAt() {
+        return lastReviewAt;
+    }
+
+    /**
+     * Встановлює дату та час останнього відгуку.
+     *
+     * @param lastReviewAt дата останнього відгуку
+     */
+    public void setLastReviewAt(LocalDateTime lastReviewAt) {
+        this.lastReviewAt = lastReviewAt;
+    }
+
+    /**
+     * Повертає середню оцінку місця.
+     *
+     * @return середня оцінка або 0.0, якщо відгуків немає
+     */
+    public double getAverage() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+}
@@ -27,6 +27,9 @@ public class Report {
     /** Вміст звіту у вигляді тексту (HTML, Markdown або plain text). */
     private String content;
 
+    /** Довжина вмісту у символах або -1, якщо вона невідома. */
+    private long contentLength = -1;
+
     /**
      * Повертає ідентифікатор звіту.
      *
@@ -98,4 +101,22 @@ public class Report {
     public void setContent(String content) {
         this.content = content;
     }
+
+    /**
+     * Повертає довжину вмісту звіту без завантаження самого вмісту.
+     *
+     * @return кількість символів або -1, якщо довжина невідома
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * Встановлює довжину вмісту звіту.
+     *
+     * @param contentLength кількість символів або -1, якщо довжина невідома
+     */
+    public void setContentLength(long contentLength) {
+        this.contentLength = contentLength;
+    }
 }
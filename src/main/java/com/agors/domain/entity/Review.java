@@ -26,6 +26,8 @@ public class Review {
     private int rating;
     /** Дата та час створення відгуку */
     private LocalDateTime createdAt;
+    /** Ім'я автора відгуку (заповнюється лише запитами з JOIN до users) */
+    private String username;
 
     /**
      * Повертає унікальний ідентифікатор відгуку.
@@ -134,4 +136,22 @@ public class Review {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    /**
+     * Повертає ім'я автора відгуку.
+     *
+     * @return ім'я автора або null, якщо його не було завантажено
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Встановлює ім'я автора відгуку.
+     *
+     * @param username ім'я автора
+     */
+    public void setUsername(String username) {
+        this.username = username;
+    }
 }
\ No newline at end of file
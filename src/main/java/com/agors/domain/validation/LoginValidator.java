@@ -1,7 +1,6 @@
 package com.agors.domain.validation;
 
-import com.agors.infrastructure.persistence.impl.UserDaoImpl;
-import com.agors.domain.entity.User;
+import com.agors.infrastructure.security.LoginService;
 import com.agors.infrastructure.util.PasswordUtil;
 import java.util.HashMap;
 import java.util.Map;
@@ -13,6 +12,13 @@ import java.util.Map;
  * де ключі — це поля вводу, а значення — ключі повідомлень для I18n.
  * Якщо дані валідні, повертається порожня карта.
  * </p>
+ * <p>
+ * Пароль перевіряється через {@link PasswordUtil#verifyPassword(String, String)};
+ * після успішного входу хеш застарілого формату або слабших параметрів
+ * перераховується й зберігається в базі. Перевірка облікових даних виконується
+ * через {@link LoginService} і є блокуючою, тому у вікні входу використовується
+ * лише {@link #validateFields(String, String)}, а решта — у фоновому завданні.
+ * </p>
  *
  * @author agors
  * @version 1.0
@@ -27,6 +33,21 @@ public class LoginValidator {
      * @return Map помилок: ключі "login" та "password" з ключами повідомлень; пустий, якщо без помилок
      */
     public static Map<String, String> validate(String loginOrEmail, String rawPassword) {
+        Map<String, String> errors = validateFields(loginOrEmail, rawPassword);
+        if (errors.isEmpty()) {
+            errors.putAll(new LoginService().authenticate(loginOrEmail, rawPassword).errors());
+        }
+        return errors;
+    }
+
+    /**
+     * Перевіряє лише заповненість полів, без звернення до бази даних.
+     *
+     * @param loginOrEmail логін або email користувача
+     * @param rawPassword  пароль у відкритому вигляді
+     * @return Map помилок: ключі "login" та "password" з ключами повідомлень; пустий, якщо без помилок
+     */
+    public static Map<String, String> validateFields(String loginOrEmail, String rawPassword) {
         Map<String, String> errors = new HashMap<>();
 
         if (loginOrEmail == null || loginOrEmail.isBlank()) {
@@ -37,20 +58,6 @@ public class LoginValidator {
             errors.put("password", "error_password_required");
         }
 
-        if (errors.isEmpty()) {
-            UserDaoImpl dao = new UserDaoImpl();
-            User user = dao.getByUsernameOrEmail(loginOrEmail);
-
-            if (user == null) {
-                errors.put("login", "error_user_not_found");
-            } else {
-                String hashed = PasswordUtil.hashPassword(rawPassword);
-                if (!hashed.equals(user.getPasswordHash())) {
-                    errors.put("password", "error_wrong_password");
-                }
-            }
-        }
-
         return errors;
     }
 }
\ No newline at end of file
@@ -1,18 +1,41 @@
 package com.agors.domain.validation;
 
-import com.agors.domain.entity.User;
-import com.agors.infrastructure.persistence.impl.UserDaoImpl;
+import com.agors.infrastructure.persistence.cache.UserUniqueness;
+import com.agors.infrastructure.persistence.contract.UserDao;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
  * Валідатор даних для реєстрації користувача.
  * Перевіряє логін, email, пароль, а також унікальність.
+ * Унікальність перевіряється лише для коректних за форматом значень,
+ * одним запитом до бази через {@link UserUniqueness}.
  */
 public class SignupValidator {
 
+    /**
+     * Перевіряє формат імені користувача.
+     *
+     * @param username ім'я користувача
+     * @return true, якщо ім'я непорожнє й має допустимий формат
+     */
+    public static boolean isUsernameWellFormed(String username) {
+        return username != null
+            && username.matches("^(?![._])(?!.*[_.]{2})[a-zA-Z0-9._]{5,30}(?<![_.])$");
+    }
+
+    /**
+     * Перевіряє формат email.
+     *
+     * @param email email
+     * @return true, якщо email непорожній і має допустимий формат
+     */
+    public static boolean isEmailWellFormed(String email) {
+        return email != null
+            && email.matches("^[a-zA-Z0-9.]{6,30}@[a-zA-Z0-9.]+\\.[a-zA-Z]{2,}$") && !email.contains("_");
+    }
+
     /**
      * Валідує дані для реєстрації.
      *
@@ -26,13 +49,13 @@ public class SignupValidator {
 
         if (username == null || username.isEmpty()) {
             errors.put("username", "error_username_required");
-        } else if (!username.matches("^(?![._])(?!.*[_.]{2})[a-zA-Z0-9._]{5,30}(?<![_.])$")) {
+        } else if (!isUsernameWellFormed(username)) {
             errors.put("username", "error_username_invalid");
         }
 
         if (email == null || email.isEmpty()) {
             errors.put("email", "error_email_required");
-        } else if (!email.matches("^[a-zA-Z0-9.]{6,30}@[a-zA-Z0-9.]+\\.[a-zA-Z]{2,}$") || email.contains("_")) {
+        } else if (!isEmailWellFormed(email)) {
             errors.put("email", "error_email_invalid");
         }
 
@@ -42,13 +65,14 @@ public class SignupValidator {
             errors.put("password", "error_password_short");
         }
 
-        UserDaoImpl dao = new UserDaoImpl();
-        List<User> users = dao.getAllUsers();
-        for (User u : users) {
-            if (u.getUsername().equals(username)) {
+        String checkUsername = errors.containsKey("username") ? null : username;
+        String checkEmail = errors.containsKey("email") ? null : email;
+        if (checkUsername != null || checkEmail != null) {
+            UserDao.Taken taken = UserUniqueness.getInstance().check(checkUsername, checkEmail);
+            if (taken.username()) {
                 errors.put("username", "error_username_taken");
             }
-            if (u.getEmail().equals(email)) {
+            if (taken.email()) {
                 errors.put("email", "error_email_taken");
             }
         }
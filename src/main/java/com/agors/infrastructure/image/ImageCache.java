@@ -0,0 +1,429 @@
+package com.agors.infrastructure.image;
+
+import com.agors.infrastructure.util.PropertiesUtil;
+import javafx.application.Platform;
+import javafx.embed.swing.SwingFXUtils;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Спільний кеш зображень історичних місць.
+ * <p>
+ * Зображення завантажуються у фоні у двох варіантах:
+ * <ul>
+ *     <li>{@link #thumbnail(String)} — мініатюра {@value #THUMB_WIDTH}x{@value #THUMB_HEIGHT} для карток:
+ *         зображення масштабується ще під час декодування зі збереженням пропорцій так, щоб
+ *         покрити картку, і обрізається по центру;</li>
+ *     <li>{@link #full(String)} — повна роздільність для детального вікна.</li>
+ * </ul>
+ * Декодовані зображення тримаються в LRU-кеші пам'яті, обмеженому сумарним розміром пікселів
+ * ({@code image.cache.memory.mb}, за замовчуванням 64 МБ). Завантажені з мережі файли та готові
+ * мініатюри зберігаються на диску в {@code image.cache.dir} під іменем SHA-256 від URL, тож
+ * повторний запуск застосунку не завантажує їх знову. Дисковий кеш обмежено
+ * {@code image.cache.disk.mb} (за замовчуванням 256 МБ): після перевищення видаляються файли,
+ * до яких найдовше не зверталися, доки кеш не зменшиться до {@value #DISK_TRIM_PERCENT}% межі.
+ * </p>
+ * <p>
+ * Одночасні запити одного й того самого зображення об'єднуються в одне завантаження.
+ * Результат передається у JavaFX Application Thread, як і в {@code DbExecutor}.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public final class ImageCache {
+
+    /** Ширина мініатюри картки. */
+    public static final int THUMB_WIDTH = 230;
+    /** Висота мініатюри картки. */
+    public static final int THUMB_HEIGHT = 150;
+
+    private static final int LOADER_THREADS = 4;
+    /** Частка межі дискового кешу (у відсотках), до якої він зменшується під час видалення. */
+    private static final int DISK_TRIM_PERCENT = 90;
+    /** Суфікс мініатюри на диску; змінюється разом зі способом побудови мініатюр. */
+    private static final String THUMB_SUFFIX = "-thumb-cover.png";
+
+    private static final Logger LOG = LogManager.getLogger(ImageCache.class);
+
+    /**
+     * Варіант зображення; префікс відрізняє ключі варіантів у кеші пам'яті.
+     */
+    private enum Variant {
+        THUMB("thumb:"),
+        FULL("full:");
+
+        private final String prefix;
+
+        Variant(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    private final WeightedLruCache<String, Image> memory;
+    /** Каталог дискового кешу або null, якщо його не вдалося створити. */
+    private final Path diskDir;
+    private final long maxDiskBytes;
+    /** Сумарний розмір файлів дискового кешу, байт (-1 — ще не підраховано). */
+    private final AtomicLong diskBytes = new AtomicLong(-1);
+    private final Object diskLock = new Object();
+    private final ConcurrentHashMap<String, CompletableFuture<Image>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService loader = Executors.newFixedThreadPool(LOADER_THREADS, r -> {
+        Thread t = new Thread(r, "image-loader");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * Лінивий тримач спільного екземпляра: налаштування зчитуються лише при першому зверненні.
+     */
+    private static final class Holder {
+        static final ImageCache INSTANCE =
+            new ImageCache(memoryBytesFromProperties(), diskDirFromProperties(), diskBytesFromProperties());
+    }
+
+    /**
+     * Створює кеш.
+     *
+     * @param maxMemoryBytes межа сумарного розміру декодованих пікселів, байт
+     * @param diskDir        каталог дискового кешу
+     * @param maxDiskBytes   межа сумарного розміру файлів дискового кешу, байт
+     */
+    ImageCache(long maxMemoryBytes, Path diskDir, long maxDiskBytes) {
+        this.memory = new WeightedLruCache<>(maxMemoryBytes, ImageCache::pixelBytes);
+        this.diskDir = prepareDir(diskDir);
+        this.maxDiskBytes = maxDiskBytes;
+    }
+
+    /**
+     * Повертає спільний екземпляр кешу.
+     *
+     * @return кеш зображень
+     */
+    public static ImageCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static long memoryBytesFromProperties() {
+        try {
+            return Long.parseLong(PropertiesUtil.get("image.cache.memory.mb", "64").trim()) * 1024 * 1024;
+        } catch (NumberFormatException e) {
+            return 64L * 1024 * 1024;
+        }
+    }
+
+    private static long diskBytesFromProperties() {
+        try {
+            return Long.parseLong(PropertiesUtil.get("image.cache.disk.mb", "256").trim()) * 1024 * 1024;
+        } catch (NumberFormatException e) {
+            return 256L * 1024 * 1024;
+        }
+    }
+
+    private static Path diskDirFromProperties() {
+        String dir = PropertiesUtil.get("image.cache.dir");
+        return dir != null && !dir.isBlank()
+            ? Paths.get(dir.trim())
+            : Paths.get(System.getProperty("user.home"), ".histotrek", "image-cache");
+    }
+
+    private static Path prepareDir(Path dir) {
+        try {
+            return Files.createDirectories(dir);
+        } catch (IOException | SecurityException e) {
+            LOG.warn("Дисковий кеш зображень вимкнено: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static long pixelBytes(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * 4;
+    }
+
+    /**
+     * Повертає мініатюру зображення для картки місця.
+     *
+     * @param url адреса зображення
+     * @return майбутнє, що завершується у потоці FX
+     */
+    public CompletableFuture<Image> thumbnail(String url) {
+        return load(url, Variant.THUMB);
+    }
+
+    /**
+     * Повертає зображення у повній роздільності.
+     *
+     * @param url адреса зображення
+     * @return майбутнє, що завершується у потоці FX
+     */
+    public CompletableFuture<Image> full(String url) {
+        return load(url, Variant.FULL);
+    }
+
+    private CompletableFuture<Image> load(String url, Variant variant) {
+        if (url == null || url.isBlank()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Image URL is empty"));
+        }
+        String key = variant.prefix + url;
+        Image cached = memory.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return inFlight.computeIfAbsent(key, k -> {
+            CompletableFuture<Image> future = new CompletableFuture<>();
+            loader.execute(() -> {
+                try {
+                    Image image = variant == Variant.THUMB ? loadThumbnail(url) : decode(url, original(url), 0, 0);
+                    memory.put(key, image);
+                    inFlight.remove(key);
+                    deliver(() -> future.complete(image));
+                } catch (Throwable t) {
+                    inFlight.remove(key);
+                    deliver(() -> future.completeExceptionally(t));
+                }
+            });
+            return future;
+        });
+    }
+
+    /**
+     * Повертає мініатюру з дискового кешу або будує її з оригіналу й зберігає на диск.
+     */
+    private Image loadThumbnail(String url) throws IOException {
+        Path file = diskDir != null ? diskDir.resolve(hash(url) + THUMB_SUFFIX) : null;
+        if (file != null && Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                Image image = new Image(in);
+                if (!image.isError()) {
+                    touch(file);
+                    return image;
+                }
+            }
+        }
+
+        Image image = decodeThumbnail(url, original(url));
+        if (file != null) {
+            try {
+                Path tmp = Files.createTempFile(diskDir, "thumb", ".tmp");
+                ImageIO.write(SwingFXUtils.fromFXImage(image, null), "png", tmp.toFile());
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                stored(file);
+            } catch (IOException e) {
+                LOG.warn("Не вдалося зберегти мініатюру {}: {}", url, e.getMessage());
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Повертає байти оригінального зображення. Мережеві зображення кешуються на диску.
+     */
+    private byte[] original(String url) throws IOException {
+        URL source = resolve(url);
+        boolean remote = source.getProtocol().startsWith("http");
+        Path file = remote && diskDir != null ? diskDir.resolve(hash(url) + ".img") : null;
+        if (file != null && Files.isRegularFile(file)) {
+            touch(file);
+            return Files.readAllBytes(file);
+        }
+
+        byte[] bytes;
+        try (InputStream in = source.openStream()) {
+            bytes = in.readAllBytes();
+        }
+        if (file != null) {
+            try {
+                Path tmp = Files.createTempFile(diskDir, "img", ".tmp");
+                Files.write(tmp, bytes);
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                stored(file);
+            } catch (IOException e) {
+                LOG.warn("Не вдалося зберегти зображення {}: {}", url, e.getMessage());
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Перетворює рядок на URL так само, як {@link Image}: відносний шлях шукається у classpath.
+     */
+    private static URL resolve(String url) throws IOException {
+        try {
+            URI uri = URI.create(url.trim());
+            if (uri.isAbsolute()) return uri.toURL();
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid image URL: " + url, e);
+        }
+        URL resource = ImageCache.class.getResource(url.startsWith("/") ? url : "/" + url);
+        if (resource == null) throw new IOException("Image not found: " + url);
+        return resource;
+    }
+
+    private static Image decode(String url, byte[] bytes, double width, double height) throws IOException {
+        Image image = new Image(new ByteArrayInputStream(bytes), width, height, true, true);
+        if (image.isError()) {
+            throw new IOException("Cannot decode image: " + url, image.getException());
+        }
+        return image;
+    }
+
+    /**
+     * Декодує мініатюру: масштабує зі збереженням пропорцій так, щоб зображення покрило
+     * {@value #THUMB_WIDTH}x{@value #THUMB_HEIGHT}, і обрізає його по центру. Якщо розмір
+     * оригіналу не вдається прочитати із заголовка, зображення лише вписується в ці межі.
+     */
+    private static Image decodeThumbnail(String url, byte[] bytes) throws IOException {
+        int[] size = sourceSize(bytes);
+        if (size == null) {
+            return decode(url, bytes, THUMB_WIDTH, THUMB_HEIGHT);
+        }
+        double scale = Math.max((double) THUMB_WIDTH / size[0], (double) THUMB_HEIGHT / size[1]);
+        Image image = decode(url, bytes, Math.ceil(size[0] * scale), Math.ceil(size[1] * scale));
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        if (width < THUMB_WIDTH || height < THUMB_HEIGHT) {
+            return image;
+        }
+        return new WritableImage(image.getPixelReader(),
+            (width - THUMB_WIDTH) / 2, (height - THUMB_HEIGHT) / 2, THUMB_WIDTH, THUMB_HEIGHT);
+    }
+
+    /**
+     * Читає розмір зображення із заголовка, не декодуючи пікселі.
+     *
+     * @return {ширина, висота} або null, якщо формат не підтримується
+     */
+    private static int[] sourceSize(byte[] bytes) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                return width > 0 && height > 0 ? new int[] {width, height} : null;
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Позначає файл дискового кешу як щойно використаний (для LRU-видалення).
+     */
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Враховує щойно записаний файл і, якщо дисковий кеш перевищив межу, видаляє найстаріші файли.
+     */
+    private void stored(Path file) {
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException e) {
+            return;
+        }
+        long total = diskBytes.get() < 0 ? trimDisk() : diskBytes.addAndGet(size);
+        if (total > maxDiskBytes) {
+            trimDisk();
+        }
+    }
+
+    /**
+     * Підраховує розмір дискового кешу й, якщо він більший за межу, видаляє файли, до яких
+     * найдовше не зверталися, доки розмір не зменшиться до {@value #DISK_TRIM_PERCENT}% межі.
+     *
+     * @return розмір дискового кешу після видалення, байт
+     */
+    private long trimDisk() {
+        synchronized (diskLock) {
+            record Entry(Path path, long size, long lastUsed) {}
+            List<Entry> entries = new ArrayList<>();
+            long total = 0;
+            try (Stream<Path> files = Files.list(diskDir)) {
+                for (Path path : (Iterable<Path>) files::iterator) {
+                    if (!Files.isRegularFile(path) || path.toString().endsWith(".tmp")) continue;
+                    try {
+                        Entry entry = new Entry(path, Files.size(path), Files.getLastModifiedTime(path).toMillis());
+                        entries.add(entry);
+                        total += entry.size();
+                    } catch (IOException ignored) {
+                    }
+                }
+            } catch (IOException e) {
+                LOG.warn("Не вдалося переглянути дисковий кеш зображень: {}", e.getMessage());
+                return diskBytes.get();
+            }
+            if (total > maxDiskBytes) {
+                long target = maxDiskBytes / 100 * DISK_TRIM_PERCENT;
+                entries.sort(Comparator.comparingLong(Entry::lastUsed));
+                for (Entry entry : entries) {
+                    if (total <= target) break;
+                    try {
+                        Files.deleteIfExists(entry.path());
+                        total -= entry.size();
+                    } catch (IOException e) {
+                        LOG.warn("Не вдалося видалити {} з дискового кешу: {}", entry.path(), e.getMessage());
+                    }
+                }
+            }
+            diskBytes.set(total);
+            return total;
+        }
+    }
+
+    private static String hash(String url) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deliver(Runnable completion) {
+        try {
+            Platform.runLater(completion);
+        } catch (IllegalStateException toolkitNotRunning) {
+            completion.run();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.agors.infrastructure.image;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * LRU-кеш, обмежений сумарною вагою значень, а не їх кількістю.
+ * <p>
+ * Вага кожного значення обчислюється функцією {@code weigher} під час додавання.
+ * Коли сумарна вага перевищує межу, витісняються найдавніше використані записи.
+ * Значення, важче за всю межу, не кешується зовсім.
+ * </p>
+ *
+ * @param <K> тип ключа
+ * @param <V> тип значення
+ * @author agors
+ * @version 1.0
+ */
+final class WeightedLruCache<K, V> {
+
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    /** Порядок доступу: перший запис — найдавніше використаний. */
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    /**
+     * Створює кеш.
+     *
+     * @param maxWeight максимальна сумарна вага значень
+     * @param weigher   функція ваги значення
+     */
+    WeightedLruCache(long maxWeight, ToLongFunction<V> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Повертає значення й позначає його як нещодавно використане.
+     *
+     * @param key ключ
+     * @return значення або null
+     */
+    synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Додає значення, витісняючи найдавніші записи, якщо межу перевищено.
+     *
+     * @param key   ключ
+     * @param value значення
+     */
+    synchronized void put(K key, V value) {
+        long w = weigher.applyAsLong(value);
+        V previous = entries.remove(key);
+        if (previous != null) {
+            weight -= weigher.applyAsLong(previous);
+        }
+        if (w > maxWeight) return;
+
+        entries.put(key, value);
+        weight += w;
+        Iterator<Map.Entry<K, V>> it = entries.entrySet().iterator();
+        while (weight > maxWeight && it.hasNext()) {
+            weight -= weigher.applyAsLong(it.next().getValue());
+            it.remove();
+        }
+    }
+
+    /**
+     * Повертає поточну сумарну вагу значень.
+     *
+     * @return сумарна вага
+     */
+    synchronized long weight() {
+        return weight;
+    }
+
+    /**
+     * Повертає кількість записів у кеші.
+     *
+     * @return кількість записів
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,117 @@
+package com.agors.infrastructure.persistence.async;
+
+import com.agors.infrastructure.persistence.pool.PoolConfig;
+import com.agors.infrastructure.util.PropertiesUtil;
+import javafx.application.Platform;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Виконавець фонових операцій з базою даних.
+ * <p>
+ * Кожна операція виконується у власному віртуальному потоці, але одночасно до бази
+ * звертається не більше {@code db.async.concurrency} операцій (за замовчуванням —
+ * максимальний розмір пулу з'єднань), тож черга чекає на семафорі, а не на тайм-ауті пулу.
+ * </p>
+ * <p>
+ * Результат передається у JavaFX Application Thread через {@link Platform#runLater(Runnable)},
+ * тому обробники {@code thenAccept}/{@code thenRun}, додані з UI, виконуються у потоці FX
+ * і можуть безпосередньо змінювати вузли сцени. Якщо JavaFX не запущено (наприклад, у тестах),
+ * результат передається у фоновому потоці.
+ * </p>
+ * <p>
+ * Помилка операції записується в журнал і завершує майбутнє виключно; показати її
+ * користувачеві мають обробники {@code exceptionally}/{@code whenComplete} на боці UI.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public final class DbExecutor {
+
+    private static final Logger LOG = LogManager.getLogger(DbExecutor.class);
+
+    private static final ExecutorService EXECUTOR =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("db-async-", 0).factory());
+
+    private static final Semaphore PERMITS = new Semaphore(concurrency());
+
+    /**
+     * Приватний конструктор для заборони створення екземплярів утилітного класу.
+     */
+    private DbExecutor() {}
+
+    private static int concurrency() {
+        String value = PropertiesUtil.get("db.async.concurrency");
+        if (value != null) {
+            try {
+                return Math.max(1, Integer.parseInt(value.trim()));
+            } catch (NumberFormatException ignored) {}
+        }
+        return PoolConfig.fromProperties().getMaxSize();
+    }
+
+    /**
+     * Виконує операцію у фоні та повертає її результат.
+     *
+     * @param task операція з базою даних
+     * @param <T>  тип результату
+     * @return майбутнє, що завершується у потоці FX
+     */
+    public static <T> CompletableFuture<T> supply(Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        EXECUTOR.execute(() -> {
+            try {
+                PERMITS.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                deliver(() -> future.completeExceptionally(e));
+                return;
+            }
+            try {
+                T result = task.get();
+                deliver(() -> future.complete(result));
+            } catch (Throwable t) {
+                LOG.error("Фонова операція з базою даних завершилася помилкою", t);
+                deliver(() -> future.completeExceptionally(t));
+            } finally {
+                PERMITS.release();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Виконує операцію без результату у фоні.
+     *
+     * @param task операція з базою даних
+     * @return майбутнє, що завершується у потоці FX
+     */
+    public static CompletableFuture<Void> run(Runnable task) {
+        return supply(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Зупиняє прийом нових операцій. Викликається під час завершення роботи застосунку.
+     */
+    public static void shutdown() {
+        EXECUTOR.shutdown();
+    }
+
+    private static void deliver(Runnable completion) {
+        try {
+            Platform.runLater(completion);
+        } catch (IllegalStateException toolkitNotRunning) {
+            completion.run();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.agors.infrastructure.persistence.cache;
+
+/**
+ * Фільтр Блума для рядків.
+ * <p>
+ * Відповідає, чи рядок <em>міг</em> бути доданий: відповідь «ні» точна, відповідь «так»
+ * хибна з імовірністю, заданою при створенні. Займає кілька біт на рядок незалежно
+ * від довжини рядків і ніколи не зберігає самі значення.
+ * </p>
+ * <p>
+ * Потокобезпечний: зміни й перевірки виконуються під монітором фільтра без вводу-виводу.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+final class BloomFilter {
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    /**
+     * Створює порожній фільтр.
+     *
+     * @param expected          очікувана кількість рядків
+     * @param falsePositiveRate допустима ймовірність хибної відповіді «так» (від 0 до 1)
+     */
+    BloomFilter(int expected, double falsePositiveRate) {
+        int n = Math.max(expected, 1);
+        double ln2 = Math.log(2);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+        bitCount = (int) Math.min(Math.max(m, Long.SIZE), Integer.MAX_VALUE - Long.SIZE);
+        bits = new long[(bitCount + Long.SIZE - 1) / Long.SIZE];
+        hashCount = Math.max(1, (int) Math.round((double) bitCount / n * ln2));
+    }
+
+    /**
+     * Додає рядок до фільтра.
+     *
+     * @param value рядок
+     */
+    synchronized void put(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = bitIndex(hash, i);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Перевіряє, чи рядок міг бути доданий до фільтра.
+     *
+     * @param value рядок
+     * @return false, якщо рядок точно не додавався; true — якщо, можливо, додавався
+     */
+    synchronized boolean mightContain(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = bitIndex(hash, i);
+            if ((bits[bit >>> 6] & 1L << bit) == 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Обчислює номер біта для i-ї хеш-функції подвійним хешуванням двох половин 64-бітного хешу.
+     */
+    private int bitIndex(long hash, int i) {
+        int combined = (int) hash + i * (int) (hash >>> 32);
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    /**
+     * 64-бітний хеш FNV-1a за символами рядка з фінальним перемішуванням бітів.
+     */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,360 @@
+package com.agors.infrastructure.persistence.cache;
+
+import com.agors.domain.entity.Place;
+import com.agors.infrastructure.persistence.contract.PlaceDao;
+import com.agors.infrastructure.persistence.impl.PlaceDaoImpl;
+import com.agors.infrastructure.util.PropertiesUtil;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Спільний для всього застосунку кеш каталогу історичних місць.
+ * <p>
+ * Стоїть перед {@link PlaceDao}: перший виклик {@link #findAll()} завантажує всі місця одним запитом,
+ * наступні виклики та {@link #findById(int)} обслуговуються з пам'яті за індексом id.
+ * Поки знімка немає, {@link #findPage(int, int)} (і пошук з порожнім запитом) читає з бази лише
+ * запитану сторінку, а у фоні каталог заповнюється порціями по {@value #FILL_CHUNK} місць за id:
+ * якщо таблиця вміщується в {@code place.catalog.max.size} (за замовчуванням {@value #DEFAULT_MAX_SIZE}),
+ * прочитане стає знімком каталогу і подальші сторінки віддаються з пам'яті.
+ * Більший каталог не кешується: сторінки читаються з бази до наступного скидання кешу.
+ * Знімок спільний для всіх вікон, тому назовні віддаються лише копії місць: зміна отриманого
+ * об'єкта не потрапляє в кеш. Зміни через {@link #add(Place)}, {@link #update(Place)} і {@link #remove(int)}
+ * записуються в базу та скидають кеш, тож наступне читання бачить актуальні дані.
+ * </p>
+ * <p>
+ * Якщо задано {@code place.catalog.ttl.ms} (більше 0), каталог перечитується
+ * з бази при першому зверненні після закінчення цього часу — це підхоплює зміни,
+ * зроблені іншими екземплярами застосунку. За замовчуванням TTL вимкнено.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public final class PlaceCatalog implements PlaceDao {
+
+    /** Максимальна кількість місць, за якої каталог тримається в пам'яті, за замовчуванням. */
+    static final int DEFAULT_MAX_SIZE = 2000;
+    /** Кількість місць в одному запиті фонового заповнення. */
+    static final int FILL_CHUNK = 200;
+
+    private static final Logger LOG = LogManager.getLogger(PlaceCatalog.class);
+
+    /**
+     * Незмінний знімок каталогу на момент завантаження.
+     *
+     * @param places   усі місця у порядку, який повернула база
+     * @param byId     індекс місць за id, упорядкований за зростанням id
+     * @param loadedAt момент завантаження, мс
+     */
+    private record Snapshot(List<Place> places, NavigableMap<Integer, Place> byId, long loadedAt) {}
+
+    private final PlaceDao delegate;
+    private final long ttlMs;
+    private final int maxSize;
+    private final Executor fillExecutor;
+    /** Блокування завантаження; не synchronized, щоб не закріплювати віртуальні потоки під час JDBC. */
+    private final ReentrantLock loadLock = new ReentrantLock();
+    /** Чи виконується зараз фонове заповнення. */
+    private final AtomicBoolean filling = new AtomicBoolean();
+    private volatile Snapshot snapshot;
+    /** Момент, коли каталог виявився більшим за {@link #maxSize}, мс (0 — невідомо). */
+    private volatile long tooLargeAt;
+    /** Лічильник скидань кешу; заповнення, що почалося до скидання, не встановлює знімок. */
+    private long generation;
+
+    /**
+     * Лінивий тримач спільного екземпляра: налаштування зчитуються лише при першому зверненні.
+     */
+    private static final class Holder {
+        static final PlaceCatalog INSTANCE =
+            new PlaceCatalog(new PlaceDaoImpl(), ttlFromProperties(), maxSizeFromProperties(),
+                task -> Thread.ofVirtual().name("place-catalog-fill").start(task));
+    }
+
+    /**
+     * Створює каталог над заданим DAO.
+     *
+     * @param delegate DAO, з якого завантажуються місця
+     * @param ttlMs    час життя знімка, мс (0 — без обмеження)
+     */
+    PlaceCatalog(PlaceDao delegate, long ttlMs) {
+        this(delegate, ttlMs, DEFAULT_MAX_SIZE, Runnable::run);
+    }
+
+    /**
+     * Створює каталог над заданим DAO з обмеженням розміру кешованого каталогу.
+     *
+     * @param delegate     DAO, з якого завантажуються місця
+     * @param ttlMs        час життя знімка, мс (0 — без обмеження)
+     * @param maxSize      максимальна кількість місць, за якої сторінки віддаються з пам'яті
+     * @param fillExecutor виконавець фонового заповнення каталогу
+     */
+    PlaceCatalog(PlaceDao delegate, long ttlMs, int maxSize, Executor fillExecutor) {
+        this.delegate = delegate;
+        this.ttlMs = ttlMs;
+        this.maxSize = maxSize;
+        this.fillExecutor = fillExecutor;
+    }
+
+    /**
+     * Повертає спільний екземпляр каталогу.
+     *
+     * @return каталог місць
+     */
+    public static PlaceCatalog getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static long ttlFromProperties() {
+        try {
+            return Long.parseLong(PropertiesUtil.get("place.catalog.ttl.ms", "0").trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static int maxSizeFromProperties() {
+        try {
+            return Integer.parseInt(PropertiesUtil.get("place.catalog.max.size",
+                String.valueOf(DEFAULT_MAX_SIZE)).trim());
+        } catch (NumberFormatException e) {
+            return DEFAULT_MAX_SIZE;
+        }
+    }
+
+    /**
+     * Додає місце до бази даних і скидає кеш.
+     *
+     * @param place об'єкт Place з даними для збереження
+     * @return збережений об'єкт Place з встановленим id
+     */
+    @Override
+    public Place add(Place place) {
+        try {
+            return delegate.add(place);
+        } finally {
+            invalidate();
+        }
+    }
+
+    /**
+     * Повертає всі місця з кешу, за потреби завантажуючи їх з бази.
+     *
+     * @return незмінний список копій об'єктів Place
+     */
+    @Override
+    public List<Place> findAll() {
+        return current().places().stream().map(Place::copy).toList();
+    }
+
+    /**
+     * Знаходить місце в кеші за ідентифікатором.
+     *
+     * @param id унікальний ідентифікатор місця
+     * @return знайдений об'єкт Place або null, якщо такого місця немає в каталозі
+     */
+    @Override
+    public Place findById(int id) {
+        Place place = current().byId().get(id);
+        return place != null ? place.copy() : null;
+    }
+
+    /**
+     * Повертає сторінку місць у порядку зростання id з кешу або, поки знімка немає чи
+     * каталог завеликий для кешу, безпосередньо з бази. За відсутності знімка запускає
+     * фонове заповнення каталогу.
+     *
+     * @param afterId id останнього місця попередньої сторінки (0 — перша сторінка)
+     * @param limit   максимальна кількість місць на сторінці
+     * @return список об'єктів Place
+     */
+    @Override
+    public List<Place> findPage(int afterId, int limit) {
+        Snapshot s = snapshot;
+        if (!isFresh(s) && !isTooLarge()) {
+            fillInBackground();
+            s = snapshot;
+        }
+        if (!isFresh(s)) {
+            return delegate.findPage(afterId, limit);
+        }
+        return s.byId().tailMap(afterId, false).values().stream().limit(limit).map(Place::copy).toList();
+    }
+
+    /**
+     * Шукає місця. Порожній запит обслуговується як {@link #findPage(int, int)};
+     * пошук за словами завжди виконується в базі, де його обслуговують індекси.
+     *
+     * @param query рядок пошуку
+     * @param limit максимальна кількість результатів на сторінці
+     * @param after курсор останнього результату попередньої сторінки
+     * @return список результатів пошуку
+     */
+    @Override
+    public List<SearchHit> search(String query, int limit, SearchCursor after) {
+        if (query == null || query.isBlank()) {
+            return findPage(after.id(), limit).stream().map(p -> new SearchHit(p, 0)).toList();
+        }
+        return delegate.search(query, limit, after);
+    }
+
+    /**
+     * Оновлює місце в базі даних і скидає кеш.
+     *
+     * @param place об'єкт Place з оновленими даними
+     */
+    @Override
+    public void update(Place place) {
+        try {
+            delegate.update(place);
+        } finally {
+            invalidate();
+        }
+    }
+
+    /**
+     * Видаляє місце з бази даних і скидає кеш.
+     *
+     * @param id унікальний ідентифікатор місця
+     */
+    @Override
+    public void remove(int id) {
+        try {
+            delegate.remove(id);
+        } finally {
+            invalidate();
+        }
+    }
+
+    /**
+     * Скидає кеш; наступне читання завантажить каталог з бази.
+     */
+    public void invalidate() {
+        loadLock.lock();
+        try {
+            snapshot = null;
+            tooLargeAt = 0;
+            generation++;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Повертає актуальний знімок, завантажуючи його, якщо кеш порожній або застарів.
+     * Одночасні звернення чекають на одне завантаження замість кількох паралельних запитів.
+     *
+     * @return знімок каталогу
+     */
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (isFresh(s)) return s;
+        loadLock.lock();
+        try {
+            s = snapshot;
+            if (isFresh(s)) return s;
+            s = load();
+            snapshot = s;
+            generation++;
+            return s;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Запускає фонове заповнення каталогу, якщо воно ще не виконується.
+     */
+    private void fillInBackground() {
+        if (!filling.compareAndSet(false, true)) return;
+        try {
+            fillExecutor.execute(() -> {
+                try {
+                    fillIfSmall();
+                } catch (RuntimeException e) {
+                    LOG.warn("Не вдалося заповнити каталог місць", e);
+                } finally {
+                    filling.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            filling.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * Читає каталог порціями по {@value #FILL_CHUNK} місць і встановлює знімок, якщо каталог
+     * вміщується в {@code maxSize}, а кеш не скидали під час читання. Блокування на час
+     * читання не тримається, тож запис і повне завантаження не чекають на заповнення.
+     */
+    private void fillIfSmall() {
+        long startedAt;
+        loadLock.lock();
+        try {
+            if (isFresh(snapshot) || isTooLarge()) return;
+            startedAt = generation;
+        } finally {
+            loadLock.unlock();
+        }
+
+        int chunk = Math.min(FILL_CHUNK, maxSize + 1);
+        List<Place> places = new ArrayList<>();
+        int afterId = 0;
+        boolean tooLarge = false;
+        while (true) {
+            List<Place> page = delegate.findPage(afterId, chunk);
+            places.addAll(page);
+            if (places.size() > maxSize) {
+                tooLarge = true;
+                break;
+            }
+            if (page.size() < chunk) break;
+            afterId = page.get(page.size() - 1).getId();
+        }
+
+        loadLock.lock();
+        try {
+            if (generation != startedAt) return;
+            if (tooLarge) {
+                tooLargeAt = System.currentTimeMillis();
+            } else {
+                snapshot = snapshotOf(places);
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private boolean isFresh(Snapshot s) {
+        return s != null && isFresh(s.loadedAt());
+    }
+
+    private boolean isTooLarge() {
+        long at = tooLargeAt;
+        return at != 0 && isFresh(at);
+    }
+
+    private boolean isFresh(long loadedAt) {
+        return ttlMs <= 0 || System.currentTimeMillis() - loadedAt < ttlMs;
+    }
+
+    private Snapshot load() {
+        return snapshotOf(delegate.findAll());
+    }
+
+    private static Snapshot snapshotOf(List<Place> places) {
+        NavigableMap<Integer, Place> byId = new TreeMap<>();
+        places.forEach(p -> byId.put(p.getId(), p));
+        return new Snapshot(List.copyOf(places), Collections.unmodifiableNavigableMap(byId), System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,179 @@
+package com.agors.infrastructure.persistence.cache;
+
+import com.agors.infrastructure.persistence.contract.UserDao;
+import com.agors.infrastructure.persistence.impl.UserDaoImpl;
+import com.agors.infrastructure.util.PropertiesUtil;
+
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Перевірка унікальності логіна та email під час реєстрації.
+ * <p>
+ * {@link #check(String, String)} дає остаточну відповідь одним запитом до бази за індексами
+ * обох полів ({@link UserDao#findTaken(String, String)}) і використовується при збереженні форми.
+ * </p>
+ * <p>
+ * {@link #isUsernameTaken(String)} і {@link #isEmailTaken(String)} призначені для перевірки
+ * під час введення: перед запитом до бази значення шукається у {@link BloomFilter} усіх
+ * логінів і email. Більшість набраних варіантів вільні, і фільтр відповідає на це без
+ * звернення до бази; лише «можливо, зайнято» перевіряється індексованим запитом.
+ * Фільтр будується одним читанням лише двох стовпців таблиці при першому зверненні
+ * й перебудовується, якщо старший за {@code user.uniqueness.refresh.minutes}
+ * (за замовчуванням 10 хв), щоб врахувати реєстрації в інших екземплярах застосунку.
+ * Значення, змінені в цьому екземплярі, додаються через {@link #remember(String, String)}.
+ * </p>
+ * <p>
+ * Значення у фільтрі зберігаються в нижньому регістрі, тож він не дає хибного «вільно»
+ * й тоді, коли база порівнює рядки без урахування регістру.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public final class UserUniqueness {
+
+    /** Допустима ймовірність хибного «можливо, зайнято». */
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    /** Найменша місткість фільтра, щоб нові реєстрації не погіршували точність. */
+    private static final int MIN_CAPACITY = 1024;
+
+    /**
+     * Фільтри логінів і email на момент побудови.
+     *
+     * @param usernames фільтр логінів
+     * @param emails    фільтр email
+     * @param builtAt   момент побудови, мс
+     */
+    private record Filters(BloomFilter usernames, BloomFilter emails, long builtAt) {}
+
+    private final UserDao delegate;
+    private final long refreshMs;
+    /** Блокування побудови; не synchronized, щоб не закріплювати віртуальні потоки під час JDBC. */
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private volatile Filters filters;
+
+    /**
+     * Лінивий тримач спільного екземпляра: налаштування зчитуються лише при першому зверненні.
+     */
+    private static final class Holder {
+        static final UserUniqueness INSTANCE = new UserUniqueness(new UserDaoImpl(), refreshFromProperties());
+    }
+
+    /**
+     * Створює перевірку над заданим DAO.
+     *
+     * @param delegate  DAO користувачів
+     * @param refreshMs вік фільтра, після якого він перебудовується, мс
+     */
+    UserUniqueness(UserDao delegate, long refreshMs) {
+        this.delegate = delegate;
+        this.refreshMs = refreshMs;
+    }
+
+    /**
+     * Повертає спільний екземпляр перевірки.
+     *
+     * @return перевірка унікальності
+     */
+    public static UserUniqueness getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static long refreshFromProperties() {
+        try {
+            return Long.parseLong(PropertiesUtil.get("user.uniqueness.refresh.minutes", "10").trim()) * 60_000;
+        } catch (NumberFormatException e) {
+            return 10 * 60_000;
+        }
+    }
+
+    /**
+     * Перевіряє зайнятість логіна та email у базі одним запитом.
+     * Значення null не перевіряється і вважається вільним.
+     *
+     * @param username логін або null
+     * @param email    email або null
+     * @return які зі значень зайняті
+     */
+    public UserDao.Taken check(String username, String email) {
+        if (username == null && email == null) return UserDao.Taken.NONE;
+        if (email == null) return new UserDao.Taken(delegate.existsByUsername(username), false);
+        if (username == null) return new UserDao.Taken(false, delegate.existsByEmail(email));
+        return delegate.findTaken(username, email);
+    }
+
+    /**
+     * Перевіряє, чи зайнятий логін, звертаючись до бази лише тоді, коли фільтр не виключає цього.
+     *
+     * @param username логін
+     * @return true, якщо логін зайнятий
+     */
+    public boolean isUsernameTaken(String username) {
+        return current().usernames().mightContain(key(username)) && delegate.existsByUsername(username);
+    }
+
+    /**
+     * Перевіряє, чи зайнятий email, звертаючись до бази лише тоді, коли фільтр не виключає цього.
+     *
+     * @param email email
+     * @return true, якщо email зайнятий
+     */
+    public boolean isEmailTaken(String email) {
+        return current().emails().mightContain(key(email)) && delegate.existsByEmail(email);
+    }
+
+    /**
+     * Додає до фільтра логін і email, які щойно зайняв користувач цього екземпляра
+     * (реєстрація або зміна в налаштуваннях). Значення null пропускаються.
+     *
+     * @param username логін або null
+     * @param email    email або null
+     */
+    public void remember(String username, String email) {
+        Filters f = filters;
+        if (f == null) return;
+        if (username != null) f.usernames().put(key(username));
+        if (email != null) f.emails().put(key(email));
+    }
+
+    private static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Повертає актуальні фільтри, будуючи їх, якщо їх немає або вони застаріли.
+     * Одночасні звернення чекають на одну побудову.
+     *
+     * @return фільтри логінів і email
+     */
+    private Filters current() {
+        Filters f = filters;
+        if (isFresh(f)) return f;
+        buildLock.lock();
+        try {
+            f = filters;
+            if (isFresh(f)) return f;
+            f = build();
+            filters = f;
+            return f;
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    private boolean isFresh(Filters f) {
+        return f != null && System.currentTimeMillis() - f.builtAt() < refreshMs;
+    }
+
+    private Filters build() {
+        int capacity = Math.max(delegate.countUsers() * 2, MIN_CAPACITY);
+        BloomFilter usernames = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+        BloomFilter emails = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+        delegate.forEachUsernameAndEmail((username, email) -> {
+            usernames.put(key(username));
+            emails.put(key(email));
+        });
+        return new Filters(usernames, emails, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,70 @@
+package com.agors.infrastructure.persistence.contract;
+
+import com.agors.domain.entity.Favorite;
+import com.agors.domain.entity.Place;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Асинхронний контракт для роботи з обраними місцями користувача.
+ * <p>
+ * Дзеркалить {@link FavoriteDao}, але кожен метод виконується у фоні й повертає
+ * {@link CompletableFuture}, результат якого передається у потік JavaFX.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public interface AsyncFavoriteDao {
+
+    /**
+     * Додає новий запис обраного місця для користувача.
+     *
+     * @param fav екземпляр Favorite з даними про користувача та місце
+     * @return майбутнє з результатом: збережений екземпляр Favorite з встановленим id
+     */
+    CompletableFuture<Favorite> add(Favorite fav);
+
+    /**
+     * Повертає список обраних місць для заданого користувача.
+     *
+     * @param userId унікальний ідентифікатор користувача
+     * @return майбутнє з результатом: список Favorite для користувача
+     */
+    CompletableFuture<List<Favorite>> findByUser(int userId);
+
+    /**
+     * Повертає обрані місця користувача разом з даними самих місць.
+     *
+     * @param userId унікальний ідентифікатор користувача
+     * @return майбутнє з результатом: список Place, доданих користувачем до обраного
+     */
+    CompletableFuture<List<Place>> findPlacesByUser(int userId);
+
+    /**
+     * Перевіряє, чи додано місце до обраного користувача.
+     *
+     * @param userId  унікальний ідентифікатор користувача
+     * @param placeId унікальний ідентифікатор місця
+     * @return майбутнє з результатом: true, якщо місце вже в обраному
+     */
+    CompletableFuture<Boolean> isFavorite(int userId, int placeId);
+
+    /**
+     * Додає місце до обраного, якщо його там ще немає.
+     *
+     * @param userId  унікальний ідентифікатор користувача
+     * @param placeId унікальний ідентифікатор місця
+     * @return майбутнє, що завершується після виконання операції
+     */
+    CompletableFuture<Void> addToFavorites(int userId, int placeId);
+
+    /**
+     * Видаляє запис обраного місця для користувача.
+     *
+     * @param userId  унікальний ідентифікатор користувача
+     * @param placeId унікальний ідентифікатор місця
+     * @return майбутнє, що завершується після виконання операції
+     */
+    CompletableFuture<Void> remove(int userId, int placeId);
+}
@@ -0,0 +1,76 @@
+package com.agors.infrastructure.persistence.contract;
+
+import com.agors.domain.entity.Place;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Асинхронний контракт для роботи з історичними місцями.
+ * <p>
+ * Дзеркалить {@link PlaceDao}, але кожен метод виконується у фоні й повертає
+ * {@link CompletableFuture}, результат якого передається у потік JavaFX.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public interface AsyncPlaceDao {
+
+    /**
+     * Додає нове місце до бази даних.
+     *
+     * @param place об'єкт Place з даними для збереження
+     * @return майбутнє з результатом: збережений об'єкт Place з встановленим id
+     */
+    CompletableFuture<Place> add(Place place);
+
+    /**
+     * Повертає список усіх місць.
+     *
+     * @return майбутнє з результатом: список об'єктів Place
+     */
+    CompletableFuture<List<Place>> findAll();
+
+    /**
+     * Повертає наступну сторінку місць у порядку зростання id.
+     *
+     * @param afterId id останнього елемента попередньої сторінки (0 — перша сторінка)
+     * @param limit   максимальна кількість елементів на сторінці
+     * @return майбутнє з результатом: сторінка місць
+     */
+    CompletableFuture<List<Place>> findPage(int afterId, int limit);
+
+    /**
+     * Шукає місця за назвою, країною та епохою з ранжуванням у SQL.
+     *
+     * @param query рядок пошуку
+     * @param limit максимальна кількість результатів на сторінці
+     * @param after курсор останнього результату попередньої сторінки
+     * @return майбутнє з результатом: сторінка результатів пошуку
+     */
+    CompletableFuture<List<PlaceDao.SearchHit>> search(String query, int limit, PlaceDao.SearchCursor after);
+
+    /**
+     * Знаходить місце за його унікальним ідентифікатором.
+     *
+     * @param id унікальний ідентифікатор місця
+     * @return майбутнє з результатом: знайдений об'єкт Place або null, якщо не знайдено
+     */
+    CompletableFuture<Place> findById(int id);
+
+    /**
+     * Оновлює дані існуючого місця.
+     *
+     * @param place об'єкт Place з оновленими даними
+     * @return майбутнє, що завершується після виконання операції
+     */
+    CompletableFuture<Void> update(Place place);
+
+    /**
+     * Видаляє місце за ідентифікатором.
+     *
+     * @param id унікальний ідентифікатор місця
+     * @return майбутнє, що завершується після виконання операції
+     */
+    CompletableFuture<Void> remove(int id);
+}
@@ -0,0 +1,78 @@
+package com.agors.infrastructure.persistence.contract;
+
+import com.agors.domain.entity.Report;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Асинхронний контракт для роботи з звітами.
+ * <p>
+ * Дзеркалить {@link ReportDao}, але кожен метод виконується у фоні й повертає
+ * {@link CompletableFuture}, результат якого передається у потік JavaFX.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public interface AsyncReportDao {
+
+    /**
+     * Додає новий звіт до бази даних.
+     *
+     * @param report звіт для збереження
+     * @return майбутнє з результатом: збережений звіт з встановленим id
+     */
+    CompletableFuture<Report> add(Report report);
+
+    /**
+     * Повертає список усіх звітів.
+     *
+     * @return майбутнє з результатом: список звітів
+     */
+    CompletableFuture<List<Report>> findAll();
+
+    /**
+     * Повертає наступну сторінку звітів у порядку зростання id.
+     *
+     * @param afterId id останнього елемента попередньої сторінки (0 — перша сторінка)
+     * @param limit   максимальна кількість елементів на сторінці
+     * @return майбутнє з результатом: сторінка звітів
+     */
+    CompletableFuture<List<Report>> findPage(int afterId, int limit);
+
+    /**
+     * Повертає сторінку заголовків звітів (без вмісту) від найновішого до найстарішого.
+     *
+     * @param beforeId id останнього елемента попередньої сторінки
+     *                 ({@link Integer#MAX_VALUE} — перша сторінка)
+     * @param limit    максимальна кількість елементів на сторінці
+     * @return майбутнє з результатом: сторінка заголовків звітів
+     */
+    CompletableFuture<List<Report>> findHeaderPage(int beforeId, int limit);
+
+    /**
+     * Читає фрагмент вмісту звіту.
+     *
+     * @param id     ідентифікатор звіту
+     * @param offset позиція першого символу фрагмента (з 0)
+     * @param length максимальна кількість символів
+     * @return майбутнє з результатом: фрагмент вмісту
+     */
+    CompletableFuture<String> readContent(int id, int offset, int length);
+
+    /**
+     * Знаходить звіт за ідентифікатором.
+     *
+     * @param id ідентифікатор звіту
+     * @return майбутнє з результатом: звіт або null, якщо не знайдено
+     */
+    CompletableFuture<Report> findById(int id);
+
+    /**
+     * Видаляє звіт за ідентифікатором.
+     *
+     * @param id ідентифікатор звіту
+     * @return майбутнє, що завершується після виконання операції
+     */
+    CompletableFuture<Void> remove(int id);
+}
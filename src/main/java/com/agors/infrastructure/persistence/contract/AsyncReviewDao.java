@@ -0,0 +1,87 @@
+package com.agors.infrastructure.persistence.contract;
+
+import com.agors.domain.entity.RatingSummary;
+import com.agors.domain.entity.Review;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Асинхронний контракт для роботи з відгуками.
+ * <p>
+ * Дзеркалить {@link ReviewDao}, але кожен метод виконується у фоні й повертає
+ * {@link CompletableFuture}, результат якого передається у потік JavaFX.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public interface AsyncReviewDao {
+
+    /**
+     * Додає новий відгук до бази даних.
+     *
+     * @param review об'єкт Review з даними для збереження
+     * @return майбутнє з результатом: збережений об'єкт Review з встановленим id
+     */
+    CompletableFuture<Review> add(Review review);
+
+    /**
+     * Повертає всі відгуки для заданого місця.
+     *
+     * @param placeId ідентифікатор місця
+     * @return майбутнє з результатом: список відгуків
+     */
+    CompletableFuture<List<Review>> findByPlace(int placeId);
+
+    /**
+     * Повертає всі відгуки для заданого місця разом з іменами авторів одним запитом.
+     *
+     * @param placeId ідентифікатор місця
+     * @return майбутнє з результатом: список відгуків
+     */
+    CompletableFuture<List<Review>> findByPlaceWithAuthors(int placeId);
+
+    /**
+     * Повертає наступну сторінку відгуків для місця разом з іменами авторів.
+     *
+     * @param placeId ідентифікатор місця
+     * @param afterId id останнього відгуку попередньої сторінки (0 — перша сторінка)
+     * @param limit   максимальна кількість відгуків на сторінці
+     * @return майбутнє з результатом: сторінка відгуків
+     */
+    CompletableFuture<List<Review>> findPageByPlaceWithAuthors(int placeId, int afterId, int limit);
+
+    /**
+     * Повертає всі відгуки заданого користувача.
+     *
+     * @param userId ідентифікатор користувача
+     * @return майбутнє з результатом: список відгуків
+     */
+    CompletableFuture<List<Review>> findByUser(int userId);
+
+    /**
+     * Повертає агреговані рейтинги для набору місць одним запитом.
+     *
+     * @param placeIds ідентифікатори місць
+     * @return майбутнє з результатом: мапа placeId → рейтинг
+     */
+    CompletableFuture<Map<Integer, RatingSummary>> ratingSummaries(Collection<Integer> placeIds);
+
+    /**
+     * Видаляє відгук за ідентифікатором.
+     *
+     * @param reviewId ідентифікатор відгуку
+     * @return майбутнє, що завершується після виконання операції
+     */
+    CompletableFuture<Void> remove(int reviewId);
+
+    /**
+     * Оновлює текст, оцінку та дату відгуку.
+     *
+     * @param review відгук з оновленими даними
+     * @return майбутнє, що завершується після виконання операції
+     */
+    CompletableFuture<Void> update(Review review);
+}
@@ -0,0 +1,74 @@
+package com.agors.infrastructure.persistence.contract;
+
+import com.agors.domain.entity.User;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Асинхронний контракт для роботи з користувачами.
+ * <p>
+ * Дзеркалить {@link UserDao}, але кожен метод виконується у фоні й повертає
+ * {@link CompletableFuture}, результат якого передається у потік JavaFX.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public interface AsyncUserDao {
+
+    /**
+     * Додає нового користувача до бази даних.
+     *
+     * @param user новий користувач
+     * @return майбутнє, що завершується після виконання операції
+     */
+    CompletableFuture<Void> addUser(User user);
+
+    /**
+     * Знаходить користувача за ідентифікатором.
+     *
+     * @param id ідентифікатор користувача
+     * @return майбутнє з результатом: користувач або null, якщо не знайдено
+     */
+    CompletableFuture<User> getUserById(int id);
+
+    /**
+     * Знаходить користувача за іменем або email.
+     *
+     * @param loginOrEmail ім'я користувача або email
+     * @return майбутнє з результатом: користувач або null, якщо не знайдено
+     */
+    CompletableFuture<User> getByUsernameOrEmail(String loginOrEmail);
+
+    /**
+     * Повертає список усіх користувачів.
+     *
+     * @return майбутнє з результатом: список користувачів
+     */
+    CompletableFuture<List<User>> getAllUsers();
+
+    /**
+     * Повертає наступну сторінку користувачів у порядку зростання id.
+     *
+     * @param afterId id останнього елемента попередньої сторінки (0 — перша сторінка)
+     * @param limit   максимальна кількість елементів на сторінці
+     * @return майбутнє з результатом: сторінка користувачів
+     */
+    CompletableFuture<List<User>> findPage(int afterId, int limit);
+
+    /**
+     * Оновлює дані користувача.
+     *
+     * @param user користувач з оновленими даними
+     * @return майбутнє, що завершується після виконання операції
+     */
+    CompletableFuture<Void> updateUser(User user);
+
+    /**
+     * Видаляє користувача за ідентифікатором.
+     *
+     * @param id ідентифікатор користувача
+     * @return майбутнє, що завершується після виконання операції
+     */
+    CompletableFuture<Void> deleteUser(int id);
+}
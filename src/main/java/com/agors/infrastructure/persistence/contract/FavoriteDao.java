@@ -1,6 +1,7 @@
 package com.agors.infrastructure.persistence.contract;
 
 import com.agors.domain.entity.Favorite;
+import com.agors.domain.entity.Place;
 import java.util.List;
 
 /**
@@ -30,6 +31,31 @@ public interface FavoriteDao {
      */
     List<Favorite> findByUser(int userId);
 
+    /**
+     * Повертає обрані місця користувача разом з даними самих місць.
+     *
+     * @param userId унікальний ідентифікатор користувача
+     * @return список Place, доданих користувачем до обраного
+     */
+    List<Place> findPlacesByUser(int userId);
+
+    /**
+     * Перевіряє, чи додано місце до обраного користувача.
+     *
+     * @param userId  унікальний ідентифікатор користувача
+     * @param placeId унікальний ідентифікатор місця
+     * @return true, якщо місце вже в обраному
+     */
+    boolean isFavorite(int userId, int placeId);
+
+    /**
+     * Додає місце до обраного, якщо його там ще немає.
+     *
+     * @param userId  унікальний ідентифікатор користувача
+     * @param placeId унікальний ідентифікатор місця
+     */
+    void addToFavorites(int userId, int placeId);
+
     /**
      * Видаляє запис обраного місця для користувача.
      *
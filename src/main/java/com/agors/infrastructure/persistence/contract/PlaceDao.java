@@ -14,6 +14,40 @@ import java.util.List;
  */
 public interface PlaceDao {
 
+    /**
+     * Курсор пошуку: ключі сортування останнього отриманого результату.
+     *
+     * @param rank ранг релевантності (менший — релевантніший)
+     * @param id   ідентифікатор місця
+     */
+    record SearchCursor(int rank, int id) {
+
+        /** Курсор перед першою сторінкою результатів. */
+        public static final SearchCursor FIRST = new SearchCursor(-1, 0);
+    }
+
+    /**
+     * Результат пошуку: місце та його ранг релевантності.
+     * <p>
+     * Ранги: 0 — назва збігається із запитом, 1 — назва починається із запиту,
+     * 2 — назва містить запит, 3 — збіг лише за країною чи епохою.
+     * </p>
+     *
+     * @param place знайдене місце
+     * @param rank  ранг релевантності
+     */
+    record SearchHit(Place place, int rank) {
+
+        /**
+         * Повертає курсор, з якого починається наступна сторінка після цього результату.
+         *
+         * @return курсор пошуку
+         */
+        public SearchCursor cursor() {
+            return new SearchCursor(rank, place.getId());
+        }
+    }
+
     /**
      * Додає нове місце до бази даних.
      *
@@ -29,6 +63,35 @@ public interface PlaceDao {
      */
     List<Place> findAll();
 
+    /**
+     * Повертає наступну сторінку місць у порядку зростання id (keyset-пагінація).
+     * <p>
+     * Ключ сортування — первинний ключ id, тож сторінка читається за індексом
+     * незалежно від розміру таблиці.
+     * </p>
+     *
+     * @param afterId id останнього елемента попередньої сторінки (0 — перша сторінка)
+     * @param limit   максимальна кількість елементів на сторінці
+     * @return список об'єктів Place; коротший за limit, якщо це остання сторінка
+     */
+    List<Place> findPage(int afterId, int limit);
+
+    /**
+     * Шукає місця за назвою, країною та епохою.
+     * <p>
+     * Пошук виконується в SQL без урахування регістру: кожне слово запиту має входити
+     * в назву, країну або епоху. Результати впорядковані за рангом релевантності,
+     * а потім за id; сторінки читаються за курсором {@code (rank, id)}.
+     * Порожній запит повертає всі місця в порядку id з рангом 0.
+     * </p>
+     *
+     * @param query рядок пошуку
+     * @param limit максимальна кількість результатів на сторінці
+     * @param after курсор останнього результату попередньої сторінки ({@link SearchCursor#FIRST} — перша сторінка)
+     * @return список результатів; коротший за limit, якщо це остання сторінка
+     */
+    List<SearchHit> search(String query, int limit, SearchCursor after);
+
     /**
      * Знаходить місце за його унікальним ідентифікатором.
      *
@@ -1,6 +1,10 @@
 package com.agors.infrastructure.persistence.contract;
 
 import com.agors.domain.entity.Report;
+import com.agors.domain.enums.ReportType;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -14,6 +18,22 @@ import java.util.List;
  */
 public interface ReportDao {
 
+    /**
+     * Обробник вмісту звіту, що читається з бази потоком символів.
+     */
+    @FunctionalInterface
+    interface ContentConsumer {
+
+        /**
+         * Обробляє вміст звіту. Потік дійсний лише під час виклику.
+         *
+         * @param content вміст звіту
+         * @param length  довжина вмісту в символах або -1, якщо вона невідома
+         * @throws IOException у разі помилки читання вмісту або запису результату
+         */
+        void accept(Reader content, long length) throws IOException;
+    }
+
     /**
      * Додає новий звіт до бази даних.
      *
@@ -22,6 +42,20 @@ public interface ReportDao {
      */
     Report add(Report report);
 
+    /**
+     * Додає новий звіт, передаючи вміст у базу потоком символів.
+     * <p>
+     * Поле content звіту ігнорується: вміст читається з {@code content}
+     * порціями драйвером JDBC і не збирається в один рядок у пам'яті.
+     * </p>
+     *
+     * @param report  об'єкт Report з типом і датою генерації
+     * @param content джерело вмісту звіту; закривається викликачем
+     * @param length  довжина вмісту в символах
+     * @return збережений об'єкт Report з встановленим id
+     */
+    Report add(Report report, Reader content, long length);
+
     /**
      * Повертає список усіх доступних звітів.
      *
@@ -29,6 +63,59 @@ public interface ReportDao {
      */
     List<Report> findAll();
 
+    /**
+     * Повертає наступну сторінку звітів у порядку зростання id (keyset-пагінація).
+     * <p>
+     * Ключ сортування — первинний ключ id, тож сторінка читається за індексом
+     * незалежно від розміру таблиці.
+     * </p>
+     *
+     * @param afterId id останнього елемента попередньої сторінки (0 — перша сторінка)
+     * @param limit   максимальна кількість елементів на сторінці
+     * @return список об'єктів Report; коротший за limit, якщо це остання сторінка
+     */
+    List<Report> findPage(int afterId, int limit);
+
+    /**
+     * Повертає сторінку заголовків звітів від найновішого до найстарішого.
+     * <p>
+     * Читаються лише id, тип, дата генерації та довжина вмісту; сам вміст
+     * не завантажується (content дорівнює null).
+     * </p>
+     *
+     * @param beforeId id останнього елемента попередньої сторінки
+     *                 ({@link Integer#MAX_VALUE} — перша сторінка)
+     * @param limit    максимальна кількість елементів на сторінці
+     * @return список об'єктів Report без вмісту
+     */
+    List<Report> findHeaderPage(int beforeId, int limit);
+
+    /**
+     * Читає фрагмент вмісту звіту.
+     *
+     * @param id     унікальний ідентифікатор звіту
+     * @param offset позиція першого символу фрагмента (з 0)
+     * @param length максимальна кількість символів
+     * @return фрагмент вмісту; порожній рядок, якщо offset за межами вмісту або звіту немає
+     */
+    String readContent(int id, int offset, int length);
+
+    /**
+     * Передає вміст звіту обробнику потоком символів, не завантажуючи його в пам'ять цілком.
+     *
+     * @param id       унікальний ідентифікатор звіту
+     * @param consumer обробник вмісту; не викликається, якщо звіту немає
+     */
+    void streamContent(int id, ContentConsumer consumer);
+
+    /**
+     * Повертає час генерації останнього звіту заданого типу.
+     *
+     * @param type тип звіту
+     * @return момент генерації або null, якщо звітів цього типу ще немає
+     */
+    LocalDateTime findLatestGeneratedAt(ReportType type);
+
     /**
      * Знаходить звіт за його унікальним ідентифікатором.
      *
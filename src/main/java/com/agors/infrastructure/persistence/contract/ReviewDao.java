@@ -1,7 +1,10 @@
 package com.agors.infrastructure.persistence.contract;
 
+import com.agors.domain.entity.RatingSummary;
 import com.agors.domain.entity.Review;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Контракт для роботи з відгуками користувачів у базі даних.
@@ -30,6 +33,32 @@ public interface ReviewDao {
      */
     List<Review> findByPlace(int placeId);
 
+    /**
+     * Повертає список відгуків для зазначеного місця разом з іменами авторів.
+     * <p>
+     * Імена отримуються тим самим запитом (JOIN до {@code users}), тож показ списку
+     * не потребує окремого запиту на кожного автора.
+     * </p>
+     *
+     * @param placeId унікальний ідентифікатор місця
+     * @return список об'єктів Review із заповненим {@link Review#getUsername()}
+     */
+    List<Review> findByPlaceWithAuthors(int placeId);
+
+    /**
+     * Повертає наступну сторінку відгуків для місця разом з іменами авторів.
+     * <p>
+     * Відгуки впорядковані за id; умова {@code id > afterId} разом з індексом
+     * {@code (place_id, id)} дозволяє читати лише потрібну сторінку.
+     * </p>
+     *
+     * @param placeId унікальний ідентифікатор місця
+     * @param afterId id останнього відгуку попередньої сторінки (0 — перша сторінка)
+     * @param limit   максимальна кількість відгуків на сторінці
+     * @return список об'єктів Review із заповненим {@link Review#getUsername()}
+     */
+    List<Review> findPageByPlaceWithAuthors(int placeId, int afterId, int limit);
+
     /**
      * Повертає список відгуків, залишених зазначеним користувачем.
      *
@@ -38,6 +67,18 @@ public interface ReviewDao {
      */
     List<Review> findByUser(int userId);
 
+    /**
+     * Повертає агреговані рейтинги (кількість, середнє, розподіл оцінок) для набору місць.
+     * <p>
+     * Агрегація виконується в SQL, тому тексти відгуків не завантажуються.
+     * Місця без відгуків отримують порожній {@link RatingSummary}.
+     * </p>
+     *
+     * @param placeIds ідентифікатори місць
+     * @return мапа: ідентифікатор місця → його рейтинг
+     */
+    Map<Integer, RatingSummary> ratingSummaries(Collection<Integer> placeIds);
+
     /**
      * Видаляє відгук за його унікальним ідентифікатором.
      *
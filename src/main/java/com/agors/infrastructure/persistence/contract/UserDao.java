@@ -2,6 +2,7 @@ package com.agors.infrastructure.persistence.contract;
 
 import com.agors.domain.entity.User;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 /**
  * Контракт для роботи з користувачами в базі даних.
@@ -14,6 +15,18 @@ import java.util.List;
  */
 public interface UserDao {
 
+    /**
+     * Результат перевірки унікальності логіна та email.
+     *
+     * @param username true, якщо логін уже зайнятий
+     * @param email    true, якщо email уже зайнятий
+     */
+    record Taken(boolean username, boolean email) {
+
+        /** Обидва значення вільні. */
+        public static final Taken NONE = new Taken(false, false);
+    }
+
     /**
      * Додає нового користувача до бази даних.
      *
@@ -44,6 +57,59 @@ public interface UserDao {
      */
     List<User> getAllUsers();
 
+    /**
+     * Повертає наступну сторінку користувачів у порядку зростання id (keyset-пагінація).
+     * <p>
+     * Ключ сортування — первинний ключ id, тож сторінка читається за індексом
+     * незалежно від розміру таблиці.
+     * </p>
+     *
+     * @param afterId id останнього елемента попередньої сторінки (0 — перша сторінка)
+     * @param limit   максимальна кількість елементів на сторінці
+     * @return список об'єктів User; коротший за limit, якщо це остання сторінка
+     */
+    List<User> findPage(int afterId, int limit);
+
+    /**
+     * Перевіряє, чи існує користувач з вказаним логіном.
+     *
+     * @param username логін для перевірки
+     * @return true, якщо логін зайнятий
+     */
+    boolean existsByUsername(String username);
+
+    /**
+     * Перевіряє, чи існує користувач з вказаним email.
+     *
+     * @param email email для перевірки
+     * @return true, якщо email зайнятий
+     */
+    boolean existsByEmail(String email);
+
+    /**
+     * Перевіряє зайнятість логіна та email одним запитом за індексами обох полів.
+     *
+     * @param username логін для перевірки
+     * @param email    email для перевірки
+     * @return які з двох значень уже зайняті
+     */
+    Taken findTaken(String username, String email);
+
+    /**
+     * Повертає кількість користувачів.
+     *
+     * @return кількість рядків у таблиці users
+     */
+    int countUsers();
+
+    /**
+     * Передає логін і email кожного користувача, читаючи таблицю курсором.
+     * Паролі та інші поля не завантажуються.
+     *
+     * @param consumer отримувач пари (логін, email)
+     */
+    void forEachUsernameAndEmail(BiConsumer<String, String> consumer);
+
     /**
      * Оновлює дані існуючого користувача.
      *
@@ -51,6 +117,18 @@ public interface UserDao {
      */
     void updateUser(User user);
 
+    /**
+     * Замінює хеш пароля, лише якщо в базі досі збережено очікуваний хеш.
+     * Використовується для оновлення формату хешу під час входу, не перезаписуючи
+     * пароль, який тим часом змінили в іншому місці.
+     *
+     * @param id           ідентифікатор користувача
+     * @param expectedHash хеш, що має бути збережений зараз
+     * @param newHash      новий хеш
+     * @return true, якщо хеш замінено
+     */
+    boolean updatePasswordHash(int id, String expectedHash, String newHash);
+
     /**
      * Видаляє користувача за його унікальним ідентифікатором.
      *
@@ -0,0 +1,70 @@
+package com.agors.infrastructure.persistence.impl;
+
+import com.agors.domain.entity.Favorite;
+import com.agors.domain.entity.Place;
+import com.agors.infrastructure.persistence.async.DbExecutor;
+import com.agors.infrastructure.persistence.contract.AsyncFavoriteDao;
+import com.agors.infrastructure.persistence.contract.FavoriteDao;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Асинхронна обгортка над {@link FavoriteDao}.
+ * <p>
+ * Кожен виклик делегується синхронному DAO у {@link DbExecutor}.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class AsyncFavoriteDaoImpl implements AsyncFavoriteDao {
+
+    private final FavoriteDao delegate;
+
+    /**
+     * Створює обгортку над {@link FavoriteDaoImpl}.
+     */
+    public AsyncFavoriteDaoImpl() {
+        this(new FavoriteDaoImpl());
+    }
+
+    /**
+     * Створює обгортку над заданим DAO.
+     *
+     * @param delegate синхронне DAO
+     */
+    public AsyncFavoriteDaoImpl(FavoriteDao delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CompletableFuture<Favorite> add(Favorite fav) {
+        return DbExecutor.supply(() -> delegate.add(fav));
+    }
+
+    @Override
+    public CompletableFuture<List<Favorite>> findByUser(int userId) {
+        return DbExecutor.supply(() -> delegate.findByUser(userId));
+    }
+
+    @Override
+    public CompletableFuture<List<Place>> findPlacesByUser(int userId) {
+        return DbExecutor.supply(() -> delegate.findPlacesByUser(userId));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isFavorite(int userId, int placeId) {
+        return DbExecutor.supply(() -> delegate.isFavorite(userId, placeId));
+    }
+
+    @Override
+    public CompletableFuture<Void> addToFavorites(int userId, int placeId) {
+        return DbExecutor.run(() -> delegate.addToFavorites(userId, placeId));
+    }
+
+    @Override
+    public CompletableFuture<Void> remove(int userId, int placeId) {
+        return DbExecutor.run(() -> delegate.remove(userId, placeId));
+    }
+}
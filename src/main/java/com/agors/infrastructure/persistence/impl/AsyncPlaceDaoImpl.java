@@ -0,0 +1,75 @@
+package com.agors.infrastructure.persistence.impl;
+
+import com.agors.domain.entity.Place;
+import com.agors.infrastructure.persistence.async.DbExecutor;
+import com.agors.infrastructure.persistence.cache.PlaceCatalog;
+import com.agors.infrastructure.persistence.contract.AsyncPlaceDao;
+import com.agors.infrastructure.persistence.contract.PlaceDao;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Асинхронна обгортка над {@link PlaceDao}.
+ * <p>
+ * Кожен виклик делегується синхронному DAO у {@link DbExecutor}.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class AsyncPlaceDaoImpl implements AsyncPlaceDao {
+
+    private final PlaceDao delegate;
+
+    /**
+     * Створює обгортку над спільним кешем {@link PlaceCatalog}.
+     */
+    public AsyncPlaceDaoImpl() {
+        this(PlaceCatalog.getInstance());
+    }
+
+    /**
+     * Створює обгортку над заданим DAO.
+     *
+     * @param delegate синхронне DAO
+     */
+    public AsyncPlaceDaoImpl(PlaceDao delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CompletableFuture<Place> add(Place place) {
+        return DbExecutor.supply(() -> delegate.add(place));
+    }
+
+    @Override
+    public CompletableFuture<List<Place>> findAll() {
+        return DbExecutor.supply(() -> delegate.findAll());
+    }
+
+    @Override
+    public CompletableFuture<List<Place>> findPage(int afterId, int limit) {
+        return DbExecutor.supply(() -> delegate.findPage(afterId, limit));
+    }
+
+    @Override
+    public CompletableFuture<List<PlaceDao.SearchHit>> search(String query, int limit, PlaceDao.SearchCursor after) {
+        return DbExecutor.supply(() -> delegate.search(query, limit, after));
+    }
+
+    @Override
+    public CompletableFuture<Place> findById(int id) {
+        return DbExecutor.supply(() -> delegate.findById(id));
+    }
+
+    @Override
+    public CompletableFuture<Void> update(Place place) {
+        return DbExecutor.run(() -> delegate.update(place));
+    }
+
+    @Override
+    public CompletableFuture<Void> remove(int id) {
+        return DbExecutor.run(() -> delegate.remove(id));
+    }
+}
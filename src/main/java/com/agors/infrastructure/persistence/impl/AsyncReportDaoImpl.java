@@ -0,0 +1,74 @@
+package com.agors.infrastructure.persistence.impl;
+
+import com.agors.domain.entity.Report;
+import com.agors.infrastructure.persistence.async.DbExecutor;
+import com.agors.infrastructure.persistence.contract.AsyncReportDao;
+import com.agors.infrastructure.persistence.contract.ReportDao;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Асинхронна обгортка над {@link ReportDao}.
+ * <p>
+ * Кожен виклик делегується синхронному DAO у {@link DbExecutor}.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class AsyncReportDaoImpl implements AsyncReportDao {
+
+    private final ReportDao delegate;
+
+    /**
+     * Створює обгортку над {@link ReportDaoImpl}.
+     */
+    public AsyncReportDaoImpl() {
+        this(new ReportDaoImpl());
+    }
+
+    /**
+     * Створює обгортку над заданим DAO.
+     *
+     * @param delegate синхронне DAO
+     */
+    public AsyncReportDaoImpl(ReportDao delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CompletableFuture<Report> add(Report report) {
+        return DbExecutor.supply(() -> delegate.add(report));
+    }
+
+    @Override
+    public CompletableFuture<List<Report>> findAll() {
+        return DbExecutor.supply(() -> delegate.findAll());
+    }
+
+    @Override
+    public CompletableFuture<List<Report>> findPage(int afterId, int limit) {
+        return DbExecutor.supply(() -> delegate.findPage(afterId, limit));
+    }
+
+    @Override
+    public CompletableFuture<List<Report>> findHeaderPage(int beforeId, int limit) {
+        return DbExecutor.supply(() -> delegate.findHeaderPage(beforeId, limit));
+    }
+
+    @Override
+    public CompletableFuture<String> readContent(int id, int offset, int length) {
+        return DbExecutor.supply(() -> delegate.readContent(id, offset, length));
+    }
+
+    @Override
+    public CompletableFuture<Report> findById(int id) {
+        return DbExecutor.supply(() -> delegate.findById(id));
+    }
+
+    @Override
+    public CompletableFuture<Void> remove(int id) {
+        return DbExecutor.run(() -> delegate.remove(id));
+    }
+}
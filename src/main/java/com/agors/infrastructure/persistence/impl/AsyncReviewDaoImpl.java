@@ -0,0 +1,82 @@
+package com.agors.infrastructure.persistence.impl;
+
+import com.agors.domain.entity.RatingSummary;
+import com.agors.domain.entity.Review;
+import com.agors.infrastructure.persistence.async.DbExecutor;
+import com.agors.infrastructure.persistence.contract.AsyncReviewDao;
+import com.agors.infrastructure.persistence.contract.ReviewDao;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Асинхронна обгортка над {@link ReviewDao}.
+ * <p>
+ * Кожен виклик делегується синхронному DAO у {@link DbExecutor}.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class AsyncReviewDaoImpl implements AsyncReviewDao {
+
+    private final ReviewDao delegate;
+
+    /**
+     * Створює обгортку над {@link ReviewDaoImpl}.
+     */
+    public AsyncReviewDaoImpl() {
+        this(new ReviewDaoImpl());
+    }
+
+    /**
+     * Створює обгортку над заданим DAO.
+     *
+     * @param delegate синхронне DAO
+     */
+    public AsyncReviewDaoImpl(ReviewDao delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CompletableFuture<Review> add(Review review) {
+        return DbExecutor.supply(() -> delegate.add(review));
+    }
+
+    @Override
+    public CompletableFuture<List<Review>> findByPlace(int placeId) {
+        return DbExecutor.supply(() -> delegate.findByPlace(placeId));
+    }
+
+    @Override
+    public CompletableFuture<List<Review>> findByPlaceWithAuthors(int placeId) {
+        return DbExecutor.supply(() -> delegate.findByPlaceWithAuthors(placeId));
+    }
+
+    @Override
+    public CompletableFuture<List<Review>> findPageByPlaceWithAuthors(int placeId, int afterId, int limit) {
+        return DbExecutor.supply(() -> delegate.findPageByPlaceWithAuthors(placeId, afterId, limit));
+    }
+
+    @Override
+    public CompletableFuture<List<Review>> findByUser(int userId) {
+        return DbExecutor.supply(() -> delegate.findByUser(userId));
+    }
+
+    @Override
+    public CompletableFuture<Map<Integer, RatingSummary>> ratingSummaries(Collection<Integer> placeIds) {
+        return DbExecutor.supply(() -> delegate.ratingSummaries(placeIds));
+    }
+
+    @Override
+    public CompletableFuture<Void> remove(int reviewId) {
+        return DbExecutor.run(() -> delegate.remove(reviewId));
+    }
+
+    @Override
+    public CompletableFuture<Void> update(Review review) {
+        return DbExecutor.run(() -> delegate.update(review));
+    }
+}
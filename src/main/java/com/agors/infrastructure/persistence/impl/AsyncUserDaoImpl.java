@@ -0,0 +1,74 @@
+package com.agors.infrastructure.persistence.impl;
+
+import com.agors.domain.entity.User;
+import com.agors.infrastructure.persistence.async.DbExecutor;
+import com.agors.infrastructure.persistence.contract.AsyncUserDao;
+import com.agors.infrastructure.persistence.contract.UserDao;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Асинхронна обгортка над {@link UserDao}.
+ * <p>
+ * Кожен виклик делегується синхронному DAO у {@link DbExecutor}.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class AsyncUserDaoImpl implements AsyncUserDao {
+
+    private final UserDao delegate;
+
+    /**
+     * Створює обгортку над {@link UserDaoImpl}.
+     */
+    public AsyncUserDaoImpl() {
+        this(new UserDaoImpl());
+    }
+
+    /**
+     * Створює обгортку над заданим DAO.
+     *
+     * @param delegate синхронне DAO
+     */
+    public AsyncUserDaoImpl(UserDao delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CompletableFuture<Void> addUser(User user) {
+        return DbExecutor.run(() -> delegate.addUser(user));
+    }
+
+    @Override
+    public CompletableFuture<User> getUserById(int id) {
+        return DbExecutor.supply(() -> delegate.getUserById(id));
+    }
+
+    @Override
+    public CompletableFuture<User> getByUsernameOrEmail(String loginOrEmail) {
+        return DbExecutor.supply(() -> delegate.getByUsernameOrEmail(loginOrEmail));
+    }
+
+    @Override
+    public CompletableFuture<List<User>> getAllUsers() {
+        return DbExecutor.supply(() -> delegate.getAllUsers());
+    }
+
+    @Override
+    public CompletableFuture<List<User>> findPage(int afterId, int limit) {
+        return DbExecutor.supply(() -> delegate.findPage(afterId, limit));
+    }
+
+    @Override
+    public CompletableFuture<Void> updateUser(User user) {
+        return DbExecutor.run(() -> delegate.updateUser(user));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteUser(int id) {
+        return DbExecutor.run(() -> delegate.deleteUser(id));
+    }
+}
@@ -1,6 +1,7 @@
 package com.agors.infrastructure.persistence.impl;
 
 import com.agors.domain.entity.Favorite;
+import com.agors.domain.entity.Place;
 import com.agors.infrastructure.persistence.contract.FavoriteDao;
 import com.agors.infrastructure.util.ConnectionHolder;
 import com.agors.infrastructure.util.ConnectionManager;
@@ -8,6 +9,8 @@ import com.agors.infrastructure.util.ConnectionManager;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Реалізація інтерфейсу {@link FavoriteDao} для доступу до таблиці {@code favorite}.
@@ -16,27 +19,41 @@ import java.util.List;
  * через JDBC-з'єднання до реляційної бази даних.
  * </p>
  * Також включає перевірку, чи є місце улюбленим, і метод для безпечного додавання.
+ * <p>
+ * Список обраних місць кешується для кожного користувача і скидається,
+ * щойно його обране змінюється або змінюються самі місця.
+ * </p>
  *
  * @author agors
  * @version 1.0
  */
 public class FavoriteDaoImpl implements FavoriteDao {
 
+    /** Кеш обраних місць: ID користувача → незмінний список місць. */
+    private static final Map<Integer, List<Place>> PLACES_BY_USER = new ConcurrentHashMap<>();
+
+    /**
+     * Скидає кеш обраних місць для всіх користувачів.
+     * Викликається, коли змінюються дані самих місць.
+     */
+    public static void clearPlacesCache() {
+        PLACES_BY_USER.clear();
+    }
+
     /**
      * Додає новий запис до таблиці {@code favorite}.
      *
-     * @param fav об'єкт {@link Favorite}, який містить userId, placeId, createdAt
+     * @param fav об'єкт {@link Favorite}, який містить userId і placeId; час додавання ставить сервер БД
      * @return збережений об'єкт {@link Favorite} з оновленим id
      * @throws RuntimeException у разі помилки бази даних
      */
     @Override
     public Favorite add(Favorite fav) {
-        String sql = "INSERT INTO favorite (user_id, place_id, created_at) VALUES (?, ?, ?)";
+        String sql = "INSERT INTO favorite (user_id, place_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)";
         try (Connection conn = ConnectionManager.getConnection();
             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             stmt.setInt(1, fav.getUserId());
             stmt.setInt(2, fav.getPlaceId());
-            stmt.setTimestamp(3, Timestamp.valueOf(fav.getCreatedAt()));
             stmt.executeUpdate();
             try (ResultSet keys = stmt.getGeneratedKeys()) {
                 if (keys.next()) {
@@ -46,6 +63,7 @@ public class FavoriteDaoImpl implements FavoriteDao {
         } catch (SQLException e) {
             throw new RuntimeException("Не вдалося додати улюблене місце: " + fav, e);
         }
+        PLACES_BY_USER.remove(fav.getUserId());
         return fav;
     }
 
@@ -74,6 +92,47 @@ public class FavoriteDaoImpl implements FavoriteDao {
         return list;
     }
 
+    /**
+     * Повертає обрані місця користувача одним JOIN-запитом.
+     * <p>
+     * Результат кешується до наступної зміни обраного цього користувача.
+     * </p>
+     *
+     * @param userId ID користувача
+     * @return незмінний список {@link Place} у порядку додавання до обраного
+     * @throws RuntimeException у разі помилки бази даних
+     */
+    @Override
+    public List<Place> findPlacesByUser(int userId) {
+        List<Place> cached = PLACES_BY_USER.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        String sql = """
+            SELECT p.id, p.name, p.country, p.era, p.description, p.image_url
+            FROM favorite f
+            JOIN place p ON p.id = f.place_id
+            WHERE f.user_id = ?
+            ORDER BY f.id
+            """;
+        List<Place> list = new ArrayList<>();
+        try (Connection conn = ConnectionManager.getConnection();
+            PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, userId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    list.add(mapRowToPlace(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося отримати улюблені місця для користувача: " + userId, e);
+        }
+        List<Place> places = List.copyOf(list);
+        PLACES_BY_USER.put(userId, places);
+        return places;
+    }
+
     /**
      * Видаляє місце з обраного для заданого користувача.
      *
@@ -92,6 +151,7 @@ public class FavoriteDaoImpl implements FavoriteDao {
         } catch (SQLException e) {
             throw new RuntimeException("Не вдалося видалити обране місце: користувач=" + userId + ", місце=" + placeId, e);
         }
+        PLACES_BY_USER.remove(userId);
     }
 
     /**
@@ -111,11 +171,32 @@ public class FavoriteDaoImpl implements FavoriteDao {
     }
 
     /**
-     * Додає запис до обраного лише в тому випадку, якщо такого ще не існує.
+     * Допоміжний метод для мапінгу поточного рядка ResultSet в об'єкт Place.
+     *
+     * @param rs ResultSet з полями id, name, country, era, description, image_url
+     * @return екземпляр Place з даними
+     * @throws SQLException у разі помилки доступу до полів ResultSet
+     */
+    private Place mapRowToPlace(ResultSet rs) throws SQLException {
+        Place p = new Place();
+        p.setId(rs.getInt("id"));
+        p.setName(rs.getString("name"));
+        p.setCountry(rs.getString("country"));
+        p.setEra(rs.getString("era"));
+        p.setDescription(rs.getString("description"));
+        p.setImageUrl(rs.getString("image_url"));
+        return p;
+    }
+
+    /**
+     * Перевіряє, чи додано місце до обраного користувача.
      *
      * @param userId  ID користувача
      * @param placeId ID історичного місця
+     * @return true, якщо запис існує
+     * @throws RuntimeException у разі помилки бази даних
      */
+    @Override
     public boolean isFavorite(int userId, int placeId) {
         String sql = "SELECT TOP 1 1 FROM favorite WHERE user_id = ? AND place_id = ?";
         try (Connection conn = ConnectionManager.getConnection();
@@ -131,14 +212,16 @@ public class FavoriteDaoImpl implements FavoriteDao {
     }
 
     /**
-     * Приватний метод для мапінгу {@link ResultSet} у об'єкт {@link Favorite}.
+     * Додає запис до обраного лише в тому випадку, якщо такого ще не існує.
      *
-     * @return об'єкт {@link Favorite}, заповнений з бази даних
-     * @throws SQLException у разі помилки зчитування з {@code ResultSet}
+     * @param userId  ID користувача
+     * @param placeId ID історичного місця
+     * @throws RuntimeException у разі помилки бази даних
      */
+    @Override
     public void addToFavorites(int userId, int placeId) {
         String sqlCheck = "SELECT 1 FROM favorite WHERE user_id = ? AND place_id = ?";
-        String sqlInsert = "INSERT INTO favorite (user_id, place_id, created_at) VALUES (?, ?, GETDATE())";
+        String sqlInsert = "INSERT INTO favorite (user_id, place_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)";
 
         try (Connection conn = ConnectionManager.getConnection();
             PreparedStatement stmtCheck = conn.prepareStatement(sqlCheck)) {
@@ -158,5 +241,6 @@ public class FavoriteDaoImpl implements FavoriteDao {
         } catch (SQLException e) {
             throw new RuntimeException("Помилка при додаванні до обраного", e);
         }
+        PLACES_BY_USER.remove(userId);
     }
 }
@@ -3,6 +3,7 @@ package com.agors.infrastructure.persistence.impl;
 import com.agors.domain.entity.Place;
 import com.agors.infrastructure.persistence.contract.PlaceDao;
 import com.agors.infrastructure.util.ConnectionManager;
+import com.agors.infrastructure.util.SearchText;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -13,6 +14,8 @@ import java.util.List;
  * <p>
  * Забезпечує додавання, отримання, оновлення та видалення об'єктів Place
  * у базі даних за допомогою JDBC.</p>
+ * <p>Разом із місцем зберігаються нормалізовані за {@link SearchText} стовпці пошуку:
+ * {@code search_name} (назва) і {@code search_text} (назва, країна й епоха).</p>
  *
  * @author agors
  * @version 1.0
@@ -28,7 +31,8 @@ public class PlaceDaoImpl implements PlaceDao {
      */
     @Override
     public Place add(Place place) {
-        String sql = "INSERT INTO place (name, country, era, description, image_url) VALUES (?, ?, ?, ?, ?)";
+        String sql = "INSERT INTO place (name, country, era, description, image_url, search_name, search_text) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
         try (Connection conn = ConnectionManager.getConnection();
             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             stmt.setString(1, place.getName());
@@ -36,6 +40,8 @@ public class PlaceDaoImpl implements PlaceDao {
             stmt.setString(3, place.getEra());
             stmt.setString(4, place.getDescription());
             stmt.setString(5, place.getImageUrl());
+            stmt.setString(6, SearchText.fold(place.getName()));
+            stmt.setString(7, SearchText.fold(place.getName(), place.getCountry(), place.getEra()));
             stmt.executeUpdate();
             try (ResultSet keys = stmt.getGeneratedKeys()) {
                 if (keys.next()) {
@@ -70,6 +76,112 @@ public class PlaceDaoImpl implements PlaceDao {
         return places;
     }
 
+    /**
+     * Повертає наступну сторінку місць у порядку зростання id.
+     *
+     * @param afterId id останнього місця попередньої сторінки (0 — перша сторінка)
+     * @param limit   максимальна кількість місць на сторінці
+     * @return список об'єктів Place
+     * @throws RuntimeException у разі помилки доступу до БД
+     */
+    @Override
+    public List<Place> findPage(int afterId, int limit) {
+        List<Place> places = new ArrayList<>();
+        String sql = "SELECT id, name, country, era, description, image_url FROM place " +
+            "WHERE id > ? ORDER BY id OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY";
+        try (Connection conn = ConnectionManager.getConnection();
+            PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, afterId);
+            stmt.setInt(2, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    places.add(mapRowToPlace(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося завантажити сторінку місць після id=" + afterId, e);
+        }
+        return places;
+    }
+
+    /**
+     * Шукає місця за назвою, країною та епохою з ранжуванням у SQL.
+     * <p>
+     * Запит нормалізується тими самими правилами {@link SearchText}, що й клієнтський
+     * індекс, тож регістр і діакритика не впливають на збіг. Кожне слово запиту перевіряється
+     * умовою {@code search_text LIKE '%слово%'} за одним вузьким стовпцем: у PostgreSQL її
+     * обслуговує триграмний GIN-індекс, а SQL Server, який не має інфіксних індексів,
+     * переглядає компактний індекс {@code idx_place_search_text} замість усієї таблиці.
+     * Ранг обчислюється за збігом усього запиту з {@code search_name}. Порожній запит
+     * зводиться до {@link #findPage(int, int)}.
+     * </p>
+     *
+     * @param query рядок пошуку
+     * @param limit максимальна кількість результатів на сторінці
+     * @param after курсор останнього результату попередньої сторінки
+     * @return список результатів пошуку
+     * @throws RuntimeException у разі помилки доступу до БД
+     */
+    @Override
+    public List<SearchHit> search(String query, int limit, SearchCursor after) {
+        List<String> words = SearchText.tokenize(query);
+        List<SearchHit> hits = new ArrayList<>();
+        if (words.isEmpty()) {
+            for (Place p : findPage(after.id(), limit)) {
+                hits.add(new SearchHit(p, 0));
+            }
+            return hits;
+        }
+
+        StringBuilder where = new StringBuilder();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) where.append(" AND ");
+            where.append("search_text LIKE ? ESCAPE '!'");
+        }
+        String sql = "SELECT id, name, country, era, description, image_url, rnk FROM (" +
+            "SELECT id, name, country, era, description, image_url, " +
+            "CASE WHEN search_name = ? THEN 0 " +
+            "WHEN search_name LIKE ? ESCAPE '!' THEN 1 " +
+            "WHEN search_name LIKE ? ESCAPE '!' THEN 2 ELSE 3 END AS rnk " +
+            "FROM place WHERE " + where + ") p " +
+            "WHERE p.rnk > ? OR (p.rnk = ? AND p.id > ?) " +
+            "ORDER BY p.rnk, p.id OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY";
+
+        String phrase = String.join(" ", words);
+        try (Connection conn = ConnectionManager.getConnection();
+            PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int i = 1;
+            stmt.setString(i++, phrase);
+            stmt.setString(i++, escapeLike(phrase) + "%");
+            stmt.setString(i++, "%" + escapeLike(phrase) + "%");
+            for (String word : words) {
+                stmt.setString(i++, "%" + escapeLike(word) + "%");
+            }
+            stmt.setInt(i++, after.rank());
+            stmt.setInt(i++, after.rank());
+            stmt.setInt(i++, after.id());
+            stmt.setInt(i, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    hits.add(new SearchHit(mapRowToPlace(rs), rs.getInt("rnk")));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося виконати пошук місць: " + query, e);
+        }
+        return hits;
+    }
+
+    /**
+     * Екранує символи шаблону LIKE ({@code %}, {@code _}) та сам символ екранування {@code !}.
+     *
+     * @param value значення для пошуку
+     * @return екрановане значення
+     */
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
     /**
      * Знаходить місце за його унікальним ідентифікатором.
      *
@@ -102,7 +214,8 @@ public class PlaceDaoImpl implements PlaceDao {
      */
     @Override
     public void update(Place place) {
-        String sql = "UPDATE place SET name = ?, country = ?, era = ?, description = ?, image_url = ? WHERE id = ?";
+        String sql = "UPDATE place SET name = ?, country = ?, era = ?, description = ?, image_url = ?, "
+            + "search_name = ?, search_text = ? WHERE id = ?";
         try (Connection conn = ConnectionManager.getConnection();
             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, place.getName());
@@ -110,11 +223,14 @@ public class PlaceDaoImpl implements PlaceDao {
             stmt.setString(3, place.getEra());
             stmt.setString(4, place.getDescription());
             stmt.setString(5, place.getImageUrl());
-            stmt.setInt(6, place.getId());
+            stmt.setString(6, SearchText.fold(place.getName()));
+            stmt.setString(7, SearchText.fold(place.getName(), place.getCountry(), place.getEra()));
+            stmt.setInt(8, place.getId());
             stmt.executeUpdate();
         } catch (SQLException e) {
             throw new RuntimeException("Не вдалося оновити місце: " + place, e);
         }
+        FavoriteDaoImpl.clearPlacesCache();
     }
 
     /**
@@ -133,6 +249,7 @@ public class PlaceDaoImpl implements PlaceDao {
         } catch (SQLException e) {
             throw new RuntimeException("Не вдалося видалити місце з id=" + id, e);
         }
+        FavoriteDaoImpl.clearPlacesCache();
     }
 
     /**
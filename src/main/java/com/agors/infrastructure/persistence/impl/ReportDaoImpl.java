@@ -5,7 +5,11 @@ import com.agors.domain.enums.ReportType;
 import com.agors.infrastructure.persistence.contract.ReportDao;
 import com.agors.infrastructure.util.ConnectionManager;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.sql.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -29,13 +33,18 @@ public class ReportDaoImpl implements ReportDao {
      */
     @Override
     public Report add(Report report) {
-        String sql = "INSERT INTO report (type, generated_at, content) VALUES (?, ?, ?)";
+        String sql = "INSERT INTO report (type, generated_at, content, content_length) VALUES (?, ?, ?, ?)";
         try (Connection conn = ConnectionManager.getConnection();
             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
 
             stmt.setString(1, report.getType().name());
             stmt.setTimestamp(2, Timestamp.valueOf(report.getGeneratedAt()));
             stmt.setString(3, report.getContent());
+            if (report.getContent() != null) {
+                stmt.setLong(4, report.getContent().length());
+            } else {
+                stmt.setNull(4, Types.BIGINT);
+            }
             stmt.executeUpdate();
 
             try (ResultSet keys = stmt.getGeneratedKeys()) {
@@ -47,6 +56,42 @@ public class ReportDaoImpl implements ReportDao {
         } catch (SQLException e) {
             throw new RuntimeException("Не вдалося додати звіт: " + report, e);
         }
+        report.setContentLength(report.getContent() != null ? report.getContent().length() : -1);
+        return report;
+    }
+
+    /**
+     * Додає новий звіт до таблиці report, передаючи вміст через
+     * {@link PreparedStatement#setCharacterStream(int, Reader, long)}.
+     *
+     * @param report  об'єкт {@link Report} з типом і датою генерації
+     * @param content джерело вмісту звіту
+     * @param length  довжина вмісту в символах
+     * @return збережений об'єкт {@link Report} з встановленим ID
+     * @throws RuntimeException якщо виникає помилка при з'єднанні з базою або виконанні SQL-запиту
+     */
+    @Override
+    public Report add(Report report, Reader content, long length) {
+        String sql = "INSERT INTO report (type, generated_at, content, content_length) VALUES (?, ?, ?, ?)";
+        try (Connection conn = ConnectionManager.getConnection();
+            PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+            stmt.setString(1, report.getType().name());
+            stmt.setTimestamp(2, Timestamp.valueOf(report.getGeneratedAt()));
+            stmt.setCharacterStream(3, content, length);
+            stmt.setLong(4, length);
+            stmt.executeUpdate();
+
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                if (keys.next()) {
+                    report.setId(keys.getInt(1));
+                }
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося додати звіт: " + report, e);
+        }
+        report.setContentLength(length);
         return report;
     }
 
@@ -58,7 +103,7 @@ public class ReportDaoImpl implements ReportDao {
      */
     @Override
     public List<Report> findAll() {
-        String sql = "SELECT id, type, generated_at, content FROM report";
+        String sql = "SELECT id, type, generated_at, content, content_length FROM report";
         List<Report> list = new ArrayList<>();
         try (Connection conn = ConnectionManager.getConnection();
             PreparedStatement stmt = conn.prepareStatement(sql);
@@ -74,6 +119,155 @@ public class ReportDaoImpl implements ReportDao {
         return list;
     }
 
+    /**
+     * Повертає наступну сторінку звітів у порядку зростання id.
+     *
+     * @param afterId id останнього звіту попередньої сторінки (0 — перша сторінка)
+     * @param limit   максимальна кількість звітів на сторінці
+     * @return список об'єктів {@link Report}
+     * @throws RuntimeException якщо виникає помилка при з'єднанні з базою або виконанні SQL-запиту
+     */
+    @Override
+    public List<Report> findPage(int afterId, int limit) {
+        String sql = "SELECT id, type, generated_at, content, content_length FROM report " +
+            "WHERE id > ? ORDER BY id OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY";
+        List<Report> list = new ArrayList<>();
+        try (Connection conn = ConnectionManager.getConnection();
+            PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, afterId);
+            stmt.setInt(2, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    list.add(mapRowToReport(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося завантажити сторінку звітів після id=" + afterId, e);
+        }
+        return list;
+    }
+
+    /**
+     * Повертає сторінку заголовків звітів у порядку спадання id, не читаючи стовпець content.
+     *
+     * @param beforeId id останнього звіту попередньої сторінки ({@link Integer#MAX_VALUE} — перша сторінка)
+     * @param limit    максимальна кількість звітів на сторінці
+     * @return список об'єктів {@link Report} без вмісту
+     * @throws RuntimeException якщо виникає помилка при з'єднанні з базою або виконанні SQL-запиту
+     */
+    @Override
+    public List<Report> findHeaderPage(int beforeId, int limit) {
+        String sql = "SELECT id, type, generated_at, content_length FROM report " +
+            "WHERE id < ? ORDER BY id DESC OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY";
+        List<Report> list = new ArrayList<>();
+        try (Connection conn = ConnectionManager.getConnection();
+            PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, beforeId);
+            stmt.setInt(2, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Report report = new Report();
+                    report.setId(rs.getInt("id"));
+                    report.setType(ReportType.valueOf(rs.getString("type")));
+                    report.setGeneratedAt(rs.getTimestamp("generated_at").toLocalDateTime());
+                    report.setContentLength(readLength(rs));
+                    list.add(report);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося завантажити заголовки звітів перед id=" + beforeId, e);
+        }
+        return list;
+    }
+
+    /**
+     * Читає фрагмент вмісту звіту засобами SQL SUBSTRING, не передаючи решту вмісту клієнту.
+     *
+     * @param id     ідентифікатор звіту
+     * @param offset позиція першого символу фрагмента (з 0)
+     * @param length максимальна кількість символів
+     * @return фрагмент вмісту або порожній рядок
+     * @throws RuntimeException якщо виникає помилка при з'єднанні з базою або виконанні SQL-запиту
+     */
+    @Override
+    public String readContent(int id, int offset, int length) {
+        String sql = "SELECT SUBSTRING(content, ?, ?) FROM report WHERE id = ?";
+        try (Connection conn = ConnectionManager.getConnection();
+            PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, offset + 1);
+            stmt.setInt(2, length);
+            stmt.setInt(3, id);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    String text = rs.getString(1);
+                    return text != null ? text : "";
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося прочитати вміст звіту з id=" + id, e);
+        }
+        return "";
+    }
+
+    /**
+     * Передає вміст звіту обробнику через {@link ResultSet#getCharacterStream(String)}:
+     * драйвер читає стовпець content порціями, не збираючи його в один рядок.
+     *
+     * @param id       ідентифікатор звіту
+     * @param consumer обробник вмісту
+     * @throws RuntimeException якщо виникає помилка при з'єднанні з базою, виконанні SQL-запиту
+     *                          або обробці вмісту
+     */
+    @Override
+    public void streamContent(int id, ContentConsumer consumer) {
+        String sql = "SELECT content_length, content FROM report WHERE id = ?";
+        try (Connection conn = ConnectionManager.getConnection();
+            PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, id);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    long length = readLength(rs);
+                    try (Reader content = rs.getCharacterStream("content")) {
+                        consumer.accept(content != null ? content : Reader.nullReader(), length);
+                    }
+                }
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося прочитати вміст звіту з id=" + id, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не вдалося обробити вміст звіту з id=" + id, e);
+        }
+    }
+
+    /**
+     * Повертає час генерації останнього звіту заданого типу за індексом (type, generated_at).
+     *
+     * @param type тип звіту
+     * @return момент генерації або {@code null}, якщо звітів цього типу немає
+     * @throws RuntimeException якщо виникає помилка при з'єднанні з базою або виконанні SQL-запиту
+     */
+    @Override
+    public LocalDateTime findLatestGeneratedAt(ReportType type) {
+        String sql = "SELECT MAX(generated_at) FROM report WHERE type = ?";
+        try (Connection conn = ConnectionManager.getConnection();
+            PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, type.name());
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    Timestamp latest = rs.getTimestamp(1);
+                    return latest != null ? latest.toLocalDateTime() : null;
+                }
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося визначити час останнього звіту " + type, e);
+        }
+        return null;
+    }
+
     /**
      * Знаходить звіт за його ID.
      *
@@ -83,7 +277,7 @@ public class ReportDaoImpl implements ReportDao {
      */
     @Override
     public Report findById(int id) {
-        String sql = "SELECT id, type, generated_at, content FROM report WHERE id = ?";
+        String sql = "SELECT id, type, generated_at, content, content_length FROM report WHERE id = ?";
         try (Connection conn = ConnectionManager.getConnection();
             PreparedStatement stmt = conn.prepareStatement(sql)) {
 
@@ -133,6 +327,20 @@ public class ReportDaoImpl implements ReportDao {
         report.setType(ReportType.valueOf(rs.getString("type")));
         report.setGeneratedAt(rs.getTimestamp("generated_at").toLocalDateTime());
         report.setContent(rs.getString("content"));
+        long length = readLength(rs);
+        report.setContentLength(length >= 0 || report.getContent() == null ? length : report.getContent().length());
         return report;
     }
+
+    /**
+     * Читає збережену довжину вмісту; для звітів, створених до появи стовпця, повертає -1.
+     *
+     * @param rs результат SQL-запиту
+     * @return довжина вмісту або -1
+     * @throws SQLException якщо виникає помилка при читанні даних з ResultSet
+     */
+    private static long readLength(ResultSet rs) throws SQLException {
+        long length = rs.getLong("content_length");
+        return rs.wasNull() ? -1 : length;
+    }
 }
\ No newline at end of file
@@ -1,12 +1,18 @@
 package com.agors.infrastructure.persistence.impl;
 
+import com.agors.domain.entity.RatingSummary;
 import com.agors.domain.entity.Review;
 import com.agors.infrastructure.persistence.contract.ReviewDao;
 import com.agors.infrastructure.util.ConnectionManager;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Реалізація інтерфейсу {@link ReviewDao} для роботи з таблицею review.
@@ -14,34 +20,83 @@ import java.util.List;
  * Забезпечує додавання, оновлення, отримання та видалення відгуків
  * у базі даних за допомогою JDBC.
  * </p>
+ * Кожна зміна відгуку в тій самій транзакції оновлює зведений рейтинг
+ * місця в таблиці {@code place_rating_summary}. Час {@code created_at} під час додавання
+ * й редагування ставить сервер БД, тож інкрементні звіти не залежать від годинника клієнта.
  *
  * @author agors
  * @version 1.0
  */
 public class ReviewDaoImpl implements ReviewDao {
 
+    /**
+     * Максимальна кількість ідентифікаторів в одному IN-списку.
+     * SQL Server обмежує запит 2100 параметрами, тому великі набори діляться на частини.
+     */
+    private static final int IN_BATCH_SIZE = 1000;
+
+    /** Інкрементне оновлення зведеного рейтингу місця. */
+    private static final String APPLY_SUMMARY_DELTA = """
+        UPDATE place_rating_summary
+        SET review_count = review_count + ?,
+            rating_sum   = rating_sum + ?,
+            rating_1     = rating_1 + ?,
+            rating_2     = rating_2 + ?,
+            rating_3     = rating_3 + ?,
+            rating_4     = rating_4 + ?,
+            rating_5     = rating_5 + ?,
+            last_review_at = (SELECT MAX(created_at) FROM review WHERE place_id = ?)
+        WHERE place_id = ?
+        """;
+
+    /** Створення рядка зведеного рейтингу з поточного стану таблиці review (якщо рядка ще немає). */
+    private static final String INSERT_SUMMARY_FROM_REVIEWS = """
+        INSERT INTO place_rating_summary
+            (place_id, review_count, rating_sum, rating_1, rating_2, rating_3, rating_4, rating_5, last_review_at)
+        SELECT ?, COUNT(*), COALESCE(SUM(rating), 0),
+               COALESCE(SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END), 0),
+               COALESCE(SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END), 0),
+               COALESCE(SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END), 0),
+               COALESCE(SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END), 0),
+               COALESCE(SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END), 0),
+               MAX(created_at)
+        FROM review
+        WHERE place_id = ?
+        """;
+
     /**
      * Додає новий відгук у таблицю review.
      *
      * @param review об'єкт {@link Review}, який необхідно зберегти
-     * @return збережений об'єкт {@link Review} з присвоєним ID
+     * @return збережений об'єкт {@link Review} з присвоєним ID і часом створення від сервера БД
      * @throws RuntimeException якщо сталася помилка при з'єднанні або виконанні запиту
      */
     @Override
     public Review add(Review review) {
-        String sql = "INSERT INTO review (place_id, user_id, text, rating, created_at) VALUES (?, ?, ?, ?, ?)";
-        try (Connection conn = ConnectionManager.getConnection();
-            PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            stmt.setInt(1, review.getPlaceId());
-            stmt.setInt(2, review.getUserId());
-            stmt.setString(3, review.getText());
-            stmt.setInt(4, review.getRating());
-            stmt.setTimestamp(5, Timestamp.valueOf(review.getCreatedAt()));
-            stmt.executeUpdate();
-            try (ResultSet keys = stmt.getGeneratedKeys()) {
-                if (keys.next()) {
-                    review.setId(keys.getInt(1));
+        String sql = "INSERT INTO review (place_id, user_id, text, rating, created_at) VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)";
+        try (Connection conn = ConnectionManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                stmt.setInt(1, review.getPlaceId());
+                stmt.setInt(2, review.getUserId());
+                stmt.setString(3, review.getText());
+                stmt.setInt(4, review.getRating());
+                stmt.executeUpdate();
+                try (ResultSet keys = stmt.getGeneratedKeys()) {
+                    if (keys.next()) {
+                        review.setId(keys.getInt(1));
+                    }
                 }
+                refreshCreatedAt(conn, review);
+                int[] delta = new int[5];
+                delta[review.getRating() - 1] = 1;
+                applySummaryDelta(conn, review.getPlaceId(), 1, review.getRating(), delta);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
             }
         } catch (SQLException e) {
             throw new RuntimeException("Не вдалося додати відгук: " + review, e);
@@ -50,21 +105,36 @@ public class ReviewDaoImpl implements ReviewDao {
     }
 
     /**
-     * Оновлює наявний відгук у таблиці review.
+     * Оновлює наявний відгук у таблиці review; час відгуку переноситься на поточний час сервера БД.
      *
      * @param review об'єкт {@link Review} з оновленими даними
      * @throws RuntimeException якщо сталася помилка при з'єднанні або виконанні запиту
      */
     @Override
     public void update(Review review) {
-        String sql = "UPDATE review SET text = ?, rating = ?, created_at = ? WHERE id = ?";
-        try (Connection conn = ConnectionManager.getConnection();
-            PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, review.getText());
-            stmt.setInt(2, review.getRating());
-            stmt.setTimestamp(3, Timestamp.valueOf(review.getCreatedAt()));
-            stmt.setInt(4, review.getId());
-            stmt.executeUpdate();
+        String sql = "UPDATE review SET text = ?, rating = ?, created_at = CURRENT_TIMESTAMP WHERE id = ?";
+        try (Connection conn = ConnectionManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int[] old = findPlaceAndRating(conn, review.getId());
+                stmt.setString(1, review.getText());
+                stmt.setInt(2, review.getRating());
+                stmt.setInt(3, review.getId());
+                stmt.executeUpdate();
+                refreshCreatedAt(conn, review);
+                if (old != null) {
+                    int[] delta = new int[5];
+                    delta[old[1] - 1]--;
+                    delta[review.getRating() - 1]++;
+                    applySummaryDelta(conn, old[0], 0, review.getRating() - old[1], delta);
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
         } catch (SQLException e) {
             throw new RuntimeException("Не вдалося оновити відгук: " + review, e);
         }
@@ -95,6 +165,67 @@ public class ReviewDaoImpl implements ReviewDao {
         return list;
     }
 
+    /**
+     * Повертає список відгуків для місця разом з іменами авторів одним запитом.
+     *
+     * @param placeId ID місця
+     * @return список {@link Review} із заповненим ім'ям автора
+     * @throws RuntimeException якщо сталася помилка при з'єднанні або виконанні запиту
+     */
+    @Override
+    public List<Review> findByPlaceWithAuthors(int placeId) {
+        String sql = "SELECT r.id, r.place_id, r.user_id, r.text, r.rating, r.created_at, u.username " +
+            "FROM review r LEFT JOIN users u ON u.id = r.user_id WHERE r.place_id = ?";
+        List<Review> list = new ArrayList<>();
+        try (Connection conn = ConnectionManager.getConnection();
+            PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, placeId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Review r = mapRowToReview(rs);
+                    r.setUsername(rs.getString("username"));
+                    list.add(r);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося отримати відгуки з авторами для місця: " + placeId, e);
+        }
+        return list;
+    }
+
+    /**
+     * Повертає наступну сторінку відгуків для місця разом з іменами авторів.
+     *
+     * @param placeId ID місця
+     * @param afterId id останнього відгуку попередньої сторінки (0 — перша сторінка)
+     * @param limit   максимальна кількість відгуків на сторінці
+     * @return список {@link Review} із заповненим ім'ям автора
+     * @throws RuntimeException якщо сталася помилка при з'єднанні або виконанні запиту
+     */
+    @Override
+    public List<Review> findPageByPlaceWithAuthors(int placeId, int afterId, int limit) {
+        String sql = "SELECT r.id, r.place_id, r.user_id, r.text, r.rating, r.created_at, u.username " +
+            "FROM review r LEFT JOIN users u ON u.id = r.user_id " +
+            "WHERE r.place_id = ? AND r.id > ? ORDER BY r.id OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY";
+        List<Review> list = new ArrayList<>();
+        try (Connection conn = ConnectionManager.getConnection();
+            PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, placeId);
+            stmt.setInt(2, afterId);
+            stmt.setInt(3, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Review r = mapRowToReview(rs);
+                    r.setUsername(rs.getString("username"));
+                    list.add(r);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося отримати сторінку відгуків для місця: " + placeId, e);
+        }
+        return list;
+    }
+
     /**
      * Повертає список відгуків, залишених користувачем.
      *
@@ -120,6 +251,56 @@ public class ReviewDaoImpl implements ReviewDao {
         return list;
     }
 
+    /**
+     * Повертає агреговані рейтинги для набору місць з таблиці {@code place_rating_summary}.
+     * <p>
+     * Кожне місце читається за первинним ключем, без звернення до таблиці review.
+     * Для більш ніж {@value #IN_BATCH_SIZE} місць запит виконується частинами
+     * через ліміт параметрів драйвера.
+     * </p>
+     *
+     * @param placeIds ідентифікатори місць
+     * @return мапа: ідентифікатор місця → {@link RatingSummary}; для місць без відгуків — порожній рейтинг
+     * @throws RuntimeException якщо сталася помилка при з'єднанні або виконанні запиту
+     */
+    @Override
+    public Map<Integer, RatingSummary> ratingSummaries(Collection<Integer> placeIds) {
+        Map<Integer, RatingSummary> result = new HashMap<>();
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(placeIds));
+        for (Integer id : ids) {
+            result.put(id, RatingSummary.empty(id));
+        }
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        try (Connection conn = ConnectionManager.getConnection()) {
+            for (int from = 0; from < ids.size(); from += IN_BATCH_SIZE) {
+                List<Integer> batch = ids.subList(from, Math.min(from + IN_BATCH_SIZE, ids.size()));
+                String sql = """
+                    SELECT place_id, review_count, rating_sum,
+                           rating_1, rating_2, rating_3, rating_4, rating_5, last_review_at
+                    FROM place_rating_summary
+                    WHERE place_id IN (%s)
+                    """.formatted(String.join(", ", Collections.nCopies(batch.size(), "?")));
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < batch.size(); i++) {
+                        stmt.setInt(i + 1, batch.get(i));
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            RatingSummary summary = mapRowToSummary(rs);
+                            result.put(summary.getPlaceId(), summary);
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося отримати рейтинги місць: " + placeIds, e);
+        }
+        return result;
+    }
+
     /**
      * Видаляє відгук за його ID.
      *
@@ -129,10 +310,24 @@ public class ReviewDaoImpl implements ReviewDao {
     @Override
     public void remove(int reviewId) {
         String sql = "DELETE FROM review WHERE id = ?";
-        try (Connection conn = ConnectionManager.getConnection();
-            PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, reviewId);
-            stmt.executeUpdate();
+        try (Connection conn = ConnectionManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int[] old = findPlaceAndRating(conn, reviewId);
+                stmt.setInt(1, reviewId);
+                stmt.executeUpdate();
+                if (old != null) {
+                    int[] delta = new int[5];
+                    delta[old[1] - 1] = -1;
+                    applySummaryDelta(conn, old[0], -1, -old[1], delta);
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
         } catch (SQLException e) {
             throw new RuntimeException("Не вдалося видалити відгук з id=" + reviewId, e);
         }
@@ -155,4 +350,174 @@ public class ReviewDaoImpl implements ReviewDao {
         r.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
         return r;
     }
+
+    /**
+     * Перетворює рядок таблиці {@code place_rating_summary} у об'єкт {@link RatingSummary}.
+     *
+     * @param rs результат SQL-запиту з полями place_id, review_count, rating_sum, rating_1..rating_5, last_review_at
+     * @return заповнений об'єкт {@link RatingSummary}
+     * @throws SQLException якщо сталася помилка під час зчитування з ResultSet
+     */
+    private RatingSummary mapRowToSummary(ResultSet rs) throws SQLException {
+        RatingSummary summary = new RatingSummary();
+        summary.setPlaceId(rs.getInt("place_id"));
+        summary.setCount(rs.getInt("review_count"));
+        summary.setSum(rs.getLong("rating_sum"));
+        for (int rating = 1; rating <= 5; rating++) {
+            summary.setRatingCount(rating, rs.getInt("rating_" + rating));
+        }
+        Timestamp last = rs.getTimestamp("last_review_at");
+        summary.setLastReviewAt(last != null ? last.toLocalDateTime() : null);
+        return summary;
+    }
+
+    /**
+     * Переносить у відгук час {@code created_at}, поставлений сервером БД.
+     *
+     * @param conn   з'єднання поточної транзакції
+     * @param review щойно збережений відгук
+     * @throws SQLException у разі помилки виконання запиту
+     */
+    private void refreshCreatedAt(Connection conn, Review review) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT created_at FROM review WHERE id = ?")) {
+            stmt.setInt(1, review.getId());
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    review.setCreatedAt(rs.getTimestamp(1).toLocalDateTime());
+                }
+            }
+        }
+    }
+
+    /**
+     * Повертає місце та оцінку відгуку до його зміни.
+     *
+     * @param conn     з'єднання поточної транзакції
+     * @param reviewId ID відгуку
+     * @return масив {placeId, rating} або null, якщо відгук не знайдено
+     * @throws SQLException у разі помилки виконання запиту
+     */
+    private int[] findPlaceAndRating(Connection conn, int reviewId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT place_id, rating FROM review WHERE id = ?")) {
+            stmt.setInt(1, reviewId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? new int[]{rs.getInt("place_id"), rs.getInt("rating")} : null;
+            }
+        }
+    }
+
+    /**
+     * Застосовує зміну до зведеного рейтингу місця в межах поточної транзакції.
+     * <p>
+     * Якщо рядка для місця ще немає, він створюється з поточного стану таблиці review,
+     * яка на цей момент вже містить зміну. Якщо той самий рядок одночасно створила інша
+     * транзакція (перші відгуки до місця), вставка відкочується до точки збереження
+     * з порушенням первинного ключа, і зміна застосовується до вже створеного рядка.
+     * </p>
+     *
+     * @param conn       з'єднання поточної транзакції
+     * @param placeId    ID місця
+     * @param countDelta зміна кількості відгуків
+     * @param sumDelta   зміна суми оцінок
+     * @param histDelta  зміна кількості оцінок 1..5
+     * @throws SQLException у разі помилки виконання запиту
+     */
+    private void applySummaryDelta(Connection conn, int placeId, int countDelta, int sumDelta, int[] histDelta)
+        throws SQLException {
+        if (updateSummary(conn, placeId, countDelta, sumDelta, histDelta) > 0) {
+            return;
+        }
+        Savepoint savepoint = conn.setSavepoint();
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_SUMMARY_FROM_REVIEWS)) {
+            stmt.setInt(1, placeId);
+            stmt.setInt(2, placeId);
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            if (!isDuplicateKey(e)) throw e;
+            conn.rollback(savepoint);
+            updateSummary(conn, placeId, countDelta, sumDelta, histDelta);
+        }
+    }
+
+    /**
+     * Додає зміну до наявного рядка зведеного рейтингу.
+     *
+     * @param conn       з'єднання поточної транзакції
+     * @param placeId    ID місця
+     * @param countDelta зміна кількості відгуків
+     * @param sumDelta   зміна суми оцінок
+     * @param histDelta  зміна кількості оцінок 1..5
+     * @return кількість оновлених рядків (0, якщо рядка для місця ще немає)
+     * @throws SQLException у разі помилки виконання запиту
+     */
+    private static int updateSummary(Connection conn, int placeId, int countDelta, int sumDelta, int[] histDelta)
+        throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(APPLY_SUMMARY_DELTA)) {
+            stmt.setInt(1, countDelta);
+            stmt.setInt(2, sumDelta);
+            for (int i = 0; i < 5; i++) {
+                stmt.setInt(3 + i, histDelta[i]);
+            }
+            stmt.setInt(8, placeId);
+            stmt.setInt(9, placeId);
+            return stmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Видаляє всі відгуки користувача й віднімає їх від зведених рейтингів місць
+     * у транзакції виклику (наприклад, перед видаленням самого користувача, щоб каскадне
+     * видалення відгуків не лишило рейтинги завищеними).
+     *
+     * @param conn   з'єднання поточної транзакції
+     * @param userId ID користувача
+     * @throws SQLException у разі помилки виконання запиту
+     */
+    static void removeAllByUser(Connection conn, int userId) throws SQLException {
+        String select = """
+            SELECT place_id, COUNT(*), SUM(rating),
+                   SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END)
+            FROM review
+            WHERE user_id = ?
+            GROUP BY place_id
+            """;
+        Map<Integer, int[]> byPlace = new HashMap<>();
+        try (PreparedStatement stmt = conn.prepareStatement(select)) {
+            stmt.setInt(1, userId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int[] totals = new int[7];
+                    for (int i = 0; i < totals.length; i++) {
+                        totals[i] = rs.getInt(2 + i);
+                    }
+                    byPlace.put(rs.getInt(1), totals);
+                }
+            }
+        }
+        try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM review WHERE user_id = ?")) {
+            stmt.setInt(1, userId);
+            stmt.executeUpdate();
+        }
+        for (Map.Entry<Integer, int[]> e : byPlace.entrySet()) {
+            int[] t = e.getValue();
+            int[] histDelta = {-t[2], -t[3], -t[4], -t[5], -t[6]};
+            updateSummary(conn, e.getKey(), -t[0], -t[1], histDelta);
+        }
+    }
+
+    /**
+     * Перевіряє, чи помилка — порушення унікального чи первинного ключа:
+     * SQLSTATE 23505 у PostgreSQL, помилки 2627 і 2601 у SQL Server.
+     * Інші порушення обмежень (зовнішній ключ, NOT NULL, CHECK) сюди не потрапляють.
+     *
+     * @param e помилка SQL
+     * @return true для порушення унікального чи первинного ключа
+     */
+    private static boolean isDuplicateKey(SQLException e) {
+        return "23505".equals(e.getSQLState()) || e.getErrorCode() == 2627 || e.getErrorCode() == 2601;
+    }
 }
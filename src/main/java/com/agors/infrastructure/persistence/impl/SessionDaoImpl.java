@@ -1,18 +1,30 @@
 package com.agors.infrastructure.persistence.impl;
 
 import com.agors.domain.entity.User;
-import com.agors.infrastructure.util.ConnectionHolder;
 import com.agors.infrastructure.util.ConnectionManager;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
- * DAO-клас для роботи з таблицею <code>user_session</code>, яка зберігає інформацію про активні сесії користувачів.
- * <p>Забезпечує створення, деактивацію, видалення сесій, а також пошук користувача за активною сесією.</p>
+ * DAO-клас для роботи з таблицею <code>user_session</code>, яка зберігає інформацію про сесії користувачів.
+ * <p>Забезпечує створення, продовження, деактивацію та видалення сесій, пошук користувача
+ * за токеном сесії, а також видалення давно завершених сесій порціями.</p>
+ * <p>Сесія шукається лише за унікальним (а отже, індексованим) {@code session_token} і вважається
+ * чинною, поки вона активна й {@code expires_at} не настав; завершені рядки вибираються
+ * за індексом {@code expires_at}. Усі моменти часу беруться з годинника сервера БД, тож
+ * розбіжність годинників клієнтів не впливає на чинність чужих сесій.</p>
+ * <p>Рядки сесій є також журналом входів для звітів USER_ACTIVITY і SYSTEM_LOG, тому вихід
+ * лише деактивує сесію, а видаляються тільки сесії, що завершилися понад заданий строк тому.</p>
  *
  * @author agors
  * @version 1.0
@@ -20,76 +32,64 @@ import java.util.Optional;
 public class SessionDaoImpl {
 
     private static final String INSERT_SESSION = """
-        INSERT INTO user_session (user_id, session_token, is_active)
-        VALUES (?, ?, 1)
+        INSERT INTO user_session (user_id, session_token, is_active, expires_at)
+        VALUES (?, ?, 1, ?)
+        """;
+
+    private static final String SELECT_USER_BY_TOKEN = """
+        SELECT u.id, u.username, u.email, u.password, u.role
+        FROM user_session s
+        JOIN users u ON u.id = s.user_id
+        WHERE s.session_token = ? AND s.is_active = 1 AND s.expires_at > CURRENT_TIMESTAMP
         """;
 
     /**
      * Створює новий запис у таблиці <code>user_session</code> для заданого користувача.
      *
-     * @param userId ідентифікатор користувача
+     * @param userId    ідентифікатор користувача
      * @param token  токен сесії (може бути UUID або JWT)
+     * @param ttl    тривалість сесії від поточного часу сервера БД
      * @throws RuntimeException у разі помилки SQL або з'єднання
      */
-    public void createSession(int userId, String token) {
-        try {
-            Connection conn = ConnectionManager.getConnection();
-            ConnectionHolder.setConnection(conn);
-            try (PreparedStatement ps = conn.prepareStatement(INSERT_SESSION)) {
-                ps.setInt(1, userId);
-                ps.setString(2, token);
-                ps.executeUpdate();
-            }
+    public void createSession(int userId, String token, Duration ttl) {
+        try (Connection conn = ConnectionManager.getConnection()) {
+            createSession(conn, userId, token, ttl);
         } catch (SQLException e) {
             throw new RuntimeException("Помилка створення сесії", e);
-        } finally {
-            ConnectionHolder.clearConnection();
         }
     }
 
     /**
-     * Деактивує всі активні сесії для заданого користувача.
+     * Створює сесію в межах наданого з'єднання (наприклад, у транзакції входу).
      *
+     * @param conn   з'єднання з базою даних
      * @param userId ідентифікатор користувача
-     * @throws RuntimeException у разі помилки SQL або з'єднання
+     * @param token  токен сесії
+     * @param ttl    тривалість сесії від поточного часу сервера БД
+     * @throws SQLException у разі помилки SQL
      */
-    public void deactivateByUserId(int userId) {
-        String sql = "UPDATE user_session SET is_active = 0 WHERE user_id = ?";
-        try {
-            Connection conn = ConnectionManager.getConnection();
-            ConnectionHolder.setConnection(conn);
-            try (PreparedStatement ps = conn.prepareStatement(sql)) {
-                ps.setInt(1, userId);
-                ps.executeUpdate();
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Помилка завершення сесії", e);
-        } finally {
-            ConnectionHolder.clearConnection();
+    public void createSession(Connection conn, int userId, String token, Duration ttl) throws SQLException {
+        LocalDateTime expiresAt = databaseNow(conn).plus(ttl);
+        try (PreparedStatement ps = conn.prepareStatement(INSERT_SESSION)) {
+            ps.setInt(1, userId);
+            ps.setString(2, token);
+            ps.setTimestamp(3, Timestamp.valueOf(expiresAt));
+            ps.executeUpdate();
         }
     }
 
     /**
-     * Повертає користувача з найновішою активною сесією (якщо така є).
+     * Повертає користувача чинної сесії з заданим токеном.
      *
-     * @return {@link Optional} з користувачем, якщо активна сесія знайдена
+     * @param token токен сесії
+     * @return {@link Optional} з користувачем, якщо сесія чинна
      * @throws RuntimeException у разі помилки SQL або з'єднання
      */
-    public Optional<User> findUserByActiveSession() {
-        String sql = """
-            SELECT TOP 1 u.id, u.username, u.email, u.password, u.role
-            FROM users u
-            JOIN user_session s ON s.user_id = u.id
-            WHERE s.is_active = 1
-            ORDER BY s.login_time DESC
-        """;
-
-        try {
-            Connection conn = ConnectionManager.getConnection();
-            ConnectionHolder.setConnection(conn);
-            try (PreparedStatement ps = conn.prepareStatement(sql);
-                ResultSet rs = ps.executeQuery()) {
-
+    public Optional<User> findUserByToken(String token) {
+        try (Connection conn = ConnectionManager.getConnection();
+            PreparedStatement ps = conn.prepareStatement(SELECT_USER_BY_TOKEN)) {
+            ps.setString(1, token);
+            try (ResultSet rs = ps.executeQuery()) {
                 if (rs.next()) {
                     User u = new User();
                     u.setId(rs.getInt("id"));
@@ -101,14 +101,70 @@ public class SessionDaoImpl {
                 }
             }
         } catch (SQLException e) {
-            throw new RuntimeException("Помилка пошуку активної сесії", e);
-        } finally {
-            ConnectionHolder.clearConnection();
+            throw new RuntimeException("Помилка пошуку сесії за токеном", e);
         }
-
         return Optional.empty();
     }
 
+    /**
+     * Переносить момент завершення активної сесії (ковзне продовження).
+     *
+     * @param token токен сесії
+     * @param ttl   тривалість сесії від поточного часу сервера БД
+     * @return true, якщо сесію знайдено й продовжено
+     * @throws RuntimeException у разі помилки SQL або з'єднання
+     */
+    public boolean extendSession(String token, Duration ttl) {
+        String sql = "UPDATE user_session SET expires_at = ? WHERE session_token = ? AND is_active = 1";
+        try (Connection conn = ConnectionManager.getConnection()) {
+            LocalDateTime expiresAt = databaseNow(conn).plus(ttl);
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setTimestamp(1, Timestamp.valueOf(expiresAt));
+                ps.setString(2, token);
+                return ps.executeUpdate() == 1;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Помилка продовження сесії", e);
+        }
+    }
+
+    /**
+     * Деактивує всі активні сесії для заданого користувача. Деактивовані сесії одразу
+     * вважаються завершеними, але лишаються в журналі входів до
+     * {@link #purgeExpired(Duration, int)}.
+     *
+     * @param userId ідентифікатор користувача
+     * @throws RuntimeException у разі помилки SQL або з'єднання
+     */
+    public void deactivateByUserId(int userId) {
+        String sql = "UPDATE user_session SET is_active = 0, expires_at = CURRENT_TIMESTAMP WHERE user_id = ? AND is_active = 1";
+        try (Connection conn = ConnectionManager.getConnection();
+            PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, userId);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException("Помилка завершення сесії", e);
+        }
+    }
+
+    /**
+     * Деактивує сесію з заданим токеном (вихід лише на цьому пристрої).
+     * Рядок лишається в журналі входів до {@link #purgeExpired(Duration, int)}.
+     *
+     * @param token токен сесії
+     * @throws RuntimeException у разі помилки SQL або з'єднання
+     */
+    public void deactivateByToken(String token) {
+        String sql = "UPDATE user_session SET is_active = 0, expires_at = CURRENT_TIMESTAMP WHERE session_token = ? AND is_active = 1";
+        try (Connection conn = ConnectionManager.getConnection();
+            PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, token);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException("Помилка завершення сесії", e);
+        }
+    }
+
     /**
      * Видаляє всі сесії користувача з таблиці <code>user_session</code>.
      *
@@ -117,17 +173,79 @@ public class SessionDaoImpl {
      */
     public void deleteByUserId(int userId) {
         String sql = "DELETE FROM user_session WHERE user_id = ?";
-        try {
-            Connection conn = ConnectionManager.getConnection();
-            ConnectionHolder.setConnection(conn);
-            try (PreparedStatement ps = conn.prepareStatement(sql)) {
-                ps.setInt(1, userId);
-                ps.executeUpdate();
-            }
+        try (Connection conn = ConnectionManager.getConnection();
+            PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, userId);
+            ps.executeUpdate();
         } catch (SQLException e) {
             throw new RuntimeException("Помилка видалення сесії", e);
-        } finally {
-            ConnectionHolder.clearConnection();
+        }
+    }
+
+    /**
+     * Видаляє одну порцію сесій, що завершилися понад {@code retention} тому, в одній транзакції:
+     * вибирає до {@code batchSize} ідентифікаторів за індексом {@code expires_at} і видаляє їх
+     * пакетним запитом. Вхід сесії не пізніший за її завершення, тож входи за останні
+     * {@code retention} лишаються в журналі.
+     *
+     * @param retention скільки зберігати завершені сесії, від поточного часу сервера БД
+     * @param batchSize максимальна кількість рядків у порції
+     * @return кількість видалених сесій; менше за {@code batchSize}, якщо таких більше немає
+     * @throws RuntimeException у разі помилки SQL або з'єднання
+     */
+    public int purgeExpired(Duration retention, int batchSize) {
+        String select = "SELECT id FROM user_session WHERE expires_at <= ?";
+        String delete = "DELETE FROM user_session WHERE id = ?";
+        try (Connection conn = ConnectionManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                LocalDateTime cutoff = databaseNow(conn).minus(retention);
+                List<Integer> ids = new ArrayList<>();
+                try (PreparedStatement ps = conn.prepareStatement(select)) {
+                    ps.setMaxRows(batchSize);
+                    ps.setTimestamp(1, Timestamp.valueOf(cutoff));
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            ids.add(rs.getInt(1));
+                        }
+                    }
+                }
+                if (!ids.isEmpty()) {
+                    try (PreparedStatement ps = conn.prepareStatement(delete)) {
+                        for (int id : ids) {
+                            ps.setInt(1, id);
+                            ps.addBatch();
+                        }
+                        ps.executeBatch();
+                    }
+                }
+                conn.commit();
+                return ids.size();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Помилка видалення завершених сесій", e);
+        }
+    }
+
+    /**
+     * Повертає поточний час сервера БД з точністю до мілісекунд.
+     *
+     * @param conn з'єднання з базою даних
+     * @return поточний час сервера
+     * @throws SQLException у разі помилки запиту
+     */
+    private static LocalDateTime databaseNow(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT CURRENT_TIMESTAMP");
+            ResultSet rs = ps.executeQuery()) {
+            if (!rs.next()) {
+                throw new SQLException("Сервер БД не повернув поточний час");
+            }
+            return rs.getTimestamp(1).toLocalDateTime().truncatedTo(ChronoUnit.MILLIS);
         }
     }
 }
@@ -7,6 +7,7 @@ import com.agors.infrastructure.util.ConnectionManager;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 /**
  * Реалізація інтерфейсу UserDao для роботи з таблицею users.
@@ -19,6 +20,9 @@ import java.util.List;
  */
 public class UserDaoImpl implements UserDao {
 
+    /** Кількість рядків, що драйвер читає за один запит під час читання курсором. */
+    private static final int FETCH_SIZE = 1000;
+
     /**
      * Додає нового користувача до таблиці users.
      *
@@ -78,9 +82,25 @@ public class UserDaoImpl implements UserDao {
      */
     @Override
     public User getByUsernameOrEmail(String loginOrEmail) {
+        try (Connection conn = ConnectionManager.getConnection()) {
+            return getByUsernameOrEmail(conn, loginOrEmail);
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося знайти користувача за логіном/email=" + loginOrEmail, e);
+        }
+    }
+
+    /**
+     * Шукає користувача за логіном або електронною поштою в межах наданого з'єднання
+     * (наприклад, у транзакції входу).
+     *
+     * @param conn         з'єднання з базою даних
+     * @param loginOrEmail логін або email користувача
+     * @return знайдений об'єкт User або null, якщо не знайдено
+     * @throws SQLException у разі помилки доступу до БД
+     */
+    public User getByUsernameOrEmail(Connection conn, String loginOrEmail) throws SQLException {
         String sql = "SELECT * FROM users WHERE username = ? OR email = ?";
-        try (Connection conn = ConnectionManager.getConnection();
-            PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, loginOrEmail);
             stmt.setString(2, loginOrEmail);
             try (ResultSet rs = stmt.executeQuery()) {
@@ -88,8 +108,6 @@ public class UserDaoImpl implements UserDao {
                     return mapRowToUser(rs);
                 }
             }
-        } catch (SQLException e) {
-            throw new RuntimeException("Не вдалося знайти користувача за логіном/email=" + loginOrEmail, e);
         }
         return null;
     }
@@ -116,6 +134,33 @@ public class UserDaoImpl implements UserDao {
         return users;
     }
 
+    /**
+     * Повертає наступну сторінку користувачів у порядку зростання id.
+     *
+     * @param afterId id останнього користувача попередньої сторінки (0 — перша сторінка)
+     * @param limit   максимальна кількість користувачів на сторінці
+     * @return список об'єктів User
+     * @throws RuntimeException у разі помилки доступу до БД
+     */
+    @Override
+    public List<User> findPage(int afterId, int limit) {
+        String sql = "SELECT * FROM users WHERE id > ? ORDER BY id OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY";
+        List<User> users = new ArrayList<>();
+        try (Connection conn = ConnectionManager.getConnection();
+            PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, afterId);
+            stmt.setInt(2, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    users.add(mapRowToUser(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося завантажити сторінку користувачів після id=" + afterId, e);
+        }
+        return users;
+    }
+
     /**
      * Оновлює дані існуючого користувача.
      *
@@ -139,7 +184,46 @@ public class UserDaoImpl implements UserDao {
     }
 
     /**
-     * Видаляє користувача за його унікальним ідентифікатором.
+     * Замінює хеш пароля, лише якщо в базі досі збережено очікуваний хеш.
+     *
+     * @param id           ідентифікатор користувача
+     * @param expectedHash хеш, що має бути збережений зараз
+     * @param newHash      новий хеш
+     * @return true, якщо хеш замінено
+     * @throws RuntimeException у разі помилки доступу до БД
+     */
+    @Override
+    public boolean updatePasswordHash(int id, String expectedHash, String newHash) {
+        try (Connection conn = ConnectionManager.getConnection()) {
+            return updatePasswordHash(conn, id, expectedHash, newHash);
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося оновити хеш пароля користувача з id=" + id, e);
+        }
+    }
+
+    /**
+     * Замінює хеш пароля в межах наданого з'єднання, лише якщо в базі досі збережено очікуваний хеш.
+     *
+     * @param conn         з'єднання з базою даних
+     * @param id           ідентифікатор користувача
+     * @param expectedHash хеш, що має бути збережений зараз
+     * @param newHash      новий хеш
+     * @return true, якщо хеш замінено
+     * @throws SQLException у разі помилки доступу до БД
+     */
+    public boolean updatePasswordHash(Connection conn, int id, String expectedHash, String newHash) throws SQLException {
+        String sql = "UPDATE users SET password = ? WHERE id = ? AND password = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, newHash);
+            stmt.setInt(2, id);
+            stmt.setString(3, expectedHash);
+            return stmt.executeUpdate() == 1;
+        }
+    }
+
+    /**
+     * Видаляє користувача за його унікальним ідентифікатором. Відгуки користувача видаляються
+     * в тій самій транзакції разом із їхнім внеском у зведені рейтинги місць.
      *
      * @param id унікальний ідентифікатор користувача
      * @throws RuntimeException у разі помилки доступу до БД
@@ -147,10 +231,19 @@ public class UserDaoImpl implements UserDao {
     @Override
     public void deleteUser(int id) {
         String sql = "DELETE FROM users WHERE id = ?";
-        try (Connection conn = ConnectionManager.getConnection();
-            PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, id);
-            stmt.executeUpdate();
+        try (Connection conn = ConnectionManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                ReviewDaoImpl.removeAllByUser(conn, id);
+                stmt.setInt(1, id);
+                stmt.executeUpdate();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
         } catch (SQLException e) {
             throw new RuntimeException("Не вдалося видалити користувача з id=" + id, e);
         }
@@ -173,6 +266,92 @@ public class UserDaoImpl implements UserDao {
         return user;
     }
 
+    /**
+     * Перевіряє зайнятість логіна та email одним запитом. Умова {@code username = ? OR email = ?}
+     * обслуговується індексами обох полів і повертає не більше двох рядків, а порівняння
+     * виконує база з власними правилами порівняння рядків.
+     *
+     * @param username логін для перевірки
+     * @param email    email для перевірки
+     * @return які з двох значень уже зайняті
+     * @throws RuntimeException у разі помилки доступу до бази даних
+     */
+    @Override
+    public Taken findTaken(String username, String email) {
+        String sql = "SELECT CASE WHEN username = ? THEN 1 ELSE 0 END, CASE WHEN email = ? THEN 1 ELSE 0 END "
+            + "FROM users WHERE username = ? OR email = ?";
+        try (Connection conn = ConnectionManager.getConnection();
+            PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, username);
+            stmt.setString(2, email);
+            stmt.setString(3, username);
+            stmt.setString(4, email);
+            boolean usernameTaken = false;
+            boolean emailTaken = false;
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    usernameTaken |= rs.getInt(1) == 1;
+                    emailTaken |= rs.getInt(2) == 1;
+                }
+            }
+            return new Taken(usernameTaken, emailTaken);
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося перевірити логін/email: " + username + ", " + email, e);
+        }
+    }
+
+    /**
+     * Повертає кількість користувачів.
+     *
+     * @return кількість рядків у таблиці users
+     * @throws RuntimeException у разі помилки доступу до бази даних
+     */
+    @Override
+    public int countUsers() {
+        String sql = "SELECT COUNT(*) FROM users";
+        try (Connection conn = ConnectionManager.getConnection();
+            Statement stmt = conn.createStatement();
+            ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося порахувати користувачів", e);
+        }
+    }
+
+    /**
+     * Передає логін і email кожного користувача, читаючи таблицю курсором
+     * порціями по {@value #FETCH_SIZE} рядків. Читання виконується в транзакції, бо драйвер
+     * PostgreSQL враховує розмір порції лише поза автокомітом, інакше завантажує весь результат.
+     * Драйвер SQL Server і з автокомітом читає результат потоково (адаптивна буферизація),
+     * тож для нього транзакція нічого не змінює.
+     *
+     * @param consumer отримувач пари (логін, email)
+     * @throws RuntimeException у разі помилки доступу до бази даних
+     */
+    @Override
+    public void forEachUsernameAndEmail(BiConsumer<String, String> consumer) {
+        String sql = "SELECT username, email FROM users";
+        try (Connection conn = ConnectionManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.setFetchSize(FETCH_SIZE);
+                try (ResultSet rs = stmt.executeQuery(sql)) {
+                    while (rs.next()) {
+                        consumer.accept(rs.getString(1), rs.getString(2));
+                    }
+                }
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося прочитати логіни та email користувачів", e);
+        }
+    }
+
     /**
      * Перевіряє, чи існує користувач з вказаним іменем користувача в таблиці users.
      *
@@ -180,6 +359,7 @@ public class UserDaoImpl implements UserDao {
      * @return {@code true}, якщо користувач з таким іменем існує; {@code false} — інакше
      * @throws RuntimeException у разі помилки доступу до бази даних
      */
+    @Override
     public boolean existsByUsername(String username) {
         String sql = "SELECT 1 FROM users WHERE username = ?";
         try (Connection conn = ConnectionManager.getConnection();
@@ -200,6 +380,7 @@ public class UserDaoImpl implements UserDao {
      * @return {@code true}, якщо користувач з такою поштою існує; {@code false} — інакше
      * @throws RuntimeException у разі помилки доступу до бази даних
      */
+    @Override
     public boolean existsByEmail(String email) {
         String sql = "SELECT 1 FROM users WHERE email = ?";
         try (Connection conn = ConnectionManager.getConnection();
@@ -0,0 +1,348 @@
+package com.agors.infrastructure.persistence.pool;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Пул JDBC-з'єднань з динамічним розміром.
+ * <p>
+ * Можливості:
+ * <ul>
+ *     <li>розмір від {@code min} до {@code max}: нові з'єднання відкриваються за потреби,
+ *         зайві закриваються після простою;</li>
+ *     <li>тайм-аут очікування вільного з'єднання замість нескінченного блокування;</li>
+ *     <li>перевірка {@link Connection#isValid(int)} при видачі після простою та у фоні;</li>
+ *     <li>обмеження максимального віку фізичного з'єднання;</li>
+ *     <li>виявлення витоків — з'єднань, не повернених довше за поріг;</li>
+ *     <li>статистика ({@link PoolStats}).</li>
+ * </ul>
+ * Кожна видача повертає новий {@link PooledConnection}, тому повторний
+ * {@code close()} не може повернути одне з'єднання у пул двічі.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class ConnectionPool {
+
+    /**
+     * Джерело нових фізичних з'єднань.
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+
+        /**
+         * Відкриває нове фізичне з'єднання з базою даних.
+         *
+         * @return нове з'єднання
+         * @throws SQLException у разі помилки підключення
+         */
+        Connection open() throws SQLException;
+    }
+
+    private static final Logger LOG = LogManager.getLogger(ConnectionPool.class);
+
+    /** Максимальний крок очікування, після якого потік повторно перевіряє можливість відкрити з'єднання. */
+    private static final long WAIT_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final PoolConfig config;
+    private final ConnectionFactory factory;
+
+    /** Вільні з'єднання; останнє повернене видається першим, щоб холодні з'єднання старіли й закривались. */
+    private final LinkedBlockingDeque<PoolEntry> idle = new LinkedBlockingDeque<>();
+    /** З'єднання, видані зараз. */
+    private final Set<PoolEntry> leased = ConcurrentHashMap.newKeySet();
+    /** Кількість відкритих і зарезервованих фізичних з'єднань. */
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    private final AtomicLong borrowedCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong destroyedCount = new AtomicLong();
+    private final AtomicLong leakCount = new AtomicLong();
+    private final AtomicLongArray waitHistogram = new AtomicLongArray(PoolStats.WAIT_BUCKETS_MS.length + 1);
+
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    /**
+     * Створює пул, відкриває мінімальну кількість з'єднань і запускає фонове обслуговування.
+     *
+     * @param config  налаштування пулу
+     * @param factory джерело фізичних з'єднань
+     * @throws SQLException якщо не вдалося відкрити початкові з'єднання
+     */
+    public ConnectionPool(PoolConfig config, ConnectionFactory factory) throws SQLException {
+        this.config = config;
+        this.factory = factory;
+        fillToMinimum();
+
+        housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "db-pool-housekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep,
+            config.getHousekeepingMs(), config.getHousekeepingMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Видає з'єднання з пулу, за потреби відкриваючи нове або чекаючи на звільнення.
+     *
+     * @return обгортка {@link PooledConnection}; її {@code close()} повертає з'єднання у пул
+     * @throws SQLTimeoutException  якщо з'єднання не звільнилося за {@code acquireTimeoutMs}
+     * @throws SQLException         у разі помилки відкриття нового з'єднання або закритого пулу
+     * @throws InterruptedException якщо потік перервано під час очікування
+     */
+    public Connection borrow() throws SQLException, InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(config.getAcquireTimeoutMs());
+        waiters.incrementAndGet();
+        try {
+            while (true) {
+                ensureOpen();
+                PoolEntry entry = idle.pollFirst();
+                if (entry == null && tryReserve()) {
+                    entry = openEntry();
+                }
+                if (entry == null) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        timeoutCount.incrementAndGet();
+                        throw new SQLTimeoutException("Timed out after " + config.getAcquireTimeoutMs()
+                            + " ms waiting for a DB connection; " + stats());
+                    }
+                    entry = idle.pollFirst(Math.min(remaining, WAIT_SLICE_NANOS), TimeUnit.NANOSECONDS);
+                    if (entry == null) continue;
+                }
+                if (!isUsable(entry)) {
+                    destroy(entry);
+                    continue;
+                }
+                recordWait(System.nanoTime() - start);
+                return lease(entry);
+            }
+        } finally {
+            waiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * Повертає знімок поточного стану пулу.
+     *
+     * @return статистика пулу
+     */
+    public PoolStats stats() {
+        long[] histogram = new long[waitHistogram.length()];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = waitHistogram.get(i);
+        }
+        return new PoolStats(leased.size(), idle.size(), waiters.get(),
+            borrowedCount.get(), timeoutCount.get(), createdCount.get(),
+            destroyedCount.get(), leakCount.get(), histogram);
+    }
+
+    /**
+     * Закриває пул: зупиняє обслуговування та закриває всі вільні з'єднання.
+     * Видані з'єднання закриваються під час повернення.
+     */
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PoolEntry entry;
+        while ((entry = idle.pollFirst()) != null) {
+            destroy(entry);
+        }
+    }
+
+    /**
+     * Приймає з'єднання назад у пул. Викликається з {@link PooledConnection#close()}.
+     * <p>
+     * Скидає стан транзакції; з'єднання, яке не вдалося скинути, закрите або застаріле, знищується.
+     * </p>
+     *
+     * @param entry фізичне з'єднання, що повертається
+     */
+    void release(PoolEntry entry) {
+        leased.remove(entry);
+        entry.borrowedAt = 0;
+        entry.borrowSite = null;
+
+        long now = System.currentTimeMillis();
+        if (closed || entry.isExpired(config.getMaxLifetimeMs(), now) || !resetState(entry)) {
+            destroy(entry);
+            return;
+        }
+        entry.lastReturnedAt = now;
+        idle.offerFirst(entry);
+    }
+
+    /**
+     * Повертає з'єднання в початковий стан: відкочує незавершену транзакцію та вмикає autocommit.
+     *
+     * @param entry з'єднання
+     * @return true, якщо з'єднання придатне для повторного використання
+     */
+    private boolean resetState(PoolEntry entry) {
+        try {
+            Connection c = entry.physical;
+            if (c.isClosed()) return false;
+            if (!c.getAutoCommit()) {
+                c.rollback();
+                c.setAutoCommit(true);
+            }
+            c.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private PooledConnection lease(PoolEntry entry) {
+        entry.borrowedAt = System.currentTimeMillis();
+        entry.leakReported = false;
+        entry.borrowSite = config.getLeakThresholdMs() > 0
+            ? new Throwable("Connection borrowed here")
+            : null;
+        leased.add(entry);
+        borrowedCount.incrementAndGet();
+        return new PooledConnection(this, entry);
+    }
+
+    /**
+     * Перевіряє з'єднання перед видачею: вік і, якщо воно довго простоювало, {@code isValid}.
+     *
+     * @param entry з'єднання
+     * @return true, якщо з'єднання можна видати
+     */
+    private boolean isUsable(PoolEntry entry) {
+        long now = System.currentTimeMillis();
+        if (entry.isExpired(config.getMaxLifetimeMs(), now)) return false;
+        if (now - entry.lastReturnedAt < config.getValidateAfterIdleMs()) return true;
+        return isValid(entry);
+    }
+
+    private boolean isValid(PoolEntry entry) {
+        try {
+            return entry.physical.isValid(config.getValidationTimeoutSec());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Резервує місце під нове фізичне з'єднання, якщо не досягнуто максимуму.
+     *
+     * @return true, якщо місце зарезервовано
+     */
+    private boolean tryReserve() {
+        while (true) {
+            int current = total.get();
+            if (current >= config.getMaxSize()) return false;
+            if (total.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    /**
+     * Відкриває фізичне з'єднання під уже зарезервоване місце.
+     *
+     * @return нове з'єднання
+     * @throws SQLException якщо відкрити з'єднання не вдалося (резерв звільняється)
+     */
+    private PoolEntry openEntry() throws SQLException {
+        try {
+            PoolEntry entry = new PoolEntry(factory.open());
+            createdCount.incrementAndGet();
+            return entry;
+        } catch (SQLException | RuntimeException e) {
+            total.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void destroy(PoolEntry entry) {
+        total.decrementAndGet();
+        destroyedCount.incrementAndGet();
+        try {
+            entry.physical.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    private void fillToMinimum() throws SQLException {
+        while (!closed && total.get() < config.getMinSize() && tryReserve()) {
+            idle.offerLast(openEntry());
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        waitHistogram.incrementAndGet(PoolStats.bucketOf(TimeUnit.NANOSECONDS.toMillis(waitNanos)));
+    }
+
+    private void ensureOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+    }
+
+    /**
+     * Фонове обслуговування: закриває застарілі, надлишкові та непрацюючі вільні з'єднання,
+     * поповнює пул до мінімуму та повідомляє про можливі витоки.
+     * <p>
+     * З'єднання спершу забирається з черги вільних і лише потім перевіряється, тож його
+     * не може одночасно отримати {@link #borrow()}; придатне з'єднання повертається в кінець черги.
+     * </p>
+     */
+    private void housekeep() {
+        try {
+            long now = System.currentTimeMillis();
+            List<PoolEntry> snapshot = new ArrayList<>(idle);
+            for (PoolEntry entry : snapshot) {
+                if (!idle.remove(entry)) continue;
+                boolean surplus = config.getIdleTimeoutMs() > 0
+                    && now - entry.lastReturnedAt >= config.getIdleTimeoutMs()
+                    && total.get() > config.getMinSize();
+                boolean stale = entry.isExpired(config.getMaxLifetimeMs(), now) || surplus;
+                if (stale || closed || !isValid(entry)) {
+                    destroy(entry);
+                } else {
+                    idle.offerLast(entry);
+                }
+            }
+            fillToMinimum();
+            detectLeaks(now);
+        } catch (Exception e) {
+            LOG.error("Connection pool housekeeping failed", e);
+        }
+    }
+
+    private void detectLeaks(long now) {
+        long threshold = config.getLeakThresholdMs();
+        if (threshold <= 0) return;
+        for (PoolEntry entry : leased) {
+            long borrowedAt = entry.borrowedAt;
+            if (borrowedAt > 0 && !entry.leakReported && now - borrowedAt >= threshold) {
+                entry.leakReported = true;
+                leakCount.incrementAndGet();
+                LOG.warn("Possible DB connection leak: borrowed {} ms ago and not returned",
+                    now - borrowedAt, entry.borrowSite);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.agors.infrastructure.persistence.pool;
+
+import com.agors.infrastructure.util.PropertiesUtil;
+
+/**
+ * Налаштування пулу з'єднань {@link ConnectionPool}.
+ * <p>
+ * Значення зчитуються з {@code application.properties}:
+ * <ul>
+ *     <li>{@code db.pool.min} — мінімальна кількість відкритих з'єднань (за замовчуванням 2)</li>
+ *     <li>{@code db.pool.max} — максимальна кількість з'єднань; якщо не задано, використовується
+ *         {@code db.pool.size} (за замовчуванням 5)</li>
+ *     <li>{@code db.pool.acquire.timeout.ms} — скільки чекати на вільне з'єднання (30 с)</li>
+ *     <li>{@code db.pool.max.lifetime.ms} — максимальний вік фізичного з'єднання (30 хв)</li>
+ *     <li>{@code db.pool.idle.timeout.ms} — після скількох мс простою зайве з'єднання закривається (10 хв)</li>
+ *     <li>{@code db.pool.validation.timeout.sec} — тайм-аут перевірки {@code isValid} (3 с)</li>
+ *     <li>{@code db.pool.validate.after.idle.ms} — перевіряти з'єднання при видачі, якщо воно простоювало довше (5 с)</li>
+ *     <li>{@code db.pool.leak.threshold.ms} — через скільки мс неповернене з'єднання вважається витоком; 0 вимикає (60 с)</li>
+ *     <li>{@code db.pool.housekeeping.ms} — період фонового обслуговування пулу (30 с)</li>
+ * </ul>
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class PoolConfig {
+
+    private final int minSize;
+    private final int maxSize;
+    private final long acquireTimeoutMs;
+    private final long maxLifetimeMs;
+    private final long idleTimeoutMs;
+    private final int validationTimeoutSec;
+    private final long validateAfterIdleMs;
+    private final long leakThresholdMs;
+    private final long housekeepingMs;
+
+    /**
+     * Створює налаштування з явно заданими значеннями.
+     *
+     * @param minSize              мінімальна кількість з'єднань
+     * @param maxSize              максимальна кількість з'єднань
+     * @param acquireTimeoutMs     тайм-аут очікування з'єднання, мс
+     * @param maxLifetimeMs        максимальний вік з'єднання, мс
+     * @param idleTimeoutMs        тайм-аут простою, мс
+     * @param validationTimeoutSec тайм-аут перевірки, с
+     * @param validateAfterIdleMs  поріг простою для перевірки при видачі, мс
+     * @param leakThresholdMs      поріг виявлення витоку, мс (0 — вимкнено)
+     * @param housekeepingMs       період обслуговування, мс
+     */
+    public PoolConfig(int minSize, int maxSize, long acquireTimeoutMs, long maxLifetimeMs,
+        long idleTimeoutMs, int validationTimeoutSec, long validateAfterIdleMs,
+        long leakThresholdMs, long housekeepingMs) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("db.pool.max must be >= 1");
+        }
+        this.maxSize = maxSize;
+        this.minSize = Math.max(0, Math.min(minSize, maxSize));
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.maxLifetimeMs = maxLifetimeMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.validationTimeoutSec = validationTimeoutSec;
+        this.validateAfterIdleMs = validateAfterIdleMs;
+        this.leakThresholdMs = leakThresholdMs;
+        this.housekeepingMs = housekeepingMs;
+    }
+
+    /**
+     * Зчитує налаштування пулу з {@link PropertiesUtil}.
+     *
+     * @return налаштування пулу
+     */
+    public static PoolConfig fromProperties() {
+        int max = intProp("db.pool.max", intProp("db.pool.size", 5));
+        return new PoolConfig(
+            intProp("db.pool.min", Math.min(2, max)),
+            max,
+            longProp("db.pool.acquire.timeout.ms", 30_000),
+            longProp("db.pool.max.lifetime.ms", 30 * 60_000),
+            longProp("db.pool.idle.timeout.ms", 10 * 60_000),
+            intProp("db.pool.validation.timeout.sec", 3),
+            longProp("db.pool.validate.after.idle.ms", 5_000),
+            longProp("db.pool.leak.threshold.ms", 60_000),
+            longProp("db.pool.housekeeping.ms", 30_000)
+        );
+    }
+
+    private static int intProp(String key, int def) {
+        return (int) longProp(key, def);
+    }
+
+    private static long longProp(String key, long def) {
+        String value = PropertiesUtil.get(key);
+        if (value == null) return def;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+
+    /** @return мінімальна кількість з'єднань */
+    public int getMinSize() { return minSize; }
+
+    /** @return максимальна кількість з'єднань */
+    public int getMaxSize() { return maxSize; }
+
+    /** @return тайм-аут очікування з'єднання, мс */
+    public long getAcquireTimeoutMs() { return acquireTimeoutMs; }
+
+    /** @return максимальний вік з'єднання, мс (0 — без обмеження) */
+    public long getMaxLifetimeMs() { return maxLifetimeMs; }
+
+    /** @return тайм-аут простою, мс (0 — без обмеження) */
+    public long getIdleTimeoutMs() { return idleTimeoutMs; }
+
+    /** @return тайм-аут перевірки {@code isValid}, с */
+    public int getValidationTimeoutSec() { return validationTimeoutSec; }
+
+    /** @return поріг простою, після якого з'єднання перевіряється при видачі, мс */
+    public long getValidateAfterIdleMs() { return validateAfterIdleMs; }
+
+    /** @return поріг виявлення витоку, мс (0 — вимкнено) */
+    public long getLeakThresholdMs() { return leakThresholdMs; }
+
+    /** @return період фонового обслуговування, мс */
+    public long getHousekeepingMs() { return housekeepingMs; }
+}
@@ -0,0 +1,42 @@
+package com.agors.infrastructure.persistence.pool;
+
+import java.sql.Connection;
+
+/**
+ * Фізичне з'єднання, яким керує {@link ConnectionPool}, разом з його службовими мітками часу.
+ *
+ * @author agors
+ * @version 1.0
+ */
+class PoolEntry {
+
+    /** Реальне JDBC-з'єднання. */
+    final Connection physical;
+    /** Момент відкриття з'єднання, мс. */
+    final long createdAt;
+    /** Момент останнього повернення у пул, мс. */
+    volatile long lastReturnedAt;
+    /** Момент видачі з пулу, мс (0 — з'єднання вільне). */
+    volatile long borrowedAt;
+    /** Стек виклику, що отримав з'єднання (лише при увімкненому виявленні витоків). */
+    volatile Throwable borrowSite;
+    /** Чи вже повідомлено про можливий витік для поточної видачі. */
+    volatile boolean leakReported;
+
+    PoolEntry(Connection physical) {
+        this.physical = physical;
+        this.createdAt = System.currentTimeMillis();
+        this.lastReturnedAt = createdAt;
+    }
+
+    /**
+     * Перевіряє, чи перевищено максимальний вік з'єднання.
+     *
+     * @param maxLifetimeMs максимальний вік, мс (0 — без обмеження)
+     * @param now           поточний час, мс
+     * @return true, якщо з'єднання слід закрити
+     */
+    boolean isExpired(long maxLifetimeMs, long now) {
+        return maxLifetimeMs > 0 && now - createdAt >= maxLifetimeMs;
+    }
+}
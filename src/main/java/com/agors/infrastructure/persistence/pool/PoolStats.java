@@ -0,0 +1,101 @@
+package com.agors.infrastructure.persistence.pool;
+
+import java.util.Arrays;
+
+/**
+ * Знімок стану пулу з'єднань на певний момент часу.
+ * <p>
+ * Містить кількість активних, вільних з'єднань і потоків в очікуванні,
+ * лічильники подій та гістограму часу очікування з'єднання.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class PoolStats {
+
+    /** Верхні межі кошиків гістограми часу очікування, мс (останній кошик — усе, що більше). */
+    public static final long[] WAIT_BUCKETS_MS = {1, 5, 10, 50, 100, 500, 1000};
+
+    private final int active;
+    private final int idle;
+    private final int waiters;
+    private final long borrowed;
+    private final long timeouts;
+    private final long created;
+    private final long destroyed;
+    private final long leaks;
+    private final long[] waitHistogram;
+
+    PoolStats(int active, int idle, int waiters, long borrowed, long timeouts,
+        long created, long destroyed, long leaks, long[] waitHistogram) {
+        this.active = active;
+        this.idle = idle;
+        this.waiters = waiters;
+        this.borrowed = borrowed;
+        this.timeouts = timeouts;
+        this.created = created;
+        this.destroyed = destroyed;
+        this.leaks = leaks;
+        this.waitHistogram = waitHistogram;
+    }
+
+    /**
+     * Повертає індекс кошика гістограми для заданого часу очікування.
+     *
+     * @param waitMs час очікування, мс
+     * @return індекс кошика
+     */
+    static int bucketOf(long waitMs) {
+        for (int i = 0; i < WAIT_BUCKETS_MS.length; i++) {
+            if (waitMs < WAIT_BUCKETS_MS[i]) return i;
+        }
+        return WAIT_BUCKETS_MS.length;
+    }
+
+    /** @return кількість виданих і ще не повернених з'єднань */
+    public int getActive() { return active; }
+
+    /** @return кількість вільних з'єднань у пулі */
+    public int getIdle() { return idle; }
+
+    /** @return загальна кількість відкритих фізичних з'єднань */
+    public int getTotal() { return active + idle; }
+
+    /** @return кількість потоків, що чекають на з'єднання */
+    public int getWaiters() { return waiters; }
+
+    /** @return загальна кількість видач з'єднань */
+    public long getBorrowed() { return borrowed; }
+
+    /** @return кількість запитів, що завершилися тайм-аутом */
+    public long getTimeouts() { return timeouts; }
+
+    /** @return кількість відкритих фізичних з'єднань за весь час */
+    public long getCreated() { return created; }
+
+    /** @return кількість закритих фізичних з'єднань за весь час */
+    public long getDestroyed() { return destroyed; }
+
+    /** @return кількість виявлених можливих витоків */
+    public long getLeaks() { return leaks; }
+
+    /**
+     * Повертає гістограму часу очікування з'єднання.
+     * Елемент {@code i} — кількість очікувань, коротших за {@code WAIT_BUCKETS_MS[i]};
+     * останній елемент — кількість довших за останню межу.
+     *
+     * @return копія масиву гістограми
+     */
+    public long[] getWaitHistogram() {
+        return waitHistogram.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "PoolStats{active=" + active + ", idle=" + idle + ", waiters=" + waiters
+            + ", borrowed=" + borrowed + ", timeouts=" + timeouts + ", created=" + created
+            + ", destroyed=" + destroyed + ", leaks=" + leaks
+            + ", waitHistogram=" + Arrays.toString(waitHistogram) + "}";
+    }
+}
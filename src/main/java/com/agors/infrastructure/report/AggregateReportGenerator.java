@@ -0,0 +1,150 @@
+package com.agors.infrastructure.report;
+
+import com.agors.infrastructure.util.I18n;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Основа для аналітичних звітів, які обчислюються одним агрегуючим запитом.
+ * <p>
+ * Уся агрегація (GROUP BY, сортування, обмеження кількості рядків) виконується в базі,
+ * клієнт лише форматує вже згрупований результат у таблицю. Тож час генерації
+ * визначається індексами, а не розміром таблиць, які доводилося б читати у Java.
+ * </p>
+ * <p>
+ * В інкрементному режимі запит обмежується рядками, створеними в межах {@link ReportPeriod},
+ * тож регулярний звіт сканує лише нові дані за індексами на стовпцях часу. Повний звіт
+ * обмежується кінцем періоду, щоб рядки, додані під час генерації, потрапили лише в наступний звіт.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public abstract class AggregateReportGenerator implements ReportGenerator {
+
+    /** Максимальна кількість рядків в аналітичному звіті за замовчуванням. */
+    public static final int DEFAULT_LIMIT = 100;
+
+    private static final String SEPARATOR = "--------------------------------------------------";
+
+    /** Максимальна кількість рядків у звіті. */
+    protected final int limit;
+
+    /**
+     * Створює генератор з обмеженням кількості рядків.
+     *
+     * @param limit максимальна кількість рядків у звіті
+     */
+    protected AggregateReportGenerator(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Повертає заголовок звіту.
+     *
+     * @return локалізований заголовок
+     */
+    protected abstract String title();
+
+    /**
+     * Повертає агрегуючий SQL-запит звіту.
+     *
+     * @param incremental true, якщо запит обмежується змінами за період
+     * @return SQL-запит
+     */
+    protected abstract String sql(boolean incremental);
+
+    /**
+     * Встановлює параметри запиту.
+     *
+     * @param stmt   підготовлений запит з {@link #sql(boolean)}
+     * @param period період даних звіту
+     * @throws SQLException у разі помилки встановлення параметра
+     */
+    protected abstract void bind(PreparedStatement stmt, ReportPeriod period) throws SQLException;
+
+    /**
+     * Повертає умову відбору рядків, змінених за період, для стовпця часу.
+     * Параметри умови встановлює {@link #bindPeriod(PreparedStatement, int, ReportPeriod)}.
+     *
+     * @param column      стовпець часу
+     * @param incremental true для інкрементного запиту
+     * @return умова з двома параметрами або, для повного запиту, з одним (кінець періоду)
+     */
+    protected static String periodFilter(String column, boolean incremental) {
+        return incremental ? " WHERE " + column + " > ? AND " + column + " <= ?" : " WHERE " + column + " <= ?";
+    }
+
+    /**
+     * Встановлює параметри умови {@link #periodFilter(String, boolean)}.
+     *
+     * @param stmt   підготовлений запит
+     * @param index  номер першого параметра умови
+     * @param period період даних звіту
+     * @return номер наступного параметра запиту
+     * @throws SQLException у разі помилки встановлення параметра
+     */
+    protected static int bindPeriod(PreparedStatement stmt, int index, ReportPeriod period) throws SQLException {
+        if (!period.isIncremental()) {
+            stmt.setTimestamp(index, period.untilTimestamp());
+            return index + 1;
+        }
+        stmt.setTimestamp(index, period.sinceTimestamp());
+        stmt.setTimestamp(index + 1, period.untilTimestamp());
+        return index + 2;
+    }
+
+    /**
+     * Повертає рядок заголовків колонок таблиці.
+     *
+     * @return відформатований заголовок таблиці
+     */
+    protected abstract String header();
+
+    /**
+     * Форматує поточний рядок результату.
+     *
+     * @param rs результат запиту, встановлений на рядок
+     * @return відформатований рядок таблиці
+     * @throws SQLException у разі помилки читання з ResultSet
+     */
+    protected abstract String row(ResultSet rs) throws SQLException;
+
+    @Override
+    public boolean supportsIncremental() {
+        return true;
+    }
+
+    @Override
+    public void generate(Connection conn, ReportWriter out, ReportPeriod period, ReportProgress progress)
+        throws SQLException, IOException {
+        out.append("==== ").append(title()).append(" — ").append(period.until()).line(" ====");
+        if (period.isIncremental()) {
+            out.append(I18n.get("report_period_label", "Зміни з ")).append(period.since())
+                .append(" — ").line(period.until());
+        }
+        out.line("")
+            .line(header())
+            .line(SEPARATOR);
+
+        long rows = 0;
+        try (PreparedStatement stmt = conn.prepareStatement(sql(period.isIncremental()))) {
+            stmt.setFetchSize(FETCH_SIZE);
+            bind(stmt, period);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    out.line(row(rs));
+                    progress.update(++rows, limit);
+                }
+            }
+        }
+
+        out.line(SEPARATOR)
+            .append(I18n.get("report_rows_label", "Рядків: ")).line(rows);
+        progress.update(limit, limit);
+    }
+}
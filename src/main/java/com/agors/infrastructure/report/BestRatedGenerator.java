@@ -0,0 +1,85 @@
+package com.agors.infrastructure.report;
+
+import com.agors.domain.enums.ReportType;
+import com.agors.infrastructure.util.I18n;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Генератор звіту {@link ReportType#BEST_RATED}: місця з найвищою середньою оцінкою.
+ * <p>
+ * Середня оцінка та кількість відгуків обчислюються в базі групуванням таблиці review
+ * за місцем; місця з кількістю відгуків, меншою за поріг, не потрапляють у рейтинг.
+ * В інкрементному режимі звіт містить лише місця, що отримали нові відгуки за період,
+ * з рейтингом за всіма їхніми відгуками до кінця періоду.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class BestRatedGenerator extends AggregateReportGenerator {
+
+    /** Мінімальна кількість відгуків, щоб місце потрапило в рейтинг. */
+    public static final int MIN_REVIEWS = 1;
+
+    private static final String SQL = """
+        SELECT p.name, p.country, COUNT(*) AS reviews, AVG(CAST(r.rating AS DECIMAL(5, 2))) AS avg_rating
+        FROM review r
+        JOIN place p ON p.id = r.place_id%s
+        GROUP BY p.id, p.name, p.country
+        HAVING COUNT(*) >= ?
+        ORDER BY avg_rating DESC, reviews DESC, p.id
+        OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY
+        """;
+
+    /**
+     * Створює генератор з обмеженням {@link #DEFAULT_LIMIT} рядків.
+     */
+    public BestRatedGenerator() {
+        super(DEFAULT_LIMIT);
+    }
+
+    @Override
+    public ReportType type() {
+        return ReportType.BEST_RATED;
+    }
+
+    @Override
+    protected String title() {
+        return I18n.get("report_type_best_rated", "Найкраще оцінені місця");
+    }
+
+    @Override
+    protected String sql(boolean incremental) {
+        String changed = incremental
+            ? " AND r.place_id IN (SELECT place_id FROM review" + periodFilter("created_at", true) + ")"
+            : "";
+        return SQL.formatted("\nWHERE r.created_at <= ?" + changed);
+    }
+
+    @Override
+    protected void bind(PreparedStatement stmt, ReportPeriod period) throws SQLException {
+        stmt.setTimestamp(1, period.untilTimestamp());
+        int i = period.isIncremental() ? bindPeriod(stmt, 2, period) : 2;
+        stmt.setInt(i++, MIN_REVIEWS);
+        stmt.setInt(i, limit);
+    }
+
+    @Override
+    protected String header() {
+        return String.format("%-40s %-20s %8s %8s",
+            I18n.get("report_col_place", "Місце"),
+            I18n.get("report_col_country", "Країна"),
+            I18n.get("report_col_rating", "Рейтинг"),
+            I18n.get("report_col_reviews", "Відгуки"));
+    }
+
+    @Override
+    protected String row(ResultSet rs) throws SQLException {
+        return String.format("%-40s %-20s %8.2f %8d",
+            rs.getString("name"), rs.getString("country"),
+            rs.getBigDecimal("avg_rating"), rs.getInt("reviews"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.agors.infrastructure.report;
+
+import com.agors.domain.enums.ReportType;
+import com.agors.infrastructure.util.I18n;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Генератор звіту {@link ReportType#POPULAR_PLACES}: місця з найбільшою кількістю
+ * додавань в улюблені та відгуків.
+ * <p>
+ * Таблиці favorite і review групуються за місцем окремо (кожна — за своїм індексом
+ * на place_id), після чого лічильники з'єднуються з місцями. В інкрементному режимі
+ * рахуються лише додавання та відгуки за період — тобто місця, популярні останнім часом.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class PopularPlacesGenerator extends AggregateReportGenerator {
+
+    private static final String SQL = """
+        SELECT p.name, p.country,
+               COALESCE(f.cnt, 0) AS favorites,
+               COALESCE(r.cnt, 0) AS reviews
+        FROM place p
+        LEFT JOIN (SELECT place_id, COUNT(*) AS cnt FROM favorite%s GROUP BY place_id) f ON f.place_id = p.id
+        LEFT JOIN (SELECT place_id, COUNT(*) AS cnt FROM review%s GROUP BY place_id) r ON r.place_id = p.id
+        WHERE f.cnt IS NOT NULL OR r.cnt IS NOT NULL
+        ORDER BY COALESCE(f.cnt, 0) + COALESCE(r.cnt, 0) DESC, p.id
+        OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY
+        """;
+
+    /**
+     * Створює генератор з обмеженням {@link #DEFAULT_LIMIT} рядків.
+     */
+    public PopularPlacesGenerator() {
+        super(DEFAULT_LIMIT);
+    }
+
+    @Override
+    public ReportType type() {
+        return ReportType.POPULAR_PLACES;
+    }
+
+    @Override
+    protected String title() {
+        return I18n.get("report_type_popular_places", "Найпопулярніші місця");
+    }
+
+    @Override
+    protected String sql(boolean incremental) {
+        String period = periodFilter("created_at", incremental);
+        return SQL.formatted(period, period);
+    }
+
+    @Override
+    protected void bind(PreparedStatement stmt, ReportPeriod period) throws SQLException {
+        int i = bindPeriod(stmt, 1, period);
+        i = bindPeriod(stmt, i, period);
+        stmt.setInt(i, limit);
+    }
+
+    @Override
+    protected String header() {
+        return String.format("%-40s %-20s %10s %8s",
+            I18n.get("report_col_place", "Місце"),
+            I18n.get("report_col_country", "Країна"),
+            I18n.get("report_col_favorites", "Улюблені"),
+            I18n.get("report_col_reviews", "Відгуки"));
+    }
+
+    @Override
+    protected String row(ResultSet rs) throws SQLException {
+        return String.format("%-40s %-20s %10d %8d",
+            rs.getString("name"), rs.getString("country"),
+            rs.getInt("favorites"), rs.getInt("reviews"));
+    }
+}
@@ -0,0 +1,245 @@
+package com.agors.infrastructure.report;
+
+import com.agors.domain.entity.Report;
+import com.agors.domain.enums.ReportType;
+import com.agors.infrastructure.persistence.async.DbExecutor;
+import com.agors.infrastructure.persistence.contract.ReportDao;
+import com.agors.infrastructure.persistence.impl.ReportDaoImpl;
+import com.agors.infrastructure.report.export.ReportExporter;
+import com.agors.infrastructure.util.ConnectionManager;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Виконує генерацію звітів у фоні та зберігає результат у базі.
+ * <p>
+ * Генератор читає дані в одній транзакції читання та пише вміст у {@link ReportWriter};
+ * після цього з'єднання повертається у пул, а вміст передається у таблицю report
+ * потоком символів. Жоден крок не тримає весь звіт у пам'яті.
+ * </p>
+ * <p>
+ * Для кожного {@link ReportType} зареєстровано власний генератор; аналітичні звіти
+ * агрегують дані запитами GROUP BY у базі, див. {@link AggregateReportGenerator}.
+ * </p>
+ * <p>
+ * В інкрементному режимі звіт охоплює лише зміни після {@code generated_at}
+ * попереднього звіту того самого типу (див. {@link ReportPeriod}); якщо попереднього
+ * звіту немає або генератор не підтримує цей режим, формується повний звіт.
+ * Кінець періоду й час генерації беруться з годинника сервера БД (тим самим годинником
+ * DAO заповнюють {@code created_at} відгуків, улюблених і входів через {@code CURRENT_TIMESTAMP}
+ * або значення за замовчуванням), тож розбіжність годинника клієнта
+ * не зсуває межі між звітами.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class ReportEngine {
+
+    private final ReportDao reportDao;
+    private final Map<ReportType, ReportGenerator> generators = new EnumMap<>(ReportType.class);
+
+    /**
+     * Створює рушій, що зберігає звіти через {@link ReportDaoImpl}.
+     */
+    public ReportEngine() {
+        this(new ReportDaoImpl());
+    }
+
+    /**
+     * Створює рушій над заданим DAO звітів.
+     *
+     * @param reportDao DAO для збереження звітів
+     */
+    public ReportEngine(ReportDao reportDao) {
+        this.reportDao = reportDao;
+        register(new BestRatedGenerator());
+        register(new PopularPlacesGenerator());
+        register(new UserActivityGenerator());
+        register(new SystemLogGenerator());
+        register(new TextExportGenerator());
+    }
+
+    private void register(ReportGenerator generator) {
+        generators.put(generator.type(), generator);
+    }
+
+    /**
+     * Повертає типи звітів, для яких зареєстровано генератор.
+     *
+     * @return типи звітів у порядку оголошення {@link ReportType}
+     */
+    public List<ReportType> supportedTypes() {
+        return List.copyOf(generators.keySet());
+    }
+
+    /**
+     * Генерує та зберігає звіт заданого типу у фоні.
+     *
+     * @param type        тип звіту
+     * @param incremental true, щоб обробити лише зміни після попереднього звіту цього типу
+     * @param progress    слухач прогресу; викликається з фонового потоку
+     * @return майбутнє зі збереженим звітом (без вмісту), що завершується у потоці FX
+     * @throws IllegalArgumentException якщо для типу немає генератора
+     */
+    public CompletableFuture<Report> generateAsync(ReportType type, boolean incremental, ReportProgress progress) {
+        ReportGenerator generator = generatorFor(type);
+        return DbExecutor.supply(() -> generate(generator, incremental, progress));
+    }
+
+    /**
+     * Генерує та зберігає звіт заданого типу у поточному потоці.
+     *
+     * @param type        тип звіту
+     * @param incremental true, щоб обробити лише зміни після попереднього звіту цього типу
+     * @param progress    слухач прогресу
+     * @return збережений звіт з встановленим id
+     * @throws IllegalArgumentException якщо для типу немає генератора
+     * @throws RuntimeException         у разі помилки генерації або збереження
+     */
+    public Report generate(ReportType type, boolean incremental, ReportProgress progress) {
+        return generate(generatorFor(type), incremental, progress);
+    }
+
+    private ReportGenerator generatorFor(ReportType type) {
+        ReportGenerator generator = generators.get(type);
+        if (generator == null) {
+            throw new IllegalArgumentException("Немає генератора для звіту " + type);
+        }
+        return generator;
+    }
+
+    /**
+     * Генерує та зберігає звіт у фоні.
+     *
+     * @param generator генератор вмісту звіту
+     * @param progress  слухач прогресу; викликається з фонового потоку
+     * @return майбутнє зі збереженим звітом (без вмісту), що завершується у потоці FX
+     */
+    public CompletableFuture<Report> generateAsync(ReportGenerator generator, ReportProgress progress) {
+        return DbExecutor.supply(() -> generate(generator, progress));
+    }
+
+    /**
+     * Генерує та зберігає звіт у поточному потоці.
+     *
+     * @param generator генератор вмісту звіту
+     * @param progress  слухач прогресу
+     * @return збережений звіт з встановленим id; вміст не завантажується в об'єкт
+     * @throws RuntimeException у разі помилки читання даних, запису вмісту або збереження
+     */
+    public Report generate(ReportGenerator generator, ReportProgress progress) {
+        return generate(generator, false, progress);
+    }
+
+    private Report generate(ReportGenerator generator, boolean incremental, ReportProgress progress) {
+        LocalDateTime since = incremental && generator.supportsIncremental()
+            ? reportDao.findLatestGeneratedAt(generator.type())
+            : null;
+
+        Report report = new Report();
+        report.setType(generator.type());
+
+        try (ReportWriter out = new ReportWriter()) {
+            ReportPeriod period = write(generator, out, since, progress);
+            report.setGeneratedAt(period.until());
+            try (Reader content = out.openReader()) {
+                return reportDao.add(report, content, out.length());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не вдалося записати звіт " + generator.type(), e);
+        }
+    }
+
+    /**
+     * Експортує збережений звіт у файл у поточному потоці, читаючи вміст з бази потоком.
+     *
+     * @param reportId  ідентифікатор звіту
+     * @param exporter  формат експорту
+     * @param target    цільовий файл
+     * @param progress  слухач прогресу (у символах)
+     * @param cancelled перевірка скасування
+     * @throws RuntimeException у разі помилки читання звіту або запису файлу
+     * @throws java.util.concurrent.CancellationException якщо експорт скасовано
+     */
+    public void export(int reportId, ReportExporter exporter, Path target,
+                       ReportProgress progress, BooleanSupplier cancelled) {
+        reportDao.streamContent(reportId,
+            (content, length) -> exporter.export(content, length, target, progress, cancelled));
+    }
+
+    /**
+     * Повертає поточний час сервера БД — той самий годинник, яким позначаються звіти.
+     *
+     * @return поточний час сервера
+     * @throws RuntimeException у разі помилки з'єднання
+     */
+    public LocalDateTime databaseNow() {
+        try (Connection conn = ConnectionManager.getConnection()) {
+            return databaseNow(conn);
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося отримати час сервера БД", e);
+        }
+    }
+
+    /**
+     * Формує вміст звіту в одній транзакції читання.
+     *
+     * @param generator генератор вмісту
+     * @param out       приймач вмісту
+     * @param since     початок періоду (не включно) або null для повного звіту
+     * @param progress  слухач прогресу
+     * @return період, який охопив звіт; його кінець — час сервера БД на початку транзакції
+     * @throws IOException у разі помилки запису вмісту
+     */
+    private static ReportPeriod write(ReportGenerator generator, ReportWriter out, LocalDateTime since,
+                                      ReportProgress progress) throws IOException {
+        try (Connection conn = ConnectionManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                ReportPeriod period = new ReportPeriod(since, databaseNow(conn));
+                generator.generate(conn, out, period, progress);
+                conn.commit();
+                return period;
+            } catch (SQLException | IOException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося сформувати звіт " + generator.type(), e);
+        }
+    }
+
+    /**
+     * Повертає поточний час сервера БД з точністю до мілісекунд.
+     *
+     * @param conn з'єднання з базою даних
+     * @return поточний час сервера
+     * @throws SQLException у разі помилки запиту
+     */
+    private static LocalDateTime databaseNow(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT CURRENT_TIMESTAMP");
+            ResultSet rs = stmt.executeQuery()) {
+            if (!rs.next()) {
+                throw new SQLException("Сервер БД не повернув поточний час");
+            }
+            return rs.getTimestamp(1).toLocalDateTime().truncatedTo(ChronoUnit.MILLIS);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.agors.infrastructure.report;
+
+import com.agors.domain.enums.ReportType;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Генератор вмісту звіту одного типу.
+ * <p>
+ * Генератор читає дані з бази через передане з'єднання (з вимкненим автокомітом,
+ * тож запити з fetch size читаються курсором порціями) і одразу пише текст
+ * у {@link ReportWriter}, не збираючи весь результат у пам'яті.
+ * </p>
+ * <p>
+ * Генератор, що підтримує інкрементний режим, обробляє лише рядки, змінені
+ * в межах переданого {@link ReportPeriod}; інші завжди формують повний звіт.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public interface ReportGenerator {
+
+    /** Кількість рядків, що читаються з бази за одне звернення курсора. */
+    int FETCH_SIZE = 500;
+
+    /**
+     * Повертає тип звіту, який формує генератор.
+     *
+     * @return тип звіту
+     */
+    ReportType type();
+
+    /**
+     * Перевіряє, чи генератор уміє обробляти лише зміни за період.
+     *
+     * @return true, якщо інкрементний період враховується
+     */
+    default boolean supportsIncremental() {
+        return false;
+    }
+
+    /**
+     * Формує вміст звіту.
+     *
+     * @param conn     з'єднання з базою в межах однієї транзакції читання
+     * @param out      запис вмісту звіту
+     * @param period   період даних звіту
+     * @param progress слухач прогресу
+     * @throws SQLException у разі помилки читання з бази
+     * @throws IOException  у разі помилки запису вмісту
+     */
+    void generate(Connection conn, ReportWriter out, ReportPeriod period, ReportProgress progress)
+        throws SQLException, IOException;
+}
@@ -0,0 +1,58 @@
+package com.agors.infrastructure.report;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Період даних, які охоплює звіт.
+ * <p>
+ * Повний звіт ({@code since == null}) обробляє всі рядки до {@code until} включно;
+ * інкрементний — лише рядки, змінені в проміжку {@code (since, until]}. Межа {@code until}
+ * збігається з часом генерації звіту й береться з годинника сервера БД, тож наступний
+ * інкрементний звіт, що починається з неї, не пропускає й не рахує двічі жодного рядка.
+ * </p>
+ *
+ * @param since початок періоду (не включно) або null для повного звіту
+ * @param until кінець періоду (включно)
+ * @author agors
+ * @version 1.0
+ */
+public record ReportPeriod(LocalDateTime since, LocalDateTime until) {
+
+    /**
+     * Створює період повного звіту.
+     *
+     * @param until момент генерації звіту
+     * @return період без нижньої межі
+     */
+    public static ReportPeriod full(LocalDateTime until) {
+        return new ReportPeriod(null, until);
+    }
+
+    /**
+     * Перевіряє, чи звіт обробляє лише зміни після попереднього звіту.
+     *
+     * @return true для інкрементного звіту
+     */
+    public boolean isIncremental() {
+        return since != null;
+    }
+
+    /**
+     * Повертає початок періоду для параметра SQL-запиту.
+     *
+     * @return позначка часу або null для повного звіту
+     */
+    public Timestamp sinceTimestamp() {
+        return since != null ? Timestamp.valueOf(since) : null;
+    }
+
+    /**
+     * Повертає кінець періоду для параметра SQL-запиту.
+     *
+     * @return позначка часу
+     */
+    public Timestamp untilTimestamp() {
+        return Timestamp.valueOf(until);
+    }
+}
@@ -0,0 +1,26 @@
+package com.agors.infrastructure.report;
+
+/**
+ * Слухач прогресу генерації або експорту звіту.
+ * <p>
+ * Викликається з фонового потоку; обробник, що змінює UI, сам передає
+ * оновлення у потік JavaFX.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ReportProgress {
+
+    /** Слухач, що ігнорує всі оновлення. */
+    ReportProgress NONE = (done, total) -> {};
+
+    /**
+     * Повідомляє про оброблену частину роботи.
+     *
+     * @param done  кількість оброблених одиниць (рядків, символів)
+     * @param total загальна кількість одиниць або -1, якщо вона невідома
+     */
+    void update(long done, long total);
+}
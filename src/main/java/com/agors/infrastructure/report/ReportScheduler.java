@@ -0,0 +1,183 @@
+package com.agors.infrastructure.report;
+
+import com.agors.domain.enums.ReportType;
+import com.agors.infrastructure.persistence.contract.ReportDao;
+import com.agors.infrastructure.persistence.impl.ReportDaoImpl;
+import com.agors.infrastructure.util.PropertiesUtil;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Планувальник регулярної генерації звітів у фоні.
+ * <p>
+ * Для кожного {@link ReportType} з ненульовою періодичністю у фоновому потоці кожні
+ * {@value #CHECK_INTERVAL_MINUTES} хв (або частіше, якщо період коротший) перевіряється,
+ * чи настав час нового звіту: якщо останній звіт цього типу молодший за період за
+ * годинником сервера БД, перевірка нічого не робить. Інакше звіт генерується — за
+ * замовчуванням в інкрементному режимі, тобто лише за зміни після попереднього звіту.
+ * </p>
+ * <p>
+ * Екземпляри застосунку не узгоджують генерацію між собою, тому планувальник за
+ * замовчуванням вимкнений і має вмикатися лише на одному екземплярі (наприклад, на
+ * робочому місці адміністратора); інакше одночасні перевірки створять дублікати звітів.
+ * </p>
+ * <p>
+ * Планування можна призупинити ({@link #setPaused(boolean)}): перевірки, що припали
+ * на паузу, пропускаються, а після відновлення виконуються одразу.
+ * </p>
+ * <p>
+ * Налаштування зчитуються з файлу властивостей:
+ * <ul>
+ *     <li>{@code report.schedule.enabled} — увімкнути планувальник (за замовчуванням false);</li>
+ *     <li>{@code report.schedule.<тип>.minutes} — період для типу, наприклад
+ *         {@code report.schedule.best_rated.minutes} (0 — не генерувати);</li>
+ *     <li>{@code report.schedule.incremental} — інкрементний режим (за замовчуванням true).</li>
+ * </ul>
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public final class ReportScheduler {
+
+    /** Затримка першої перевірки після запуску, щоб не навантажувати старт застосунку. */
+    private static final long INITIAL_DELAY_MINUTES = 1;
+    /** Найбільший інтервал між перевірками, хв; затримка звіту відносно періоду не перевищує його. */
+    static final long CHECK_INTERVAL_MINUTES = 5;
+    /** Період генерації за замовчуванням для аналітичних звітів — раз на добу. */
+    private static final long DEFAULT_CADENCE_MINUTES = 24 * 60;
+
+    private final ReportEngine engine;
+    private final ReportDao reportDao;
+    private final Map<ReportType, Long> cadences;
+    private final boolean incremental;
+    private ScheduledExecutorService executor;
+    private volatile boolean paused;
+    /** Чи була пропущена хоча б одна перевірка під час паузи. */
+    private volatile boolean missed;
+
+    /**
+     * Лінивий тримач спільного екземпляра: налаштування зчитуються лише при першому зверненні.
+     */
+    private static final class Holder {
+        static final ReportScheduler INSTANCE = new ReportScheduler(
+            new ReportEngine(), new ReportDaoImpl(), cadencesFromProperties(),
+            Boolean.parseBoolean(PropertiesUtil.get("report.schedule.incremental", "true").trim()));
+    }
+
+    /**
+     * Створює планувальник.
+     *
+     * @param engine      рушій генерації звітів
+     * @param reportDao   DAO для визначення часу останнього звіту
+     * @param cadences    період генерації кожного типу, хв (типи без запису не плануються)
+     * @param incremental true, щоб генерувати лише зміни після попереднього звіту
+     */
+    ReportScheduler(ReportEngine engine, ReportDao reportDao, Map<ReportType, Long> cadences, boolean incremental) {
+        this.engine = engine;
+        this.reportDao = reportDao;
+        this.cadences = cadences;
+        this.incremental = incremental;
+    }
+
+    /**
+     * Повертає спільний екземпляр планувальника.
+     *
+     * @return планувальник звітів
+     */
+    public static ReportScheduler getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static Map<ReportType, Long> cadencesFromProperties() {
+        Map<ReportType, Long> cadences = new EnumMap<>(ReportType.class);
+        if (!Boolean.parseBoolean(PropertiesUtil.get("report.schedule.enabled", "false").trim())) {
+            return cadences;
+        }
+        for (ReportType type : ReportType.values()) {
+            long fallback = type == ReportType.TEXT_EXPORT ? 0 : DEFAULT_CADENCE_MINUTES;
+            String key = "report.schedule." + type.name().toLowerCase(Locale.ROOT) + ".minutes";
+            long minutes;
+            try {
+                minutes = Long.parseLong(PropertiesUtil.get(key, String.valueOf(fallback)).trim());
+            } catch (NumberFormatException e) {
+                minutes = fallback;
+            }
+            if (minutes > 0) {
+                cadences.put(type, minutes);
+            }
+        }
+        return cadences;
+    }
+
+    /**
+     * Запускає планування. Повторний виклик нічого не робить.
+     */
+    public synchronized void start() {
+        if (executor != null || cadences.isEmpty()) return;
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "report-scheduler");
+            t.setDaemon(true);
+            return t;
+        });
+        cadences.forEach((type, minutes) -> executor.scheduleWithFixedDelay(() -> {
+            if (paused) {
+                missed = true;
+            } else {
+                runIfDue(type, minutes);
+            }
+        }, INITIAL_DELAY_MINUTES, Math.min(minutes, CHECK_INTERVAL_MINUTES), TimeUnit.MINUTES));
+    }
+
+    /**
+     * Призупиняє або відновлює планування. Звіт, що генерується зараз, не переривається.
+     * Якщо під час паузи була пропущена перевірка, після відновлення перевіряються всі типи.
+     *
+     * @param paused true — призупинити, false — відновити
+     */
+    public synchronized void setPaused(boolean paused) {
+        this.paused = paused;
+        if (!paused && missed && executor != null) {
+            missed = false;
+            executor.execute(() -> cadences.forEach(this::runIfDue));
+        }
+    }
+
+    /**
+     * Зупиняє планування; звіт, що генерується зараз, не переривається.
+     * Викликається під час завершення роботи застосунку.
+     */
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    /**
+     * Генерує звіт, якщо з останнього звіту цього типу минуло не менше за період
+     * за годинником сервера БД, яким позначаються і самі звіти. Помилка лише виводиться, щоб не скасувати подальші запуски.
+     *
+     * @param type    тип звіту
+     * @param minutes період генерації, хв
+     */
+    void runIfDue(ReportType type, long minutes) {
+        try {
+            LocalDateTime latest = reportDao.findLatestGeneratedAt(type);
+            if (latest != null
+                && Duration.between(latest, engine.databaseNow()).compareTo(Duration.ofMinutes(minutes)) < 0) {
+                return;
+            }
+            engine.generate(type, incremental, ReportProgress.NONE);
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.agors.infrastructure.report;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Порційний запис вмісту звіту у тимчасовий файл.
+ * <p>
+ * Текст накопичується у буфері фіксованого розміру ({@link #CHUNK_SIZE} символів)
+ * і скидається на диск порціями, тож пам'ять не залежить від розміру звіту.
+ * Після завершення запису вміст читається через {@link #openReader()} і передається
+ * у базу потоком; {@link #close()} видаляє тимчасовий файл.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class ReportWriter implements Closeable {
+
+    /** Розмір порції запису, символів. */
+    public static final int CHUNK_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final Writer out;
+    private long length;
+    private boolean finished;
+
+    /**
+     * Створює запис у новий тимчасовий файл.
+     *
+     * @throws IOException якщо тимчасовий файл не вдалося створити
+     */
+    public ReportWriter() throws IOException {
+        file = Files.createTempFile("histotrek-report-", ".txt");
+        out = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), CHUNK_SIZE);
+    }
+
+    /**
+     * Дописує текст до звіту.
+     *
+     * @param text фрагмент тексту; null записується як "null"
+     * @return цей самий запис для ланцюжкових викликів
+     * @throws IOException у разі помилки запису
+     */
+    public ReportWriter append(Object text) throws IOException {
+        String s = String.valueOf(text);
+        out.write(s);
+        length += s.length();
+        return this;
+    }
+
+    /**
+     * Дописує текст і перехід на новий рядок.
+     *
+     * @param text фрагмент тексту
+     * @return цей самий запис для ланцюжкових викликів
+     * @throws IOException у разі помилки запису
+     */
+    public ReportWriter line(Object text) throws IOException {
+        return append(text).append("\n");
+    }
+
+    /**
+     * Повертає кількість записаних символів.
+     *
+     * @return довжина вмісту звіту
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Завершує запис і відкриває вміст для читання з початку.
+     *
+     * @return читач тимчасового файлу; закривається викликачем
+     * @throws IOException у разі помилки скидання буфера або відкриття файлу
+     */
+    public Reader openReader() throws IOException {
+        if (!finished) {
+            out.close();
+            finished = true;
+        }
+        return Files.newBufferedReader(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Закриває запис і видаляє тимчасовий файл.
+     */
+    @Override
+    public void close() {
+        try {
+            out.close();
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не вдалося видалити тимчасовий файл звіту " + file, e);
+        }
+    }
+}
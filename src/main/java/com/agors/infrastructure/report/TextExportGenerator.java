@@ -0,0 +1,82 @@
+package com.agors.infrastructure.report;
+
+import com.agors.domain.enums.ReportType;
+import com.agors.infrastructure.util.I18n;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Генератор звіту {@link ReportType#TEXT_EXPORT} з переліком користувачів і історичних місць.
+ * <p>
+ * Користувачі та місця читаються курсором по {@link #FETCH_SIZE} рядків і одразу
+ * записуються у звіт, тож у пам'яті одночасно перебуває лише одна порція рядків.
+ * Таблиці users і place не мають позначок часу змін, тому звіт завжди повний.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class TextExportGenerator implements ReportGenerator {
+
+    private static final String COUNT_SQL =
+        "SELECT (SELECT COUNT(*) FROM users) + (SELECT COUNT(*) FROM place)";
+    private static final String USERS_SQL = "SELECT username, email, role FROM users ORDER BY id";
+    private static final String PLACES_SQL = "SELECT name, country, era FROM place ORDER BY id";
+    private static final String SEPARATOR = "--------------------------------------------------";
+
+    @Override
+    public ReportType type() {
+        return ReportType.TEXT_EXPORT;
+    }
+
+    @Override
+    public void generate(Connection conn, ReportWriter out, ReportPeriod period, ReportProgress progress)
+        throws SQLException, IOException {
+        long total = count(conn);
+        long done = 0;
+
+        out.append(I18n.get("report_header", "==== Звіт станом на "))
+            .append(period.until())
+            .line(" ====\n");
+
+        out.append(I18n.get("users_section", "▶ КОРИСТУВАЧІ:\n")).line(SEPARATOR);
+        try (PreparedStatement stmt = conn.prepareStatement(USERS_SQL)) {
+            stmt.setFetchSize(FETCH_SIZE);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    out.append("• ").line(rs.getString("username"))
+                        .append("   Email: ").line(rs.getString("email"))
+                        .append("   ").append(I18n.get("role_label", "Роль: ")).line(rs.getString("role"))
+                        .line("");
+                    if (++done % FETCH_SIZE == 0) progress.update(done, total);
+                }
+            }
+        }
+
+        out.append(I18n.get("places_section", "▶ ІСТОРИЧНІ МІСЦЯ:\n")).line(SEPARATOR);
+        try (PreparedStatement stmt = conn.prepareStatement(PLACES_SQL)) {
+            stmt.setFetchSize(FETCH_SIZE);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    out.append("• ").line(rs.getString("name"))
+                        .append("   ").append(I18n.get("country_label", "Країна: ")).line(rs.getString("country"))
+                        .append("   ").append(I18n.get("era_label", "Епоха: ")).line(rs.getString("era"))
+                        .line("");
+                    if (++done % FETCH_SIZE == 0) progress.update(done, total);
+                }
+            }
+        }
+        progress.update(done, total);
+    }
+
+    private static long count(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(COUNT_SQL);
+            ResultSet rs = stmt.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : -1;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.agors.infrastructure.report.export;
+
+import com.agors.infrastructure.report.ReportProgress;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Потоковий експорт звіту у документ Word (.docx).
+ * <p>
+ * {@code XWPFDocument} з Apache POI будує весь документ у пам'яті, тож тут пакет OOXML
+ * записується напряму: мінімальний набір частин ({@code [Content_Types].xml},
+ * {@code _rels/.rels}, {@code word/document.xml}) у ZIP-потік, а тіло документа —
+ * через {@link XMLStreamWriter} по одному абзацу на рядок звіту, щойно рядок прочитано.
+ * Кожен абзац оформлено шрифтом Times New Roman 12 pt, як і раніше.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class DocxReportExporter extends ReportExporter {
+
+    private static final String W_NS = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+    private static final String FONT = "Times New Roman";
+    /** Розмір шрифту в половинах пункту (24 = 12 pt). */
+    private static final String FONT_SIZE = "24";
+    /** Кількість рядків між перевірками скасування та оновленнями прогресу. */
+    private static final int LINES_PER_STEP = 500;
+
+    private static final String CONTENT_TYPES = """
+        <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+        <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">
+        <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>
+        <Default Extension="xml" ContentType="application/xml"/>
+        <Override PartName="/word/document.xml" \
+        ContentType="application/vnd.openxmlformats-officedocument.wordprocessingml.document.main+xml"/>
+        </Types>
+        """;
+
+    private static final String RELS = """
+        <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+        <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+        <Relationship Id="rId1" \
+        Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" \
+        Target="word/document.xml"/>
+        </Relationships>
+        """;
+
+    @Override
+    public String extension() {
+        return "docx";
+    }
+
+    @Override
+    protected void write(Reader content, long length, Path file,
+                         ReportProgress progress, BooleanSupplier cancelled) throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(file), CHUNK_SIZE))) {
+            putText(zip, "[Content_Types].xml", CONTENT_TYPES);
+            putText(zip, "_rels/.rels", RELS);
+
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            writeDocument(new BufferedReader(content, CHUNK_SIZE), length, zip, progress, cancelled);
+            zip.closeEntry();
+        }
+    }
+
+    private static void putText(ZipOutputStream zip, String name, String text) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(text.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private static void writeDocument(BufferedReader lines, long length, OutputStream out,
+                                      ReportProgress progress, BooleanSupplier cancelled) throws IOException {
+        try {
+            XMLStreamWriter xml = XMLOutputFactory.newFactory().createXMLStreamWriter(out, "UTF-8");
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.setPrefix("w", W_NS);
+            xml.writeStartElement(W_NS, "document");
+            xml.writeNamespace("w", W_NS);
+            xml.writeStartElement(W_NS, "body");
+
+            long done = 0;
+            int count = 0;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                writeParagraph(xml, line);
+                done += line.length() + 1;
+                if (++count % LINES_PER_STEP == 0) {
+                    checkCancelled(cancelled);
+                    progress.update(done, length);
+                }
+            }
+
+            xml.writeEndElement();
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.flush();
+            progress.update(done, length);
+        } catch (XMLStreamException e) {
+            throw new IOException("Не вдалося записати document.xml", e);
+        }
+    }
+
+    private static void writeParagraph(XMLStreamWriter xml, String line) throws XMLStreamException {
+        xml.writeStartElement(W_NS, "p");
+        xml.writeStartElement(W_NS, "r");
+
+        xml.writeStartElement(W_NS, "rPr");
+        xml.writeEmptyElement(W_NS, "rFonts");
+        xml.writeAttribute(W_NS, "ascii", FONT);
+        xml.writeAttribute(W_NS, "hAnsi", FONT);
+        xml.writeAttribute(W_NS, "cs", FONT);
+        xml.writeEmptyElement(W_NS, "sz");
+        xml.writeAttribute(W_NS, "val", FONT_SIZE);
+        xml.writeEndElement();
+
+        xml.writeStartElement(W_NS, "t");
+        xml.writeAttribute("xml", XMLConstants.XML_NS_URI, "space", "preserve");
+        xml.writeCharacters(xmlSafe(line));
+        xml.writeEndElement();
+
+        xml.writeEndElement();
+        xml.writeEndElement();
+    }
+
+    /**
+     * Прибирає керівні символи, недопустимі в XML 1.0 (крім табуляції).
+     *
+     * @param line рядок звіту
+     * @return рядок, придатний для запису в document.xml
+     */
+    static String xmlSafe(String line) {
+        StringBuilder safe = null;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            boolean allowed = c == '\t' || c >= 0x20 && c != 0xFFFE && c != 0xFFFF;
+            if (!allowed && safe == null) {
+                safe = new StringBuilder(line.length()).append(line, 0, i);
+            } else if (allowed && safe != null) {
+                safe.append(c);
+            }
+        }
+        return safe != null ? safe.toString() : line;
+    }
+}
@@ -0,0 +1,138 @@
+package com.agors.infrastructure.report.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.Timestamp;
+
+/**
+ * Структуровані формати вивантаження даних таблиць.
+ * <ul>
+ *     <li>{@code CSV} — RFC 4180: рядок заголовків, поля з комою, лапками або переходом рядка беруться в лапки;</li>
+ *     <li>{@code NDJSON} — JSON Lines: один JSON-об'єкт на рядок, ключі — назви стовпців.</li>
+ * </ul>
+ * Дата й час записуються у форматі ISO-8601, відсутнє значення — порожнім полем у CSV і {@code null} у NDJSON.
+ *
+ * @author agors
+ * @version 1.0
+ */
+public enum ExportFormat {
+
+    /** Значення, розділені комами. */
+    CSV("csv") {
+        @Override
+        RowWriter open(Writer out, String[] columns) throws IOException {
+            writeCsvRow(out, columns);
+            return values -> writeCsvRow(out, values);
+        }
+    },
+
+    /** Один JSON-об'єкт на рядок. */
+    NDJSON("ndjson") {
+        @Override
+        RowWriter open(Writer out, String[] columns) {
+            return values -> {
+                out.write('{');
+                for (int i = 0; i < columns.length; i++) {
+                    if (i > 0) out.write(',');
+                    writeJsonString(out, columns[i]);
+                    out.write(':');
+                    writeJsonValue(out, values[i]);
+                }
+                out.write("}\n");
+            };
+        }
+    };
+
+    /**
+     * Запис рядків таблиці у вибраному форматі.
+     */
+    @FunctionalInterface
+    interface RowWriter {
+
+        /**
+         * Записує один рядок.
+         *
+         * @param values значення стовпців у порядку заголовків
+         * @throws IOException у разі помилки запису
+         */
+        void write(Object[] values) throws IOException;
+    }
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Повертає розширення файлів формату.
+     *
+     * @return розширення без крапки
+     */
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * Починає запис у формат: записує заголовок (якщо він є) і повертає запис рядків.
+     *
+     * @param out     вихідний потік символів
+     * @param columns назви стовпців
+     * @return запис рядків
+     * @throws IOException у разі помилки запису заголовка
+     */
+    abstract RowWriter open(Writer out, String[] columns) throws IOException;
+
+    private static String text(Object value) {
+        if (value instanceof Timestamp ts) return ts.toLocalDateTime().toString();
+        return String.valueOf(value);
+    }
+
+    private static void writeCsvRow(Writer out, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) out.write(',');
+            if (values[i] == null) continue;
+            String s = text(values[i]);
+            if (s.indexOf(',') >= 0 || s.indexOf('"') >= 0 || s.indexOf('\n') >= 0 || s.indexOf('\r') >= 0) {
+                out.write('"');
+                out.write(s.replace("\"", "\"\""));
+                out.write('"');
+            } else {
+                out.write(s);
+            }
+        }
+        out.write("\r\n");
+    }
+
+    private static void writeJsonValue(Writer out, Object value) throws IOException {
+        if (value == null) {
+            out.write("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.write(value.toString());
+        } else {
+            writeJsonString(out, text(value));
+        }
+    }
+
+    private static void writeJsonString(Writer out, String s) throws IOException {
+        out.write('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+        out.write('"');
+    }
+}
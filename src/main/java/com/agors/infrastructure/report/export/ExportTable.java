@@ -0,0 +1,70 @@
+package com.agors.infrastructure.report.export;
+
+/**
+ * Таблиці, дані яких можна вивантажити у структурованому форматі.
+ * <p>
+ * Для кожної таблиці визначено перелік стовпців експорту; хеші паролів
+ * користувачів у вивантаження не потрапляють.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public enum ExportTable {
+
+    /** Користувачі (без паролів). */
+    USERS("users", "id", "username", "email", "role"),
+
+    /** Історичні місця. */
+    PLACE("place", "id", "name", "country", "era", "description", "image_url"),
+
+    /** Відгуки. */
+    REVIEW("review", "id", "place_id", "user_id", "text", "rating", "created_at"),
+
+    /** Улюблені місця користувачів. */
+    FAVORITE("favorite", "id", "user_id", "place_id", "created_at");
+
+    private final String table;
+    private final String[] columns;
+
+    ExportTable(String table, String... columns) {
+        this.table = table;
+        this.columns = columns;
+    }
+
+    /**
+     * Повертає назву таблиці в базі даних.
+     *
+     * @return назва таблиці
+     */
+    public String table() {
+        return table;
+    }
+
+    /**
+     * Повертає стовпці експорту в порядку виведення.
+     *
+     * @return копія масиву назв стовпців
+     */
+    public String[] columns() {
+        return columns.clone();
+    }
+
+    /**
+     * Повертає запит, що читає стовпці експорту в порядку первинного ключа.
+     *
+     * @return SQL-запит
+     */
+    String selectSql() {
+        return "SELECT " + String.join(", ", columns) + " FROM " + table + " ORDER BY id";
+    }
+
+    /**
+     * Повертає запит кількості рядків таблиці (для відображення прогресу).
+     *
+     * @return SQL-запит
+     */
+    String countSql() {
+        return "SELECT COUNT(*) FROM " + table;
+    }
+}
@@ -0,0 +1,54 @@
+package com.agors.infrastructure.report.export;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Запис файлу через тимчасовий файл {@code .part} поруч із цільовим.
+ * <p>
+ * Цільовий файл замінюється лише після успішного запису, тож скасований
+ * або невдалий експорт не залишає напівзаписаного файлу.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+final class PartFile {
+
+    /**
+     * Дія запису у тимчасовий файл.
+     */
+    @FunctionalInterface
+    interface WriteAction {
+
+        /**
+         * Записує вміст у файл.
+         *
+         * @param file тимчасовий файл
+         * @throws IOException у разі помилки запису
+         */
+        void write(Path file) throws IOException;
+    }
+
+    private PartFile() {}
+
+    /**
+     * Виконує запис у тимчасовий файл і переміщує його на місце цільового.
+     *
+     * @param target цільовий файл
+     * @param action дія запису
+     * @throws IOException у разі помилки запису або переміщення
+     */
+    static void write(Path target, WriteAction action) throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        Path part = Files.createTempFile(dir, target.getFileName().toString(), ".part");
+        try {
+            action.write(part);
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.agors.infrastructure.report.export;
+
+import com.agors.infrastructure.report.ReportProgress;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Потоковий експорт вмісту звіту у файл.
+ * <p>
+ * Вміст читається з {@link Reader} порціями й одразу записується у файл, тож пам'ять
+ * не залежить від розміру звіту. Запис ведеться у тимчасовий файл поруч із цільовим,
+ * який замінює цільовий лише після успішного завершення: скасований або невдалий
+ * експорт не залишає напівзаписаного файлу.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public abstract class ReportExporter {
+
+    /** Кількість символів, що читаються та кодуються за один крок. */
+    protected static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * Повертає розширення файлів цього формату.
+     *
+     * @return розширення без крапки, наприклад {@code "txt"}
+     */
+    public abstract String extension();
+
+    /**
+     * Експортує вміст у файл.
+     *
+     * @param content   вміст звіту
+     * @param length    довжина вмісту в символах або -1, якщо вона невідома
+     * @param target    цільовий файл
+     * @param progress  слухач прогресу (у символах)
+     * @param cancelled перевірка скасування; викликається між порціями
+     * @throws IOException           у разі помилки читання вмісту або запису файлу
+     * @throws CancellationException якщо експорт скасовано
+     */
+    public final void export(Reader content, long length, Path target,
+                             ReportProgress progress, BooleanSupplier cancelled) throws IOException {
+        PartFile.write(target, part -> write(content, length, part, progress, cancelled));
+    }
+
+    /**
+     * Записує вміст у тимчасовий файл.
+     *
+     * @param content   вміст звіту
+     * @param length    довжина вмісту в символах або -1
+     * @param file      тимчасовий файл для запису
+     * @param progress  слухач прогресу
+     * @param cancelled перевірка скасування
+     * @throws IOException у разі помилки читання або запису
+     */
+    protected abstract void write(Reader content, long length, Path file,
+                                  ReportProgress progress, BooleanSupplier cancelled) throws IOException;
+
+    /**
+     * Перевіряє скасування між порціями запису.
+     *
+     * @param cancelled перевірка скасування
+     * @throws CancellationException якщо експорт скасовано
+     */
+    protected static void checkCancelled(BooleanSupplier cancelled) {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException("Експорт звіту скасовано");
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.agors.infrastructure.report.export;
+
+import com.agors.infrastructure.report.ReportProgress;
+import com.agors.infrastructure.util.ConnectionManager;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Вивантаження даних таблиці у CSV або NDJSON безпосередньо з курсора JDBC.
+ * <p>
+ * Рядки читаються порціями по {@link #FETCH_SIZE} і одразу записуються через буфер
+ * у {@link ReportExporter#CHUNK_SIZE} символів. Тож пам'ять не залежить від кількості рядків,
+ * а файл можна передати іншим інструментам без розбору тексту звіту.
+ * </p>
+ * <p>
+ * Автокоміт вимикається на час вивантаження, бо драйвер PostgreSQL читає порціями лише
+ * всередині транзакції; драйвер SQL Server читає результат потоково і з автокомітом.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class TableExporter {
+
+    /** Кількість рядків, що читаються з бази за одне звернення курсора. */
+    public static final int FETCH_SIZE = 1000;
+
+    /**
+     * Вивантажує таблицю у файл у поточному потоці.
+     *
+     * @param table     таблиця
+     * @param format    формат файлу
+     * @param target    цільовий файл
+     * @param progress  слухач прогресу (у рядках)
+     * @param cancelled перевірка скасування; викликається після кожної порції рядків
+     * @throws RuntimeException      у разі помилки читання з бази або запису файлу
+     * @throws CancellationException якщо вивантаження скасовано
+     */
+    public void export(ExportTable table, ExportFormat format, Path target,
+                       ReportProgress progress, BooleanSupplier cancelled) {
+        try (Connection conn = ConnectionManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                PartFile.write(target, file -> write(conn, table, format, file, progress, cancelled));
+                conn.commit();
+            } catch (SQLException | IOException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося вивантажити таблицю " + table.table(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не вдалося записати файл " + target, e);
+        }
+    }
+
+    private static void write(Connection conn, ExportTable table, ExportFormat format, Path file,
+                              ReportProgress progress, BooleanSupplier cancelled) throws IOException {
+        String[] columns = table.columns();
+        try (Writer out = new BufferedWriter(
+            new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8), ReportExporter.CHUNK_SIZE)) {
+            long total = count(conn, table);
+            ExportFormat.RowWriter rows = format.open(out, columns);
+
+            try (PreparedStatement stmt = conn.prepareStatement(table.selectSql())) {
+                stmt.setFetchSize(FETCH_SIZE);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    Object[] values = new Object[columns.length];
+                    long done = 0;
+                    while (rs.next()) {
+                        for (int i = 0; i < columns.length; i++) {
+                            values[i] = rs.getObject(i + 1);
+                        }
+                        rows.write(values);
+                        if (++done % FETCH_SIZE == 0) {
+                            ReportExporter.checkCancelled(cancelled);
+                            progress.update(done, total);
+                        }
+                    }
+                    progress.update(done, total);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося прочитати таблицю " + table.table(), e);
+        }
+    }
+
+    private static long count(Connection conn, ExportTable table) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(table.countSql());
+            ResultSet rs = stmt.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : -1;
+        }
+    }
+}
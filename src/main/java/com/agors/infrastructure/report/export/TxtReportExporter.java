@@ -0,0 +1,79 @@
+package com.agors.infrastructure.report.export;
+
+import com.agors.infrastructure.report.ReportProgress;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Експорт звіту у текстовий файл UTF-8 через {@link FileChannel}.
+ * <p>
+ * Символи читаються порціями у {@link CharBuffer}, кодуються у прямий {@link ByteBuffer}
+ * і записуються у канал. Символ, розірваний межею порції (сурогатна пара), лишається
+ * у буфері до наступної порції.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class TxtReportExporter extends ReportExporter {
+
+    @Override
+    public String extension() {
+        return "txt";
+    }
+
+    @Override
+    protected void write(Reader content, long length, Path file,
+                         ReportProgress progress, BooleanSupplier cancelled) throws IOException {
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer chars = CharBuffer.allocate(CHUNK_SIZE);
+        ByteBuffer bytes = ByteBuffer.allocateDirect((int) (CHUNK_SIZE * encoder.maxBytesPerChar()));
+        long done = 0;
+
+        try (FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            boolean eof = false;
+            while (!eof) {
+                checkCancelled(cancelled);
+                int read = content.read(chars);
+                eof = read < 0;
+                if (read > 0) done += read;
+
+                chars.flip();
+                CoderResult result;
+                do {
+                    result = encoder.encode(chars, bytes, eof);
+                    if (result.isError()) result.throwException();
+                    drain(bytes, channel);
+                } while (result.isOverflow());
+                chars.compact();
+                progress.update(done, length);
+            }
+            while (encoder.flush(bytes).isOverflow()) {
+                drain(bytes, channel);
+            }
+            drain(bytes, channel);
+        }
+    }
+
+    private static void drain(ByteBuffer bytes, FileChannel channel) throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        bytes.clear();
+    }
+}
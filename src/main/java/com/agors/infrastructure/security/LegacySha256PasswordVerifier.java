@@ -0,0 +1,48 @@
+package com.agors.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Перевірка паролів, збережених у попередньому форматі: SHA-256 без солі,
+ * 64 шістнадцяткові символи.
+ * <p>
+ * Лише перевіряє існуючі хеші: кожен такий хеш потребує перерахунку,
+ * а нові хеші в цьому форматі не створюються.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public final class LegacySha256PasswordVerifier implements PasswordVerifier {
+
+    private static final int HEX_LENGTH = 64;
+
+    @Override
+    public boolean supports(String stored) {
+        if (stored == null || stored.length() != HEX_LENGTH) return false;
+        for (int i = 0; i < HEX_LENGTH; i++) {
+            if (Character.digit(stored.charAt(i), 16) < 0) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean verify(String password, String stored) {
+        try {
+            // Байти пароля в кодуванні за замовчуванням, як у попередній реалізації.
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(password.getBytes());
+            byte[] expected = HexFormat.of().parseHex(stored.toLowerCase());
+            return MessageDigest.isEqual(digest, expected);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Помилка хешування пароля", e);
+        }
+    }
+
+    @Override
+    public boolean needsRehash(String stored) {
+        return true;
+    }
+}
@@ -0,0 +1,174 @@
+package com.agors.infrastructure.security;
+
+import com.agors.domain.entity.User;
+import com.agors.infrastructure.persistence.impl.SessionDaoImpl;
+import com.agors.infrastructure.persistence.impl.UserDaoImpl;
+import com.agors.infrastructure.util.ConnectionManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Вхід користувача: пошук облікового запису, перевірка пароля та створення сесії.
+ * <p>
+ * Усі кроки виконуються в одному з'єднанні й одній транзакції: або користувач
+ * отримує сесію (і, за потреби, оновлений хеш пароля), або в базі нічого не змінюється.
+ * Перевірка пароля навмисно повільна ({@link PasswordHashing}), тому метод блокуючий
+ * і має викликатися у фоновому потоці; хід виконання передається через {@link Step}.
+ * Токен створеної сесії після фіксації транзакції запам'ятовується у {@link SessionStore}.
+ * </p>
+ * <p>
+ * Транзакція та з'єднання з пулу залишаються відкритими на час одного обчислення PBKDF2
+ * (перевірка пароля) або двох, якщо хеш перераховується, — з типовою кількістю ітерацій
+ * це приблизно 1–2 с, протягом яких з'єднання недоступне іншим операціям.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public class LoginService {
+
+    private static final Logger LOG = LogManager.getLogger(LoginService.class);
+
+    /**
+     * Крок входу, про початок якого повідомляється отримувачу прогресу.
+     */
+    public enum Step {
+        /** Пошук облікового запису за логіном або email. */
+        LOOKUP,
+        /** Перевірка пароля. */
+        VERIFY,
+        /** Створення сесії. */
+        SESSION
+    }
+
+    /**
+     * Результат входу.
+     *
+     * @param user         автентифікований користувач або null у разі помилки
+     * @param sessionToken токен створеної сесії або null, якщо сесія не створювалась
+     * @param errors       помилки за полями ("login", "password") з ключами повідомлень I18n
+     */
+    public record Result(User user, String sessionToken, Map<String, String> errors) {
+
+        /**
+         * Перевіряє, чи вхід успішний.
+         *
+         * @return true, якщо помилок немає
+         */
+        public boolean isSuccess() {
+            return errors.isEmpty();
+        }
+
+        private static Result failed(String field, String messageKey) {
+            return new Result(null, null, Map.of(field, messageKey));
+        }
+    }
+
+    private final UserDaoImpl userDao = new UserDaoImpl();
+    private final SessionDaoImpl sessionDao = new SessionDaoImpl();
+
+    /**
+     * Виконує вхід, створює сесію і запам'ятовує її токен на цьому пристрої.
+     *
+     * @param loginOrEmail логін або email
+     * @param rawPassword  пароль у відкритому вигляді
+     * @param progress     отримувач кроків входу (викликається у потоці виконання)
+     * @return результат із користувачем і токеном сесії або з помилками
+     * @throws RuntimeException у разі помилки доступу до БД
+     */
+    public Result login(String loginOrEmail, String rawPassword, Consumer<Step> progress) {
+        SessionStore sessions = SessionStore.getInstance();
+        Result result = run(loginOrEmail, rawPassword, sessions, progress);
+        if (result.sessionToken() != null) {
+            sessions.remember(result.sessionToken());
+        }
+        return result;
+    }
+
+    /**
+     * Перевіряє облікові дані без створення сесії.
+     *
+     * @param loginOrEmail логін або email
+     * @param rawPassword  пароль у відкритому вигляді
+     * @return результат із користувачем або з помилками
+     * @throws RuntimeException у разі помилки доступу до БД
+     */
+    public Result authenticate(String loginOrEmail, String rawPassword) {
+        return run(loginOrEmail, rawPassword, null, step -> {});
+    }
+
+    private Result run(String loginOrEmail, String rawPassword, SessionStore sessions, Consumer<Step> progress) {
+        try (Connection conn = ConnectionManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                Result result = run(conn, loginOrEmail, rawPassword, sessions, progress);
+                conn.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Не вдалося виконати вхід користувача: " + loginOrEmail, e);
+        }
+    }
+
+    private Result run(Connection conn, String loginOrEmail, String rawPassword,
+                       SessionStore sessions, Consumer<Step> progress) throws SQLException {
+        progress.accept(Step.LOOKUP);
+        User user = userDao.getByUsernameOrEmail(conn, loginOrEmail);
+        if (user == null) {
+            return Result.failed("login", "error_user_not_found");
+        }
+
+        progress.accept(Step.VERIFY);
+        PasswordHashing hashing = PasswordHashing.getInstance();
+        String stored = user.getPasswordHash();
+        if (!hashing.verify(rawPassword, stored)) {
+            return Result.failed("password", "error_wrong_password");
+        }
+        if (hashing.needsRehash(stored)) {
+            upgradeHash(conn, user, hashing.hash(rawPassword));
+        }
+        if (sessions == null) {
+            return new Result(user, null, Map.of());
+        }
+
+        progress.accept(Step.SESSION);
+        String token = UUID.randomUUID().toString();
+        sessionDao.createSession(conn, user.getId(), token, sessions.ttl());
+        return new Result(user, token, Map.of());
+    }
+
+    /**
+     * Зберігає оновлений хеш пароля. Оновлення необов'язкове: його помилка (наприклад,
+     * стовпець password ще не розширено під новий формат) відкочується до точки збереження
+     * й лише записується в журнал, а вхід і створення сесії фіксуються як зазвичай.
+     * Новий хеш обчислюється до виклику, тобто ще в межах відкритої транзакції входу.
+     *
+     * @param conn     з'єднання транзакції входу
+     * @param user     автентифікований користувач
+     * @param upgraded новий хеш пароля
+     * @throws SQLException якщо не вдалося створити або відкотити точку збереження
+     */
+    private void upgradeHash(Connection conn, User user, String upgraded) throws SQLException {
+        Savepoint savepoint = conn.setSavepoint();
+        try {
+            if (userDao.updatePasswordHash(conn, user.getId(), user.getPasswordHash(), upgraded)) {
+                user.setPasswordHash(upgraded);
+            }
+        } catch (SQLException e) {
+            conn.rollback(savepoint);
+            LOG.warn("Не вдалося оновити хеш пароля користувача з id={}", user.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.agors.infrastructure.security;
+
+/**
+ * Алгоритм хешування паролів, яким створюються нові хеші.
+ * <p>
+ * Хеш зберігається у власному форматі алгоритму разом з усіма параметрами,
+ * тож його перевіряють ті самі методи {@link PasswordVerifier}.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public interface PasswordHasher extends PasswordVerifier {
+
+    /**
+     * Обчислює хеш пароля для збереження.
+     *
+     * @param password пароль у відкритому вигляді
+     * @return збережуваний рядок з усіма параметрами, потрібними для перевірки
+     */
+    String hash(String password);
+}
@@ -0,0 +1,121 @@
+package com.agors.infrastructure.security;
+
+import com.agors.infrastructure.util.PropertiesUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Набір алгоритмів хешування паролів застосунку.
+ * <p>
+ * Нові хеші створює поточний алгоритм, а перевірка обирає алгоритм за форматом
+ * збереженого хешу, тож старі хеші залишаються дійсними. Хеш, створений іншим
+ * алгоритмом або слабшими параметрами, позначається {@link #needsRehash(String)}
+ * і перераховується при наступному успішному вході.
+ * </p>
+ * <p>
+ * Вартість хешування задається властивістю {@code password.pbkdf2.iterations}
+ * (за замовчуванням {@value Pbkdf2PasswordHasher#DEFAULT_ITERATIONS}). Більше ітерацій —
+ * стійкіший хеш і довший вхід; значення варто підбирати, вимірюючи час входу на цільовому
+ * обладнанні. Після збільшення значення хеші користувачів оновлюються поступово під час входу.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public final class PasswordHashing {
+
+    private final PasswordHasher current;
+    private final List<PasswordVerifier> verifiers;
+
+    /**
+     * Лінивий тримач спільного екземпляра: налаштування зчитуються лише при першому зверненні.
+     */
+    private static final class Holder {
+        static final PasswordHashing INSTANCE = new PasswordHashing(
+            new Pbkdf2PasswordHasher(iterationsFromProperties()), new LegacySha256PasswordVerifier());
+    }
+
+    /**
+     * Створює набір алгоритмів.
+     *
+     * @param current  алгоритм для нових хешів
+     * @param previous попередні формати, хеші яких ще потрібно перевіряти
+     */
+    public PasswordHashing(PasswordHasher current, PasswordVerifier... previous) {
+        List<PasswordVerifier> all = new ArrayList<>();
+        all.add(current);
+        all.addAll(Arrays.asList(previous));
+        this.current = current;
+        this.verifiers = List.copyOf(all);
+    }
+
+    /**
+     * Повертає спільний набір алгоритмів застосунку.
+     *
+     * @return набір алгоритмів
+     */
+    public static PasswordHashing getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Зчитує вартість хешування; незадане або некоректне значення замінюється типовим.
+     *
+     * @return кількість ітерацій PBKDF2
+     */
+    private static int iterationsFromProperties() {
+        String configured = PropertiesUtil.get("password.pbkdf2.iterations");
+        if (configured == null) {
+            return Pbkdf2PasswordHasher.DEFAULT_ITERATIONS;
+        }
+        try {
+            int value = Integer.parseInt(configured.trim());
+            return value > 0 ? value : Pbkdf2PasswordHasher.DEFAULT_ITERATIONS;
+        } catch (NumberFormatException e) {
+            return Pbkdf2PasswordHasher.DEFAULT_ITERATIONS;
+        }
+    }
+
+    /**
+     * Обчислює хеш пароля поточним алгоритмом.
+     *
+     * @param password пароль у відкритому вигляді
+     * @return збережуваний рядок
+     */
+    public String hash(String password) {
+        return current.hash(password);
+    }
+
+    /**
+     * Перевіряє пароль за збереженим хешем будь-якого відомого формату.
+     *
+     * @param password пароль у відкритому вигляді
+     * @param stored   збережений хеш
+     * @return true, якщо пароль правильний; false — якщо ні або формат невідомий
+     */
+    public boolean verify(String password, String stored) {
+        if (password == null) return false;
+        PasswordVerifier verifier = verifierFor(stored);
+        return verifier != null && verifier.verify(password, stored);
+    }
+
+    /**
+     * Перевіряє, чи хеш слід перерахувати поточним алгоритмом.
+     *
+     * @param stored збережений хеш
+     * @return true, якщо хеш створено іншим алгоритмом або слабшими параметрами
+     */
+    public boolean needsRehash(String stored) {
+        PasswordVerifier verifier = verifierFor(stored);
+        return verifier != current || current.needsRehash(stored);
+    }
+
+    private PasswordVerifier verifierFor(String stored) {
+        for (PasswordVerifier verifier : verifiers) {
+            if (verifier.supports(stored)) return verifier;
+        }
+        return null;
+    }
+}
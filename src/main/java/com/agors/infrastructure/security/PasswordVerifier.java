@@ -0,0 +1,40 @@
+package com.agors.infrastructure.security;
+
+/**
+ * Перевірка паролів за збереженими хешами одного формату.
+ * <p>
+ * Кожен формат впізнає свої хеші через {@link #supports(String)}, тож у базі можуть
+ * одночасно бути хеші різних алгоритмів і різних версій параметрів. Застарілі формати
+ * реалізують лише цей інтерфейс; алгоритм, що створює нові хеші, — {@link PasswordHasher}.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public interface PasswordVerifier {
+
+    /**
+     * Перевіряє, чи збережений рядок створено в цьому форматі.
+     *
+     * @param stored збережений хеш
+     * @return true, якщо пароль можна перевірити за цим хешем
+     */
+    boolean supports(String stored);
+
+    /**
+     * Перевіряє пароль за збереженим хешем.
+     *
+     * @param password пароль у відкритому вигляді
+     * @param stored   збережений хеш, для якого {@link #supports(String)} повертає true
+     * @return true, якщо пароль правильний
+     */
+    boolean verify(String password, String stored);
+
+    /**
+     * Перевіряє, чи хеш створено з параметрами, слабшими за поточні.
+     *
+     * @param stored збережений хеш, для якого {@link #supports(String)} повертає true
+     * @return true, якщо хеш варто перерахувати при наступному вході
+     */
+    boolean needsRehash(String stored);
+}
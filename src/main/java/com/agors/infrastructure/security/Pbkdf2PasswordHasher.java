@@ -0,0 +1,123 @@
+package com.agors.infrastructure.security;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Хешування паролів PBKDF2-HMAC-SHA256 з випадковою сіллю для кожного користувача.
+ * <p>
+ * Формат збереженого рядка (версія 1):
+ * <pre>{@code $pbkdf2-sha256$v=1$i=<ітерації>$<сіль>$<хеш>}</pre>
+ * де сіль і хеш записані в Base64 без доповнення. Кількість ітерацій зберігається
+ * разом із хешем, тож її можна змінювати без втрати старих хешів: хеші з меншою
+ * кількістю ітерацій перевіряються як і раніше та позначаються для перерахунку.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public final class Pbkdf2PasswordHasher implements PasswordHasher {
+
+    /** Кількість ітерацій за замовчуванням (рекомендація OWASP для PBKDF2-HMAC-SHA256). */
+    public static final int DEFAULT_ITERATIONS = 600_000;
+
+    private static final String PREFIX = "$pbkdf2-sha256$";
+    private static final int VERSION = 1;
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final int iterations;
+
+    /**
+     * Створює алгоритм із заданою вартістю.
+     *
+     * @param iterations кількість ітерацій PBKDF2 для нових хешів
+     * @throws IllegalArgumentException якщо кількість ітерацій не додатна
+     */
+    public Pbkdf2PasswordHasher(int iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Кількість ітерацій повинна бути додатною: " + iterations);
+        }
+        this.iterations = iterations;
+    }
+
+    /**
+     * Повертає кількість ітерацій для нових хешів.
+     *
+     * @return кількість ітерацій
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    @Override
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        Base64.Encoder b64 = Base64.getEncoder().withoutPadding();
+        return PREFIX + "v=" + VERSION + "$i=" + iterations + "$"
+            + b64.encodeToString(salt) + "$" + b64.encodeToString(derive(password, salt, iterations));
+    }
+
+    @Override
+    public boolean supports(String stored) {
+        return stored != null && stored.startsWith(PREFIX);
+    }
+
+    @Override
+    public boolean verify(String password, String stored) {
+        Parsed p = parse(stored);
+        return p != null && MessageDigest.isEqual(p.hash(), derive(password, p.salt(), p.iterations()));
+    }
+
+    @Override
+    public boolean needsRehash(String stored) {
+        Parsed p = parse(stored);
+        return p == null || p.iterations() < iterations;
+    }
+
+    /**
+     * Складові збереженого хешу.
+     *
+     * @param iterations кількість ітерацій
+     * @param salt       сіль
+     * @param hash       хеш
+     */
+    private record Parsed(int iterations, byte[] salt, byte[] hash) {}
+
+    /**
+     * Розбирає збережений рядок.
+     *
+     * @param stored збережений хеш
+     * @return складові хешу або null, якщо формат чи версія невідомі
+     */
+    private static Parsed parse(String stored) {
+        if (stored == null || !stored.startsWith(PREFIX)) return null;
+        String[] parts = stored.substring(PREFIX.length()).split("\\$");
+        if (parts.length != 4 || !parts[0].equals("v=" + VERSION) || !parts[1].startsWith("i=")) return null;
+        try {
+            Base64.Decoder b64 = Base64.getDecoder();
+            return new Parsed(Integer.parseInt(parts[1].substring(2)), b64.decode(parts[2]), b64.decode(parts[3]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static byte[] derive(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Помилка хешування пароля", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
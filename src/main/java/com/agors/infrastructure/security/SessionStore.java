@@ -0,0 +1,238 @@
+package com.agors.infrastructure.security;
+
+import com.agors.domain.entity.User;
+import com.agors.infrastructure.persistence.impl.SessionDaoImpl;
+import com.agors.infrastructure.util.PropertiesUtil;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сесії користувачів, прив'язані до локально збереженого токена.
+ * <p>
+ * Після входу токен сесії зберігається у файлі на цьому пристрої, а під час запуску
+ * {@link #restore()} шукає в базі лише сесію з цим токеном (за унікальним індексом),
+ * тому застосунок ніколи не підхоплює чужу сесію. Якщо файлу немає, база не запитується взагалі.
+ * </p>
+ * <p>
+ * Сесія чинна до {@code expires_at}; кожне відновлення переносить цей момент на TTL уперед
+ * (ковзне продовження), тож сесія спливає лише після TTL без запусків застосунку.
+ * Час завершення відлічується від годинника сервера БД, а не цього пристрою.
+ * Вихід лише деактивує сесію: рядки сесій є журналом входів для звітів, тому у фоні порціями
+ * (кожна — в окремій короткій транзакції) видаляються тільки сесії, що завершилися понад
+ * {@code session.retention.days} тому.
+ * Методи, що звертаються до бази, блокуючі й мають викликатися у фоновому потоці.
+ * </p>
+ * <p>
+ * Налаштування зчитуються з файлу властивостей:
+ * <ul>
+ *     <li>{@code session.ttl.days} — тривалість сесії без запусків (за замовчуванням 30);</li>
+ *     <li>{@code session.retention.days} — скільки зберігати завершені сесії в журналі входів (за замовчуванням 365);</li>
+ *     <li>{@code session.purge.minutes} — період видалення завершених сесій (за замовчуванням 60, 0 — не видаляти);</li>
+ *     <li>{@code session.purge.batch} — кількість сесій в одній порції (за замовчуванням 500);</li>
+ *     <li>{@code session.token.file} — шлях до файлу токена (за замовчуванням {@code ~/.histotrek/session.token}).</li>
+ * </ul>
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public final class SessionStore {
+
+    /** Затримка першого видалення після запуску, щоб не навантажувати старт застосунку. */
+    private static final long INITIAL_DELAY_MINUTES = 1;
+
+    private final SessionDaoImpl sessionDao;
+    private final SessionTokenFile tokenFile;
+    private final Duration ttl;
+    private final Duration retention;
+    private final long purgeMinutes;
+    private final int purgeBatch;
+    private ScheduledExecutorService executor;
+    private volatile boolean paused;
+    /** Чи було пропущене хоча б одне видалення під час паузи. */
+    private volatile boolean missed;
+
+    /**
+     * Лінивий тримач спільного екземпляра: налаштування зчитуються лише при першому зверненні.
+     */
+    private static final class Holder {
+        static final SessionStore INSTANCE = new SessionStore(
+            new SessionDaoImpl(), new SessionTokenFile(tokenFileFromProperties()),
+            Duration.ofDays(longProperty("session.ttl.days", 30)),
+            Duration.ofDays(longProperty("session.retention.days", 365)),
+            longProperty("session.purge.minutes", 60),
+            (int) longProperty("session.purge.batch", 500));
+    }
+
+    /**
+     * Створює сховище сесій.
+     *
+     * @param sessionDao   DAO сесій
+     * @param tokenFile    локальний файл токена
+     * @param ttl          тривалість сесії без відновлень
+     * @param retention    скільки зберігати завершені сесії
+     * @param purgeMinutes період видалення завершених сесій, хв (0 — не видаляти)
+     * @param purgeBatch   кількість сесій в одній порції видалення
+     */
+    SessionStore(SessionDaoImpl sessionDao, SessionTokenFile tokenFile, Duration ttl,
+                 Duration retention, long purgeMinutes, int purgeBatch) {
+        this.sessionDao = sessionDao;
+        this.tokenFile = tokenFile;
+        this.ttl = ttl;
+        this.retention = retention;
+        this.purgeMinutes = purgeMinutes;
+        this.purgeBatch = Math.max(1, purgeBatch);
+    }
+
+    /**
+     * Повертає спільне сховище сесій.
+     *
+     * @return сховище сесій
+     */
+    public static SessionStore getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static long longProperty(String key, long fallback) {
+        try {
+            long value = Long.parseLong(PropertiesUtil.get(key, String.valueOf(fallback)).trim());
+            return value >= 0 ? value : fallback;
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static Path tokenFileFromProperties() {
+        String file = PropertiesUtil.get("session.token.file");
+        return file != null && !file.isBlank()
+            ? Paths.get(file.trim())
+            : Paths.get(System.getProperty("user.home"), ".histotrek", "session.token");
+    }
+
+    /**
+     * Повертає тривалість нової або щойно відновленої сесії від поточного часу сервера БД.
+     *
+     * @return TTL сесії
+     */
+    public Duration ttl() {
+        return ttl;
+    }
+
+    /**
+     * Запам'ятовує токен щойно створеної сесії на цьому пристрої.
+     *
+     * @param token токен сесії
+     */
+    public void remember(String token) {
+        tokenFile.write(token);
+    }
+
+    /**
+     * Відновлює сесію за збереженим токеном і продовжує її на TTL.
+     * Якщо сесія спливла або видалена, токен забувається.
+     *
+     * @return користувач чинної сесії або порожній {@link Optional}
+     * @throws RuntimeException у разі помилки доступу до БД
+     */
+    public Optional<User> restore() {
+        Optional<String> token = tokenFile.read();
+        if (token.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<User> user = sessionDao.findUserByToken(token.get());
+        if (user.isPresent()) {
+            sessionDao.extendSession(token.get(), ttl);
+        } else {
+            tokenFile.clear();
+        }
+        return user;
+    }
+
+    /**
+     * Завершує сесію цього пристрою: токен забувається одразу, а потім сесія деактивується в базі.
+     *
+     * @throws RuntimeException у разі помилки доступу до БД
+     */
+    public void logout() {
+        Optional<String> token = tokenFile.read();
+        tokenFile.clear();
+        token.ifPresent(sessionDao::deactivateByToken);
+    }
+
+    /**
+     * Видаляє всі сесії, що завершилися понад {@code session.retention.days} тому,
+     * порціями по {@code session.purge.batch}.
+     *
+     * @return кількість видалених сесій
+     * @throws RuntimeException у разі помилки доступу до БД
+     */
+    public int purgeExpired() {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = sessionDao.purgeExpired(retention, purgeBatch);
+            total += deleted;
+        } while (deleted == purgeBatch && !paused);
+        return total;
+    }
+
+    /**
+     * Запускає періодичне видалення завершених сесій. Повторний виклик нічого не робить.
+     */
+    public synchronized void start() {
+        if (executor != null || purgeMinutes <= 0) return;
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "session-purge");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleWithFixedDelay(() -> {
+            if (paused) {
+                missed = true;
+            } else {
+                purgeQuietly();
+            }
+        }, INITIAL_DELAY_MINUTES, purgeMinutes, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Призупиняє або відновлює видалення. Порція, що видаляється зараз, не переривається.
+     * Якщо під час паузи було пропущене видалення, після відновлення воно виконується одразу.
+     *
+     * @param paused true — призупинити, false — відновити
+     */
+    public synchronized void setPaused(boolean paused) {
+        this.paused = paused;
+        if (!paused && missed && executor != null) {
+            missed = false;
+            executor.execute(this::purgeQuietly);
+        }
+    }
+
+    /**
+     * Зупиняє періодичне видалення. Викликається під час завершення роботи застосунку.
+     */
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    /**
+     * Видаляє завершені сесії; помилка лише виводиться, щоб не скасувати подальші запуски.
+     */
+    private void purgeQuietly() {
+        try {
+            purgeExpired();
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.agors.infrastructure.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Optional;
+
+/**
+ * Локальний файл із токеном сесії цього пристрою.
+ * <p>
+ * Файл перезаписується атомарно (через тимчасовий файл у тому ж каталозі), а на
+ * файлових системах POSIX доступний лише власнику. Помилки вводу-виводу лише
+ * виводяться: без файлу застосунок просто не відновить сесію автоматично.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+final class SessionTokenFile {
+
+    private final Path file;
+
+    /**
+     * Створює доступ до файлу токена.
+     *
+     * @param file шлях до файлу
+     */
+    SessionTokenFile(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Зчитує збережений токен.
+     *
+     * @return токен або порожній {@link Optional}, якщо файлу немає чи він порожній
+     */
+    Optional<String> read() {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            String token = Files.readString(file, StandardCharsets.UTF_8).trim();
+            return token.isEmpty() ? Optional.empty() : Optional.of(token);
+        } catch (IOException e) {
+            System.err.println("Не вдалося прочитати токен сесії: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Зберігає токен, замінюючи попередній.
+     *
+     * @param token токен сесії
+     */
+    void write(String token) {
+        Path tmp = null;
+        try {
+            Path dir = Files.createDirectories(file.toAbsolutePath().getParent());
+            tmp = Files.createTempFile(dir, "session", ".tmp");
+            if (Files.getFileStore(tmp).supportsFileAttributeView("posix")) {
+                Files.setPosixFilePermissions(tmp, PosixFilePermissions.fromString("rw-------"));
+            }
+            Files.writeString(tmp, token, StandardCharsets.UTF_8);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | SecurityException e) {
+            System.err.println("Не вдалося зберегти токен сесії: " + e.getMessage());
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Видаляє збережений токен.
+     */
+    void clear() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException | SecurityException e) {
+            System.err.println("Не вдалося видалити токен сесії: " + e.getMessage());
+        }
+    }
+}
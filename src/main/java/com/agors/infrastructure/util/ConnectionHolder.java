@@ -18,18 +18,17 @@ import java.sql.Connection;
  * ConnectionHolder.clearConnection();
  * }</pre>
  *
- * <strong>⚠ Увага:</strong> Ця реалізація використовує єдине поле {@code static Connection},
- * тобто вона не є безпечною для багатопотокового середовища.
- * Для справжньої потокобезпеки слід використовувати {@code ThreadLocal<Connection>}.
+ * З'єднання зберігається у {@code ThreadLocal}, тому кожен потік бачить лише власне з'єднання.
+ * Повернення з'єднання у пул автоматично очищає значення для поточного потоку.
  *
  * @author agors
  * @version 1.0
  */
 public class ConnectionHolder {
     /**
-     * Поточне з'єднання з базою даних, що використовується в межах поточного контексту.
+     * З'єднання з базою даних, що використовується в межах поточного потоку.
      */
-    private static Connection connection;
+    private static final ThreadLocal<Connection> connection = new ThreadLocal<>();
 
     /**
      * Встановлює з'єднання, яке буде доступне через {@link #getConnection()}.
@@ -37,7 +36,7 @@ public class ConnectionHolder {
      * @param conn з'єднання з базою даних
      */
     public static void setConnection(Connection conn) {
-        connection = conn;
+        connection.set(conn);
     }
 
     /**
@@ -46,7 +45,7 @@ public class ConnectionHolder {
      * @return з'єднання з базою даних
      */
     public static Connection getConnection() {
-        return connection;
+        return connection.get();
     }
 
     /**
@@ -54,6 +53,6 @@ public class ConnectionHolder {
      * Викликається після завершення операцій з базою.
      */
     public static void clearConnection() {
-        connection = null;
+        connection.remove();
     }
 }
@@ -1,19 +1,20 @@
 package com.agors.infrastructure.util;
 
-import java.lang.reflect.Proxy;
+import com.agors.infrastructure.persistence.pool.ConnectionPool;
+import com.agors.infrastructure.persistence.pool.PoolConfig;
+import com.agors.infrastructure.persistence.pool.PoolStats;
+
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 
 /**
  * Клас для керування пулом з'єднань до бази даних.
  * <p>
- * Реалізує простий механізм connection pool з використанням обгортки (proxy),
- * яка перехоплює виклики методу {@code close()} і повертає з'єднання у пул замість реального закриття.
+ * Делегує роботу {@link ConnectionPool}: пул тримає від {@code db.pool.min} до {@code db.pool.max}
+ * з'єднань, перевіряє їх перед видачею, обмежує час очікування та вік з'єднань
+ * і повідомляє про з'єднання, які не повернули у пул.
+ * Метод {@code close()} виданого з'єднання повертає його у пул замість реального закриття.
  * </p>
  *
  * <p>
@@ -22,12 +23,12 @@ import java.util.concurrent.BlockingQueue;
  *     <li>{@code db.url} — URL бази даних</li>
  *     <li>{@code db.username} — ім’я користувача</li>
  *     <li>{@code db.password} — пароль</li>
- *     <li>{@code db.pool.size} — розмір пулу (опціонально, за замовчуванням 5)</li>
+ *     <li>{@code db.pool.*} — параметри пулу, див. {@link PoolConfig}</li>
  * </ul>
  * </p>
  *
  * <p>
- * Для використання: {@code Connection conn = ConnectionManager.getConnection();}
+ * Для використання: {@code try (Connection conn = ConnectionManager.getConnection()) { ... }}
  * </p>
  *
  * @author agors
@@ -38,21 +39,16 @@ public class ConnectionManager {
     private static final String URL_KEY       = "db.url";
     private static final String USERNAME_KEY  = "db.username";
     private static final String PASSWORD_KEY  = "db.password";
-    private static final String POOL_SIZE_KEY = "db.pool.size";
-    private static final int DEFAULT_SIZE     = 5;
 
-    private static final BlockingQueue<Connection> pool;
-    private static final List<Connection> realConnections = new ArrayList<>();
+    private static final ConnectionPool pool;
 
     static {
         loadDriver();
-        int size = DEFAULT_SIZE;
-        String cfg = PropertiesUtil.get(POOL_SIZE_KEY);
-        if (cfg != null) {
-            try { size = Integer.parseInt(cfg); } catch (NumberFormatException ignored) {}
+        try {
+            pool = new ConnectionPool(PoolConfig.fromProperties(), ConnectionManager::openNew);
+        } catch (SQLException e) {
+            throw new RuntimeException("Cannot open Azure SQL DB connection", e);
         }
-        pool = new ArrayBlockingQueue<>(size);
-        initPool(size);
     }
 
     /**
@@ -72,80 +68,59 @@ public class ConnectionManager {
         }
     }
 
-    /**
-     * Ініціалізує пул з'єднань заданого розміру.
-     *
-     * @param size кількість з'єднань у пулі
-     */
-    private static void initPool(int size) {
-        for (int i = 0; i < size; i++) {
-            Connection real = openNew();
-            Connection proxy = (Connection) Proxy.newProxyInstance(
-                ConnectionManager.class.getClassLoader(),
-                new Class[]{ Connection.class },
-                (proxyConn, method, args) -> {
-                    if ("close".equals(method.getName())) {
-                        pool.offer((Connection) proxyConn);
-                        ConnectionHolder.clearConnection();
-                        return null;
-                    } else {
-                        return method.invoke(real, args);
-                    }
-                }
-            );
-            pool.offer(proxy);
-            realConnections.add(real);
-        }
-    }
-
     /**
      * Встановлює нове реальне з'єднання до бази даних.
      *
      * @return нове з'єднання JDBC
+     * @throws SQLException у разі помилки підключення
      */
-    private static Connection openNew() {
-        try {
-            String url = PropertiesUtil.get(URL_KEY);
-            String usr = PropertiesUtil.get(USERNAME_KEY);
-            String pwd = PropertiesUtil.get(PASSWORD_KEY);
-            if (url == null || usr == null || pwd == null) {
-                throw new IllegalStateException("Azure SQL properties not set");
-            }
-            return DriverManager.getConnection(url, usr, pwd);
-        } catch (SQLException e) {
-            throw new RuntimeException("Cannot open Azure SQL DB connection", e);
+    private static Connection openNew() throws SQLException {
+        String url = PropertiesUtil.get(URL_KEY);
+        String usr = PropertiesUtil.get(USERNAME_KEY);
+        String pwd = PropertiesUtil.get(PASSWORD_KEY);
+        if (url == null || usr == null || pwd == null) {
+            throw new IllegalStateException("Azure SQL properties not set");
         }
+        return DriverManager.getConnection(url, usr, pwd);
     }
 
     /**
      * Повертає одне з'єднання з пулу для використання у DAO-операціях.
      * <p>
-     * З'єднання автоматично зберігається у {@link ConnectionHolder} для доступу з інших компонентів.
+     * З'єднання автоматично зберігається у {@link ConnectionHolder} поточного потоку.
      * </p>
      *
      * @return об'єкт {@link Connection}
-     * @throws RuntimeException якщо очікування з'єднання було перерване
+     * @throws RuntimeException якщо вільне з'єднання не з'явилося вчасно,
+     *                          не вдалося відкрити нове або очікування було перерване
      */
     public static Connection getConnection() {
         try {
-            Connection conn = pool.take();
+            Connection conn = pool.borrow();
             ConnectionHolder.setConnection(conn);
             return conn;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Interrupted while waiting for DB connection", e);
+        } catch (SQLException e) {
+            throw new RuntimeException("Cannot obtain DB connection", e);
         }
     }
 
+    /**
+     * Повертає поточну статистику пулу з'єднань.
+     *
+     * @return знімок стану пулу
+     */
+    public static PoolStats getStats() {
+        return pool.stats();
+    }
+
     /**
      * Закриває всі реальні з'єднання в пулі.
      * Викликається під час завершення роботи застосунку.
      */
     public static void shutdown() {
-        for (Connection real : realConnections) {
-            try {
-                real.close();
-            } catch (SQLException ignored) {}
-        }
+        pool.close();
     }
 }
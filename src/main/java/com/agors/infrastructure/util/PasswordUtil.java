@@ -1,11 +1,12 @@
 package com.agors.infrastructure.util;
 
-import java.security.MessageDigest;
+import com.agors.infrastructure.security.PasswordHashing;
 
 /**
  * Утилітний клас для хешування паролів.
  * <p>
- * Забезпечує генерацію SHA-256 хешу для вхідного пароля.
+ * Делегує спільному {@link PasswordHashing}: нові хеші створюються PBKDF2 із сіллю,
+ * а перевірка підтримує й попередній формат SHA-256 без солі.
  * </p>
  *
  * @author agors
@@ -14,24 +15,34 @@ import java.security.MessageDigest;
 public class PasswordUtil {
 
     /**
-     * Генерує SHA-256 хеш для заданого пароля.
+     * Генерує хеш для заданого пароля з новою випадковою сіллю.
      *
      * @param password пароль у відкритому вигляді
-     * @return хеш-представлення пароля у шістнадцятковому форматі
+     * @return збережуваний рядок хешу у версіонованому форматі
      * @throws RuntimeException у разі помилки алгоритму хешування
      */
     public static String hashPassword(String password) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] hash = md.digest(password.getBytes());
+        return PasswordHashing.getInstance().hash(password);
+    }
 
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash)
-                hexString.append(String.format("%02x", b));
-            return hexString.toString();
+    /**
+     * Перевіряє пароль за збереженим хешем.
+     *
+     * @param password пароль у відкритому вигляді
+     * @param stored   збережений хеш (поточного або попереднього формату)
+     * @return true, якщо пароль правильний
+     */
+    public static boolean verifyPassword(String password, String stored) {
+        return PasswordHashing.getInstance().verify(password, stored);
+    }
 
-        } catch (Exception e) {
-            throw new RuntimeException("Помилка хешування пароля", e);
-        }
+    /**
+     * Перевіряє, чи збережений хеш слід перерахувати поточним алгоритмом.
+     *
+     * @param stored збережений хеш
+     * @return true, якщо хеш застарілого формату або слабших параметрів
+     */
+    public static boolean needsRehash(String stored) {
+        return PasswordHashing.getInstance().needsRehash(stored);
     }
 }
@@ -24,34 +24,84 @@ public class PersistenceInitializer {
     private static final String DDL_PATH = "db/ddl_postgresql.sql";
     private static final String DML_PATH = "db/dml_postgresql.sql";
 
+    /** Повний перерахунок зведених рейтингів місць з таблиці review. */
+    private static final String REBUILD_RATING_SUMMARY = """
+        INSERT INTO place_rating_summary
+            (place_id, review_count, rating_sum, rating_1, rating_2, rating_3, rating_4, rating_5, last_review_at)
+        SELECT place_id, COUNT(*), COALESCE(SUM(rating), 0),
+               SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END),
+               SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END),
+               SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END),
+               SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END),
+               SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END),
+               MAX(created_at)
+        FROM review
+        GROUP BY place_id
+        """;
+
     /**
      * Виконує ініціалізацію бази даних: створює схему та наповнює дані.
      * <p>
      * Встановлює закриття транзакції вручну, виконує DDL,
-     * а якщо налаштовано, виконує DML, потім комітить.
+     * а якщо налаштовано, виконує DML, перераховує зведені рейтинги, потім комітить.
      * </p>
      *
      * @throws RuntimeException у разі помилки SQL або читання ресурсів
      */
     public static void init() {
-        try {
-            Connection conn = ConnectionManager.getConnection();
-            ConnectionHolder.setConnection(conn);
+        try (Connection conn = ConnectionManager.getConnection();
+            Statement stmt = conn.createStatement()) {
+            conn.setAutoCommit(false);
+            stmt.execute(readSql(DDL_PATH));
+            boolean runDml = Boolean.parseBoolean(PropertiesUtil.get("db.run.dml", "true"));
+            if (runDml) {
+                stmt.execute(readSql(DML_PATH));
+            }
+            rebuildRatingSummaries(stmt);
+            conn.commit();
+        } catch (SQLException e) {
+            throw new RuntimeException("Ініціалізація БД не вдалася", e);
+        }
+    }
 
+    /**
+     * Повністю перераховує таблицю {@code place_rating_summary} з таблиці review.
+     * <p>
+     * Використовується після масового імпорту відгуків або для відновлення
+     * узгодженості, якщо відгуки змінювалися в обхід {@code ReviewDaoImpl}.
+     * Виконується в окремій транзакції.
+     * </p>
+     *
+     * @throws RuntimeException у разі помилки SQL
+     */
+    public static void rebuildRatingSummaries() {
+        try (Connection conn = ConnectionManager.getConnection()) {
+            conn.setAutoCommit(false);
             try (Statement stmt = conn.createStatement()) {
-                conn.setAutoCommit(false);
-                stmt.execute(readSql(DDL_PATH));
-                boolean runDml = Boolean.parseBoolean(PropertiesUtil.get("db.run.dml", "true"));
-                if (runDml) {
-                    stmt.execute(readSql(DML_PATH));
-                }
+                rebuildRatingSummaries(stmt);
                 conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
             }
         } catch (SQLException e) {
-            throw new RuntimeException("Ініціалізація БД не вдалася", e);
+            throw new RuntimeException("Не вдалося перерахувати рейтинги місць", e);
         }
     }
 
+    /**
+     * Перераховує зведені рейтинги в межах поточної транзакції.
+     *
+     * @param stmt statement відкритої транзакції
+     * @throws SQLException у разі помилки SQL
+     */
+    private static void rebuildRatingSummaries(Statement stmt) throws SQLException {
+        stmt.executeUpdate("DELETE FROM place_rating_summary");
+        stmt.executeUpdate(REBUILD_RATING_SUMMARY);
+    }
+
     /**
      * Зчитує SQL-скрипт з ресурсу та повертає як рядок.
      *
@@ -1,5 +1,8 @@
 package com.agors.infrastructure.util;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Properties;
@@ -8,6 +11,9 @@ import java.util.Properties;
  * Утилітний клас для завантаження та доступу до властивостей з файлу application.properties.
  * <p>
  * Завантажує властивості при ініціалізації класу та надає методи отримання значень за ключем.
+ * Якщо файлу немає в classpath (наприклад, у модульних тестах), усі ключі вважаються
+ * незаданими: кожен користувач властивості застосовує власне значення за замовчуванням,
+ * а підключення до бази повідомляє про відсутні налаштування.
  * </p>
  *
  * @author agors
@@ -15,6 +21,8 @@ import java.util.Properties;
  */
 public class PropertiesUtil {
 
+    private static final Logger LOG = LogManager.getLogger(PropertiesUtil.class);
+
     /** Об'єкт Properties для зберігання завантажених властивостей */
     private static final Properties PROPERTIES = new Properties();
 
@@ -45,14 +53,16 @@ public class PropertiesUtil {
 
     /**
      * Завантажує властивості з файлу application.properties у клас-шляху.
+     * Відсутній файл лише записується в журнал.
      *
-     * @throws RuntimeException якщо файл не знайдено або виникла помилка читання
+     * @throws RuntimeException якщо виникла помилка читання файлу
      */
     private static void loadProperties() {
         try (InputStream in = PropertiesUtil.class.getClassLoader()
             .getResourceAsStream("application.properties")) {
             if (in == null) {
-                throw new RuntimeException("application.properties не знайдено в classpath");
+                LOG.warn("application.properties не знайдено в classpath, використовуються значення за замовчуванням");
+                return;
             }
             PROPERTIES.load(in);
         } catch (IOException e) {
@@ -0,0 +1,204 @@
+package com.agors.infrastructure.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Оновлення схеми наявної бази даних, потрібні поточній версії застосунку.
+ * <p>
+ * На відміну від {@link PersistenceInitializer}, який виконує скрипт PostgreSQL лише
+ * за {@code db.run.ddl}, міграції виконуються під час кожного запуску й підтримують
+ * обидва діалекти, з якими працює застосунок (SQL Server і PostgreSQL). Кожна міграція
+ * спершу перевіряє схему через {@link DatabaseMetaData}, тож повторний запуск нічого не змінює.
+ * Помилка міграції (наприклад, брак прав на ALTER) лише записується в журнал і не скасовує наступні.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public final class SchemaMigrations {
+
+    private static final Logger LOG = LogManager.getLogger(SchemaMigrations.class);
+
+    /** Мінімальна довжина стовпця users.password для хешів PBKDF2 (близько 94 символів). */
+    static final int PASSWORD_COLUMN_SIZE = 255;
+
+    /** Кількість місць в одному пакетному оновленні стовпців пошуку. */
+    private static final int BACKFILL_BATCH = 500;
+
+    private static volatile boolean applied;
+
+    /**
+     * Окрема міграція схеми.
+     */
+    @FunctionalInterface
+    private interface Migration {
+        void apply(Connection conn, boolean sqlServer) throws SQLException;
+    }
+
+    /**
+     * Приватний конструктор для заборони створення екземплярів утилітного класу.
+     */
+    private SchemaMigrations() {}
+
+    /**
+     * Виконує міграції один раз за запуск застосунку. Блокуючий метод.
+     */
+    public static synchronized void apply() {
+        if (applied) return;
+        try (Connection conn = ConnectionManager.getConnection()) {
+            boolean sqlServer = isSqlServer(conn.getMetaData());
+            run("users.password", SchemaMigrations::widenPasswordColumn, conn, sqlServer);
+            run("user_session.expires_at", SchemaMigrations::addSessionExpiry, conn, sqlServer);
+            run("place.search_text", SchemaMigrations::addPlaceSearchColumns, conn, sqlServer);
+            run("place.search_text index", SchemaMigrations::indexPlaceSearch, conn, sqlServer);
+            run("place.search_text backfill", (c, dialect) -> backfillPlaceSearch(c), conn, sqlServer);
+        } catch (SQLException | RuntimeException e) {
+            LOG.error("Не вдалося оновити схему бази даних", e);
+        }
+        applied = true;
+    }
+
+    private static void run(String name, Migration migration, Connection conn, boolean sqlServer) {
+        try {
+            migration.apply(conn, sqlServer);
+        } catch (SQLException | RuntimeException e) {
+            LOG.error("Міграція {} не вдалася", name, e);
+        }
+    }
+
+    private static boolean isSqlServer(DatabaseMetaData meta) throws SQLException {
+        return meta.getDatabaseProductName().toLowerCase(Locale.ROOT).contains("sql server");
+    }
+
+    /**
+     * Розширює users.password, якщо стовпець ще має стару довжину під SHA-256 hex.
+     */
+    private static void widenPasswordColumn(Connection conn, boolean sqlServer) throws SQLException {
+        int size = columnSize(conn.getMetaData(), "users", "password");
+        if (size < 0 || size >= PASSWORD_COLUMN_SIZE) return;
+        String sql = sqlServer
+            ? "ALTER TABLE users ALTER COLUMN password VARCHAR(" + PASSWORD_COLUMN_SIZE + ") NOT NULL"
+            : "ALTER TABLE users ALTER COLUMN password TYPE VARCHAR(" + PASSWORD_COLUMN_SIZE + ")";
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(sql);
+        }
+        LOG.info("Стовпець users.password розширено з {} до {} символів", size, PASSWORD_COLUMN_SIZE);
+    }
+
+    /**
+     * Додає user_session.expires_at та індекс за ним, якщо схему створено до появи
+     * ковзного завершення сесій. Наявні сесії отримують 30 днів від часу сервера.
+     */
+    private static void addSessionExpiry(Connection conn, boolean sqlServer) throws SQLException {
+        if (columnSize(conn.getMetaData(), "user_session", "expires_at") >= 0) return;
+        String sql = sqlServer
+            ? "ALTER TABLE user_session ADD expires_at DATETIME2 NOT NULL"
+                + " CONSTRAINT df_session_expires_at DEFAULT DATEADD(day, 30, CURRENT_TIMESTAMP)"
+            : "ALTER TABLE user_session ADD COLUMN expires_at TIMESTAMP NOT NULL"
+                + " DEFAULT (NOW() + INTERVAL '30 days')";
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(sql);
+            stmt.executeUpdate("CREATE INDEX idx_session_expires_at ON user_session(expires_at)");
+        }
+        LOG.info("До user_session додано стовпець expires_at");
+    }
+
+    /**
+     * Додає до place нормалізовані стовпці пошуку {@code search_name} і {@code search_text}
+     * (див. {@link SearchText}).
+     */
+    private static void addPlaceSearchColumns(Connection conn, boolean sqlServer) throws SQLException {
+        if (columnSize(conn.getMetaData(), "place", "search_text") >= 0) return;
+        String sql = sqlServer
+            ? "ALTER TABLE place ADD search_name NVARCHAR(255) NULL, search_text NVARCHAR(500) NULL"
+            : "ALTER TABLE place ADD COLUMN search_name VARCHAR(255), ADD COLUMN search_text VARCHAR(500)";
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(sql);
+        }
+        LOG.info("До place додано стовпці пошуку search_name і search_text");
+    }
+
+    /**
+     * Створює індекс для {@code search_text LIKE '%слово%'}: триграмний GIN у PostgreSQL
+     * (потрібне розширення pg_trgm) і вузький некластеризований індекс у SQL Server, який
+     * переглядається замість усієї таблиці.
+     */
+    private static void indexPlaceSearch(Connection conn, boolean sqlServer) throws SQLException {
+        if (hasIndex(conn.getMetaData(), "place", sqlServer ? "idx_place_search_text" : "idx_place_search_trgm")) return;
+        try (Statement stmt = conn.createStatement()) {
+            if (sqlServer) {
+                stmt.executeUpdate("CREATE INDEX idx_place_search_text ON place(search_text) INCLUDE (search_name)");
+            } else {
+                stmt.executeUpdate("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+                stmt.executeUpdate("CREATE INDEX IF NOT EXISTS idx_place_search_trgm ON place USING gin (search_text gin_trgm_ops)");
+            }
+        }
+        LOG.info("Створено індекс пошуку місць");
+    }
+
+    /**
+     * Заповнює стовпці пошуку для місць, доданих в обхід {@link com.agors.infrastructure.persistence.impl.PlaceDaoImpl}
+     * (наприклад, скриптом DML або до появи стовпців).
+     */
+    private static void backfillPlaceSearch(Connection conn) throws SQLException {
+        String select = "SELECT id, name, country, era FROM place WHERE search_text IS NULL";
+        String update = "UPDATE place SET search_name = ?, search_text = ? WHERE id = ?";
+        List<String[]> rows = new ArrayList<>();
+        try (PreparedStatement read = conn.prepareStatement(select);
+            ResultSet rs = read.executeQuery()) {
+            while (rs.next()) {
+                String name = rs.getString("name");
+                rows.add(new String[] {
+                    SearchText.fold(name),
+                    SearchText.fold(name, rs.getString("country"), rs.getString("era")),
+                    rs.getString("id")
+                });
+            }
+        }
+        if (rows.isEmpty()) return;
+        try (PreparedStatement write = conn.prepareStatement(update)) {
+            for (int i = 0; i < rows.size(); i++) {
+                String[] row = rows.get(i);
+                write.setString(1, row[0]);
+                write.setString(2, row[1]);
+                write.setInt(3, Integer.parseInt(row[2]));
+                write.addBatch();
+                if ((i + 1) % BACKFILL_BATCH == 0 || i + 1 == rows.size()) {
+                    write.executeBatch();
+                }
+            }
+        }
+        LOG.info("Заповнено стовпці пошуку для {} місць", rows.size());
+    }
+
+    private static boolean hasIndex(DatabaseMetaData meta, String table, String index) throws SQLException {
+        try (ResultSet rs = meta.getIndexInfo(null, null, table, false, true)) {
+            while (rs.next()) {
+                if (index.equalsIgnoreCase(rs.getString("INDEX_NAME"))) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Повертає довжину стовпця.
+     *
+     * @return довжина або -1, якщо стовпця не знайдено
+     */
+    private static int columnSize(DatabaseMetaData meta, String table, String column) throws SQLException {
+        try (ResultSet rs = meta.getColumns(null, null, table, column)) {
+            return rs.next() ? rs.getInt("COLUMN_SIZE") : -1;
+        }
+    }
+}
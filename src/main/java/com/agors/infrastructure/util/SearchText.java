@@ -0,0 +1,72 @@
+package com.agors.infrastructure.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Спільна нормалізація тексту для пошуку місць.
+ * <p>
+ * Текст переводиться в нижній регістр, з нього прибираються діакритичні знаки,
+ * а все, крім літер і цифр, вважається роздільником слів. Тими самими правилами
+ * користуються клієнтський індекс пошуку і збережені в таблиці place стовпці
+ * {@code search_name} та {@code search_text}, тож пошук у базі й у пам'яті дає однаковий результат.
+ * </p>
+ *
+ * @author agors
+ * @version 1.0
+ */
+public final class SearchText {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * Приватний конструктор для заборони створення екземплярів утилітного класу.
+     */
+    private SearchText() {}
+
+    /**
+     * Нормалізує текст: переводить у нижній регістр і прибирає діакритичні знаки.
+     *
+     * @param text вихідний текст
+     * @return нормалізований текст
+     */
+    public static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("");
+    }
+
+    /**
+     * Нормалізує текст і розбиває його на слова.
+     *
+     * @param text вихідний текст (може бути null)
+     * @return список непорожніх слів
+     */
+    public static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) return words;
+        for (String w : SEPARATORS.split(normalize(text))) {
+            if (!w.isEmpty()) words.add(w);
+        }
+        return words;
+    }
+
+    /**
+     * Зводить кілька фрагментів тексту до нормалізованих слів, розділених одним пробілом.
+     * Слово запиту без пробілів є підрядком результату лише тоді, коли воно є частиною
+     * одного з цих слів.
+     *
+     * @param parts фрагменти тексту (null пропускаються)
+     * @return нормалізований текст для пошуку
+     */
+    public static String fold(String... parts) {
+        List<String> words = new ArrayList<>();
+        for (String part : parts) {
+            words.addAll(tokenize(part));
+        }
+        return String.join(" ", words);
+    }
+}
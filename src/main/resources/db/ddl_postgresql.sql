@@ -1,7 +1,10 @@
 -- --------- Тип для report.type ---------
 CREATE TYPE IF NOT EXISTS report_type_enum AS ENUM (
-    'popular_places',
-    'top_ratings'
+    'BEST_RATED',
+    'POPULAR_PLACES',
+    'USER_ACTIVITY',
+    'SYSTEM_LOG',
+    'TEXT_EXPORT'
 );
 
 -- --------- Користувачі (Users) ---------
@@ -9,9 +12,10 @@ CREATE TABLE IF NOT EXISTS users (
                                      id       SERIAL PRIMARY KEY,
                                      username VARCHAR(50)  NOT NULL UNIQUE,
     email    VARCHAR(100) NOT NULL UNIQUE,
-    password VARCHAR(64)  NOT NULL,  -- SHA-256 hex
+    password VARCHAR(255) NOT NULL,  -- $pbkdf2-sha256$v=1$i=...$сіль$хеш (старі записи: SHA-256 hex)
     role     VARCHAR(20)  NOT NULL
     );
+ALTER TABLE users ALTER COLUMN password TYPE VARCHAR(255);
 
 -- --------- Історичні місця (Place) ---------
 CREATE TABLE IF NOT EXISTS place (
@@ -20,8 +24,12 @@ CREATE TABLE IF NOT EXISTS place (
     country     VARCHAR(100) NOT NULL,
     era         VARCHAR(100) NOT NULL,
     description TEXT,
-    image_url   TEXT
+    image_url   TEXT,
+    search_name VARCHAR(255), -- назва, нормалізована SearchText (PlaceDao.search)
+    search_text VARCHAR(500)  -- назва, країна й епоха, нормалізовані SearchText
     );
+ALTER TABLE place ADD COLUMN IF NOT EXISTS search_name VARCHAR(255);
+ALTER TABLE place ADD COLUMN IF NOT EXISTS search_text VARCHAR(500);
 
 -- --------- Відгуки (Review) ---------
 CREATE TABLE IF NOT EXISTS review (
@@ -33,13 +41,29 @@ CREATE TABLE IF NOT EXISTS review (
     created_at  TIMESTAMP NOT NULL DEFAULT NOW()
     );
 
+-- --------- Зведений рейтинг місць (Place Rating Summary) ---------
+-- Підтримується ReviewDaoImpl у тій самій транзакції, що й зміни review.
+CREATE TABLE IF NOT EXISTS place_rating_summary (
+                                      place_id       INT PRIMARY KEY REFERENCES place(id) ON DELETE CASCADE,
+    review_count   INT       NOT NULL DEFAULT 0,
+    rating_sum     BIGINT    NOT NULL DEFAULT 0,
+    rating_1       INT       NOT NULL DEFAULT 0,
+    rating_2       INT       NOT NULL DEFAULT 0,
+    rating_3       INT       NOT NULL DEFAULT 0,
+    rating_4       INT       NOT NULL DEFAULT 0,
+    rating_5       INT       NOT NULL DEFAULT 0,
+    last_review_at TIMESTAMP
+    );
+
 -- --------- Звіти (Report) ---------
 CREATE TABLE IF NOT EXISTS report (
                                       id           SERIAL PRIMARY KEY,
                                       type         report_type_enum NOT NULL,
                                       generated_at TIMESTAMP NOT NULL DEFAULT NOW(),
-    content      TEXT
+    content      TEXT,
+    content_length BIGINT  -- довжина content у символах, для списку звітів без читання вмісту
     );
+ALTER TABLE report ADD COLUMN IF NOT EXISTS content_length BIGINT;
 
 -- --------- Улюблені місця (Favorite) ---------
 CREATE TABLE IF NOT EXISTS favorite (
@@ -56,15 +80,39 @@ CREATE TABLE IF NOT EXISTS user_session (
                                             user_id       INT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
     session_token VARCHAR(64) NOT NULL UNIQUE,
     login_time    TIMESTAMP   NOT NULL DEFAULT NOW(),
-    is_active     BOOLEAN     NOT NULL DEFAULT TRUE
+    is_active     BOOLEAN     NOT NULL DEFAULT TRUE,
+    expires_at    TIMESTAMP   NOT NULL DEFAULT (NOW() + INTERVAL '30 days') -- подовжується при відновленні сесії
     );
+ALTER TABLE user_session ADD COLUMN IF NOT EXISTS expires_at TIMESTAMP NOT NULL DEFAULT (NOW() + INTERVAL '30 days');
 
 -- --------- Індекси ---------
 CREATE INDEX IF NOT EXISTS idx_users_username     ON users(username);
 CREATE INDEX IF NOT EXISTS idx_users_email        ON users(email);
 CREATE INDEX IF NOT EXISTS idx_place_name         ON place(name);
 CREATE INDEX IF NOT EXISTS idx_place_country      ON place(country);
+
+-- Триграмний індекс для пошуку search_text LIKE '%...%' (PlaceDao.search);
+-- стовпці пошуку заповнює SchemaMigrations під час запуску застосунку
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+DROP INDEX IF EXISTS idx_place_name_trgm;
+DROP INDEX IF EXISTS idx_place_country_trgm;
+DROP INDEX IF EXISTS idx_place_era_trgm;
+CREATE INDEX IF NOT EXISTS idx_place_search_trgm  ON place USING gin (search_text gin_trgm_ops);
+
 CREATE INDEX IF NOT EXISTS idx_review_place       ON review(place_id);
 CREATE INDEX IF NOT EXISTS idx_review_user        ON review(user_id);
+CREATE INDEX IF NOT EXISTS idx_review_place_time  ON review(place_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_review_place_id    ON review(place_id, id);
 CREATE INDEX IF NOT EXISTS idx_session_user_id    ON user_session(user_id);
-CREATE INDEX IF NOT EXISTS idx_session_active     ON user_session(is_active);
+-- Сесія шукається за токеном (унікальний індекс session_token), прострочені видаляються за expires_at
+DROP INDEX IF EXISTS idx_session_active;
+CREATE INDEX IF NOT EXISTS idx_session_expires_at ON user_session(expires_at);
+
+-- Агрегація звітів (BEST_RATED, POPULAR_PLACES, USER_ACTIVITY, SYSTEM_LOG)
+CREATE INDEX IF NOT EXISTS idx_favorite_place     ON favorite(place_id);
+CREATE INDEX IF NOT EXISTS idx_session_login_time ON user_session(login_time);
+
+-- Інкрементні звіти: останній звіт типу та зміни після нього (ReportScheduler)
+CREATE INDEX IF NOT EXISTS idx_report_type_time   ON report(type, generated_at);
+CREATE INDEX IF NOT EXISTS idx_review_created_at  ON review(created_at);
+CREATE INDEX IF NOT EXISTS idx_favorite_created_at ON favorite(created_at);
@@ -0,0 +1,49 @@
+package com.agors.application.effect;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SandParticlesTest {
+
+    private final SandStyle style = new SandStyle(10, 2, 30, Color.BLACK, Color.WHITE);
+    private final SandParticles particles = new SandParticles(style, new Random(42));
+
+    @Test
+    void step_ShouldNeverExceedPoolCapacity() {
+        for (int frame = 0; frame < 1000; frame++) {
+            particles.step(0.05, 800, 600);
+            assertTrue(particles.size() <= particles.capacity());
+        }
+        assertEquals(style.capacity(), particles.capacity());
+        assertTrue(particles.size() >= 19, "Пул повинен заповнюватися відповідно до частоти");
+    }
+
+    @Test
+    void step_ShouldMoveParticlesUpAndRecycleThemAtTop() {
+        SandParticles exact = new SandParticles(new SandStyle(16, 1, 30, Color.BLACK), new Random(42));
+        exact.step(0.0625, 800, 600);
+        assertEquals(1, exact.size());
+        assertEquals(600, exact.y(0), 1e-9);
+
+        exact.step(0.0625, 800, 600);
+        assertTrue(exact.y(0) < 600, "Піщинка повинна підніматися");
+
+        for (int i = 0; i < 14; i++) exact.step(0.0625, 800, 600);
+        assertEquals(16, exact.size());
+        exact.step(0.0625, 800, 600);
+        assertEquals(16, exact.size(), "Піщинка, що долетіла до верху, звільняє слот");
+        for (int i = 0; i < exact.size(); i++) {
+            assertTrue(exact.y(i) > 0 && exact.y(i) <= 600);
+        }
+    }
+
+    @Test
+    void step_LongPause_ShouldNotSpawnBurst() {
+        particles.step(5, 800, 600);
+        assertEquals(1, particles.size(), "Довга пауза обмежується одним кроком");
+    }
+}
@@ -0,0 +1,85 @@
+package com.agors.application.paging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageLoaderTest {
+
+    private final List<Integer> rows = IntStream.rangeClosed(1, 5).boxed().toList();
+    private final List<Integer> received = new ArrayList<>();
+    private final List<Integer> requestedAfter = new ArrayList<>();
+
+    private final PageLoader<Integer, Integer> loader = PageLoader.byId(
+        (afterId, limit) -> {
+            requestedAfter.add(afterId);
+            return CompletableFuture.completedFuture(
+                rows.stream().filter(id -> id > afterId).limit(limit).toList());
+        },
+        Integer::intValue, 2,
+        (page, first) -> {
+            if (first) received.clear();
+            received.addAll(page);
+        });
+
+    @Test
+    void loadMore_ShouldContinueFromLastIdUntilShortPage() {
+        loader.loadMore();
+        loader.loadMore();
+        loader.loadMore();
+        loader.loadMore();
+
+        assertEquals(List.of(1, 2, 3, 4, 5), received);
+        assertEquals(List.of(0, 2, 4), requestedAfter, "Після короткої сторінки запити не повинні надсилатися");
+        assertTrue(loader.isExhausted());
+    }
+
+    @Test
+    void reset_ShouldStartFromFirstPage() {
+        loader.loadMore();
+        loader.loadMore();
+        loader.reset();
+
+        assertEquals(List.of(1, 2), received);
+        assertFalse(loader.isExhausted());
+    }
+
+    @Test
+    void reset_ShouldDropResponseOfPreviousRequest() {
+        CompletableFuture<List<Integer>> pending = new CompletableFuture<>();
+        List<List<Integer>> pages = new ArrayList<>();
+        int[] calls = {0};
+        PageLoader<Integer, Integer> slow = PageLoader.byId(
+            (afterId, limit) -> calls[0]++ == 0 ? pending : CompletableFuture.completedFuture(List.of(7)),
+            Integer::intValue, 2, (page, first) -> pages.add(page));
+
+        slow.loadMore();
+        slow.reset();
+        pending.complete(List.of(1, 2));
+
+        assertEquals(List.of(List.of(7)), pages);
+    }
+
+    @Test
+    void loadMore_ShouldReportFailureAndRetryOnNextCall() {
+        List<Throwable> errors = new ArrayList<>();
+        int[] calls = {0};
+        PageLoader<Integer, Integer> flaky = PageLoader.byId(
+            (afterId, limit) -> calls[0]++ == 0
+                ? CompletableFuture.failedFuture(new RuntimeException("db down"))
+                : CompletableFuture.completedFuture(List.of(1)),
+            Integer::intValue, 2, (page, first) -> received.addAll(page))
+            .onError(errors::add);
+
+        flaky.loadMore();
+        flaky.loadMore();
+
+        assertEquals(1, errors.size());
+        assertEquals(List.of(1), received);
+    }
+}
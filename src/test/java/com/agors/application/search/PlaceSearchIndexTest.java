@@ -0,0 +1,58 @@
+package com.agors.application.search;
+
+import com.agors.domain.entity.Place;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaceSearchIndexTest {
+
+    private static Place place(String name, String country, String era) {
+        Place p = new Place();
+        p.setName(name);
+        p.setCountry(country);
+        p.setEra(era);
+        return p;
+    }
+
+    private final PlaceSearchIndex index = new PlaceSearchIndex(List.of(
+        place("Колізей", "Італія", "Античність"),
+        place("Château de Chambord", "France", "Renaissance"),
+        place("Софійський собор", "Україна", "Середньовіччя")
+    ));
+
+    @Test
+    void match_EmptyQuery_ShouldReturnAllPlaces() {
+        assertEquals(3, index.match("  ").cardinality());
+    }
+
+    @Test
+    void match_ShouldFindSubstringInsideWord() {
+        BitSet result = index.match("лізе");
+        assertTrue(result.get(0));
+        assertEquals(1, result.cardinality());
+    }
+
+    @Test
+    void match_ShouldIgnoreCaseAndAccents() {
+        assertTrue(index.match("CHATEAU").get(1), "Пошук повинен ігнорувати регістр і діакритику");
+        assertTrue(index.match("chât").get(1));
+    }
+
+    @Test
+    void match_ShouldRequireEveryQueryWord() {
+        assertEquals(1, index.match("собор укр").cardinality());
+        assertTrue(index.match("собор франц").isEmpty());
+    }
+
+    @Test
+    void match_ShortQuery_ShouldUseGramIndex() {
+        BitSet result = index.match("ч");
+        assertTrue(result.get(0));
+        assertTrue(result.get(2));
+        assertFalse(result.get(1));
+    }
+}
@@ -30,4 +30,13 @@ class SignupValidatorTest {
         Map<String, String> errors = SignupValidator.validate("admin", "admin@example.com", "securepass");
         assertTrue(errors.isEmpty() || errors.containsKey("username") || errors.containsKey("email"));
     }
+
+    @Test
+    void testWellFormedChecksMatchValidation() {
+        assertTrue(SignupValidator.isUsernameWellFormed("traveler.one"));
+        assertFalse(SignupValidator.isUsernameWellFormed("_abc"));
+        assertTrue(SignupValidator.isEmailWellFormed("traveler@example.com"));
+        assertFalse(SignupValidator.isEmailWellFormed("bad@_email"));
+        assertFalse(SignupValidator.isEmailWellFormed(null));
+    }
 }
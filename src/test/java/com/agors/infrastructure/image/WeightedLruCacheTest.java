@@ -0,0 +1,41 @@
+package com.agors.infrastructure.image;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightedLruCacheTest {
+
+    private final WeightedLruCache<String, String> cache = new WeightedLruCache<>(10, String::length);
+
+    @Test
+    void put_ShouldEvictLeastRecentlyUsedWhenOverWeight() {
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.get("a");
+        cache.put("c", "cccc");
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"), "Найдавніше використаний запис повинен бути витіснений");
+        assertNotNull(cache.get("c"));
+        assertEquals(8, cache.weight());
+    }
+
+    @Test
+    void put_ShouldNotCacheValueHeavierThanLimit() {
+        cache.put("small", "xx");
+        cache.put("huge", "x".repeat(11));
+
+        assertNull(cache.get("huge"));
+        assertEquals("xx", cache.get("small"));
+    }
+
+    @Test
+    void put_SameKey_ShouldReplaceWeight() {
+        cache.put("a", "aaaa");
+        cache.put("a", "aa");
+
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.weight());
+    }
+}
@@ -0,0 +1,158 @@
+package com.agors.infrastructure.persistence.cache;
+
+import com.agors.domain.entity.Place;
+import com.agors.infrastructure.persistence.contract.PlaceDao;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaceCatalogTest {
+
+    /** Проста реалізація PlaceDao у пам'яті, що рахує звернення до "бази". */
+    private static class CountingPlaceDao implements PlaceDao {
+        final List<Place> rows = new ArrayList<>();
+        int findAllCalls;
+        int findPageCalls;
+        final List<Integer> pageLimits = new ArrayList<>();
+
+        @Override
+        public Place add(Place place) {
+            place.setId(rows.size() + 1);
+            rows.add(place);
+            return place;
+        }
+
+        @Override
+        public List<Place> findAll() {
+            findAllCalls++;
+            return new ArrayList<>(rows);
+        }
+
+        @Override
+        public List<Place> findPage(int afterId, int limit) {
+            findPageCalls++;
+            pageLimits.add(limit);
+            return rows.stream().filter(p -> p.getId() > afterId).limit(limit).toList();
+        }
+
+        @Override
+        public List<SearchHit> search(String query, int limit, SearchCursor after) {
+            throw new AssertionError("Пошук не використовується в цих тестах");
+        }
+
+        @Override
+        public Place findById(int id) {
+            throw new AssertionError("findById повинен обслуговуватися з кешу");
+        }
+
+        @Override
+        public void update(Place place) {}
+
+        @Override
+        public void remove(int id) {
+            rows.removeIf(p -> p.getId() == id);
+        }
+    }
+
+    private static Place place(String name) {
+        Place p = new Place();
+        p.setName(name);
+        return p;
+    }
+
+    @Test
+    void findAll_ShouldHitDatabaseOnlyOnce() {
+        CountingPlaceDao dao = new CountingPlaceDao();
+        dao.add(place("Київ"));
+        PlaceCatalog catalog = new PlaceCatalog(dao, 0);
+
+        catalog.findAll();
+        catalog.findAll();
+        assertEquals("Київ", catalog.findById(1).getName());
+
+        assertEquals(1, dao.findAllCalls, "Каталог повинен завантажуватися з бази лише один раз");
+    }
+
+    @Test
+    void writes_ShouldInvalidateCatalog() {
+        CountingPlaceDao dao = new CountingPlaceDao();
+        PlaceCatalog catalog = new PlaceCatalog(dao, 0);
+        assertTrue(catalog.findAll().isEmpty());
+
+        catalog.add(place("Львів"));
+        assertEquals(1, catalog.findAll().size());
+
+        catalog.remove(1);
+        assertNull(catalog.findById(1));
+        assertEquals(3, dao.findAllCalls);
+    }
+
+    @Test
+    void findPage_SmallCatalog_ShouldLoadOnceAndServeFromMemory() {
+        CountingPlaceDao dao = new CountingPlaceDao();
+        for (String name : List.of("Київ", "Львів", "Одеса")) dao.add(place(name));
+        PlaceCatalog catalog = new PlaceCatalog(dao, 0, 3, Runnable::run);
+
+        assertEquals(List.of("Київ", "Львів"), catalog.findPage(0, 2).stream().map(Place::getName).toList());
+        assertEquals(List.of("Одеса"), catalog.findPage(2, 2).stream().map(Place::getName).toList());
+        assertEquals("Львів", catalog.findById(2).getName());
+
+        assertEquals(1, dao.findPageCalls, "Невеликий каталог повинен читатися з бази один раз");
+        assertEquals(0, dao.findAllCalls);
+    }
+
+    @Test
+    void findPage_LargeCatalog_ShouldUseDatabase() {
+        CountingPlaceDao dao = new CountingPlaceDao();
+        for (String name : List.of("Київ", "Львів", "Одеса")) dao.add(place(name));
+        PlaceCatalog catalog = new PlaceCatalog(dao, 0, 2, Runnable::run);
+
+        catalog.findPage(0, 2);
+        assertEquals(List.of("Одеса"), catalog.findPage(2, 2).stream().map(Place::getName).toList());
+
+        assertEquals(3, dao.findPageCalls, "Після першої перевірки розміру сторінки читаються з бази");
+        assertEquals(0, dao.findAllCalls);
+    }
+
+    @Test
+    void findPage_BeforeBackgroundFill_ShouldReadOnlyRequestedPage() {
+        CountingPlaceDao dao = new CountingPlaceDao();
+        for (String name : List.of("Київ", "Львів", "Одеса")) dao.add(place(name));
+        List<Runnable> pending = new ArrayList<>();
+        PlaceCatalog catalog = new PlaceCatalog(dao, 0, 100, pending::add);
+
+        assertEquals(List.of("Київ"), catalog.findPage(0, 1).stream().map(Place::getName).toList());
+        assertEquals(List.of(1), dao.pageLimits, "Перша сторінка не повинна чекати на заповнення каталогу");
+        assertEquals(1, pending.size());
+
+        pending.forEach(Runnable::run);
+        assertEquals(List.of("Львів", "Одеса"), catalog.findPage(1, 5).stream().map(Place::getName).toList());
+        assertEquals(2, dao.findPageCalls, "Після заповнення сторінки віддаються з пам'яті");
+    }
+
+    @Test
+    void findPage_ChangesToReturnedPlace_ShouldNotLeakIntoCatalog() {
+        CountingPlaceDao dao = new CountingPlaceDao();
+        dao.add(place("Київ"));
+        PlaceCatalog catalog = new PlaceCatalog(dao, 0);
+
+        catalog.findPage(0, 10).get(0).setName("");
+
+        assertEquals("Київ", catalog.findById(1).getName());
+    }
+
+    @Test
+    void findAll_ShouldReloadAfterTtl() throws InterruptedException {
+        CountingPlaceDao dao = new CountingPlaceDao();
+        PlaceCatalog catalog = new PlaceCatalog(dao, 20);
+
+        catalog.findAll();
+        Thread.sleep(40);
+        catalog.findAll();
+
+        assertEquals(2, dao.findAllCalls);
+    }
+}
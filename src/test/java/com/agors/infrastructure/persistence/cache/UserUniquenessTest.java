@@ -0,0 +1,127 @@
+package com.agors.infrastructure.persistence.cache;
+
+import com.agors.domain.entity.User;
+import com.agors.infrastructure.persistence.contract.UserDao;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserUniquenessTest {
+
+    /** Користувачі в пам'яті; рахує індексовані запити та читання всієї таблиці. */
+    private static class CountingUserDao implements UserDao {
+        final Map<String, String> users = Map.of("admin", "admin@example.com", "traveler", "trip@example.com");
+        int existsCalls;
+        int findTakenCalls;
+        int scans;
+
+        @Override
+        public boolean existsByUsername(String username) {
+            existsCalls++;
+            return users.containsKey(username);
+        }
+
+        @Override
+        public boolean existsByEmail(String email) {
+            existsCalls++;
+            return users.containsValue(email);
+        }
+
+        @Override
+        public Taken findTaken(String username, String email) {
+            findTakenCalls++;
+            return new Taken(users.containsKey(username), users.containsValue(email));
+        }
+
+        @Override
+        public int countUsers() {
+            return users.size();
+        }
+
+        @Override
+        public void forEachUsernameAndEmail(BiConsumer<String, String> consumer) {
+            scans++;
+            users.forEach(consumer);
+        }
+
+        @Override
+        public void addUser(User user) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public User getUserById(int id) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public User getByUsernameOrEmail(String loginOrEmail) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public List<User> getAllUsers() {
+            throw new AssertionError("Перевірка унікальності не повинна завантажувати всіх користувачів");
+        }
+
+        @Override
+        public List<User> findPage(int afterId, int limit) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void updateUser(User user) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public boolean updatePasswordHash(int id, String expectedHash, String newHash) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void deleteUser(int id) {
+            throw new AssertionError();
+        }
+    }
+
+    private final CountingUserDao dao = new CountingUserDao();
+    private final UserUniqueness uniqueness = new UserUniqueness(dao, 60_000);
+
+    @Test
+    void check_ShouldUseOneCombinedQuery() {
+        UserDao.Taken taken = uniqueness.check("admin", "new@example.com");
+
+        assertEquals(new UserDao.Taken(true, false), taken);
+        assertEquals(1, dao.findTakenCalls);
+        assertEquals(0, dao.existsCalls);
+        assertEquals(UserDao.Taken.NONE, uniqueness.check(null, null));
+    }
+
+    @Test
+    void isTaken_FreeValues_ShouldBeAnsweredByFilterAlone() {
+        for (int i = 0; i < 100; i++) {
+            assertFalse(uniqueness.isUsernameTaken("explorer" + i));
+        }
+        assertTrue(uniqueness.isUsernameTaken("admin"));
+        assertTrue(uniqueness.isEmailTaken("trip@example.com"));
+
+        assertEquals(1, dao.scans, "Фільтр будується один раз");
+        assertTrue(dao.existsCalls <= 2 + 5, "Вільні значення майже завжди не доходять до бази");
+    }
+
+    @Test
+    void remember_ShouldMakeValueReachDatabaseCheck() {
+        assertFalse(uniqueness.isUsernameTaken("Newcomer"));
+        int before = dao.existsCalls;
+
+        uniqueness.remember("newcomer", null);
+        uniqueness.isUsernameTaken("NEWCOMER");
+
+        assertEquals(before + 1, dao.existsCalls, "Запам'ятоване значення перевіряється в базі");
+    }
+}
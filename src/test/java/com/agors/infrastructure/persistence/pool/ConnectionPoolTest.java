@@ -0,0 +1,78 @@
+package com.agors.infrastructure.persistence.pool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolTest {
+
+    private ConnectionPool pool;
+
+    private static Connection fakeConnection() {
+        boolean[] closed = {false};
+        return (Connection) Proxy.newProxyInstance(
+            ConnectionPoolTest.class.getClassLoader(),
+            new Class[]{Connection.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "close" -> { closed[0] = true; yield null; }
+                case "isClosed" -> closed[0];
+                case "isValid", "getAutoCommit" -> !closed[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> null;
+            });
+    }
+
+    private ConnectionPool newPool(int min, int max, long acquireTimeoutMs) throws SQLException {
+        PoolConfig config = new PoolConfig(min, max, acquireTimeoutMs, 0, 0, 1, 0, 0, 60_000);
+        return new ConnectionPool(config, ConnectionPoolTest::fakeConnection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) pool.close();
+    }
+
+    @Test
+    void borrow_ShouldOpenMinimumEagerlyAndGrowToMaximum() throws Exception {
+        pool = newPool(1, 2, 100);
+        assertEquals(1, pool.stats().getIdle(), "Пул повинен одразу відкрити мінімальну кількість з'єднань");
+
+        Connection first = pool.borrow();
+        Connection second = pool.borrow();
+        assertEquals(2, pool.stats().getActive());
+        assertEquals(2, pool.stats().getCreated());
+
+        first.close();
+        second.close();
+        assertEquals(2, pool.stats().getIdle());
+    }
+
+    @Test
+    void borrow_ShouldTimeOutWhenPoolIsExhausted() throws Exception {
+        pool = newPool(1, 1, 50);
+        Connection held = pool.borrow();
+
+        assertThrows(SQLTimeoutException.class, pool::borrow);
+        assertEquals(1, pool.stats().getTimeouts());
+        held.close();
+    }
+
+    @Test
+    void close_ShouldReturnConnectionOnlyOnce() throws Exception {
+        pool = newPool(1, 1, 50);
+        Connection conn = pool.borrow();
+        conn.close();
+        conn.close();
+
+        assertEquals(1, pool.stats().getIdle(), "Повторний close() не повинен дублювати з'єднання у пулі");
+        assertTrue(conn.isClosed());
+        assertThrows(SQLException.class, conn::createStatement);
+    }
+}
@@ -0,0 +1,127 @@
+package com.agors.infrastructure.report;
+
+import com.agors.domain.entity.Report;
+import com.agors.domain.enums.ReportType;
+import com.agors.infrastructure.persistence.contract.ReportDao;
+import org.junit.jupiter.api.Test;
+
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportSchedulerTest {
+
+    /** DAO, що знає лише час останнього звіту. */
+    private static class LatestOnlyReportDao implements ReportDao {
+        LocalDateTime latest;
+
+        @Override
+        public LocalDateTime findLatestGeneratedAt(ReportType type) {
+            return latest;
+        }
+
+        @Override
+        public Report add(Report report) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public Report add(Report report, Reader content, long length) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public List<Report> findAll() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public List<Report> findPage(int afterId, int limit) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public List<Report> findHeaderPage(int beforeId, int limit) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public String readContent(int id, int offset, int length) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void streamContent(int id, ContentConsumer consumer) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public Report findById(int id) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void remove(int id) {
+            throw new AssertionError();
+        }
+    }
+
+    /** Час сервера БД у тестах; навмисно далекий від годинника клієнта. */
+    private static final LocalDateTime DB_NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    /** Рушій, що лише запам'ятовує запити на генерацію. */
+    private static class RecordingEngine extends ReportEngine {
+        final List<String> calls = new ArrayList<>();
+
+        RecordingEngine(ReportDao dao) {
+            super(dao);
+        }
+
+        @Override
+        public Report generate(ReportType type, boolean incremental, ReportProgress progress) {
+            calls.add(type + (incremental ? " incremental" : " full"));
+            return new Report();
+        }
+
+        @Override
+        public LocalDateTime databaseNow() {
+            return DB_NOW;
+        }
+    }
+
+    private final LatestOnlyReportDao dao = new LatestOnlyReportDao();
+    private final RecordingEngine engine = new RecordingEngine(dao);
+    private final ReportScheduler scheduler =
+        new ReportScheduler(engine, dao, Map.of(ReportType.BEST_RATED, 60L), true);
+
+    @Test
+    void runIfDue_RecentReport_ShouldSkipGeneration() {
+        dao.latest = DB_NOW.minusMinutes(10);
+
+        scheduler.runIfDue(ReportType.BEST_RATED, 60);
+
+        assertTrue(engine.calls.isEmpty(), "Свіжий звіт не повинен генеруватися повторно");
+    }
+
+    @Test
+    void runIfDue_StaleOrMissingReport_ShouldGenerateIncrementally() {
+        scheduler.runIfDue(ReportType.BEST_RATED, 60);
+        dao.latest = DB_NOW.minusMinutes(61);
+        scheduler.runIfDue(ReportType.BEST_RATED, 60);
+
+        assertEquals(List.of("BEST_RATED incremental", "BEST_RATED incremental"), engine.calls);
+    }
+
+    @Test
+    void runIfDue_ReportExactlyOnePeriodOld_ShouldGenerate() {
+        dao.latest = DB_NOW.minusMinutes(60);
+
+        scheduler.runIfDue(ReportType.BEST_RATED, 60);
+
+        assertEquals(List.of("BEST_RATED incremental"), engine.calls);
+    }
+}
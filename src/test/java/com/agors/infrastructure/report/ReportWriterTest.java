@@ -0,0 +1,46 @@
+package com.agors.infrastructure.report;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportWriterTest {
+
+    private static String readAll(Reader reader) throws IOException {
+        StringWriter text = new StringWriter();
+        reader.transferTo(text);
+        return text.toString();
+    }
+
+    @Test
+    void openReader_ShouldReturnEverythingWritten() throws IOException {
+        try (ReportWriter out = new ReportWriter()) {
+            out.append("Звіт ").line(1).line("• Колізей");
+
+            try (Reader reader = out.openReader()) {
+                assertEquals("Звіт 1\n• Колізей\n", readAll(reader));
+            }
+            assertEquals(17, out.length());
+        }
+    }
+
+    @Test
+    void length_ShouldCountCharactersAcrossChunks() throws IOException {
+        String row = "ї".repeat(1000);
+        int rows = ReportWriter.CHUNK_SIZE / 1000 * 3;
+        try (ReportWriter out = new ReportWriter()) {
+            for (int i = 0; i < rows; i++) {
+                out.line(row);
+            }
+
+            assertEquals((long) rows * 1001, out.length());
+            try (Reader reader = out.openReader()) {
+                assertEquals(out.length(), readAll(reader).length(), "Довжина повинна бути в символах, а не в байтах");
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.agors.infrastructure.report.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportFormatTest {
+
+    private static final String[] COLUMNS = {"id", "text", "created_at"};
+
+    private static String write(ExportFormat format, Object[]... rows) throws IOException {
+        StringWriter out = new StringWriter();
+        ExportFormat.RowWriter writer = format.open(out, COLUMNS);
+        for (Object[] row : rows) {
+            writer.write(row);
+        }
+        return out.toString();
+    }
+
+    @Test
+    void csv_ShouldQuoteOnlyFieldsThatNeedIt() throws IOException {
+        Timestamp at = Timestamp.valueOf(LocalDateTime.of(2024, 5, 1, 12, 30));
+
+        String csv = write(ExportFormat.CSV,
+            new Object[]{1, "Колізей", at},
+            new Object[]{2, "Рим, \"Вічне місто\"\nІталія", null});
+
+        assertEquals("id,text,created_at\r\n"
+            + "1,Колізей,2024-05-01T12:30\r\n"
+            + "2,\"Рим, \"\"Вічне місто\"\"\nІталія\",\r\n", csv);
+    }
+
+    @Test
+    void ndjson_ShouldWriteOneEscapedObjectPerLine() throws IOException {
+        String json = write(ExportFormat.NDJSON,
+            new Object[]{1, "лапки \" і \\ слеш\n", null},
+            new Object[]{2, "\u0001", null});
+
+        assertEquals("{\"id\":1,\"text\":\"лапки \\\" і \\\\ слеш\\n\",\"created_at\":null}\n"
+            + "{\"id\":2,\"text\":\"\\u0001\",\"created_at\":null}\n", json);
+    }
+}
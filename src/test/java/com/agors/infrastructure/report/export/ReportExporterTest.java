@@ -0,0 +1,64 @@
+package com.agors.infrastructure.report.export;
+
+import com.agors.infrastructure.report.ReportProgress;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportExporterTest {
+
+    @TempDir
+    Path dir;
+
+    private static void export(ReportExporter exporter, String content, Path target) throws IOException {
+        exporter.export(new StringReader(content), content.length(), target, ReportProgress.NONE, () -> false);
+    }
+
+    @Test
+    void txt_ShouldKeepCharactersSplitAcrossChunks() throws IOException {
+        String content = "ї".repeat(ReportExporter.CHUNK_SIZE - 1) + "🏛" + "\nКолізей\n";
+        Path target = dir.resolve("report.txt");
+
+        export(new TxtReportExporter(), content, target);
+
+        assertEquals(content, Files.readString(target, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void docx_ShouldBeReadableWithOneParagraphPerLine() throws IOException {
+        Path target = dir.resolve("report.docx");
+
+        export(new DocxReportExporter(), "==== Звіт ====\n\n• Колізей <Рим> & Co\u0001", target);
+
+        try (InputStream in = Files.newInputStream(target);
+            XWPFDocument doc = new XWPFDocument(in)) {
+            List<String> lines = doc.getParagraphs().stream().map(XWPFParagraph::getText).toList();
+            assertEquals(List.of("==== Звіт ====", "", "• Колізей <Рим> & Co"), lines);
+        }
+    }
+
+    @Test
+    void export_Cancelled_ShouldNotLeaveFile() throws IOException {
+        Path target = dir.resolve("report.txt");
+
+        assertThrows(CancellationException.class, () -> new TxtReportExporter()
+            .export(new StringReader("текст"), 5, target, ReportProgress.NONE, () -> true));
+
+        assertFalse(Files.exists(target));
+        try (var files = Files.list(dir)) {
+            assertEquals(0, files.count(), "Тимчасовий файл повинен бути видалений");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.agors.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingTest {
+
+    /** SHA-256 від "password" у попередньому форматі. */
+    private static final String LEGACY = "5e884898da28047151d0e56f8dc6292773603d0d6aabbdd62a11ef721d1542d8";
+
+    private final PasswordHashing hashing =
+        new PasswordHashing(new Pbkdf2PasswordHasher(1_000), new LegacySha256PasswordVerifier());
+
+    @Test
+    void hash_ShouldUseVersionedFormatWithSaltAndCost() {
+        String stored = hashing.hash("password");
+
+        assertTrue(stored.startsWith("$pbkdf2-sha256$v=1$i=1000$"), stored);
+        assertTrue(stored.length() <= 255, "Хеш повинен вміщатися в users.password");
+        assertTrue(hashing.verify("password", stored));
+        assertFalse(hashing.verify("Password", stored));
+        assertFalse(hashing.needsRehash(stored));
+    }
+
+    @Test
+    void legacyHash_ShouldVerifyAndRequireRehash() {
+        assertTrue(hashing.verify("password", LEGACY));
+        assertFalse(hashing.verify("wrong", LEGACY));
+        assertTrue(hashing.needsRehash(LEGACY));
+    }
+
+    @Test
+    void needsRehash_ShouldDetectLowerCost() {
+        String weak = new Pbkdf2PasswordHasher(500).hash("password");
+
+        assertTrue(hashing.verify("password", weak), "Старіші параметри повинні перевірятися");
+        assertTrue(hashing.needsRehash(weak));
+    }
+
+    @Test
+    void verify_UnknownFormat_ShouldFail() {
+        assertFalse(hashing.verify("password", "plain-text"));
+        assertFalse(hashing.verify("password", "$pbkdf2-sha256$v=9$i=1$AA$AA"));
+        assertFalse(hashing.verify(null, LEGACY));
+    }
+}
@@ -0,0 +1,127 @@
+package com.agors.infrastructure.security;
+
+import com.agors.domain.entity.User;
+import com.agors.infrastructure.persistence.impl.SessionDaoImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionStoreTest {
+
+    /** DAO сесій у пам'яті з годинником сервера {@link #NOW}, що запам'ятовує звернення. */
+    private static class InMemorySessionDao extends SessionDaoImpl {
+        final Map<String, LocalDateTime> expiries = new HashMap<>();
+        final List<String> calls = new ArrayList<>();
+        int expired;
+
+        @Override
+        public Optional<User> findUserByToken(String token) {
+            calls.add("find " + token);
+            LocalDateTime expiresAt = expiries.get(token);
+            if (expiresAt == null || !expiresAt.isAfter(NOW)) {
+                return Optional.empty();
+            }
+            User user = new User();
+            user.setId(7);
+            return Optional.of(user);
+        }
+
+        @Override
+        public boolean extendSession(String token, Duration ttl) {
+            calls.add("extend " + token);
+            return expiries.replace(token, NOW.plus(ttl)) != null;
+        }
+
+        @Override
+        public void deactivateByToken(String token) {
+            calls.add("deactivate " + token);
+            expiries.replace(token, NOW);
+        }
+
+        @Override
+        public int purgeExpired(Duration retention, int batchSize) {
+            int deleted = Math.min(expired, batchSize);
+            expired -= deleted;
+            calls.add("purge " + deleted);
+            return deleted;
+        }
+    }
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @TempDir
+    Path dir;
+
+    private final InMemorySessionDao dao = new InMemorySessionDao();
+
+    private SessionStore store(Path tokenFile) {
+        return new SessionStore(dao, new SessionTokenFile(tokenFile), Duration.ofDays(30), Duration.ofDays(365), 60, 2);
+    }
+
+    @Test
+    void restore_NoTokenFile_ShouldNotQueryDatabase() {
+        Optional<User> user = store(dir.resolve("session.token")).restore();
+
+        assertTrue(user.isEmpty());
+        assertTrue(dao.calls.isEmpty(), "Без токена база не повинна запитуватися");
+    }
+
+    @Test
+    void restore_ValidToken_ShouldSlideExpiry() {
+        SessionStore store = store(dir.resolve("session.token"));
+        dao.expiries.put("abc", NOW.plusDays(1));
+        store.remember("abc");
+
+        Optional<User> user = store.restore();
+
+        assertEquals(7, user.orElseThrow().getId());
+        assertEquals(List.of("find abc", "extend abc"), dao.calls);
+        assertEquals(NOW.plusDays(30), dao.expiries.get("abc"));
+    }
+
+    @Test
+    void restore_ExpiredToken_ShouldForgetToken() {
+        Path tokenFile = dir.resolve("session.token");
+        SessionStore store = store(tokenFile);
+        dao.expiries.put("old", NOW.minusMinutes(1));
+        store.remember("old");
+
+        assertTrue(store.restore().isEmpty());
+        assertFalse(Files.exists(tokenFile));
+    }
+
+    @Test
+    void logout_ShouldDeactivateOnlyThisDeviceSessionAndKeepItsRow() {
+        Path tokenFile = dir.resolve("nested").resolve("session.token");
+        SessionStore store = store(tokenFile);
+        dao.expiries.put("mine", NOW.plusDays(1));
+        dao.expiries.put("other", NOW.plusDays(1));
+        store.remember("mine");
+
+        store.logout();
+
+        assertFalse(Files.exists(tokenFile));
+        assertEquals(Map.of("mine", NOW, "other", NOW.plusDays(1)), dao.expiries);
+    }
+
+    @Test
+    void purgeExpired_ShouldDeleteInBatchesUntilShortBatch() {
+        dao.expired = 5;
+
+        int deleted = store(dir.resolve("session.token")).purgeExpired();
+
+        assertEquals(5, deleted);
+        assertEquals(List.of("purge 2", "purge 2", "purge 1"), dao.calls);
+    }
+}
@@ -7,12 +7,15 @@ import static org.junit.jupiter.api.Assertions.*;
 class PasswordUtilTest {
 
     @Test
-    void hashPassword_ShouldReturnConsistentHash() {
+    void hashPassword_ShouldBeVerifiableAndSalted() {
         String password = "secure123";
         String hash1 = PasswordUtil.hashPassword(password);
         String hash2 = PasswordUtil.hashPassword(password);
 
-        assertEquals(hash1, hash2, "Хеш повинен бути стабільним для одного й того самого пароля");
+        assertNotEquals(hash1, hash2, "Кожен хеш повинен мати власну сіль");
+        assertTrue(PasswordUtil.verifyPassword(password, hash1));
+        assertTrue(PasswordUtil.verifyPassword(password, hash2));
+        assertFalse(PasswordUtil.needsRehash(hash1));
     }
 
     @Test
@@ -0,0 +1,30 @@
+package com.agors.infrastructure.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchTextTest {
+
+    @Test
+    void fold_ShouldLowercaseStripAccentsAndJoinWords() {
+        assertEquals("chateau de chambord france renaissance",
+            SearchText.fold("Château de Chambord", "France", "Renaissance"));
+    }
+
+    @Test
+    void fold_NullParts_ShouldBeSkipped() {
+        assertEquals("рим італія", SearchText.fold("Рим", null, "Італія"));
+    }
+
+    @Test
+    void tokenize_QueryFoldsLikeStoredText_ShouldMatchWithinOneWord() {
+        String stored = SearchText.fold("St. Peter's Basilica", "Vatican", "Renaissance");
+        List<String> words = SearchText.tokenize("  PÉTER  basil ");
+
+        assertEquals(List.of("peter", "basil"), words);
+        assertTrue(words.stream().allMatch(stored::contains));
+    }
+}